@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.annotation.Configuration;
+
+public interface LandmarkHeuristicConfig {
+
+    String LANDMARK_PROPERTY_KEY = "landmarkProperty";
+
+    /**
+     * A node property holding landmark distances, as computed by
+     * {@code gds.beta.shortestPath.landmarks.mutate}. If present, the
+     * distances guide the search towards the target node.
+     * <p>
+     * The distances must have been computed with the same relationship weight property
+     * as the search, otherwise the shortest path might be missed. This is validated for
+     * distances computed by the landmarks procedure. Properties from other sources,
+     * or stored for several node labels, are used as given.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String landmarkProperty() {
+        return null;
+    }
+}
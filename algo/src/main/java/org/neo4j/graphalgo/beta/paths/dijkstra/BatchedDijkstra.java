@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.paths.ImmutablePathResult;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ShortestPathDijkstraBatchBaseConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes the shortest paths for a batch of source-target pairs.
+ * <p>
+ * The pairs are grouped by their source node and each group is answered by
+ * a single Dijkstra traversal that stops once all targets of the group are settled.
+ * Groups are processed concurrently. Every worker owns its search state, which is
+ * allocated once and reset only for the nodes the previous traversal has touched,
+ * so the cost of a query does not depend on the size of the graph.
+ * <p>
+ * The index of a path is the position of its pair in the input.
+ * Pairs without a path do not produce a result, source and target nodes
+ * that are not part of the graph are rejected before the computation starts.
+ */
+public final class BatchedDijkstra extends Algorithm<BatchedDijkstra, DijkstraResult> {
+
+    private static final long NO_RELATIONSHIP = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final boolean trackRelationships;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+
+    private final PathResult[] paths;
+
+    public static BatchedDijkstra of(
+        Graph graph,
+        ShortestPathDijkstraBatchBaseConfig config,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        var sourceNodes = mappedNodeIds(graph, config.sourceNodes(), "sourceNode");
+        var targetNodes = mappedNodeIds(graph, config.targetNodes(), "targetNode");
+        return new BatchedDijkstra(
+            graph,
+            sourceNodes,
+            targetNodes,
+            config.trackRelationships(),
+            config.concurrency(),
+            executorService,
+            progressLogger,
+            tracker
+        );
+    }
+
+    private static long[] mappedNodeIds(Graph graph, List<Long> nodeIds, String nodeDescription) {
+        var mappedNodeIds = new long[nodeIds.size()];
+        for (int i = 0; i < mappedNodeIds.length; i++) {
+            long nodeId = nodeIds.get(i);
+            mappedNodeIds[i] = graph.toMappedNodeId(nodeId);
+            if (mappedNodeIds[i] == -1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "%s with id %d was not loaded",
+                    nodeDescription,
+                    nodeId
+                ));
+            }
+        }
+        return mappedNodeIds;
+    }
+
+    public static MemoryEstimation memoryEstimation(boolean trackRelationships) {
+        var searchState = MemoryEstimations.builder(SearchState.class)
+            .perNode("costs", HugeDoubleArray::memoryEstimation)
+            .perNode("predecessors", HugeLongArray::memoryEstimation)
+            .perNode("visited set", MemoryUsage::sizeOfBitset);
+        if (trackRelationships) {
+            searchState.perNode("relationship ids", HugeLongArray::memoryEstimation);
+        }
+        return MemoryEstimations.builder(BatchedDijkstra.class)
+            .perThread("search state", searchState.build())
+            .build();
+    }
+
+    BatchedDijkstra(
+        Graph graph,
+        long[] sourceNodes,
+        long[] targetNodes,
+        boolean trackRelationships,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        assert sourceNodes.length == targetNodes.length;
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.trackRelationships = trackRelationships;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressLogger = progressLogger;
+        this.tracker = tracker;
+        this.paths = new PathResult[sourceNodes.length];
+    }
+
+    @Override
+    public DijkstraResult compute() {
+        progressLogger.logStart();
+
+        int queryCount = sourceNodes.length;
+        // query indices, ordered by source node
+        int[] order = IndirectSort.mergesort(0, queryCount, new AscendingLongComparator(sourceNodes));
+
+        var groupOffsets = new IntArrayList();
+        for (int i = 0; i < queryCount; i++) {
+            if (i == 0 || sourceNodes[order[i]] != sourceNodes[order[i - 1]]) {
+                groupOffsets.add(i);
+            }
+        }
+        groupOffsets.add(queryCount);
+        int[] offsets = groupOffsets.toArray();
+
+        var nextGroup = new AtomicInteger(0);
+        int workerCount = Math.min(concurrency, offsets.length - 1);
+        var workers = IntStream
+            .range(0, workerCount)
+            .mapToObj(i -> new Worker(order, offsets, nextGroup))
+            .collect(Collectors.toList());
+
+        ParallelUtil.runWithConcurrency(concurrency, workers, executorService);
+
+        progressLogger.logFinish();
+
+        return ImmutableDijkstraResult
+            .builder()
+            .paths(Arrays.stream(paths).filter(Objects::nonNull))
+            .build();
+    }
+
+    @Override
+    public BatchedDijkstra me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    private final class Worker implements Runnable {
+
+        private final int[] order;
+        private final int[] groupOffsets;
+        private final AtomicInteger nextGroup;
+
+        private final Graph localGraph;
+        private final LongHashSet pendingTargets;
+        private SearchState state;
+
+        // position of the current relationship in the adjacency list of the expanded node
+        private long relationshipId;
+
+        Worker(int[] order, int[] groupOffsets, AtomicInteger nextGroup) {
+            this.order = order;
+            this.groupOffsets = groupOffsets;
+            this.nextGroup = nextGroup;
+            this.localGraph = graph.concurrentCopy();
+            this.pendingTargets = new LongHashSet();
+        }
+
+        @Override
+        public void run() {
+            // allocated lazily on the worker thread
+            state = new SearchState(graph.nodeCount(), trackRelationships, tracker);
+
+            try {
+                int groupCount = groupOffsets.length - 1;
+                int group;
+                while ((group = nextGroup.getAndIncrement()) < groupCount) {
+                    assertRunning();
+                    int from = groupOffsets[group];
+                    int to = groupOffsets[group + 1];
+                    search(from, to);
+                    state.reset();
+                    pendingTargets.clear();
+                    progressLogger.logProgress(to - from);
+                }
+            } finally {
+                state.release(tracker);
+                state = null;
+            }
+        }
+
+        private void search(int from, int to) {
+            long sourceNode = sourceNodes[order[from]];
+            if (sourceNode < 0) {
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                long targetNode = targetNodes[order[i]];
+                if (targetNode >= 0) {
+                    pendingTargets.add(targetNode);
+                }
+            }
+
+            state.relax(sourceNode, sourceNode, NO_RELATIONSHIP, 0.0);
+
+            while (!pendingTargets.isEmpty() && !state.heap.isEmpty()) {
+                long node = state.heap.pop();
+                if (state.visited.get(node)) {
+                    // an outdated entry of a node that has been reached more cheaply
+                    continue;
+                }
+                state.visited.set(node);
+
+                if (pendingTargets.remove(node)) {
+                    for (int i = from; i < to; i++) {
+                        int query = order[i];
+                        if (targetNodes[query] == node) {
+                            paths[query] = pathResult(query, sourceNode, node);
+                        }
+                    }
+                }
+
+                double cost = state.costs.get(node);
+                relationshipId = 0;
+                localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (!state.visited.get(target)) {
+                        state.relax(source, target, relationshipId, cost + weight);
+                    }
+                    relationshipId++;
+                    return true;
+                });
+            }
+        }
+
+        private PathResult pathResult(int query, long sourceNode, long targetNode) {
+            var nodeIds = new LongArrayList();
+            var relationshipIds = trackRelationships ? new LongArrayList() : null;
+
+            long node = targetNode;
+            while (true) {
+                nodeIds.add(node);
+                if (node == sourceNode) {
+                    break;
+                }
+                if (trackRelationships) {
+                    relationshipIds.add(state.relationships.get(node));
+                }
+                node = state.predecessors.get(node);
+            }
+
+            long[] pathNodeIds = reverse(nodeIds.toArray());
+            double[] costs = new double[pathNodeIds.length];
+            for (int i = 0; i < pathNodeIds.length; i++) {
+                costs[i] = state.costs.get(pathNodeIds[i]);
+            }
+
+            return ImmutablePathResult
+                .builder()
+                .index(query)
+                .sourceNode(sourceNode)
+                .targetNode(targetNode)
+                .nodeIds(pathNodeIds)
+                .relationshipIds(trackRelationships ? reverse(relationshipIds.toArray()) : EMPTY_ARRAY)
+                .costs(costs)
+                .build();
+        }
+    }
+
+    private static long[] reverse(long[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            long tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+        return array;
+    }
+
+    /**
+     * Per-worker traversal state. All nodes that received a cost are remembered,
+     * which allows resetting the state in time proportional to the previous search.
+     */
+    static final class SearchState {
+
+        final HugeDoubleArray costs;
+        final HugeLongArray predecessors;
+        final HugeLongArray relationships;
+        final BitSet visited;
+        final MinHeap heap;
+
+        private final LongArrayList touched;
+
+        SearchState(long nodeCount, boolean trackRelationships, AllocationTracker tracker) {
+            this.costs = HugeDoubleArray.newArray(nodeCount, tracker);
+            this.costs.fill(Double.MAX_VALUE);
+            this.predecessors = HugeLongArray.newArray(nodeCount, tracker);
+            this.relationships = trackRelationships ? HugeLongArray.newArray(nodeCount, tracker) : null;
+            this.visited = new BitSet(nodeCount);
+            this.heap = new MinHeap();
+            this.touched = new LongArrayList();
+        }
+
+        void relax(long source, long target, long relationshipId, double cost) {
+            double currentCost = costs.get(target);
+            if (cost >= currentCost) {
+                return;
+            }
+            if (currentCost == Double.MAX_VALUE) {
+                touched.add(target);
+            }
+            costs.set(target, cost);
+            predecessors.set(target, source);
+            if (relationships != null) {
+                relationships.set(target, relationshipId);
+            }
+            heap.push(target, cost);
+        }
+
+        void reset() {
+            var buffer = touched.buffer;
+            for (int i = 0; i < touched.elementsCount; i++) {
+                long node = buffer[i];
+                costs.set(node, Double.MAX_VALUE);
+                visited.clear(node);
+            }
+            touched.clear();
+            heap.clear();
+        }
+
+        void release(AllocationTracker tracker) {
+            tracker.remove(costs.release());
+            tracker.remove(predecessors.release());
+            if (relationships != null) {
+                tracker.remove(relationships.release());
+            }
+        }
+    }
+
+    /**
+     * A binary min-heap of (node, cost) entries without decrease-key.
+     * A node is pushed again when its cost improves and stale entries are skipped
+     * by the caller, which keeps the heap proportional to the explored region.
+     */
+    static final class MinHeap {
+
+        private long[] nodes = new long[16];
+        private double[] costs = new double[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void push(long node, double cost) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size << 1);
+                costs = Arrays.copyOf(costs, size << 1);
+            }
+            int pos = size++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (costs[parent] <= cost) {
+                    break;
+                }
+                nodes[pos] = nodes[parent];
+                costs[pos] = costs[parent];
+                pos = parent;
+            }
+            nodes[pos] = node;
+            costs[pos] = cost;
+        }
+
+        long pop() {
+            long top = nodes[0];
+            int last = --size;
+            long node = nodes[last];
+            double cost = costs[last];
+            int pos = 0;
+            while (true) {
+                int child = (pos << 1) + 1;
+                if (child >= last) {
+                    break;
+                }
+                if (child + 1 < last && costs[child + 1] < costs[child]) {
+                    child++;
+                }
+                if (cost <= costs[child]) {
+                    break;
+                }
+                nodes[pos] = nodes[child];
+                costs[pos] = costs[child];
+                pos = child;
+            }
+            nodes[pos] = node;
+            costs[pos] = cost;
+            return top;
+        }
+    }
+}
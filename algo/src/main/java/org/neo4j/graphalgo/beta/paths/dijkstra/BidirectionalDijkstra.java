@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.paths.ImmutablePathResult;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.ShortestPathBaseConfig;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.stream.Stream;
+
+/**
+ * Computes a source-target shortest path by searching from both the source
+ * and the target node until the two searches meet.
+ * <p>
+ * The backward search traverses relationships from their target to their source.
+ * Since there is no index of incoming relationships, the graph must be undirected.
+ * The search alternates between the sides, always expanding the one with the smaller
+ * queue, and stops once the smallest tentative costs of both sides together are not
+ * smaller than the shortest path found so far.
+ */
+public final class BidirectionalDijkstra extends Algorithm<BidirectionalDijkstra, DijkstraResult> {
+
+    private static final long NO_NODE = -1L;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+
+    private final SearchSide forward;
+    private final SearchSide backward;
+
+    // cost of the shortest path found so far
+    private double shortestPathCost;
+    // the node at which the two searches met on the shortest path found so far
+    private long meetingNode;
+
+    public static BidirectionalDijkstra sourceTarget(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        if (!graph.isUndirected()) {
+            throw new IllegalArgumentException(
+                "Bidirectional Dijkstra requires relationship projections to be UNDIRECTED. " +
+                "Selected relationships are not all undirected."
+            );
+        }
+        return new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId(config.sourceNode()),
+            graph.toMappedNodeId(config.targetNode()),
+            progressLogger,
+            tracker
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        var searchSide = MemoryEstimations.builder(SearchSide.class)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .add("reverse path", HugeLongLongMap.memoryEstimation())
+            .perNode("visited set", MemoryUsage::sizeOfBitset)
+            .build();
+        return MemoryEstimations.builder(BidirectionalDijkstra.class)
+            .add("forward search", searchSide)
+            .add("backward search", searchSide)
+            .build();
+    }
+
+    private BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.forward = new SearchSide(graph.nodeCount(), tracker);
+        this.backward = new SearchSide(graph.nodeCount(), tracker);
+        this.shortestPathCost = Double.MAX_VALUE;
+        this.meetingNode = NO_NODE;
+        this.progressLogger = progressLogger;
+    }
+
+    @Override
+    public DijkstraResult compute() {
+        progressLogger.logStart();
+
+        forward.queue.add(sourceNode, 0.0);
+        backward.queue.add(targetNode, 0.0);
+        if (sourceNode == targetNode) {
+            shortestPathCost = 0.0;
+            meetingNode = sourceNode;
+        }
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty() && running()) {
+            double lowerBound = forward.queue.cost(forward.queue.top()) + backward.queue.cost(backward.queue.top());
+            if (lowerBound >= shortestPathCost) {
+                break;
+            }
+
+            if (forward.queue.size() <= backward.queue.size()) {
+                expand(forward, backward);
+            } else {
+                expand(backward, forward);
+            }
+        }
+
+        progressLogger.logFinish();
+
+        var paths = meetingNode == NO_NODE
+            ? Stream.<PathResult>empty()
+            : Stream.of(pathResult());
+
+        return ImmutableDijkstraResult
+            .builder()
+            .paths(paths)
+            .build();
+    }
+
+    private void expand(SearchSide side, SearchSide otherSide) {
+        long node = side.queue.pop();
+        double cost = side.queue.cost(node);
+        side.visited.set(node);
+
+        progressLogger.logProgress(graph.degree(node));
+
+        graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+            if (side.visited.get(target)) {
+                return true;
+            }
+            double newCost = cost + weight;
+            side.updateCost(source, target, newCost);
+
+            if (otherSide.hasSeen(target)) {
+                double pathCost = side.queue.cost(target) + otherSide.queue.cost(target);
+                if (pathCost < shortestPathCost) {
+                    shortestPathCost = pathCost;
+                    meetingNode = target;
+                }
+            }
+            return true;
+        });
+    }
+
+    private PathResult pathResult() {
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // source to meeting node, backtracked from the meeting node
+        long node = meetingNode;
+        while (true) {
+            nodeIds.add(node);
+            costs.add(forward.queue.cost(node));
+            if (node == sourceNode) {
+                break;
+            }
+            node = forward.predecessors.getOrDefault(node, sourceNode);
+        }
+        reverse(nodeIds.buffer, nodeIds.size());
+        reverse(costs.buffer, costs.size());
+
+        // meeting node to target, the backward search stores successors
+        node = meetingNode;
+        while (node != targetNode) {
+            node = backward.predecessors.getOrDefault(node, targetNode);
+            nodeIds.add(node);
+            costs.add(shortestPathCost - backward.queue.cost(node));
+        }
+
+        return ImmutablePathResult
+            .builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private static void reverse(long[] array, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            long tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static void reverse(double[] array, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            double tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    @Override
+    public BidirectionalDijkstra me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        forward.queue.release();
+        backward.queue.release();
+    }
+
+    private static final class SearchSide {
+        private final HugeLongPriorityQueue queue;
+        private final HugeLongLongMap predecessors;
+        private final BitSet visited;
+
+        SearchSide(long nodeCount, AllocationTracker tracker) {
+            this.queue = HugeLongPriorityQueue.min(nodeCount);
+            this.predecessors = new HugeLongLongMap(tracker);
+            this.visited = new BitSet();
+        }
+
+        boolean hasSeen(long node) {
+            return visited.get(node) || queue.containsElement(node);
+        }
+
+        void updateCost(long source, long target, double newCost) {
+            if (!queue.containsElement(target)) {
+                queue.add(target, newCost);
+                predecessors.put(target, source);
+            } else if (newCost < queue.cost(target)) {
+                queue.set(target, newCost);
+                predecessors.put(target, source);
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.beta.paths.dijkstra.config;
 
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.beta.paths.LandmarkHeuristicConfig;
 import org.neo4j.graphalgo.beta.paths.ShortestPathBaseConfig;
 import org.neo4j.graphalgo.beta.paths.WritePathOptionsConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
@@ -32,7 +33,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ShortestPathDijkstraWriteConfig extends ShortestPathBaseConfig, WriteRelationshipConfig, WritePathOptionsConfig {
+public interface ShortestPathDijkstraWriteConfig extends ShortestPathBaseConfig, LandmarkHeuristicConfig, WriteRelationshipConfig, WritePathOptionsConfig {
 
     String TOTAL_COST_KEY = "totalCost";
     String NODE_IDS_KEY = "nodeIds";
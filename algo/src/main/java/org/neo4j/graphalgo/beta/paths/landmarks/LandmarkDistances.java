@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+
+import java.util.Set;
+
+/**
+ * The shortest path distances from a set of landmark nodes to all nodes.
+ * The distances of each landmark are held in their own {@link HugeDoubleArray}.
+ * Nodes that are not reachable from a landmark have an infinite distance to it.
+ * <p>
+ * The distances can be stored as a node property in the graph catalog,
+ * where they are exposed as one double array per node, ordered by landmark.
+ * The distances record the graph they have been computed on, so that searches
+ * can verify that they are a lower bound of their own distances.
+ */
+public final class LandmarkDistances implements DoubleArrayNodeProperties {
+
+    private final long[] landmarks;
+    private final HugeDoubleArray[] distances;
+    private final long nodeCount;
+    private final @Nullable String relationshipWeightProperty;
+    private final Set<NodeLabel> nodeLabels;
+    private final Set<RelationshipType> relationshipTypes;
+    private final boolean undirected;
+
+    LandmarkDistances(
+        long[] landmarks,
+        HugeDoubleArray[] distances,
+        long nodeCount,
+        @Nullable String relationshipWeightProperty,
+        Set<NodeLabel> nodeLabels,
+        Set<RelationshipType> relationshipTypes,
+        boolean undirected
+    ) {
+        this.landmarks = landmarks;
+        this.distances = distances;
+        this.nodeCount = nodeCount;
+        this.relationshipWeightProperty = relationshipWeightProperty;
+        this.nodeLabels = nodeLabels;
+        this.relationshipTypes = relationshipTypes;
+        this.undirected = undirected;
+    }
+
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the internal node id of the landmark with the given index.
+     */
+    public long landmark(int landmarkIndex) {
+        return landmarks[landmarkIndex];
+    }
+
+    /**
+     * The relationship weight property the distances have been computed with,
+     * {@code null} if every relationship has a weight of {@code 1.0}.
+     */
+    public @Nullable String relationshipWeightProperty() {
+        return relationshipWeightProperty;
+    }
+
+    /**
+     * The node labels of the graph the distances have been computed on.
+     */
+    public Set<NodeLabel> nodeLabels() {
+        return nodeLabels;
+    }
+
+    /**
+     * The relationship types of the graph the distances have been computed on.
+     */
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipTypes;
+    }
+
+    /**
+     * Whether the distances have been computed on an undirected graph.
+     */
+    public boolean isUndirected() {
+        return undirected;
+    }
+
+    public double distance(int landmarkIndex, long nodeId) {
+        return distances[landmarkIndex].get(nodeId);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        var value = new double[landmarks.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            value[i] = distances[i].get(nodeId);
+        }
+        return value;
+    }
+
+    @Override
+    public long size() {
+        return nodeCount;
+    }
+
+    @Override
+    public long release() {
+        long released = 0L;
+        for (HugeDoubleArray landmarkDistances : distances) {
+            released += landmarkDistances.release();
+        }
+        return released;
+    }
+}
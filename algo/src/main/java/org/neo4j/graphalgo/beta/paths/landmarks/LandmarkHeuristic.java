@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.ElementIdentifier;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.beta.filter.ViewNodeProperties;
+import org.neo4j.graphalgo.beta.paths.LandmarkHeuristicConfig;
+import org.neo4j.graphalgo.beta.paths.dijkstra.Dijkstra;
+import org.neo4j.graphalgo.config.RelationshipWeightConfig;
+import org.neo4j.graphalgo.core.huge.FilteredNodeProperties;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A lower bound of the distance from a node to a fixed target node based on
+ * precomputed landmark distances (ALT, i.e. A*, landmarks and triangle inequality).
+ * <p>
+ * For every landmark {@code L}, the triangle inequality {@code d(L, t) <= d(L, v) + d(v, t)}
+ * yields {@code d(v, t) >= d(L, t) - d(L, v)}. On undirected graphs distances are symmetric,
+ * which additionally yields {@code d(v, t) >= d(L, v) - d(L, t)}.
+ * The heuristic is the largest of these bounds and therefore consistent,
+ * so Dijkstra still settles every node with its shortest distance.
+ */
+public final class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+    private final NodeProperties landmarkDistances;
+    private final double[] targetDistances;
+    private final boolean symmetric;
+
+    /**
+     * Creates the heuristic for the landmark property of the given config.
+     * Landmark distances are only a lower bound if they have been computed with the same
+     * relationship weights the search uses, on a graph that contains the searched graph.
+     * Distances computed by {@link Landmarks} record their weight property, node labels,
+     * relationship types and orientation, which are validated against the config and the graph.
+     * A search may use a subset of the node labels and relationship types, but not an undirected
+     * graph if the distances have been computed on a directed one.
+     */
+    public static <CONFIG extends LandmarkHeuristicConfig & RelationshipWeightConfig> Optional<Dijkstra.HeuristicFunction> of(
+        Graph graph,
+        CONFIG config,
+        long targetNode
+    ) {
+        var landmarkProperty = config.landmarkProperty();
+        if (landmarkProperty == null) {
+            return Optional.empty();
+        }
+        if (!graph.availableNodeProperties().contains(landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                landmarkProperty
+            ));
+        }
+        var landmarkDistances = graph.nodeProperties(landmarkProperty);
+        validateLandmarkDistances(landmarkProperty, landmarkDistances, graph, config.relationshipWeightProperty());
+        return Optional.of(new LandmarkHeuristic(landmarkDistances, targetNode, graph.isUndirected()));
+    }
+
+    private static void validateLandmarkDistances(
+        String landmarkProperty,
+        NodeProperties properties,
+        Graph graph,
+        @Nullable String relationshipWeightProperty
+    ) {
+        // filtered graphs and graph views wrap the distances stored in the graph store
+        while (true) {
+            if (properties instanceof FilteredNodeProperties) {
+                properties = ((FilteredNodeProperties) properties).delegate();
+            } else if (properties instanceof ViewNodeProperties) {
+                properties = ((ViewNodeProperties) properties).delegate();
+            } else {
+                break;
+            }
+        }
+        if (!(properties instanceof LandmarkDistances)) {
+            return;
+        }
+        var distances = (LandmarkDistances) properties;
+
+        var landmarkWeightProperty = distances.relationshipWeightProperty();
+        if (!Objects.equals(landmarkWeightProperty, relationshipWeightProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` has been computed with %s, but the search uses %s.",
+                landmarkProperty,
+                describeWeightProperty(landmarkWeightProperty),
+                describeWeightProperty(relationshipWeightProperty)
+            ));
+        }
+
+        var schema = graph.schema();
+        var nodeLabels = schema.nodeSchema().availableLabels();
+        if (!distances.nodeLabels().containsAll(nodeLabels)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` has been computed on the node labels %s, but the search uses %s.",
+                landmarkProperty,
+                sortedNames(distances.nodeLabels()),
+                sortedNames(nodeLabels)
+            ));
+        }
+
+        var relationshipTypes = schema.relationshipSchema().availableTypes();
+        if (!distances.relationshipTypes().containsAll(relationshipTypes)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` has been computed on the relationship types %s, but the search uses %s.",
+                landmarkProperty,
+                sortedNames(distances.relationshipTypes()),
+                sortedNames(relationshipTypes)
+            ));
+        }
+
+        if (graph.isUndirected() && !distances.isUndirected()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` has been computed on a directed graph, but the search uses an undirected graph.",
+                landmarkProperty
+            ));
+        }
+    }
+
+    private static List<String> sortedNames(Collection<? extends ElementIdentifier> elements) {
+        return elements.stream().map(ElementIdentifier::name).sorted().collect(Collectors.toList());
+    }
+
+    private static String describeWeightProperty(@Nullable String relationshipWeightProperty) {
+        return relationshipWeightProperty == null
+            ? "no relationship weight property"
+            : formatWithLocale("relationship weight property `%s`", relationshipWeightProperty);
+    }
+
+    LandmarkHeuristic(NodeProperties landmarkDistances, long targetNode, boolean symmetric) {
+        this.landmarkDistances = landmarkDistances;
+        this.targetDistances = landmarkDistances.doubleArrayValue(targetNode);
+        this.symmetric = symmetric;
+    }
+
+    @Override
+    public double applyAsDouble(long nodeId) {
+        if (landmarkDistances instanceof LandmarkDistances) {
+            // avoid materializing an array per visited node
+            var distances = (LandmarkDistances) landmarkDistances;
+            double bound = 0.0;
+            for (int i = 0; i < targetDistances.length; i++) {
+                bound = Math.max(bound, bound(targetDistances[i], distances.distance(i, nodeId)));
+            }
+            return bound;
+        }
+
+        var nodeDistances = landmarkDistances.doubleArrayValue(nodeId);
+        double bound = 0.0;
+        for (int i = 0; i < targetDistances.length; i++) {
+            bound = Math.max(bound, bound(targetDistances[i], nodeDistances[i]));
+        }
+        return bound;
+    }
+
+    private double bound(double targetDistance, double nodeDistance) {
+        // the landmark does not reach both nodes and cannot bound their distance
+        if (Double.isInfinite(targetDistance) || Double.isInfinite(nodeDistance)) {
+            return 0.0;
+        }
+        double bound = targetDistance - nodeDistance;
+        return symmetric ? Math.abs(bound) : bound;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.paths.landmarks.config.LandmarksBaseConfig;
+import org.neo4j.graphalgo.beta.paths.singlesource.DeltaStepping;
+import org.neo4j.graphalgo.beta.paths.singlesource.config.ImmutableAllShortestPathsDeltaSteppingStreamConfig;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Selects landmark nodes and computes the shortest path distances from each landmark to all nodes.
+ * <p>
+ * Landmarks are selected one after the other, each being the node that is farthest away from
+ * the already selected landmarks. Nodes that are not reached by any landmark yet are preferred.
+ * The distances of each landmark are computed in parallel with {@link DeltaStepping}.
+ */
+public final class Landmarks extends Algorithm<Landmarks, LandmarkDistances> {
+
+    private final Graph graph;
+    private final LandmarksBaseConfig config;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+
+    public Landmarks(
+        Graph graph,
+        LandmarksBaseConfig config,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.config = config;
+        this.executorService = executorService;
+        this.progressLogger = progressLogger;
+        this.tracker = tracker;
+    }
+
+    public static MemoryEstimation memoryEstimation(int landmarkCount) {
+        return MemoryEstimations.builder(Landmarks.class)
+            .perNode("landmark distances", nodeCount -> landmarkCount * HugeDoubleArray.memoryEstimation(nodeCount))
+            .perNode("minimum distances", HugeDoubleArray::memoryEstimation)
+            .add("single source distances", DeltaStepping.memoryEstimation())
+            .build();
+    }
+
+    @Override
+    public LandmarkDistances compute() {
+        progressLogger.logStart();
+
+        long nodeCount = graph.nodeCount();
+        int landmarkCount = (int) Math.min(config.landmarkCount(), nodeCount);
+        var random = config.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+
+        var landmarks = new long[landmarkCount];
+        var distances = new HugeDoubleArray[landmarkCount];
+
+        // the distance of each node to its closest landmark
+        var minDistances = HugeDoubleArray.newArray(nodeCount, tracker);
+        minDistances.fill(Double.POSITIVE_INFINITY);
+
+        for (int i = 0; i < landmarkCount; i++) {
+            assertRunning();
+
+            long landmark = farthestNode(minDistances, nodeCount == 0 ? 0 : random.nextLong(nodeCount));
+            landmarks[i] = landmark;
+            distances[i] = distancesFrom(landmark);
+
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                minDistances.set(nodeId, Math.min(minDistances.get(nodeId), distances[i].get(nodeId)));
+            }
+
+            progressLogger.logProgress(graph.relationshipCount());
+        }
+
+        minDistances.release();
+        progressLogger.logFinish();
+
+        var schema = graph.schema();
+        return new LandmarkDistances(
+            landmarks,
+            distances,
+            nodeCount,
+            config.relationshipWeightProperty(),
+            Set.copyOf(schema.nodeSchema().availableLabels()),
+            Set.copyOf(schema.relationshipSchema().availableTypes()),
+            graph.isUndirected()
+        );
+    }
+
+    private long farthestNode(HugeDoubleArray minDistances, long offset) {
+        long nodeCount = graph.nodeCount();
+        long farthestNode = -1;
+        double maxDistance = -1;
+        for (long i = 0; i < nodeCount; i++) {
+            long nodeId = (offset + i) % nodeCount;
+            double distance = minDistances.get(nodeId);
+            if (distance == Double.POSITIVE_INFINITY) {
+                // not reached by any landmark yet
+                return nodeId;
+            }
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthestNode = nodeId;
+            }
+        }
+        return farthestNode;
+    }
+
+    private HugeDoubleArray distancesFrom(long landmark) {
+        var deltaSteppingConfig = ImmutableAllShortestPathsDeltaSteppingStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(landmark))
+            .concurrency(config.concurrency())
+            .build();
+
+        var deltaStepping = DeltaStepping.of(
+            graph,
+            deltaSteppingConfig,
+            executorService,
+            ProgressLogger.NULL_LOGGER,
+            tracker
+        );
+        deltaStepping.withTerminationFlag(getTerminationFlag()).compute();
+
+        long nodeCount = graph.nodeCount();
+        var singleSourceDistances = deltaStepping.distances();
+        var distances = HugeDoubleArray.newArray(nodeCount, tracker);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            double distance = singleSourceDistances.get(nodeId);
+            distances.set(nodeId, distance == Double.MAX_VALUE ? Double.POSITIVE_INFINITY : distance);
+        }
+        deltaStepping.release();
+
+        return distances;
+    }
+
+    @Override
+    public Landmarks me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+    }
+}
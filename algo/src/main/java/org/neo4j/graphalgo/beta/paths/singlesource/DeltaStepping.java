@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.singlesource;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.paths.ImmutablePathResult;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.DijkstraResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.ImmutableDijkstraResult;
+import org.neo4j.graphalgo.beta.paths.singlesource.config.AllShortestPathsDeltaSteppingBaseConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.DoublePageCreator;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.LongPageCreator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Parallel single-source shortest paths based on delta-stepping
+ * (Meyer and Sanders, "Δ-stepping: a parallelizable shortest path algorithm").
+ * <p>
+ * Nodes are kept in buckets of width {@code delta} according to their tentative distance.
+ * The smallest non-empty bucket is processed by all threads until it stays empty:
+ * relationships with a weight of at most {@code delta} (light relationships) are
+ * relaxed repeatedly, the remaining (heavy) relationships are relaxed once per node
+ * after the bucket has been settled.
+ * Distances and predecessors are shared between threads, buckets are thread-local.
+ */
+public final class DeltaStepping extends Algorithm<DeltaStepping, DijkstraResult> {
+
+    static final long NO_PREDECESSOR = -1L;
+    private static final long LOCKED = Long.MIN_VALUE;
+    private static final long NO_BIN = Long.MAX_VALUE;
+    private static final int BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final double delta;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+
+    private final HugeAtomicDoubleArray distances;
+    private final HugeAtomicLongArray predecessors;
+
+    private HugeLongArray frontier;
+    private final AtomicLong frontierIndex;
+    private long frontierSize;
+
+    public static DeltaStepping of(
+        Graph graph,
+        AllShortestPathsDeltaSteppingBaseConfig config,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        return new DeltaStepping(
+            graph,
+            graph.toMappedNodeId(config.sourceNode()),
+            config.delta(),
+            config.concurrency(),
+            executorService,
+            progressLogger,
+            tracker
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DeltaStepping.class)
+            .perNode("distances", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("predecessors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("frontier", HugeLongArray::memoryEstimation)
+            // every successful relaxation adds one entry to the thread-local buckets,
+            // entries are dropped once their bucket has been moved to the frontier
+            .perGraphDimension("buckets", (dimensions, concurrency) -> MemoryRange.of(
+                MemoryUsage.sizeOfLongArray(dimensions.nodeCount()),
+                MemoryUsage.sizeOfLongArray(Math.max(dimensions.nodeCount(), dimensions.maxRelCount()))
+            ))
+            .build();
+    }
+
+    DeltaStepping(
+        Graph graph,
+        long sourceNode,
+        double delta,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.delta = delta;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.progressLogger = progressLogger;
+
+        long nodeCount = graph.nodeCount();
+        this.distances = HugeAtomicDoubleArray.newArray(
+            nodeCount,
+            DoublePageCreator.of(concurrency, index -> Double.MAX_VALUE),
+            tracker
+        );
+        this.predecessors = HugeAtomicLongArray.newArray(
+            nodeCount,
+            LongPageCreator.of(concurrency, index -> NO_PREDECESSOR),
+            tracker
+        );
+        this.frontier = HugeLongArray.newArray(Math.max(1L, nodeCount), tracker);
+        this.frontierIndex = new AtomicLong();
+    }
+
+    @Override
+    public DijkstraResult compute() {
+        progressLogger.logStart();
+
+        distances.set(sourceNode, 0.0);
+        frontier.set(0, sourceNode);
+        frontierSize = 1;
+        long currentBin = 0;
+
+        var tasks = new ArrayList<DeltaSteppingTask>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new DeltaSteppingTask(graph.concurrentCopy()));
+        }
+
+        while (currentBin != NO_BIN) {
+            assertRunning();
+
+            frontierIndex.set(0);
+            run(tasks, Phase.RELAX_LIGHT, currentBin);
+
+            long nextBin = smallestBin(tasks);
+            if (nextBin != currentBin) {
+                // the current bin is settled, its heavy relationships can only reach later bins
+                run(tasks, Phase.RELAX_HEAVY, currentBin);
+                nextBin = smallestBin(tasks);
+            }
+
+            currentBin = nextBin;
+            if (currentBin != NO_BIN) {
+                fillFrontier(tasks, currentBin);
+            }
+        }
+
+        // the buckets are dropped together with the tasks, the frontier is not needed for the result
+        frontier.release();
+
+        progressLogger.logFinish();
+
+        return ImmutableDijkstraResult
+            .builder()
+            .paths(paths())
+            .build();
+    }
+
+    private void run(List<DeltaSteppingTask> tasks, Phase phase, long currentBin) {
+        tasks.forEach(task -> task.prepare(phase, currentBin));
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+    }
+
+    private static long smallestBin(List<DeltaSteppingTask> tasks) {
+        long smallestBin = NO_BIN;
+        for (DeltaSteppingTask task : tasks) {
+            smallestBin = Math.min(smallestBin, task.smallestBin());
+        }
+        return smallestBin;
+    }
+
+    private void fillFrontier(List<DeltaSteppingTask> tasks, long bin) {
+        long size = 0;
+        for (DeltaSteppingTask task : tasks) {
+            size += task.binSize(bin);
+        }
+        if (size > frontier.size()) {
+            frontier.release();
+            frontier = HugeLongArray.newArray(size, tracker);
+        }
+        frontierIndex.set(0);
+        run(tasks, Phase.FILL_FRONTIER, bin);
+        frontierSize = size;
+    }
+
+    /**
+     * Sets the distance of {@code nodeId} to {@code distance} if that is shorter
+     * than its current distance. Distance and predecessor are updated together while
+     * holding a lock on the node, which is taken by swapping its predecessor with {@link #LOCKED}.
+     */
+    private boolean tryRelax(long nodeId, double distance, long predecessor) {
+        while (true) {
+            if (distance >= distances.get(nodeId)) {
+                return false;
+            }
+            long currentPredecessor = predecessors.get(nodeId);
+            if (currentPredecessor == LOCKED) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (!predecessors.compareAndSet(nodeId, currentPredecessor, LOCKED)) {
+                continue;
+            }
+            boolean shorter = distance < distances.get(nodeId);
+            if (shorter) {
+                distances.set(nodeId, distance);
+            }
+            // release the lock
+            predecessors.set(nodeId, shorter ? predecessor : currentPredecessor);
+            return shorter;
+        }
+    }
+
+    private long binIndex(double distance) {
+        return (long) (distance / delta);
+    }
+
+    private Stream<PathResult> paths() {
+        var pathIndex = new AtomicLong();
+        var pathResultBuilder = ImmutablePathResult.builder().sourceNode(sourceNode);
+        return LongStream
+            .range(0, graph.nodeCount())
+            .filter(nodeId -> distances.get(nodeId) != Double.MAX_VALUE)
+            .mapToObj(nodeId -> pathResult(nodeId, pathIndex.getAndIncrement(), pathResultBuilder));
+    }
+
+    private PathResult pathResult(long targetNode, long index, ImmutablePathResult.Builder pathResultBuilder) {
+        var nodeIds = new LongArrayList();
+        for (long nodeId = targetNode; nodeId != NO_PREDECESSOR; nodeId = predecessors.get(nodeId)) {
+            nodeIds.add(nodeId);
+        }
+
+        int length = nodeIds.size();
+        var pathNodeIds = new long[length];
+        var costs = new double[length];
+        for (int i = 0; i < length; i++) {
+            long nodeId = nodeIds.get(length - 1 - i);
+            pathNodeIds[i] = nodeId;
+            costs[i] = distances.get(nodeId);
+        }
+
+        return pathResultBuilder
+            .index(index)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds)
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs)
+            .build();
+    }
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    /**
+     * Distances of all nodes to the source node, {@link Double#MAX_VALUE} for unreachable nodes.
+     * Must not be used after the algorithm has been released.
+     */
+    public HugeAtomicDoubleArray distances() {
+        return distances;
+    }
+
+    @Override
+    public DeltaStepping me() {
+        return this;
+    }
+
+    /**
+     * Releases distances and predecessors. The paths of the result are computed lazily
+     * from both arrays, so this must only be called once the paths have been consumed.
+     * Buckets and frontier are already released by {@link #compute()}.
+     */
+    @Override
+    public void release() {
+        distances.release();
+        predecessors.release();
+    }
+
+    private enum Phase {
+        RELAX_LIGHT,
+        RELAX_HEAVY,
+        FILL_FRONTIER
+    }
+
+    private final class DeltaSteppingTask implements Runnable {
+
+        private final Graph graph;
+        // tentative bins of nodes whose distances have been updated by this task
+        private final LongObjectHashMap<LongArrayList> bins;
+        // nodes of the current bin that have been processed by this task
+        private final LongArrayList settled;
+
+        private Phase phase;
+        private long currentBin;
+
+        DeltaSteppingTask(Graph graph) {
+            this.graph = graph;
+            this.bins = new LongObjectHashMap<>();
+            this.settled = new LongArrayList();
+        }
+
+        void prepare(Phase phase, long currentBin) {
+            this.phase = phase;
+            this.currentBin = currentBin;
+        }
+
+        long smallestBin() {
+            long smallestBin = NO_BIN;
+            for (var bin : bins) {
+                if (!bin.value.isEmpty()) {
+                    smallestBin = Math.min(smallestBin, bin.key);
+                }
+            }
+            return smallestBin;
+        }
+
+        long binSize(long bin) {
+            var nodes = bins.get(bin);
+            return nodes == null ? 0 : nodes.size();
+        }
+
+        @Override
+        public void run() {
+            switch (phase) {
+                case RELAX_LIGHT:
+                    relaxLight();
+                    break;
+                case RELAX_HEAVY:
+                    relaxHeavy();
+                    break;
+                case FILL_FRONTIER:
+                    fillFrontier();
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected phase: " + phase);
+            }
+        }
+
+        private void relaxLight() {
+            long offset;
+            while ((offset = frontierIndex.getAndAdd(BATCH_SIZE)) < frontierSize) {
+                long limit = Math.min(offset + BATCH_SIZE, frontierSize);
+                for (long i = offset; i < limit; i++) {
+                    long nodeId = frontier.get(i);
+                    // nodes that moved to a smaller bin have already been processed
+                    if (binIndex(distances.get(nodeId)) < currentBin) {
+                        continue;
+                    }
+                    relax(nodeId, true);
+                    settled.add(nodeId);
+                }
+            }
+        }
+
+        private void relaxHeavy() {
+            for (int i = 0; i < settled.size(); i++) {
+                relax(settled.get(i), false);
+            }
+            settled.clear();
+        }
+
+        private void relax(long nodeId, boolean light) {
+            double distance = distances.get(nodeId);
+            graph.forEachRelationship(nodeId, 1.0D, (source, target, weight) -> {
+                if ((weight <= delta) == light) {
+                    double newDistance = distance + weight;
+                    if (tryRelax(target, newDistance, source)) {
+                        addToBin(binIndex(newDistance), target);
+                    }
+                }
+                return true;
+            });
+            if (light) {
+                progressLogger.logProgress(graph.degree(nodeId));
+            }
+        }
+
+        private void addToBin(long bin, long nodeId) {
+            var nodes = bins.get(bin);
+            if (nodes == null) {
+                nodes = new LongArrayList();
+                bins.put(bin, nodes);
+            }
+            nodes.add(nodeId);
+        }
+
+        private void fillFrontier() {
+            var nodes = bins.remove(currentBin);
+            if (nodes == null) {
+                return;
+            }
+            long offset = frontierIndex.getAndAdd(nodes.size());
+            for (int i = 0; i < nodes.size(); i++) {
+                frontier.set(offset + i, nodes.get(i));
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.beta.paths.PathResult;
 import org.neo4j.graphalgo.beta.paths.dijkstra.Dijkstra;
 import org.neo4j.graphalgo.beta.paths.dijkstra.DijkstraResult;
 import org.neo4j.graphalgo.beta.paths.dijkstra.ImmutableDijkstraResult;
+import org.neo4j.graphalgo.beta.paths.landmarks.LandmarkHeuristic;
 import org.neo4j.graphalgo.beta.paths.yens.config.ImmutableShortestPathYensBaseConfig;
 import org.neo4j.graphalgo.beta.paths.yens.config.ShortestPathYensBaseConfig;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
@@ -74,7 +75,10 @@ public final class Yens extends Algorithm<Yens, DijkstraResult> {
             .trackRelationships(graph.isMultiGraph())
             .build();
         // Init dijkstra algorithm for computing shortest paths
-        var dijkstra = Dijkstra.sourceTarget(graph, newConfig, Optional.empty(), progressLogger, tracker);
+        // Landmark distances bound the distance to the target node,
+        // which stays the same for all spur paths.
+        var heuristic = LandmarkHeuristic.of(graph, newConfig, graph.toMappedNodeId(newConfig.targetNode()));
+        var dijkstra = Dijkstra.sourceTarget(graph, newConfig, heuristic, progressLogger, tracker);
         return new Yens(graph, dijkstra, newConfig, progressLogger);
     }
 
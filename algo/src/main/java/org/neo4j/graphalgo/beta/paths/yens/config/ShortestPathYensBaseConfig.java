@@ -21,11 +21,12 @@ package org.neo4j.graphalgo.beta.paths.yens.config;
 
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.beta.paths.LandmarkHeuristicConfig;
 import org.neo4j.graphalgo.beta.paths.ShortestPathBaseConfig;
 
 @ValueClass
 @SuppressWarnings("immutables:subtype")
-public interface ShortestPathYensBaseConfig extends ShortestPathBaseConfig {
+public interface ShortestPathYensBaseConfig extends ShortestPathBaseConfig, LandmarkHeuristicConfig {
 
     String K_KEY = "k";
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.betweenness;
+
+import java.util.Optional;
+
+/**
+ * Stopping rule for approximating betweenness centrality by sampling source nodes.
+ * <p>
+ * For a uniformly sampled source {@code s}, the normalized dependency
+ * {@code delta_s(v) / (n - 1)} is an unbiased estimator in {@code [0, 1]} of the
+ * normalized betweenness of {@code v}. Sources are added in rounds of doubling size.
+ * After each round, every node is checked against the smaller of a Hoeffding and an
+ * empirical Bernstein bound (Maurer and Pontil, 2009). Sampling stops once all nodes are
+ * within {@code epsilon} of their normalized betweenness. The failure probability of
+ * round {@code i} is {@code delta / 2^i}, split across all nodes and both bounds, so
+ * the guarantee holds with probability at least {@code 1 - delta} across all rounds.
+ * <p>
+ * Sources are drawn without replacement. A sample cannot grow beyond the node count,
+ * and a full sample gives exact scores.
+ */
+public final class AdaptiveSampling {
+
+    private static final double LOG_2 = Math.log(2);
+
+    private final double epsilon;
+    private final double delta;
+    private final Optional<Long> maybeRandomSeed;
+
+    public AdaptiveSampling(double epsilon, double delta, Optional<Long> maybeRandomSeed) {
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.maybeRandomSeed = maybeRandomSeed;
+    }
+
+    public double epsilon() {
+        return epsilon;
+    }
+
+    public double delta() {
+        return delta;
+    }
+
+    public Optional<Long> randomSeed() {
+        return maybeRandomSeed;
+    }
+
+    /**
+     * The logarithmic term of both bounds for the given (1-based) round.
+     */
+    double logTerm(long nodeCount, int round) {
+        return Math.log(8.0 * nodeCount / delta) + round * LOG_2;
+    }
+
+    /**
+     * The smallest sample for which the empirical Bernstein bound can drop below {@code epsilon}.
+     */
+    long initialSampleSize(long nodeCount, int concurrency) {
+        long bernsteinMinimum = (long) Math.ceil(7.0 * logTerm(nodeCount, 1) / (3.0 * epsilon)) + 1;
+        return Math.min(nodeCount, Math.max(concurrency, bernsteinMinimum));
+    }
+
+    boolean isWithinBound(double sum, double sumOfSquares, long samples, double logTerm) {
+        return errorBound(sum, sumOfSquares, samples, logTerm) <= epsilon;
+    }
+
+    /**
+     * Returns the half-width of the confidence interval around {@code sum / samples}.
+     *
+     * @param sum          the sum of the sampled values, each in {@code [0, 1]}
+     * @param sumOfSquares the sum of the squared sampled values
+     */
+    static double errorBound(double sum, double sumOfSquares, long samples, double logTerm) {
+        double hoeffding = Math.sqrt(logTerm / (2.0 * samples));
+        if (samples < 2) {
+            return hoeffding;
+        }
+        double variance = Math.max(0.0, (sumOfSquares - sum * sum / samples) / (samples - 1));
+        double bernstein = Math.sqrt(2.0 * variance * logTerm / samples) + 7.0 * logTerm / (3.0 * (samples - 1));
+        return Math.min(hoeffding, bernstein);
+    }
+}
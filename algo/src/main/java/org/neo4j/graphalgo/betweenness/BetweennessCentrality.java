@@ -19,28 +19,35 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayQueue;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
+import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class BetweennessCentrality extends Algorithm<BetweennessCentrality, HugeAtomicDoubleArray> {
 
+    private static final long NO_MORE_SOURCES = -1L;
+
     private final Graph graph;
     private final AtomicLong nodeQueue = new AtomicLong();
     private final long nodeCount;
@@ -49,6 +56,16 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
     private HugeAtomicDoubleArray centrality;
     private SelectionStrategy selectionStrategy;
 
+    private final @Nullable AdaptiveSampling adaptiveSampling;
+    // sum of squared normalized dependencies, only tracked for adaptive sampling
+    private @Nullable HugeAtomicDoubleArray squaredDependencies;
+    // a permutation of all node ids, its prefix up to sampleLimit holds the sampled sources
+    private @Nullable HugeLongArray sampledSources;
+    private long sampleLimit;
+
+    // CSR offsets into the per-task predecessor buffers, indexed by node id
+    private HugeLongArray predecessorOffsets;
+
     private final ExecutorService executorService;
     private final int concurrency;
     private final AllocationTracker tracker;
@@ -59,6 +76,32 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         ExecutorService executorService,
         int concurrency,
         AllocationTracker tracker
+    ) {
+        this(graph, selectionStrategy, null, executorService, concurrency, tracker);
+    }
+
+    /**
+     * Approximates the centrality scores by sampling source nodes until
+     * the error bounds of the given {@link AdaptiveSampling} are met.
+     * The scores are scaled to estimate the centrality over all source nodes.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        AdaptiveSampling adaptiveSampling,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this(graph, SelectionStrategy.ALL, adaptiveSampling, executorService, concurrency, tracker);
+    }
+
+    private BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        @Nullable AdaptiveSampling adaptiveSampling,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
     ) {
         this.graph = graph;
         this.executorService = executorService;
@@ -67,14 +110,24 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         this.centrality = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
         this.selectionStrategy = selectionStrategy;
         this.selectionStrategy.init(graph, executorService, concurrency);
+        this.adaptiveSampling = adaptiveSampling;
         this.tracker = tracker;
         this.divisor = graph.isUndirected() ? 2.0 : 1.0;
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
-        nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask(tracker)), executorService);
+        this.predecessorOffsets = predecessorOffsets();
+        var tasks = Stream.generate(() -> new BCTask(tracker))
+            .limit(concurrency)
+            .collect(Collectors.toList());
+
+        if (adaptiveSampling == null) {
+            nodeQueue.set(0);
+            ParallelUtil.run(tasks, executorService);
+        } else {
+            computeWithAdaptiveSampling(tasks);
+        }
         return centrality;
     }
 
@@ -87,14 +140,146 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
     public void release() {
         centrality = null;
         selectionStrategy = null;
+        squaredDependencies = null;
+        sampledSources = null;
+        predecessorOffsets = null;
+    }
+
+    private void computeWithAdaptiveSampling(List<BCTask> tasks) {
+        assert adaptiveSampling != null;
+        var random = adaptiveSampling.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+
+        this.squaredDependencies = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+        this.sampledSources = HugeLongArray.newArray(nodeCount, tracker);
+        sampledSources.setAll(nodeId -> nodeId);
+
+        long samples = 0;
+        long sampleSize = adaptiveSampling.initialSampleSize(nodeCount, concurrency);
+        for (int round = 1; ; round++) {
+            sampleSources(samples, sampleSize, random);
+            nodeQueue.set(samples);
+            sampleLimit = sampleSize;
+            ParallelUtil.run(tasks, executorService);
+            assertRunning();
+            samples = sampleSize;
+
+            if (samples == nodeCount || isWithinErrorBound(samples, adaptiveSampling.logTerm(nodeCount, round))) {
+                break;
+            }
+            sampleSize = Math.min(nodeCount, 2 * samples);
+        }
+
+        long sampledSourceCount = samples;
+        getProgressLogger().logMessage(() -> formatWithLocale(
+            "Sampled %d of %d source nodes",
+            sampledSourceCount,
+            nodeCount
+        ));
+
+        if (samples < nodeCount) {
+            double scale = (double) nodeCount / samples;
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId ->
+                centrality.set(nodeId, centrality.get(nodeId) * scale)
+            );
+        }
+    }
+
+    // partial Fisher-Yates shuffle, which draws the sources in [from, to) without replacement
+    private void sampleSources(long from, long to, SplittableRandom random) {
+        assert sampledSources != null;
+        for (long i = from; i < to; i++) {
+            long j = i + random.nextLong(nodeCount - i);
+            long source = sampledSources.get(j);
+            sampledSources.set(j, sampledSources.get(i));
+            sampledSources.set(i, source);
+        }
+    }
+
+    private boolean isWithinErrorBound(long samples, double logTerm) {
+        assert adaptiveSampling != null && squaredDependencies != null;
+        // converts the accumulated centrality back into the sum of normalized dependencies
+        double normalization = divisor / (nodeCount - 1);
+        var exceeded = new AtomicBoolean(false);
+
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> (Runnable) () -> {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end && !exceeded.get(); nodeId++) {
+                double sum = centrality.get(nodeId) * normalization;
+                if (!adaptiveSampling.isWithinBound(sum, squaredDependencies.get(nodeId), samples, logTerm)) {
+                    exceeded.set(true);
+                }
+            }
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        return !exceeded.get();
+    }
+
+    private HugeLongArray predecessorOffsets() {
+        // the predecessors of a node are a subset of its incoming relationships
+        var offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        if (graph.isUndirected()) {
+            long offset = 0;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                offsets.set(nodeId, offset);
+                offset += graph.degree(nodeId);
+            }
+            offsets.set(nodeCount, offset);
+            return offsets;
+        }
+
+        var inDegrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> (Runnable) () -> {
+            var relationshipIterator = graph.concurrentCopy();
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                relationshipIterator.forEachRelationship(nodeId, (source, target) -> {
+                    inDegrees.getAndAdd(target, 1);
+                    return true;
+                });
+            }
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += inDegrees.get(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+        inDegrees.release();
+        return offsets;
+    }
+
+    private long nextSource() {
+        if (sampledSources != null) {
+            long index = nodeQueue.getAndIncrement();
+            return index < sampleLimit ? sampledSources.get(index) : NO_MORE_SOURCES;
+        }
+        long nodeId;
+        while ((nodeId = nodeQueue.getAndIncrement()) < nodeCount) {
+            // check whether the node is part of the subset
+            if (selectionStrategy.select(nodeId)) {
+                return nodeId;
+            }
+        }
+        return NO_MORE_SOURCES;
+    }
+
+    private static void add(HugeAtomicDoubleArray array, long index, double value) {
+        double current;
+        do {
+            current = array.get(index);
+        } while (!array.compareAndSet(index, current, current + value));
     }
 
     final class BCTask implements Runnable {
 
         private final RelationshipIterator localRelationshipIterator;
 
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
+        // CSR-style predecessor lists, the list of a node starts at its predecessor offset
+        private final HugeLongArray predecessors;
+        private final HugeIntArray predecessorCounts;
 
         private final HugeLongArrayQueue forwardNodes;
         private final HugeLongArrayStack backwardNodes;
@@ -106,8 +291,8 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         private BCTask(AllocationTracker tracker) {
             this.localRelationshipIterator = graph.concurrentCopy();
 
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker);
-            this.predecessorsCursor = predecessors.newCursor();
+            this.predecessors = HugeLongArray.newArray(predecessorOffsets.get(nodeCount), tracker);
+            this.predecessorCounts = HugeIntArray.newArray(nodeCount, tracker);
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount, tracker);
             // TODO: make queue growable
             this.forwardNodes = HugeLongArrayQueue.newQueue(nodeCount, tracker);
@@ -115,25 +300,21 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
             this.sigma = HugeLongArray.newArray(nodeCount, tracker);
             this.delta = HugeDoubleArray.newArray(nodeCount, tracker);
             this.distance = HugeIntArray.newArray(nodeCount, tracker);
+            // the state of every visited node is reset during the backward traversal,
+            // so that it never needs to be cleared as a whole between sources
+            this.distance.fill(-1);
         }
 
         @Override
         public void run() {
             for (;;) {
                 // take start node from the queue
-                long startNodeId = nodeQueue.getAndIncrement();
-                if (startNodeId >= nodeCount || !running()) {
+                long startNodeId = nextSource();
+                if (startNodeId == NO_MORE_SOURCES || !running()) {
                     return;
                 }
-                // check whether the node is part of the subset
-                if (!selectionStrategy.select(startNodeId)) {
-                    continue;
-                }
-                // reset
                 getProgressLogger().logProgress(startNodeId / (nodeCount - 1));
 
-                clear();
-
                 sigma.addTo(startNodeId, 1);
                 distance.set(startNodeId, 0);
 
@@ -161,55 +342,41 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
 
                 while (!backwardNodes.isEmpty()) {
                     long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
 
                     double dependencyNode = delta.get(node);
                     double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
+                    long offset = predecessorOffsets.get(node);
+                    long limit = offset + predecessorCounts.get(node);
+                    for (long i = offset; i < limit; i++) {
+                        long predecessor = predecessors.get(i);
+                        double sigmaPredecessor = sigma.get(predecessor);
+                        double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                        delta.addTo(predecessor, dependency);
                     }
                     if (node != startNodeId) {
-                        double current;
-                        do {
-                            current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        add(centrality, node, dependencyNode / divisor);
+                        if (squaredDependencies != null) {
+                            double normalizedDependency = dependencyNode / (nodeCount - 1);
+                            add(squaredDependencies, node, normalizedDependency * normalizedDependency);
+                        }
                     }
+
+                    // all successors of the node have been processed before,
+                    // so its state is not read again for the current source
+                    predecessorCounts.set(node, 0);
+                    distance.set(node, -1);
+                    sigma.set(node, 0);
+                    delta.set(node, 0);
                 }
             }
         }
 
-        // append node to the path at target
+        // append node to the predecessors of target
         private void append(long target, long node) {
-            LongArrayList targetPredecessors = predecessors.get(target);
-            if (null == targetPredecessors) {
-                targetPredecessors = new LongArrayList();
-                predecessors.set(target, targetPredecessors);
-            }
-            targetPredecessors.add(node);
-        }
-
-        private void clear() {
-            distance.fill(-1);
-            sigma.fill(0);
-            delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
-                }
-            }
+            int count = predecessorCounts.get(target);
+            predecessors.set(predecessorOffsets.get(target) + count, node);
+            predecessorCounts.set(target, count + 1);
         }
     }
 }
@@ -31,6 +31,20 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Enables adaptive sampling: source nodes are sampled until the normalized
+     * centrality of every node is approximated within this absolute error.
+     */
+    Optional<Double> samplingEpsilon();
+
+    /**
+     * The probability that the error of an adaptive sample exceeds {@link #samplingEpsilon()}.
+     */
+    @Value.Default
+    default double samplingDelta() {
+        return 0.1;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -42,5 +56,26 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
                 ));
             }
         });
+        samplingEpsilon().ifPresent(samplingEpsilon -> {
+            if (samplingEpsilon <= 0 || samplingEpsilon >= 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'samplingEpsilon' must be in the range (0, 1), got %s.",
+                    samplingEpsilon
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'samplingSize' and 'samplingEpsilon' cannot be used together."
+                );
+            }
+        });
+        if (samplingDelta() <= 0 || samplingDelta() >= 1) {
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Configuration parameter 'samplingDelta' must be in the range (0, 1), got %s.",
+                samplingDelta()
+            ));
+        }
     }
 }
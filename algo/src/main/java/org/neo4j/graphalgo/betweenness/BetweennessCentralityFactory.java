@@ -25,16 +25,14 @@ import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
 import org.neo4j.logging.Log;
 
-import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
-
 public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> implements AlgorithmFactory<BetweennessCentrality, CONFIG> {
 
     @Override
@@ -47,6 +45,17 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     ) {
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
+        var samplingEpsilon = configuration.samplingEpsilon();
+
+        if (samplingEpsilon.isPresent()) {
+            return new BetweennessCentrality(
+                graph,
+                new AdaptiveSampling(samplingEpsilon.get(), configuration.samplingDelta(), samplingSeed),
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                tracker
+            );
+        }
 
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new SelectionStrategy.RandomDegree(samplingSize.get(), samplingSeed)
@@ -63,22 +72,28 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations.builder(BetweennessCentrality.class)
+        var builder = MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("predecessor offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
             .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-                .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    // Predecessors are represented by LongArrayList which wrap a long[]
-                    long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                        .build();
-                }))
+                // a node has at most as many predecessors as incoming relationships
+                .perGraphDimension("predecessors", (dimensions, concurrency) ->
+                    MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.maxRelCount()))
+                )
+                .perNode("predecessor counts", HugeIntArray::memoryEstimation)
                 .perNode("forwardNodes", HugeLongArray::memoryEstimation)
                 .perNode("backwardNodes", HugeLongArray::memoryEstimation)
                 .perNode("deltas", HugeDoubleArray::memoryEstimation)
                 .perNode("sigmas", HugeLongArray::memoryEstimation)
                 .perNode("distances", HugeIntArray::memoryEstimation)
-                .build())
-            .build();
+                .build());
+
+        if (configuration.samplingEpsilon().isPresent()) {
+            builder
+                .perNode("squared dependencies", HugeAtomicDoubleArray::memoryEstimation)
+                .perNode("sampled sources", HugeLongArray::memoryEstimation);
+        }
+
+        return builder.build();
     }
 }
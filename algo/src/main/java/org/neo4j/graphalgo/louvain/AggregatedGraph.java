@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.ImmutableRelationshipCursor;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.api.schema.NodeSchema;
+import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+
+/**
+ * The graph of the communities of one Louvain level, as built by {@link GraphAggregator}.
+ * <p>
+ * Nodes are the communities in ascending order of their ids, which are exposed as original node ids.
+ * The relationships are held uncompressed in a CSR layout, sorted by target and without parallel relationships,
+ * and carry the summed weights of the relationships between the respective communities.
+ */
+final class AggregatedGraph implements Graph {
+
+    private static final long NOT_FOUND = -1L;
+    private static final Set<NodeLabel> ALL_NODES_LABELS = Set.of(NodeLabel.ALL_NODES);
+
+    private final long nodeCount;
+    private final long maxCommunityId;
+    // mapped node id -> community id, in ascending order
+    private final HugeLongArray communityIds;
+    // exclusive prefix sum over all community ids that have been used, if they have been ranked densely
+    private final @Nullable HugeLongArray communityRanks;
+
+    private final boolean isUndirected;
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+    private final HugeDoubleArray weights;
+
+    private boolean canRelease = true;
+
+    AggregatedGraph(
+        long maxCommunityId,
+        HugeLongArray communityIds,
+        @Nullable HugeLongArray communityRanks,
+        boolean isUndirected,
+        HugeLongArray offsets,
+        HugeLongArray targets,
+        HugeDoubleArray weights
+    ) {
+        this.nodeCount = communityIds.size();
+        this.maxCommunityId = maxCommunityId;
+        this.communityIds = communityIds;
+        this.communityRanks = communityRanks;
+        this.isUndirected = isUndirected;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return GraphSchema.of(
+            NodeSchema.builder().addLabel(NodeLabel.ALL_NODES).build(),
+            RelationshipSchema.builder().addProperty(RelationshipType.of("REL"), "property", ValueType.DOUBLE).build()
+        );
+    }
+
+    @Override
+    public long relationshipCount() {
+        return offsets.get(nodeCount);
+    }
+
+    @Override
+    public boolean isUndirected() {
+        return isUndirected;
+    }
+
+    @Override
+    public boolean isMultiGraph() {
+        return false;
+    }
+
+    @Override
+    public boolean hasRelationshipProperty() {
+        return true;
+    }
+
+    @Override
+    public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
+        return this;
+    }
+
+    @Override
+    public AggregatedGraph concurrentCopy() {
+        return this;
+    }
+
+    // Nodes
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long highestNeoId() {
+        return maxCommunityId;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        return rankOf(nodeId, communityIds, communityRanks, maxCommunityId);
+    }
+
+    /**
+     * Returns the position of the given community in the ascending {@code communityIds} or {@link #NOT_FOUND}.
+     * A community has been used iff the dense prefix sum increases right after it,
+     * without dense ranks the community ids are searched instead.
+     */
+    static long rankOf(
+        long communityId,
+        HugeLongArray communityIds,
+        @Nullable HugeLongArray communityRanks,
+        long maxCommunityId
+    ) {
+        if (communityId < 0 || communityId > maxCommunityId) {
+            return NOT_FOUND;
+        }
+        if (communityRanks != null) {
+            long rank = communityRanks.get(communityId);
+            return communityRanks.get(communityId + 1) == rank ? NOT_FOUND : rank;
+        }
+        long low = 0;
+        long high = communityIds.size() - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            long id = communityIds.get(mid);
+            if (id < communityId) {
+                low = mid + 1;
+            } else if (id > communityId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return communityIds.get(nodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return toMappedNodeId(nodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (!consumer.test(nodeId)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount);
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(nodeCount, batchSize, IdIterable::new);
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        return ALL_NODES_LABELS;
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        consumer.accept(NodeLabel.ALL_NODES);
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return ALL_NODES_LABELS;
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return label.equals(NodeLabel.ALL_NODES);
+    }
+
+    @Override
+    public NodeProperties nodeProperties(String propertyKey) {
+        return null;
+    }
+
+    @Override
+    public Set<String> availableNodeProperties() {
+        return Set.of();
+    }
+
+    // Relationships
+
+    @Override
+    public int degree(long nodeId) {
+        return (int) (offsets.get(nodeId + 1) - offsets.get(nodeId));
+    }
+
+    @Override
+    public int degreeWithoutParallelRelationships(long nodeId) {
+        return degree(nodeId);
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+        long end = offsets.get(nodeId + 1);
+        for (long index = offsets.get(nodeId); index < end; index++) {
+            if (!consumer.accept(nodeId, targets.get(index))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        long end = offsets.get(nodeId + 1);
+        for (long index = offsets.get(nodeId); index < end; index++) {
+            if (!consumer.accept(nodeId, targets.get(index), weights.get(index))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
+        var relationships = new ArrayList<RelationshipCursor>(degree(nodeId));
+        forEachRelationship(nodeId, fallbackValue, (source, target, property) -> {
+            relationships.add(ImmutableRelationshipCursor.of(source, target, property));
+            return true;
+        });
+        return relationships.stream();
+    }
+
+    @Override
+    public long getTarget(long nodeId, long index) {
+        long offset = offsets.get(nodeId) + index;
+        return index >= 0 && offset < offsets.get(nodeId + 1) ? targets.get(offset) : NOT_FOUND;
+    }
+
+    @Override
+    public boolean exists(long sourceNodeId, long targetNodeId) {
+        return indexOf(sourceNodeId, targetNodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId) {
+        return relationshipProperty(sourceNodeId, targetNodeId, Double.NaN);
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId, double fallbackValue) {
+        long index = indexOf(sourceNodeId, targetNodeId);
+        return index == NOT_FOUND ? fallbackValue : weights.get(index);
+    }
+
+    private long indexOf(long sourceNodeId, long targetNodeId) {
+        long low = offsets.get(sourceNodeId);
+        long high = offsets.get(sourceNodeId + 1) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            long target = targets.get(mid);
+            if (target < targetNodeId) {
+                low = mid + 1;
+            } else if (target > targetNodeId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+        this.canRelease = canRelease;
+    }
+
+    @Override
+    public void releaseTopology() {
+        if (canRelease) {
+            offsets.release();
+            targets.release();
+            communityIds.release();
+            if (communityRanks != null) {
+                communityRanks.release();
+            }
+        }
+    }
+
+    @Override
+    public void releaseProperties() {
+        if (canRelease) {
+            weights.release();
+        }
+    }
+}
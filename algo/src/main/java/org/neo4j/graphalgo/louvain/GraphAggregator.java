@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeMergeSort;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Contracts a graph by merging all nodes of a community into a single node.
+ * <p>
+ * Relationships between two communities are merged into a single relationship whose weight is the sum
+ * of the weights of the merged relationships. Relationships within a community become a self-loop.
+ * The resulting {@link AggregatedGraph} is built directly from the community assignment:
+ * <ol>
+ * <li>the used community ids are compacted with a parallel prefix sum, either over a dense array indexed by community id
+ * or, if the community ids span a much larger range than the node ids, over the sorted community ids of all nodes</li>
+ * <li>the relationships of each node are copied into the slots of its community, which are reserved per node</li>
+ * <li>the relationships of each community are sorted by target and merged in parallel,
+ * communities with more than {@link #DEFAULT_CHUNK_SIZE} relationships are sorted in chunks that are merged afterwards</li>
+ * <li>the merged relationships are compacted into the final CSR layout</li>
+ * </ol>
+ * Weights are merged in ascending order, so the result does not depend on the concurrency.
+ */
+final class GraphAggregator {
+
+    // community ids below this multiple of the node count are ranked through a dense array
+    private static final long DENSE_RANKS_FACTOR = 2;
+    // the maximum number of relationships of a community that are sorted on heap at once
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final Graph graph;
+    private final LongUnaryOperator communities;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    private final TerminationFlag terminationFlag;
+    private final int chunkSize;
+
+    GraphAggregator(
+        Graph graph,
+        LongUnaryOperator communities,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, communities, concurrency, executorService, tracker, terminationFlag, DEFAULT_CHUNK_SIZE);
+    }
+
+    GraphAggregator(
+        Graph graph,
+        LongUnaryOperator communities,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker,
+        TerminationFlag terminationFlag,
+        int chunkSize
+    ) {
+        this.chunkSize = chunkSize;
+        this.graph = graph;
+        this.communities = communities;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.terminationFlag = terminationFlag;
+    }
+
+    AggregatedGraph aggregate() {
+        long nodeCount = graph.nodeCount();
+        long maxCommunityId = maxCommunityId();
+
+        // seeded communities may use arbitrary ids, which cannot be ranked densely
+        HugeLongArray communityRanks = maxCommunityId < DENSE_RANKS_FACTOR * nodeCount
+            ? rankCommunities(maxCommunityId)
+            : null;
+        HugeLongArray communityIds = communityRanks != null
+            ? denseCommunityIds(communityRanks, maxCommunityId)
+            : sortedCommunityIds();
+        long communityCount = communityIds.size();
+
+        HugeLongArray nodeCommunities = HugeLongArray.newArray(nodeCount, tracker);
+        forEachPartition(nodeCount, partition -> () -> partition.consume(nodeId -> nodeCommunities.set(
+            nodeId,
+            AggregatedGraph.rankOf(communities.applyAsLong(nodeId), communityIds, communityRanks, maxCommunityId)
+        )));
+
+        terminationFlag.assertRunning();
+
+        // reserve the slots of all relationships of a node at once
+        HugeAtomicLongArray cursors = HugeAtomicLongArray.newArray(communityCount, tracker);
+        forEachPartition(nodeCount, partition -> () -> partition.consume(
+            nodeId -> cursors.getAndAdd(nodeCommunities.get(nodeId), graph.degree(nodeId))
+        ));
+
+        HugeLongArray offsets = HugeLongArray.newArray(communityCount + 1, tracker);
+        forEachPartition(communityCount, partition -> () -> partition.consume(
+            communityId -> offsets.set(communityId, cursors.get(communityId))
+        ));
+        long relationshipCount = exclusivePrefixSum(offsets, communityCount + 1);
+        forEachPartition(communityCount, partition -> () -> partition.consume(
+            communityId -> cursors.set(communityId, offsets.get(communityId))
+        ));
+
+        HugeLongArray targets = HugeLongArray.newArray(relationshipCount, tracker);
+        HugeDoubleArray weights = HugeDoubleArray.newArray(relationshipCount, tracker);
+        forEachPartition(nodeCount, partition -> copyRelationshipsTask(
+            partition,
+            nodeCommunities,
+            cursors,
+            targets,
+            weights
+        ));
+        cursors.release();
+        nodeCommunities.release();
+
+        terminationFlag.assertRunning();
+
+        HugeLongArray mergedOffsets = HugeLongArray.newArray(communityCount + 1, tracker);
+        forEachPartition(communityCount, partition -> mergeRelationshipsTask(
+            partition,
+            communityCount,
+            offsets,
+            mergedOffsets,
+            targets,
+            weights
+        ));
+        long mergedRelationshipCount = exclusivePrefixSum(mergedOffsets, communityCount + 1);
+
+        HugeLongArray mergedTargets = HugeLongArray.newArray(mergedRelationshipCount, tracker);
+        HugeDoubleArray mergedWeights = HugeDoubleArray.newArray(mergedRelationshipCount, tracker);
+        forEachPartition(communityCount, partition -> () -> partition.consume(communityId -> {
+            long source = offsets.get(communityId);
+            long end = mergedOffsets.get(communityId + 1);
+            for (long target = mergedOffsets.get(communityId); target < end; target++, source++) {
+                mergedTargets.set(target, targets.get(source));
+                mergedWeights.set(target, weights.get(source));
+            }
+        }));
+        offsets.release();
+        targets.release();
+        weights.release();
+
+        return new AggregatedGraph(
+            maxCommunityId,
+            communityIds,
+            communityRanks,
+            graph.isUndirected(),
+            mergedOffsets,
+            mergedTargets,
+            mergedWeights
+        );
+    }
+
+    /**
+     * Marks every used community id and replaces the marks by their exclusive prefix sum,
+     * such that a used community is recognized by an increasing prefix sum right after it.
+     */
+    private HugeLongArray rankCommunities(long maxCommunityId) {
+        HugeLongArray communityRanks = HugeLongArray.newArray(maxCommunityId + 2, tracker);
+        forEachPartition(graph.nodeCount(), partition -> () -> partition.consume(
+            nodeId -> communityRanks.set(communities.applyAsLong(nodeId), 1)
+        ));
+        exclusivePrefixSum(communityRanks, maxCommunityId + 2);
+        return communityRanks;
+    }
+
+    private HugeLongArray denseCommunityIds(HugeLongArray communityRanks, long maxCommunityId) {
+        HugeLongArray communityIds = HugeLongArray.newArray(communityRanks.get(maxCommunityId + 1), tracker);
+        forEachPartition(maxCommunityId + 1, partition -> () -> partition.consume(communityId -> {
+            long rank = communityRanks.get(communityId);
+            if (communityRanks.get(communityId + 1) != rank) {
+                communityIds.set(rank, communityId);
+            }
+        }));
+        return communityIds;
+    }
+
+    /**
+     * Sorts the community ids of all nodes and keeps the first occurrence of each id.
+     * Uses memory proportional to the node count, regardless of the range of the community ids.
+     */
+    private HugeLongArray sortedCommunityIds() {
+        long nodeCount = graph.nodeCount();
+        HugeLongArray sortedIds = HugeLongArray.newArray(nodeCount, tracker);
+        forEachPartition(nodeCount, partition -> () -> partition.consume(
+            nodeId -> sortedIds.set(nodeId, communities.applyAsLong(nodeId))
+        ));
+        HugeMergeSort.sort(sortedIds, concurrency, tracker);
+
+        HugeLongArray ranks = HugeLongArray.newArray(nodeCount + 1, tracker);
+        forEachPartition(nodeCount, partition -> () -> partition.consume(index -> ranks.set(
+            index,
+            index == 0 || sortedIds.get(index) != sortedIds.get(index - 1) ? 1 : 0
+        )));
+        long communityCount = exclusivePrefixSum(ranks, nodeCount + 1);
+
+        HugeLongArray communityIds = HugeLongArray.newArray(communityCount, tracker);
+        forEachPartition(nodeCount, partition -> () -> partition.consume(index -> {
+            long rank = ranks.get(index);
+            if (ranks.get(index + 1) != rank) {
+                communityIds.set(rank, sortedIds.get(index));
+            }
+        }));
+        sortedIds.release();
+        ranks.release();
+        return communityIds;
+    }
+
+    private long maxCommunityId() {
+        List<Partition> partitions = PartitionUtils.rangePartition(concurrency, graph.nodeCount(), partition -> partition);
+        long[] maxima = new long[partitions.size()];
+        List<Runnable> tasks = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            Partition partition = partitions.get(i);
+            tasks.add(() -> partition.consume(nodeId -> maxima[partitionIndex] = Math.max(
+                maxima[partitionIndex],
+                communities.applyAsLong(nodeId)
+            )));
+        }
+        ParallelUtil.run(tasks, executorService);
+
+        long max = 0L;
+        for (long partitionMax : maxima) {
+            max = Math.max(max, partitionMax);
+        }
+        return max;
+    }
+
+    private Runnable copyRelationshipsTask(
+        Partition partition,
+        HugeLongArray nodeCommunities,
+        HugeAtomicLongArray cursors,
+        HugeLongArray targets,
+        HugeDoubleArray weights
+    ) {
+        Graph localGraph = graph.concurrentCopy();
+        return () -> partition.consume(nodeId -> {
+            long[] index = {cursors.getAndAdd(nodeCommunities.get(nodeId), localGraph.degree(nodeId))};
+            localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                targets.set(index[0], nodeCommunities.get(target));
+                weights.set(index[0], weight);
+                index[0]++;
+                return true;
+            });
+        });
+    }
+
+    /**
+     * Sorts the relationships of each community by target and weight and sums up the weights of parallel relationships.
+     * The merged relationships are moved to the start of the community's slots and their count is stored in {@code mergedDegrees}.
+     */
+    private Runnable mergeRelationshipsTask(
+        Partition partition,
+        long communityCount,
+        HugeLongArray offsets,
+        HugeLongArray mergedDegrees,
+        HugeLongArray targets,
+        HugeDoubleArray weights
+    ) {
+        return () -> {
+            var merger = new RelationshipMerger(chunkSize, communityCount, targets, weights, tracker);
+            long end = partition.startNode() + partition.nodeCount();
+            for (long communityId = partition.startNode(); communityId < end; communityId++) {
+                long offset = offsets.get(communityId);
+                long degree = offsets.get(communityId + 1) - offset;
+                mergedDegrees.set(communityId, merger.merge(offset, degree));
+            }
+        };
+    }
+
+    /**
+     * Replaces the first {@code size} values by their exclusive prefix sum and returns the total.
+     * Each partition is summed up in parallel, before the partition totals are distributed in a second parallel pass.
+     */
+    private long exclusivePrefixSum(HugeLongArray values, long size) {
+        List<Partition> partitions = PartitionUtils.rangePartition(concurrency, size, partition -> partition);
+        long[] partitionOffsets = new long[partitions.size()];
+
+        List<Runnable> sumTasks = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            Partition partition = partitions.get(i);
+            sumTasks.add(() -> partition.consume(index -> partitionOffsets[partitionIndex] += values.get(index)));
+        }
+        ParallelUtil.run(sumTasks, executorService);
+
+        long total = 0L;
+        for (int i = 0; i < partitionOffsets.length; i++) {
+            long sum = partitionOffsets[i];
+            partitionOffsets[i] = total;
+            total += sum;
+        }
+
+        List<Runnable> distributeTasks = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            long partitionOffset = partitionOffsets[i];
+            Partition partition = partitions.get(i);
+            distributeTasks.add(() -> {
+                long offset = partitionOffset;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long index = partition.startNode(); index < end; index++) {
+                    long value = values.get(index);
+                    values.set(index, offset);
+                    offset += value;
+                }
+            });
+        }
+        ParallelUtil.run(distributeTasks, executorService);
+
+        return total;
+    }
+
+    private void forEachPartition(long count, Function<Partition, Runnable> taskCreator) {
+        ParallelUtil.run(PartitionUtils.rangePartition(concurrency, count, taskCreator), executorService);
+    }
+
+    /**
+     * Sorts and merges the relationships of a single community in place.
+     * <p>
+     * At most {@code chunkSize} relationships are sorted on heap at once. The relationships of larger communities
+     * are sorted chunk by chunk, before the sorted chunks are merged through a scratch space of at most one slot
+     * per community. Either way, the weights of parallel relationships are summed up in ascending order.
+     */
+    private static final class RelationshipMerger {
+
+        private final int chunkSize;
+        private final long communityCount;
+        private final HugeLongArray targets;
+        private final HugeDoubleArray weights;
+        private final AllocationTracker tracker;
+
+        private long[] targetBuffer;
+        private double[] weightBuffer;
+
+        RelationshipMerger(
+            int chunkSize,
+            long communityCount,
+            HugeLongArray targets,
+            HugeDoubleArray weights,
+            AllocationTracker tracker
+        ) {
+            this.chunkSize = chunkSize;
+            this.communityCount = communityCount;
+            this.targets = targets;
+            this.weights = weights;
+            this.tracker = tracker;
+            this.targetBuffer = new long[0];
+            this.weightBuffer = new double[0];
+        }
+
+        /**
+         * Merges the {@code degree} relationships starting at {@code offset} and returns the number of merged relationships.
+         */
+        long merge(long offset, long degree) {
+            if (degree <= chunkSize) {
+                int length = (int) degree;
+                int[] order = loadAndSort(offset, length);
+
+                long mergedDegree = 0;
+                for (int i = 0; i < length; ) {
+                    long target = targetBuffer[order[i]];
+                    double weight = 0;
+                    for (; i < length && targetBuffer[order[i]] == target; i++) {
+                        weight += weightBuffer[order[i]];
+                    }
+                    targets.set(offset + mergedDegree, target);
+                    weights.set(offset + mergedDegree, weight);
+                    mergedDegree++;
+                }
+                return mergedDegree;
+            }
+
+            int runCount = Math.toIntExact((degree + chunkSize - 1) / chunkSize);
+            long[] cursors = new long[runCount];
+            long[] ends = new long[runCount];
+            for (int run = 0; run < runCount; run++) {
+                long runOffset = offset + (long) run * chunkSize;
+                int length = (int) Math.min(chunkSize, offset + degree - runOffset);
+                int[] order = loadAndSort(runOffset, length);
+                for (int i = 0; i < length; i++) {
+                    targets.set(runOffset + i, targetBuffer[order[i]]);
+                    weights.set(runOffset + i, weightBuffer[order[i]]);
+                }
+                cursors[run] = runOffset;
+                ends[run] = runOffset + length;
+            }
+
+            // every target is a community, so there are at most that many merged relationships
+            long scratchSize = Math.min(degree, communityCount);
+            HugeLongArray mergedTargets = HugeLongArray.newArray(scratchSize, tracker);
+            HugeDoubleArray mergedWeights = HugeDoubleArray.newArray(scratchSize, tracker);
+
+            // a binary min-heap of the runs, ordered by their current relationship
+            int[] heap = new int[runCount];
+            for (int run = 0; run < runCount; run++) {
+                heap[run] = run;
+            }
+            int heapSize = runCount;
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, cursors);
+            }
+
+            long mergedDegree = 0;
+            long currentTarget = -1L;
+            double currentWeight = 0;
+            while (heapSize > 0) {
+                int run = heap[0];
+                long target = targets.get(cursors[run]);
+                double weight = weights.get(cursors[run]);
+                if (mergedDegree > 0 && target == currentTarget) {
+                    currentWeight += weight;
+                } else {
+                    if (mergedDegree > 0) {
+                        mergedWeights.set(mergedDegree - 1, currentWeight);
+                    }
+                    mergedTargets.set(mergedDegree++, target);
+                    currentTarget = target;
+                    currentWeight = weight;
+                }
+                if (++cursors[run] == ends[run]) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, cursors);
+            }
+            mergedWeights.set(mergedDegree - 1, currentWeight);
+
+            for (long i = 0; i < mergedDegree; i++) {
+                targets.set(offset + i, mergedTargets.get(i));
+                weights.set(offset + i, mergedWeights.get(i));
+            }
+            mergedTargets.release();
+            mergedWeights.release();
+
+            return mergedDegree;
+        }
+
+        private int[] loadAndSort(long offset, int length) {
+            if (targetBuffer.length < length) {
+                targetBuffer = new long[length];
+                weightBuffer = new double[length];
+            }
+            for (int i = 0; i < length; i++) {
+                targetBuffer[i] = targets.get(offset + i);
+                weightBuffer[i] = weights.get(offset + i);
+            }
+
+            long[] sortedTargets = targetBuffer;
+            double[] sortedWeights = weightBuffer;
+            return IndirectSort.mergesort(0, length, (a, b) -> {
+                int byTarget = Long.compare(sortedTargets[a], sortedTargets[b]);
+                return byTarget != 0 ? byTarget : Double.compare(sortedWeights[a], sortedWeights[b]);
+            });
+        }
+
+        private void siftDown(int[] heap, int heapSize, int index, long[] cursors) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && isBefore(cursors[heap[left]], cursors[heap[smallest]])) {
+                    smallest = left;
+                }
+                if (right < heapSize && isBefore(cursors[heap[right]], cursors[heap[smallest]])) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                int tmp = heap[index];
+                heap[index] = heap[smallest];
+                heap[smallest] = tmp;
+                index = smallest;
+            }
+        }
+
+        private boolean isBefore(long position1, long position2) {
+            int byTarget = Long.compare(targets.get(position1), targets.get(position2));
+            return byTarget != 0
+                ? byTarget < 0
+                : Double.compare(weights.get(position1), weights.get(position2)) < 0;
+        }
+    }
+}
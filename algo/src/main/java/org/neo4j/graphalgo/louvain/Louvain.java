@@ -20,33 +20,23 @@
 package org.neo4j.graphalgo.louvain;
 
 import org.neo4j.graphalgo.Algorithm;
-import org.neo4j.graphalgo.Orientation;
-import org.neo4j.graphalgo.api.DefaultValue;
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
-import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
 import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamConfig;
-import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
-import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.partition.Partition;
-import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -88,36 +78,47 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         NodeProperties nextSeedingValues = seedingValues;
 
         long oldNodeCount = rootGraph.nodeCount();
-        for (ranLevels = 0; ranLevels < config.maxLevels(); ranLevels++) {
-            getProgressLogger().logMessage(formatWithLocale("Level %d :: Start", ranLevels + 1));
+        try {
+            for (ranLevels = 0; ranLevels < config.maxLevels(); ranLevels++) {
+                getProgressLogger().logMessage(formatWithLocale("Level %d :: Start", ranLevels + 1));
 
-            assertRunning();
+                assertRunning();
 
-            ModularityOptimization modularityOptimization = runModularityOptimization(
-                workingGraph,
-                nextSeedingValues
-            );
-            modularityOptimization.release();
+                ModularityOptimization modularityOptimization = runModularityOptimization(
+                    workingGraph,
+                    nextSeedingValues
+                );
+                modularityOptimization.release();
 
-            modularities[ranLevels] = modularityOptimization.getModularity();
-            dendrograms[ranLevels] = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
-            long maxCommunityId = buildDendrogram(workingGraph, ranLevels, modularityOptimization);
+                modularities[ranLevels] = modularityOptimization.getModularity();
+                dendrograms[ranLevels] = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
+                buildDendrogram(workingGraph, ranLevels, modularityOptimization);
 
-            workingGraph = summarizeGraph(workingGraph, modularityOptimization, maxCommunityId);
-            nextSeedingValues = new OriginalIdNodeProperties(workingGraph);
+                Graph summarizedGraph = summarizeGraph(workingGraph, modularityOptimization);
+                if (workingGraph != rootGraph) {
+                    workingGraph.release();
+                }
+                workingGraph = summarizedGraph;
+                nextSeedingValues = new OriginalIdNodeProperties(workingGraph);
 
-            getProgressLogger().logMessage(formatWithLocale("Level %d :: Finished", ranLevels + 1));
+                getProgressLogger().logMessage(formatWithLocale("Level %d :: Finished", ranLevels + 1));
 
 
-            if (workingGraph.nodeCount() == oldNodeCount
-                || workingGraph.nodeCount() == 1
-                || hasConverged()
-            ) {
-                resizeResultArrays();
-                getProgressLogger().logMessage(":: Finished");
-                break;
+                if (workingGraph.nodeCount() == oldNodeCount
+                    || workingGraph.nodeCount() == 1
+                    || hasConverged()
+                ) {
+                    resizeResultArrays();
+                    getProgressLogger().logMessage(":: Finished");
+                    break;
+                }
+                oldNodeCount = workingGraph.nodeCount();
+            }
+        } finally {
+            // the graph of the last level is released on convergence, termination and when reaching the level limit
+            if (workingGraph != rootGraph) {
+                workingGraph.release();
             }
-            oldNodeCount = workingGraph.nodeCount();
         }
 
         return this;
@@ -135,33 +136,18 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         this.modularities = resizedModularities;
     }
 
-    private long buildDendrogram(
+    private void buildDendrogram(
         Graph workingGraph,
         int level,
         ModularityOptimization modularityOptimization
     ) {
-        AtomicLong maxCommunityId = new AtomicLong(0L);
         ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), (nodeId) -> {
             long prevId = level == 0
                 ? nodeId
                 : workingGraph.toMappedNodeId(dendrograms[level - 1].get(nodeId));
 
-            long communityId = modularityOptimization.getCommunityId(prevId);
-
-            boolean updatedMaxCurrentId;
-            do {
-                var currentMaxId = maxCommunityId.get();
-                if (communityId > currentMaxId) {
-                    updatedMaxCurrentId = maxCommunityId.compareAndSet(currentMaxId, communityId);
-                } else {
-                    updatedMaxCurrentId = true;
-                }
-            } while (!updatedMaxCurrentId);
-
-            dendrograms[level].set(nodeId, communityId);
+            dendrograms[level].set(nodeId, modularityOptimization.getCommunityId(prevId));
         });
-
-        return maxCommunityId.get();
     }
 
     private ModularityOptimization runModularityOptimization(Graph louvainGraph, NodeProperties seed) {
@@ -188,52 +174,17 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         return modularityOptimization;
     }
 
-    private Graph summarizeGraph(
-        Graph workingGraph,
-        ModularityOptimization modularityOptimization,
-        long maxCommunityId
-    ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(config.concurrency())
-            .tracker(tracker)
-            .build();
-
-        assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
-            return true;
-        });
-
+    private Graph summarizeGraph(Graph workingGraph, ModularityOptimization modularityOptimization) {
         assertRunning();
 
-        Orientation orientation = rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
-        NodeMapping idMap = nodesBuilder.build().nodeMapping();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .orientation(orientation)
-            .addPropertyConfig(Aggregation.SUM, DefaultValue.forDouble())
-            .preAggregate(true)
-            .executorService(executorService)
-            .tracker(tracker)
-            .build();
-
-        var relationshipCreators = PartitionUtils.rangePartition(
+        return new GraphAggregator(
+            workingGraph,
+            modularityOptimization::getCommunityId,
             config.concurrency(),
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimization,
-                    workingGraph.concurrentCopy(),
-                    partition
-                )
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+            executorService,
+            tracker,
+            terminationFlag
+        ).aggregate();
     }
 
     private boolean hasConverged() {
@@ -308,40 +259,4 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             return OptionalLong.empty();
         }
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimization modularityOptimization;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimization modularityOptimization,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimization = modularityOptimization;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            long endNodeId = partition.startNode() + partition.nodeCount();
-            for (long nodeId = partition.startNode(); nodeId < endNodeId; nodeId++) {
-                long communityId = modularityOptimization.getCommunityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
-                    return true;
-                });
-            }
-        }
-    }
 }
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.pagerank;
 import com.carrotsearch.hppc.LongSet;
 import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.beta.pregel.Messages;
+import org.neo4j.graphalgo.beta.pregel.NodeValue;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelSchema;
 import org.neo4j.graphalgo.beta.pregel.Reducer;
@@ -44,6 +45,8 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final double alpha;
     private final double deltaCoefficient;
 
+    private NodeValue.DoubleHandle pageRank;
+
     PageRankComputation(
         PageRankConfig config,
         LongSet sourceNodes,
@@ -66,7 +69,8 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        this.pageRank = context.doubleHandle(PAGE_RANK);
+        context.setNodeValue(pageRank, initialValue(context));
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
@@ -78,7 +82,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
-        double rank = context.doubleNodeValue(PAGE_RANK);
+        double rank = context.doubleNodeValue(pageRank);
         double delta = rank;
 
         if (!context.isInitialSuperstep()) {
@@ -88,7 +92,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
             }
 
             delta = dampingFactor * deltaCoefficient * sum;
-            context.setNodeValue(PAGE_RANK, rank + delta);
+            context.setNodeValue(pageRank, rank + delta);
         }
 
         if (delta > tolerance || context.isInitialSuperstep()) {
@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+/**
+ * Parallel strongly connected components, following the Multistep approach of
+ * "BFS and Coloring-based Parallel Algorithms for Strongly Connected Components and Related Problems".
+ *
+ * <p>
+ * The computation runs in three phases on the nodes that have not been assigned a component yet:
+ * <ol>
+ *     <li>Trimming: nodes without incoming or without outgoing relationships form a component on their own.
+ *     Removing them can expose further such nodes, which are trimmed until none are left.</li>
+ *     <li>Forward-backward search: the nodes that are reachable from a pivot node and that can reach the pivot
+ *     form its component. The pivot is the node with the most relationships, which usually belongs to the
+ *     largest component.</li>
+ *     <li>Colour propagation: every node takes the largest node id that can reach it. Each node that kept its
+ *     own id is the root of a component, which consists of the nodes of the same colour that can reach the root.
+ *     This is repeated until all nodes are assigned.</li>
+ * </ol>
+ * The graph does not provide incoming relationships, so they are indexed in a compressed sparse row layout first.
+ * Self-loops are ignored throughout, as they never connect different nodes.
+ * Each component is identified by the id of one of its nodes.
+ *
+ * @see <a href="https://doi.org/10.1109/IPDPS.2014.64">Multistep</a>
+ */
+public final class Scc extends Algorithm<Scc, HugeAtomicLongArray> {
+
+    static final long UNASSIGNED = -1L;
+
+    private static final long NO_NODE = -1L;
+    private static final int BUFFER_SIZE = 1024;
+
+    private final Graph graph;
+    private final ExecutorService executor;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+    private final long nodeCount;
+    private final AtomicLong nextFrontierSize;
+
+    private HugeAtomicLongArray components;
+    private HugeAtomicLongArray inDegrees;
+    private HugeAtomicLongArray outDegrees;
+    private HugeAtomicLongArray colors;
+    private HugeLongArray inOffsets;
+    private HugeLongArray inSources;
+    private HugeAtomicBitSet marked;
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private long frontierSize;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder(Scc.class)
+            .perNode("components", HugeAtomicLongArray::memoryEstimation)
+            .perNode("in degrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("out degrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("incoming offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension(
+                "incoming relationships",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.maxRelCount()))
+            )
+            .perNode("marked nodes", HugeAtomicBitSet::memoryEstimation)
+            .perNode("frontier", HugeLongArray::memoryEstimation)
+            .perNode("next frontier", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    public Scc(
+        Graph graph,
+        ExecutorService executor,
+        int concurrency,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
+        this.nodeCount = graph.nodeCount();
+        this.nextFrontierSize = new AtomicLong();
+        this.progressLogger = progressLogger;
+
+        this.inDegrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        this.outDegrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        this.inOffsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        this.marked = HugeAtomicBitSet.create(nodeCount, tracker);
+        this.frontier = HugeLongArray.newArray(nodeCount, tracker);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount, tracker);
+    }
+
+    @Override
+    public HugeAtomicLongArray compute() {
+        progressLogger.logMessage(":: Start");
+
+        components = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        components.setAll(UNASSIGNED);
+
+        indexIncomingRelationships();
+
+        long remaining = nodeCount - trim();
+        if (remaining > 0) {
+            assertRunning();
+            remaining -= forwardBackward(selectPivot());
+        }
+        while (remaining > 0) {
+            assertRunning();
+            remaining -= propagateColors();
+        }
+
+        progressLogger.logMessage(":: Finished");
+        return components;
+    }
+
+    @Override
+    public Scc me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        inDegrees.release();
+        outDegrees.release();
+        colors.release();
+        inOffsets.release();
+        if (inSources != null) {
+            inSources.release();
+        }
+        frontier.release();
+        nextFrontier.release();
+        inDegrees = null;
+        outDegrees = null;
+        colors = null;
+        inOffsets = null;
+        inSources = null;
+        marked = null;
+        frontier = null;
+        nextFrontier = null;
+    }
+
+    /**
+     * Counts the degrees and builds the incoming adjacency, using {@link #colors} as insertion cursors.
+     */
+    private void indexIncomingRelationships() {
+        forEachNodeInParallel((node, relationships) -> relationships.forEachRelationship(node, (source, target) -> {
+            if (source != target) {
+                outDegrees.getAndAdd(source, 1L);
+                inDegrees.getAndAdd(target, 1L);
+            }
+            return true;
+        }));
+
+        long offset = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            inOffsets.set(node, offset);
+            colors.set(node, offset);
+            offset += inDegrees.get(node);
+        }
+        inOffsets.set(nodeCount, offset);
+        inSources = HugeLongArray.newArray(offset, tracker);
+
+        forEachNodeInParallel((node, relationships) -> relationships.forEachRelationship(node, (source, target) -> {
+            if (source != target) {
+                inSources.set(colors.getAndAdd(target, 1L), source);
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * Assigns every node that has no incoming or no outgoing relationships from unassigned nodes to its own component.
+     */
+    private long trim() {
+        collectFrontier(node -> (inDegrees.get(node) == 0 || outDegrees.get(node) == 0) && !marked.getAndSet(node));
+
+        long trimmed = 0L;
+        while (frontierSize > 0) {
+            trimmed += processFrontier((node, relationships, next) -> {
+                components.set(node, node);
+                relationships.forEachRelationship(node, (source, target) -> {
+                    if (source != target && inDegrees.getAndAdd(target, -1L) == 1L && !marked.getAndSet(target)) {
+                        next.push(target);
+                    }
+                    return true;
+                });
+                forEachIncoming(node, source -> {
+                    if (outDegrees.getAndAdd(source, -1L) == 1L && !marked.getAndSet(source)) {
+                        next.push(source);
+                    }
+                });
+                return true;
+            });
+        }
+        marked.clear();
+        return trimmed;
+    }
+
+    private long selectPivot() {
+        return ParallelUtil.parallelStream(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            nodes -> nodes.filter(this::isUnassigned).reduce(NO_NODE, this::betterPivot)
+        );
+    }
+
+    private long betterPivot(long node, long other) {
+        if (node == NO_NODE) {
+            return other;
+        }
+        if (other == NO_NODE) {
+            return node;
+        }
+        long score = inDegrees.get(node) * outDegrees.get(node);
+        long otherScore = inDegrees.get(other) * outDegrees.get(other);
+        if (score != otherScore) {
+            return score > otherScore ? node : other;
+        }
+        return Math.min(node, other);
+    }
+
+    /**
+     * Marks all unassigned nodes reachable from the pivot and assigns those among them
+     * that can reach the pivot to its component.
+     */
+    private long forwardBackward(long pivot) {
+        marked.set(pivot);
+        startFrontier(pivot);
+        while (frontierSize > 0) {
+            processFrontier((node, relationships, next) -> {
+                relationships.forEachRelationship(node, (source, target) -> {
+                    if (isUnassigned(target) && !marked.getAndSet(target)) {
+                        next.push(target);
+                    }
+                    return true;
+                });
+                return false;
+            });
+        }
+
+        components.set(pivot, pivot);
+        startFrontier(pivot);
+        long assigned = 0L;
+        while (frontierSize > 0) {
+            assigned += processFrontier((node, relationships, next) -> {
+                forEachIncoming(node, source -> {
+                    if (marked.get(source) && components.compareAndSet(source, UNASSIGNED, pivot)) {
+                        next.push(source);
+                    }
+                });
+                return true;
+            });
+        }
+        marked.clear();
+        return assigned;
+    }
+
+    /**
+     * Propagates the largest node id along the relationships between unassigned nodes and
+     * assigns the component of every node that kept its own id.
+     */
+    private long propagateColors() {
+        collectFrontier(node -> {
+            if (isUnassigned(node)) {
+                colors.set(node, node);
+                marked.set(node);
+                return true;
+            }
+            return false;
+        });
+        while (frontierSize > 0) {
+            assertRunning();
+            processFrontier((node, relationships, next) -> {
+                // the node is unmarked before reading its colour, so a concurrent update either
+                // is seen here or queues the node again
+                marked.clear(node);
+                long color = colors.get(node);
+                relationships.forEachRelationship(node, (source, target) -> {
+                    if (isUnassigned(target) && raiseColor(target, color) && !marked.getAndSet(target)) {
+                        next.push(target);
+                    }
+                    return true;
+                });
+                return false;
+            });
+        }
+
+        collectFrontier(node -> colors.get(node) == node && components.compareAndSet(node, UNASSIGNED, node));
+        long assigned = 0L;
+        while (frontierSize > 0) {
+            assigned += processFrontier((node, relationships, next) -> {
+                long color = colors.get(node);
+                forEachIncoming(node, source -> {
+                    if (colors.get(source) == color && components.compareAndSet(source, UNASSIGNED, color)) {
+                        next.push(source);
+                    }
+                });
+                return true;
+            });
+        }
+        return assigned;
+    }
+
+    private boolean raiseColor(long node, long color) {
+        long current = colors.get(node);
+        while (current < color) {
+            long witness = colors.compareAndExchange(node, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private boolean isUnassigned(long node) {
+        return components.get(node) == UNASSIGNED;
+    }
+
+    private void forEachIncoming(long node, IncomingConsumer consumer) {
+        long end = inOffsets.get(node + 1);
+        for (long offset = inOffsets.get(node); offset < end; offset++) {
+            consumer.accept(inSources.get(offset));
+        }
+    }
+
+    private void forEachNodeInParallel(NodeConsumer consumer) {
+        ParallelUtil.run(PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> nodeTask(partition, consumer)
+        ), executor);
+    }
+
+    private Runnable nodeTask(Partition partition, NodeConsumer consumer) {
+        return () -> {
+            RelationshipIterator relationships = graph.concurrentCopy();
+            partition.consume(node -> consumer.accept(node, relationships));
+        };
+    }
+
+    private void startFrontier(long node) {
+        frontier.set(0, node);
+        frontierSize = 1;
+    }
+
+    /**
+     * Replaces the frontier with all nodes that match the given predicate.
+     */
+    private void collectFrontier(LongPredicate predicate) {
+        nextFrontierSize.set(0L);
+        ParallelUtil.run(PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> collectTask(partition, predicate)
+        ), executor);
+        swapFrontiers();
+    }
+
+    private Runnable collectTask(Partition partition, LongPredicate predicate) {
+        return () -> {
+            FrontierBuffer buffer = new FrontierBuffer();
+            partition.consume(node -> {
+                if (predicate.test(node)) {
+                    buffer.push(node);
+                }
+            });
+            buffer.flush();
+        };
+    }
+
+    /**
+     * Applies the step to all nodes of the frontier in parallel and replaces the frontier with the nodes they queued.
+     *
+     * @return the number of nodes for which the step returned {@code true}
+     */
+    private long processFrontier(FrontierStep step) {
+        nextFrontierSize.set(0L);
+        AtomicLong counted = new AtomicLong();
+        ParallelUtil.run(PartitionUtils.rangePartition(
+            concurrency,
+            frontierSize,
+            partition -> frontierTask(partition, step, counted)
+        ), executor);
+        swapFrontiers();
+        return counted.get();
+    }
+
+    private Runnable frontierTask(Partition partition, FrontierStep step, AtomicLong counted) {
+        return () -> {
+            RelationshipIterator relationships = graph.concurrentCopy();
+            FrontierBuffer buffer = new FrontierBuffer();
+            long count = 0L;
+            long end = partition.startNode() + partition.nodeCount();
+            for (long index = partition.startNode(); index < end; index++) {
+                if (step.apply(frontier.get(index), relationships, buffer)) {
+                    count++;
+                }
+            }
+            buffer.flush();
+            if (count > 0) {
+                counted.addAndGet(count);
+                progressLogger.logProgress(count);
+            }
+        };
+    }
+
+    private void swapFrontiers() {
+        HugeLongArray current = frontier;
+        frontier = nextFrontier;
+        nextFrontier = current;
+        frontierSize = nextFrontierSize.get();
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(long node, RelationshipIterator relationships);
+    }
+
+    @FunctionalInterface
+    private interface IncomingConsumer {
+        void accept(long source);
+    }
+
+    @FunctionalInterface
+    private interface FrontierStep {
+        boolean apply(long node, RelationshipIterator relationships, FrontierBuffer next);
+    }
+
+    /**
+     * Collects the nodes queued by a single task and appends them to the next frontier in blocks.
+     */
+    private final class FrontierBuffer {
+        private final long[] buffer = new long[BUFFER_SIZE];
+        private int length;
+
+        void push(long node) {
+            if (length == BUFFER_SIZE) {
+                flush();
+            }
+            buffer[length++] = node;
+        }
+
+        void flush() {
+            long offset = nextFrontierSize.getAndAdd(length);
+            for (int i = 0; i < length; i++) {
+                nextFrontier.set(offset + i, buffer[i]);
+            }
+            length = 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.AbstractAlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+
+public final class SccAlgorithmFactory<CONFIG extends SccBaseConfig> extends AbstractAlgorithmFactory<Scc, CONFIG> {
+
+    public SccAlgorithmFactory() {
+        super();
+    }
+
+    @Override
+    protected long taskVolume(Graph graph, CONFIG configuration) {
+        return graph.nodeCount();
+    }
+
+    @Override
+    protected String taskName() {
+        return "SCC";
+    }
+
+    @Override
+    protected Scc build(
+        Graph graph, CONFIG configuration, AllocationTracker tracker, ProgressLogger progressLogger
+    ) {
+        return new Scc(
+            graph,
+            Pools.DEFAULT,
+            configuration.concurrency(),
+            progressLogger,
+            tracker
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG config) {
+        return Scc.memoryEstimation();
+    }
+}
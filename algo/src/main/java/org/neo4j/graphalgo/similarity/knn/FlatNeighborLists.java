@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+import org.neo4j.graphalgo.similarity.SimilarityResult;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Stores the neighbors of all nodes in pages of primitive longs, using the same
+ * {@code [ doubleToLongBits(priority), element ]} layout as {@link NeighborList}.
+ * Every node owns a fixed slot of {@code 2 * bound} longs and a slot never spans two pages.
+ * Compared to {@link ObjectNeighborLists}, this avoids one object and one array header per node,
+ * so that the storage requires close to {@code 16 * nodeCount * bound} bytes.
+ */
+final class FlatNeighborLists implements NeighborLists {
+
+    private static final int LOCK_STRIPES = 1 << 10;
+    private static final int LOCK_MASK = LOCK_STRIPES - 1;
+
+    private final long nodeCount;
+    private final int bound;
+    private final int slotSize;
+    private final int pageShift;
+    private final int pageMask;
+    private final long[][] pages;
+    private final HugeIntArray counts;
+    private final Object[] locks;
+
+    static MemoryEstimation memoryEstimation(int bound) {
+        return MemoryEstimations.setup("", dimensions -> {
+            var nodeCount = dimensions.nodeCount();
+            var nodesPerPage = nodesPerPage(bound);
+            var numPages = PageUtil.numPagesFor(nodeCount, nodesPerPage);
+            var sizeOfPages = sizeOfObjectArray(numPages) + numPages * sizeOfLongArray((long) nodesPerPage * 2 * bound);
+            return MemoryEstimations.builder(FlatNeighborLists.class)
+                .fixed("pages", sizeOfPages)
+                .fixed("counts", HugeIntArray.memoryEstimation(nodeCount))
+                .fixed("locks", MemoryRange.of(sizeOfObjectArray(LOCK_STRIPES) + LOCK_STRIPES * sizeOfInstance(Object.class)))
+                .build();
+        });
+    }
+
+    static FlatNeighborLists create(long nodeCount, int bound, AllocationTracker tracker) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound cannot be smaller than or equal to 0");
+        }
+        var nodesPerPage = nodesPerPage(bound);
+        var numPages = PageUtil.numPagesFor(nodeCount, nodesPerPage);
+        var slotSize = 2 * bound;
+
+        var pages = new long[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            pages[page] = new long[nodesPerPage * slotSize];
+        }
+        tracker.add(sizeOfObjectArray(numPages) + numPages * sizeOfLongArray((long) nodesPerPage * slotSize));
+
+        var locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        return new FlatNeighborLists(
+            nodeCount,
+            bound,
+            Integer.numberOfTrailingZeros(nodesPerPage),
+            pages,
+            HugeIntArray.newArray(nodeCount, tracker),
+            locks
+        );
+    }
+
+    // the number of nodes per page is a power of two, so that a node slot can be found by shifting
+    private static int nodesPerPage(int bound) {
+        var pageSize = PageUtil.pageSizeFor(Long.BYTES);
+        return Integer.highestOneBit(Math.max(1, pageSize / Math.max(1, 2 * bound)));
+    }
+
+    private FlatNeighborLists(
+        long nodeCount,
+        int bound,
+        int pageShift,
+        long[][] pages,
+        HugeIntArray counts,
+        Object[] locks
+    ) {
+        this.nodeCount = nodeCount;
+        this.bound = bound;
+        this.slotSize = 2 * bound;
+        this.pageShift = pageShift;
+        this.pageMask = (1 << pageShift) - 1;
+        this.pages = pages;
+        this.counts = counts;
+        this.locks = locks;
+    }
+
+    @Override
+    public long size() {
+        return nodeCount;
+    }
+
+    @Override
+    public int size(long nodeId) {
+        return counts.get(nodeId);
+    }
+
+    @Override
+    public long elementAt(long nodeId, int index) {
+        return page(nodeId)[offset(nodeId) + index * 2 + 1];
+    }
+
+    @Override
+    public long getAndFlagAsChecked(long nodeId, int index) {
+        var page = page(nodeId);
+        var elementIndex = offset(nodeId) + index * 2 + 1;
+        var element = page[elementIndex];
+        page[elementIndex] = NeighborList.setCheckedFlag(element);
+        return element;
+    }
+
+    @Override
+    public long add(long nodeId, long element, double priority, SplittableRandom random) {
+        var page = page(nodeId);
+        var offset = offset(nodeId);
+        synchronized (locks[(int) (nodeId & LOCK_MASK)]) {
+            var elementCount = counts.get(nodeId);
+            var inserted = NeighborList.insert(page, offset, bound, elementCount, element, priority, random);
+            if (inserted == NeighborList.INSERTED && elementCount != bound) {
+                counts.set(nodeId, elementCount + 1);
+            }
+            return inserted;
+        }
+    }
+
+    @Override
+    public Stream<SimilarityResult> similarityStream(long nodeId) {
+        var page = page(nodeId);
+        var offset = offset(nodeId);
+        return IntStream.range(0, size(nodeId))
+            .mapToObj(index -> {
+                double neighborSimilarity = Double.longBitsToDouble(page[offset + index * 2]);
+                long neighborId = NeighborList.clearCheckedFlag(page[offset + index * 2 + 1]);
+                return new SimilarityResult(nodeId, neighborId, neighborSimilarity);
+            });
+    }
+
+    @Override
+    public long totalSize() {
+        var totalSize = 0L;
+        var cursor = counts.initCursor(counts.newCursor());
+        while (cursor.next()) {
+            var array = cursor.array;
+            for (int i = cursor.offset; i < cursor.limit; i++) {
+                totalSize += array[i];
+            }
+        }
+        return totalSize;
+    }
+
+    private long[] page(long nodeId) {
+        return pages[PageUtil.pageIndex(nodeId, pageShift)];
+    }
+
+    private int offset(long nodeId) {
+        return PageUtil.indexInPage(nodeId, pageMask) * slotSize;
+    }
+}
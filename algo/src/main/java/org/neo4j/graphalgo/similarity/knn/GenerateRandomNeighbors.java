@@ -21,7 +21,6 @@ package org.neo4j.graphalgo.similarity.knn;
 
 import com.carrotsearch.hppc.LongHashSet;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.SplittableRandom;
 
@@ -31,7 +30,7 @@ import java.util.SplittableRandom;
 final class GenerateRandomNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
     private final SimilarityComputer computer;
-    private final HugeObjectArray<NeighborList> neighbors;
+    private final NeighborLists neighbors;
     private final long n;
     private final int k;
     private final int k2;
@@ -39,7 +38,7 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
     GenerateRandomNeighbors(
         SplittableRandom random,
         SimilarityComputer computer,
-        HugeObjectArray<NeighborList> neighbors,
+        NeighborLists neighbors,
         long n,
         int k,
         int k2
@@ -74,18 +73,16 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
             }
             assert chosen.size() <= k2;
 
-            var neighbors = new NeighborList(k);
+            var neighbors = this.neighbors;
             for (var chosenCursor : chosen) {
                 var neighborNode = chosenCursor.value;
                 assert nodeId != neighborNode;
                 var similarity = computer.safeSimilarity(nodeId, neighborNode);
-                neighbors.add(neighborNode, similarity, rng);
+                neighbors.add(nodeId, neighborNode, similarity, rng);
             }
 
-            assert neighbors.size() > 0; // because K > 0 and N > 1
-            assert neighbors.size() <= k;
-
-            this.neighbors.set(nodeId, neighbors);
+            assert neighbors.size(nodeId) > 0; // because K > 0 and N > 1
+            assert neighbors.size(nodeId) <= k;
         }
     }
 }
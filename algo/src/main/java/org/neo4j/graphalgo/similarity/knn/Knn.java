@@ -28,15 +28,12 @@ import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
-import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.similarity.SimilarityResult;
 
 import java.util.SplittableRandom;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -91,7 +88,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
     @Override
     public Result compute() {
-        HugeObjectArray<NeighborList> neighbors;
+        NeighborLists neighbors;
         try (var ignored1 = ProgressTimer.start(this::logOverallTime)) {
             try (var ignored2 = ProgressTimer.start(this::logInitTime)) {
                 neighbors = this.initializeRandomNeighbors();
@@ -104,6 +101,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var maxUpdates = (long) Math.ceil(config.sampleRate() * config.topK() * nodeCount);
             var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
 
+            // the sampling buffers are allocated once and reused across iterations
+            var tracker = this.context.tracker();
+            var buffers = new SamplingBuffers(
+                HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker),
+                HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker),
+                HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker),
+                HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker)
+            );
+
             long updateCount;
             int iteration = 0;
             boolean didConverge = false;
@@ -111,7 +117,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> logIterationTime(currentIteration, took))) {
                     progressLogger.logMessage("KNN-Graph starting iteration " + iteration + "/" + maxIterations);
-                    updateCount = this.iteration(neighbors);
+                    updateCount = this.iteration(neighbors, buffers);
                     progressLogger.logMessage("KNN-Graph ending iteration " + iteration + ": updated " + updateCount + "/" + maxUpdates + " nodes");
                 }
                 if (updateCount <= updateThreshold) {
@@ -125,7 +131,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         }
     }
 
-    private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors() {
+    private @Nullable NeighborLists initializeRandomNeighbors() {
         var nodeCount = this.nodeCount;
         var k = this.config.topK();
         // (int) is safe since it is at most k, which is an int
@@ -137,7 +143,9 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return null;
         }
 
-        var neighbors = HugeObjectArray.newArray(NeighborList.class, nodeCount, this.context.tracker());
+        var neighbors = this.config.flatNeighborStorage()
+            ? FlatNeighborLists.create(nodeCount, k, this.context.tracker())
+            : ObjectNeighborLists.create(nodeCount, k, this.context.tracker());
 
         ParallelUtil.readParallel(
             this.config.concurrency(),
@@ -156,7 +164,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         return neighbors;
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(NeighborLists neighbors, SamplingBuffers buffers) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
@@ -165,15 +173,13 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return NeighborList.NOT_INSERTED;
         }
 
-        var tracker = this.context.tracker();
         var concurrency = this.config.concurrency();
         var executor = this.context.executor();
 
         var sampledK = this.config.sampledK(n);
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var allNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
+        var allOldNeighbors = buffers.oldNeighbors;
+        var allNewNeighbors = buffers.newNeighbors;
 
         ParallelUtil.readParallel(concurrency, n, executor, new SplitOldAndNewNeighbors(
             this.random,
@@ -183,9 +189,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             sampledK
         ));
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var reverseOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var reverseNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
+        var reverseOldNeighbors = buffers.reverseOldNeighbors;
+        var reverseNewNeighbors = buffers.reverseNewNeighbors;
 
         reverseOldAndNewNeighbors(n, allOldNeighbors, allNewNeighbors, reverseOldNeighbors, reverseNewNeighbors);
 
@@ -216,12 +221,23 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         HugeObjectArray<LongArrayList> reverseNewNeighbors
     ) {
         // TODO: cursors
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            clearNeighbors(nodeId, reverseOldNeighbors);
+            clearNeighbors(nodeId, reverseNewNeighbors);
+        }
         for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
             reverseNeighbors(nodeId, allOldNeighbors, reverseOldNeighbors);
             reverseNeighbors(nodeId, allNewNeighbors, reverseNewNeighbors);
         }
     }
 
+    private static void clearNeighbors(long nodeId, HugeObjectArray<LongArrayList> allNeighbors) {
+        var neighbors = allNeighbors.get(nodeId);
+        if (neighbors != null) {
+            neighbors.clear();
+        }
+    }
+
     static void reverseNeighbors(
         long nodeId,
         HugeObjectArray<LongArrayList> allNeighbors,
@@ -244,7 +260,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     private static final class JoinNeighbors implements BiLongConsumer {
         private final SplittableRandom random;
         private final SimilarityComputer computer;
-        private final HugeObjectArray<NeighborList> neighbors;
+        private final NeighborLists neighbors;
         private final HugeObjectArray<LongArrayList> allOldNeighbors;
         private final HugeObjectArray<LongArrayList> allNewNeighbors;
         private final HugeObjectArray<LongArrayList> allReverseOldNeighbors;
@@ -258,7 +274,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         private JoinNeighbors(
             SplittableRandom random,
             SimilarityComputer computer,
-            HugeObjectArray<NeighborList> neighbors,
+            NeighborLists neighbors,
             HugeObjectArray<LongArrayList> allOldNeighbors,
             HugeObjectArray<LongArrayList> allNewNeighbors,
             HugeObjectArray<LongArrayList> allReverseOldNeighbors,
@@ -430,7 +446,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         private long join(
             SplittableRandom splittableRandom,
             SimilarityComputer computer,
-            HugeObjectArray<NeighborList> allNeighbors,
+            NeighborLists allNeighbors,
             long n,
             int k,
             long base,
@@ -438,18 +454,12 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         ) {
             assert base != joiner;
             assert n > 1 && k > 0;
+            assert allNeighbors.size(base) > 0;
+            assert allNeighbors.size(base) <= k;
+            assert allNeighbors.size(base) <= n - 1;
 
             var similarity = computer.safeSimilarity(base, joiner);
-            var neighbors = allNeighbors.get(base);
-            synchronized (neighbors) {
-                var k2 = neighbors.size();
-
-                assert k2 > 0;
-                assert k2 <= k;
-                assert k2 <= n - 1;
-
-                return neighbors.add(joiner, similarity, splittableRandom);
-            }
+            return allNeighbors.add(base, joiner, similarity, splittableRandom);
         }
     }
 
@@ -475,34 +485,47 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
     }
 
+    private static final class SamplingBuffers {
+        private final HugeObjectArray<LongArrayList> oldNeighbors;
+        private final HugeObjectArray<LongArrayList> newNeighbors;
+        private final HugeObjectArray<LongArrayList> reverseOldNeighbors;
+        private final HugeObjectArray<LongArrayList> reverseNewNeighbors;
+
+        private SamplingBuffers(
+            HugeObjectArray<LongArrayList> oldNeighbors,
+            HugeObjectArray<LongArrayList> newNeighbors,
+            HugeObjectArray<LongArrayList> reverseOldNeighbors,
+            HugeObjectArray<LongArrayList> reverseNewNeighbors
+        ) {
+            this.oldNeighbors = oldNeighbors;
+            this.newNeighbors = newNeighbors;
+            this.reverseOldNeighbors = reverseOldNeighbors;
+            this.reverseNewNeighbors = reverseNewNeighbors;
+        }
+    }
+
     @ValueClass
     public abstract static class Result {
-        abstract HugeObjectArray<NeighborList> neighborList();
+        abstract NeighborLists neighborList();
 
         abstract int ranIterations();
 
         abstract boolean didConverge();
 
         public LongStream neighborsOf(long nodeId) {
-            return neighborList().get(nodeId).elements().map(NeighborList::clearCheckedFlag);
+            return neighborList().neighborsOf(nodeId);
         }
 
-        // http://www.flatmapthatshit.com/
+        /**
+         * Lazily produces the similarity results of one node after the other,
+         * without materializing the results of all nodes.
+         */
         public Stream<SimilarityResult> streamSimilarityResult() {
-            var neighborList = neighborList();
-            return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
-                .flatMap(cursor -> IntStream.range(cursor.offset, cursor.limit)
-                    .mapToObj(index -> cursor.array[index].similarityStream(index + cursor.base))
-                    .flatMap(Function.identity())
-                );
+            return neighborList().similarityStream();
         }
 
         public long totalSimilarityPairs() {
-            var neighborList = neighborList();
-            return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
-                .flatMapToLong(cursor -> IntStream.range(cursor.offset, cursor.limit)
-                    .mapToLong(index -> cursor.array[index].size()))
-                .sum();
+            return neighborList().totalSize();
         }
 
         public long size() {
@@ -513,8 +536,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     private static final class EmptyResult extends Result {
 
         @Override
-        HugeObjectArray<NeighborList> neighborList() {
-            return HugeObjectArray.of();
+        NeighborLists neighborList() {
+            return ObjectNeighborLists.create(0, 1, AllocationTracker.empty());
         }
 
         @Override
@@ -78,6 +78,14 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
         return -1;
     }
 
+    /**
+     * Store the top-k neighbors of all nodes in flat primitive pages instead of one object per node.
+     */
+    @Value.Default
+    default boolean flatNeighborStorage() {
+        return false;
+    }
+
     @Configuration.Ignore
     default int sampledK(long nodeCount) {
         // (int) is safe because value is at most `topK`, which is an int
@@ -60,7 +60,7 @@ class NeighborList {
      * in two's complement is has a 1 in the left-most bit and all others set to 0.
      * {@code |}-ing that with a value will use all lower 63 from the input and always set the left-most bit.
      */
-    private static long setCheckedFlag(long value) {
+    static long setCheckedFlag(long value) {
         return value | Long.MIN_VALUE;
     }
 
@@ -79,7 +79,7 @@ class NeighborList {
      * why we use these constants and not booleans.
      */
     static final int NOT_INSERTED = 0;
-    private static final int INSERTED = 1;
+    static final int INSERTED = 1;
 
     // maximum number of elements, aka the top K
     private final int bound;
@@ -125,12 +125,34 @@ class NeighborList {
      * This allows KNN to just add the return values together without having the check on each of them.
      */
     public long add(long element, double priority, SplittableRandom random) {
+        var inserted = insert(elements, 0, bound, elementCount, element, priority, random);
+        if (inserted == INSERTED && elementCount != bound) {
+            elementCount++;
+        }
+        return inserted;
+    }
+
+    /**
+     * Tries to insert the given element into the list of {@code elementCount} tuples,
+     * that starts at {@code offset} in {@code elements} and has room for {@code bound} tuples.
+     * The caller is responsible for incrementing its element count if the element
+     * was inserted into a list that was not yet full.
+     */
+    static long insert(
+        long[] elements,
+        int offset,
+        int bound,
+        int elementCount,
+        long element,
+        double priority,
+        SplittableRandom random
+    ) {
         int insertPosition = 0;
         int allocatedElementsCount = elementCount * 2;
 
         if (elementCount != 0) {
             int lastValueIndex = (elementCount - 1) * 2;
-            var lowestPriority = Double.longBitsToDouble(elements[lastValueIndex]);
+            var lowestPriority = Double.longBitsToDouble(elements[offset + lastValueIndex]);
 
             if (priority < lowestPriority && elementCount == bound) {
                 return NOT_INSERTED;
@@ -138,7 +160,7 @@ class NeighborList {
 
             int lowerBoundInclusive = allocatedElementsCount;
             for (int i = 0; i < allocatedElementsCount; i += 2) {
-                var storedPriority = Double.longBitsToDouble(elements[i]);
+                var storedPriority = Double.longBitsToDouble(elements[offset + i]);
                 if (priority >= storedPriority) {
                     lowerBoundInclusive = i;
                     break;
@@ -147,7 +169,7 @@ class NeighborList {
 
             int upperBoundExclusive = allocatedElementsCount;
             for (int i = lowerBoundInclusive; i < allocatedElementsCount; i += 2) {
-                var storedPriority = Double.longBitsToDouble(elements[i]);
+                var storedPriority = Double.longBitsToDouble(elements[offset + i]);
                 if (priority > storedPriority) {
                     upperBoundExclusive = i;
                     break;
@@ -159,10 +181,10 @@ class NeighborList {
                 return NOT_INSERTED;
             }
 
-            if (lowerBoundInclusive < allocatedElementsCount && priority == Double.longBitsToDouble(elements[lowerBoundInclusive])) {
+            if (lowerBoundInclusive < allocatedElementsCount && priority == Double.longBitsToDouble(elements[offset + lowerBoundInclusive])) {
                 var upperBound = Math.max(upperBoundExclusive, lowerBoundInclusive + 2);
                 for (int i = lowerBoundInclusive; i < upperBound; i += 2) {
-                    if ((clearCheckedFlag(elements[i + 1])) == element) {
+                    if ((clearCheckedFlag(elements[offset + i + 1])) == element) {
                         return NOT_INSERTED;
                     }
                 }
@@ -177,20 +199,16 @@ class NeighborList {
             if (insertPosition != lastValueIndex || elementCount != bound) {
                 System.arraycopy(
                     elements,
-                    insertPosition,
+                    offset + insertPosition,
                     elements,
-                    insertPosition + 2,
-                    elements.length - insertPosition - 2
+                    offset + insertPosition + 2,
+                    bound * 2 - insertPosition - 2
                 );
             }
         }
 
-        if (elementCount != bound) {
-            elementCount++;
-        }
-
-        elements[insertPosition] = Double.doubleToRawLongBits(priority);
-        elements[insertPosition + 1] = element;
+        elements[offset + insertPosition] = Double.doubleToRawLongBits(priority);
+        elements[offset + insertPosition + 1] = element;
 
         return INSERTED;
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.neo4j.graphalgo.similarity.SimilarityResult;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * The top-k neighbors of all nodes in the graph, see {@link NeighborList}
+ * for a description of the elements and the checked flag.
+ */
+interface NeighborLists {
+
+    /**
+     * The number of nodes for which neighbors are stored.
+     */
+    long size();
+
+    /**
+     * The number of neighbors currently stored for the given node.
+     */
+    int size(long nodeId);
+
+    long elementAt(long nodeId, int index);
+
+    long getAndFlagAsChecked(long nodeId, int index);
+
+    /**
+     * Tries to add the given element with the given priority to the neighbors of the given node.
+     * Can be called concurrently for the same node.
+     *
+     * @see NeighborList#add(long, double, java.util.SplittableRandom)
+     */
+    long add(long nodeId, long element, double priority, SplittableRandom random);
+
+    Stream<SimilarityResult> similarityStream(long nodeId);
+
+    default LongStream neighborsOf(long nodeId) {
+        return LongStream
+            .range(0, size(nodeId))
+            .map(index -> NeighborList.clearCheckedFlag(elementAt(nodeId, (int) index)));
+    }
+
+    // http://www.flatmapthatshit.com/
+    default Stream<SimilarityResult> similarityStream() {
+        return LongStream.range(0, size()).boxed().flatMap(this::similarityStream);
+    }
+
+    default long totalSize() {
+        return LongStream.range(0, size()).map(this::size).sum();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.similarity.SimilarityResult;
+
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Stores one {@link NeighborList} instance per node.
+ */
+final class ObjectNeighborLists implements NeighborLists {
+
+    private final HugeObjectArray<NeighborList> neighbors;
+    private final int bound;
+
+    static MemoryEstimation memoryEstimation(int bound) {
+        return HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(bound));
+    }
+
+    static ObjectNeighborLists create(long nodeCount, int bound, AllocationTracker tracker) {
+        return new ObjectNeighborLists(HugeObjectArray.newArray(NeighborList.class, nodeCount, tracker), bound);
+    }
+
+    private ObjectNeighborLists(HugeObjectArray<NeighborList> neighbors, int bound) {
+        this.neighbors = neighbors;
+        this.bound = bound;
+    }
+
+    @Override
+    public long size() {
+        return neighbors.size();
+    }
+
+    @Override
+    public int size(long nodeId) {
+        var neighborList = neighbors.get(nodeId);
+        return neighborList == null ? 0 : neighborList.size();
+    }
+
+    @Override
+    public long elementAt(long nodeId, int index) {
+        return neighbors.get(nodeId).elementAt(index);
+    }
+
+    @Override
+    public long getAndFlagAsChecked(long nodeId, int index) {
+        return neighbors.get(nodeId).getAndFlagAsChecked(index);
+    }
+
+    @Override
+    public long add(long nodeId, long element, double priority, SplittableRandom random) {
+        var neighborList = neighbors.get(nodeId);
+        if (neighborList == null) {
+            // the first neighbors of a node are added during initialization,
+            // by the single thread that owns the node
+            neighborList = new NeighborList(bound);
+            neighbors.set(nodeId, neighborList);
+        }
+        synchronized (neighborList) {
+            return neighborList.add(element, priority, random);
+        }
+    }
+
+    @Override
+    public Stream<SimilarityResult> similarityStream(long nodeId) {
+        var neighborList = neighbors.get(nodeId);
+        return neighborList == null ? Stream.empty() : neighborList.similarityStream(nodeId);
+    }
+}
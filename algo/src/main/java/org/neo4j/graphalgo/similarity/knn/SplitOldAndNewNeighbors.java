@@ -36,14 +36,14 @@ import java.util.SplittableRandom;
  */
 final class SplitOldAndNewNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
-    private final HugeObjectArray<NeighborList> neighbors;
+    private final NeighborLists neighbors;
     private final HugeObjectArray<LongArrayList> allOldNeighbors;
     private final HugeObjectArray<LongArrayList> allNewNeighbors;
     private final int sampledK;
 
     SplitOldAndNewNeighbors(
         SplittableRandom random,
-        HugeObjectArray<NeighborList> neighbors,
+        NeighborLists neighbors,
         HugeObjectArray<LongArrayList> allOldNeighbors,
         HugeObjectArray<LongArrayList> allNewNeighbors,
         int sampledK
@@ -66,13 +66,20 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
 
         // TODO use cursors
         for (long nodeId = start; nodeId < end; nodeId++) {
-            var neighbors = allNeighbors.get(nodeId);
-            var k2 = neighbors.size();
+            var k2 = allNeighbors.size(nodeId);
             sampled.clear();
-            LongArrayList oldNeighbors = null;
+            // the lists are reused across iterations and only allocated on first use
+            var oldNeighbors = allOldNeighbors.get(nodeId);
+            if (oldNeighbors != null) {
+                oldNeighbors.clear();
+            }
+            var newNeighbors = allNewNeighbors.get(nodeId);
+            if (newNeighbors != null) {
+                newNeighbors.clear();
+            }
 
             for (int neighborIndex = 0, newNeighborCount = 0; neighborIndex < k2; neighborIndex++) {
-                var neighborElement = neighbors.elementAt(neighborIndex);
+                var neighborElement = allNeighbors.elementAt(nodeId, neighborIndex);
                 // incremental search, if we're already done with this node,
                 // sort neighbor to old neighbors
                 // we use the sign bit to keep track of the checked state of a node
@@ -103,11 +110,13 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
                 continue;
             }
 
-            var newNeighbors = new LongArrayList();
-            allNewNeighbors.set(nodeId, newNeighbors);
+            if (newNeighbors == null) {
+                newNeighbors = new LongArrayList();
+                allNewNeighbors.set(nodeId, newNeighbors);
+            }
 
             for (var neighborIndex : sampled) {
-                var neighborNode = neighbors.getAndFlagAsChecked(neighborIndex.value);
+                var neighborNode = allNeighbors.getAndFlagAsChecked(nodeId, neighborIndex.value);
                 assert nodeId != neighborNode;
                 assert neighborNode >= 0;
                 newNeighbors.add(neighborNode);
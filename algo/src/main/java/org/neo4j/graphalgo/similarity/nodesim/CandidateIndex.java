@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Restricts the comparisons of {@link NodeSimilarity} to pairs of nodes that might be similar.
+ */
+interface CandidateIndex {
+
+    /**
+     * Returns the nodes that might be similar to {@code node}, in ascending order and without duplicates.
+     * Only nodes that are greater than or equal to {@code offset} are returned, {@code node} itself is never returned.
+     * <p>
+     * The returned stream may be backed by a buffer that is re-used by the next call on the same thread,
+     * so it has to be consumed before requesting the candidates of another node.
+     */
+    LongStream candidates(long node, long offset);
+
+    static LongStream sortedDistinct(LongArrayList candidates) {
+        long[] buffer = candidates.buffer;
+        int count = candidates.size();
+        Arrays.sort(buffer, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return Arrays.stream(buffer, 0, distinct);
+    }
+}
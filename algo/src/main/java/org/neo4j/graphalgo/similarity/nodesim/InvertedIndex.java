@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Maps each neighbour to the compared nodes that contain it in their vector.
+ * Two nodes with disjoint vectors have a similarity of zero, which never passes a
+ * positive similarity cutoff, so it is sufficient to compare the nodes that share
+ * a posting list.
+ * <p>
+ * For unweighted Jaccard, the index applies prefix filtering: if two vectors have a
+ * Jaccard similarity of at least {@code t}, they share at least {@code ceil(t * |x|)}
+ * neighbours and therefore also share a neighbour in their first
+ * {@code |x| - ceil(t * |x|) + 1} neighbours, given that all vectors are ordered in
+ * the same way. Vectors are ordered by ascending neighbour frequency for that purpose,
+ * so that the rare neighbours end up in the prefixes and the posting lists stay short.
+ * Candidates are additionally dropped if their vector size alone bounds the similarity
+ * below the cutoff.
+ */
+final class InvertedIndex implements CandidateIndex {
+
+    // guards the prefix length against rounding errors in `cutoff * size`
+    private static final double EPSILON = 1E-9;
+
+    private final HugeObjectArray<long[]> vectors;
+    private final HugeObjectArray<long[]> prefixes;
+    private final HugeObjectArray<long[]> postings;
+    private final double similarityCutoff;
+    private final boolean sizeFiltering;
+    private final ThreadLocal<LongArrayList> candidateBuffers;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(InvertedIndex.class)
+            .perNode("frequencies", HugeAtomicLongArray::memoryEstimation)
+            .add(
+                "postings",
+                MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                    int averageDegree = dimensions.nodeCount() == 0
+                        ? 0
+                        : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
+                    long averagePostingsSize = sizeOfLongArray(averageDegree);
+                    return MemoryEstimations.builder(HugeObjectArray.class)
+                        .perNode("array", nodeCount -> nodeCount * averagePostingsSize)
+                        .build();
+                })
+            )
+            .add(
+                "prefixes",
+                MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                    int averageDegree = dimensions.nodeCount() == 0
+                        ? 0
+                        : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
+                    long averagePrefixSize = sizeOfLongArray(averageDegree);
+                    return MemoryEstimations.builder(HugeObjectArray.class)
+                        .perNode("array", nodeCount -> nodeCount * averagePrefixSize)
+                        .build();
+                })
+            )
+            .build();
+    }
+
+    /**
+     * @param prefixFiltering whether the similarity is an unweighted Jaccard similarity,
+     *                        for which prefix and size filtering are exact
+     */
+    static InvertedIndex build(
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        double similarityCutoff,
+        boolean prefixFiltering,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = vectors.size();
+
+        var frequencies = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            if (nodeFilter.get(node)) {
+                for (long target : vectors.get(node)) {
+                    frequencies.getAndAdd(target, 1);
+                }
+            }
+        });
+
+        var prefixes = HugeObjectArray.newArray(long[].class, nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            if (nodeFilter.get(node)) {
+                prefixes.set(
+                    node,
+                    prefixFiltering
+                        ? prefix(vectors.get(node), frequencies, similarityCutoff)
+                        : vectors.get(node)
+                );
+            }
+        });
+
+        // re-use the frequencies as the number of nodes that have a target in their prefix
+        frequencies.setAll(0);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            if (nodeFilter.get(node)) {
+                for (long target : prefixes.get(node)) {
+                    frequencies.getAndAdd(target, 1);
+                }
+            }
+        });
+
+        var postings = HugeObjectArray.newArray(long[].class, nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, target -> {
+            int size = (int) frequencies.get(target);
+            if (size > 0) {
+                postings.set(target, new long[size]);
+            }
+        });
+
+        frequencies.setAll(0);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            if (nodeFilter.get(node)) {
+                for (long target : prefixes.get(node)) {
+                    postings.get(target)[(int) frequencies.getAndAdd(target, 1)] = node;
+                }
+            }
+        });
+        frequencies.release();
+
+        // the posting lists are filled concurrently, but the candidate lookup relies on them being sorted
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, target -> {
+            long[] posting = postings.get(target);
+            if (posting != null) {
+                Arrays.sort(posting);
+            }
+        });
+
+        return new InvertedIndex(vectors, prefixes, postings, similarityCutoff, prefixFiltering);
+    }
+
+    private static long[] prefix(long[] vector, HugeAtomicLongArray frequencies, double similarityCutoff) {
+        int minOverlap = (int) Math.ceil(similarityCutoff * vector.length - EPSILON);
+        int prefixLength = vector.length - Math.max(minOverlap, 1) + 1;
+
+        // order by ascending frequency, ties broken by ascending node id
+        int[] order = IndirectSort.mergesort(0, vector.length, (index1, index2) -> {
+            int frequencyOrder = Long.compare(frequencies.get(vector[index1]), frequencies.get(vector[index2]));
+            return frequencyOrder != 0 ? frequencyOrder : Long.compare(vector[index1], vector[index2]);
+        });
+
+        long[] prefix = new long[prefixLength];
+        for (int i = 0; i < prefixLength; i++) {
+            prefix[i] = vector[order[i]];
+        }
+        return prefix;
+    }
+
+    private InvertedIndex(
+        HugeObjectArray<long[]> vectors,
+        HugeObjectArray<long[]> prefixes,
+        HugeObjectArray<long[]> postings,
+        double similarityCutoff,
+        boolean sizeFiltering
+    ) {
+        this.vectors = vectors;
+        this.prefixes = prefixes;
+        this.postings = postings;
+        this.similarityCutoff = similarityCutoff;
+        this.sizeFiltering = sizeFiltering;
+        this.candidateBuffers = ThreadLocal.withInitial(LongArrayList::new);
+    }
+
+    @Override
+    public LongStream candidates(long node, long offset) {
+        var candidates = candidateBuffers.get();
+        candidates.clear();
+        int size = vectors.get(node).length;
+
+        for (long target : prefixes.get(node)) {
+            long[] posting = postings.get(target);
+            int from = Arrays.binarySearch(posting, offset);
+            for (int i = from < 0 ? -from - 1 : from; i < posting.length; i++) {
+                long candidate = posting[i];
+                if (candidate != node && (!sizeFiltering || passesSizeFilter(size, vectors.get(candidate).length))) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        return CandidateIndex.sortedDistinct(candidates);
+    }
+
+    private boolean passesSizeFilter(int size1, int size2) {
+        return (double) Math.min(size1, size2) / Math.max(size1, size2) >= similarityCutoff;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.SetBitsIterable;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeMergeSort;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Finds candidate pairs for the Jaccard similarity by MinHash locality sensitive hashing.
+ * <p>
+ * Each compared node gets a signature of {@code bands * rowsPerBand} MinHash values.
+ * The probability that two signatures agree in a single row equals the Jaccard similarity {@code s}
+ * of the neighbour sets. Two nodes are candidates if all rows of at least one band agree,
+ * which happens with a probability of {@code 1 - (1 - s^rowsPerBand)^bands}.
+ * Only the combined hash of the rows of each band is kept in the signature matrix.
+ * <p>
+ * For each band, the compared nodes are sorted by their band hash, so that the nodes
+ * of a bucket are stored consecutively and in ascending order. Each entry encodes
+ * the band hash in its upper bits and the node id in its lower bits.
+ */
+final class MinHashIndex implements CandidateIndex {
+
+    private final HugeLongArray signatures;
+    private final HugeLongArray[] buckets;
+    private final int nodeBits;
+    private final long nodeMask;
+    private final ThreadLocal<LongArrayList> candidateBuffers;
+
+    static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashIndex.class)
+            .perNode("signatures", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * bands))
+            .perNode("buckets", nodeCount -> bands * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("sort buffer", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    static MinHashIndex build(
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        long nodesToCompare,
+        int bands,
+        int rowsPerBand,
+        long randomSeed,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = vectors.size();
+        int signatureSize = bands * rowsPerBand;
+
+        var random = randomSeed == -1L ? new SplittableRandom() : new SplittableRandom(randomSeed);
+        long[] rowSeeds = random.longs(signatureSize).toArray();
+        long[] bandSeeds = random.longs(bands).toArray();
+
+        var signatures = HugeLongArray.newArray(nodeCount * bands, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            if (!nodeFilter.get(node)) {
+                return;
+            }
+            long[] vector = vectors.get(node);
+            for (int band = 0; band < bands; band++) {
+                long bandHash = bandSeeds[band];
+                for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+                    long seed = rowSeeds[row];
+                    long minHash = Long.MAX_VALUE;
+                    for (long target : vector) {
+                        minHash = Math.min(minHash, hash(target, seed));
+                    }
+                    bandHash = hash(minHash, bandHash);
+                }
+                signatures.set(node * bands + band, bandHash);
+            }
+        });
+
+        var index = new MinHashIndex(signatures, new HugeLongArray[bands], nodeCount);
+        for (int band = 0; band < bands; band++) {
+            var bucket = HugeLongArray.newArray(nodesToCompare, tracker);
+            var position = new long[]{0L};
+            int currentBand = band;
+            new SetBitsIterable(nodeFilter).stream().forEach(node ->
+                bucket.set(position[0]++, index.entry(node, currentBand) | node)
+            );
+            HugeMergeSort.sort(bucket, concurrency, tracker);
+            index.buckets[band] = bucket;
+        }
+        return index;
+    }
+
+    private MinHashIndex(HugeLongArray signatures, HugeLongArray[] buckets, long nodeCount) {
+        this.signatures = signatures;
+        this.buckets = buckets;
+        this.nodeBits = 64 - Long.numberOfLeadingZeros(Math.max(1, nodeCount - 1));
+        this.nodeMask = (1L << nodeBits) - 1;
+        this.candidateBuffers = ThreadLocal.withInitial(LongArrayList::new);
+    }
+
+    @Override
+    public LongStream candidates(long node, long offset) {
+        if (offset > nodeMask) {
+            return LongStream.empty();
+        }
+
+        var candidates = candidateBuffers.get();
+        candidates.clear();
+        for (int band = 0; band < buckets.length; band++) {
+            var bucket = buckets[band];
+            long bucketKey = entry(node, band);
+            for (long i = lowerBound(bucket, bucketKey | offset); i < bucket.size(); i++) {
+                long entry = bucket.get(i);
+                if ((entry & ~nodeMask) != bucketKey) {
+                    break;
+                }
+                long candidate = entry & nodeMask;
+                if (candidate != node) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        return CandidateIndex.sortedDistinct(candidates);
+    }
+
+    // the band hash in the upper bits, with room for a node id in the lower bits
+    private long entry(long node, int band) {
+        return signatures.get(node * buckets.length + band) << nodeBits;
+    }
+
+    private static long lowerBound(HugeLongArray array, long value) {
+        long low = 0;
+        long high = array.size();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (array.get(mid) < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // SplitMix64 finalizer
+    private static long hash(long value, long seed) {
+        long z = (value + seed) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
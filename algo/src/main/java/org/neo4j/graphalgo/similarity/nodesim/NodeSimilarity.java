@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
@@ -54,6 +55,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
     private long nodesToCompare;
+    private @Nullable CandidateIndex candidateIndex;
 
     private final boolean weighted;
 
@@ -181,6 +183,31 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             progressLogger.logProgress(graph.degree(node));
             return null;
         });
+
+        if (config.approximate()) {
+            candidateIndex = MinHashIndex.build(
+                vectors,
+                nodeFilter,
+                nodesToCompare,
+                config.lshBands(),
+                config.lshRowsPerBand(),
+                config.randomSeed(),
+                config.concurrency(),
+                tracker
+            );
+        } else if (config.similarityCutoff() > 0) {
+            // Nodes without a common neighbour have a similarity of 0, which is
+            // never part of the result for a positive cutoff. Hence, it suffices
+            // to compare the nodes that share a neighbour.
+            candidateIndex = InvertedIndex.build(
+                vectors,
+                nodeFilter,
+                config.similarityCutoff(),
+                !weighted,
+                config.concurrency(),
+                tracker
+            );
+        }
         progressLogger.logMessage("Finish :: NodeSimilarity#prepare");
     }
 
@@ -207,7 +234,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             .boxed()
             .flatMap(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                return nodeStream(node1 + 1)
+                return candidateStream(node1, node1 + 1)
                     .mapToObj(node2 -> {
                         double similarity = weighted
                             ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -226,7 +253,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
                 .boxed()
                 .flatMap(node1 -> {
                     long[] vector1 = vectors.get(node1);
-                    return nodeStream(node1 + 1)
+                    return candidateStream(node1, node1 + 1)
                         .mapToObj(node2 -> {
                             double similarity = weighted
                                 ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -243,11 +270,17 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
         TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
+        boolean useTopKBound = useTopKBound();
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                candidateStream(node1, node1 + 1)
                     .forEach(node2 -> {
+                        if (useTopKBound
+                            && !mightEnterTopK(topKMap, node1, vector1, vectors.get(node2))
+                            && !mightEnterTopK(topKMap, node2, vector1, vectors.get(node2))) {
+                            return;
+                        }
                         double similarity = weighted
                             ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
                             : jaccard(vector1, vectors.get(node2));
@@ -266,6 +299,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
         TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
+        boolean useTopKBound = useTopKBound();
         ParallelUtil.parallelStreamConsume(
             loggableAndTerminatableNodeStream(),
             config.concurrency(),
@@ -278,9 +312,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    nodeStream()
-                        .filter(node2 -> node1 != node2)
+                    candidateStream(node1, 0)
                         .forEach(node2 -> {
+                            if (useTopKBound && !mightEnterTopK(topKMap, node1, vector1, vectors.get(node2))) {
+                                return;
+                            }
                             double similarity = weighted
                                 ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
                                 : jaccard(vector1, vectors.get(node2));
@@ -303,7 +339,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
 
-                nodeStream(node1 + 1)
+                candidateStream(node1, node1 + 1)
                     .forEach(node2 -> {
                         double similarity = weighted
                             ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -331,7 +367,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         long intersection = Intersections.intersection3(vector1, vector2);
         double union = vector1.length + vector2.length - intersection;
         double similarity = union == 0 ? 0 : intersection / union;
-        getProgressLogger().logProgress();
+        if (candidateIndex == null) {
+            getProgressLogger().logProgress();
+        }
         return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
 
     }
@@ -387,11 +425,38 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return checkProgress(nodeStream());
     }
 
+    /**
+     * Returns the nodes starting from {@code offset} that need to be compared with {@code node1}.
+     */
+    private LongStream candidateStream(long node1, long offset) {
+        if (candidateIndex != null) {
+            return candidateIndex.candidates(node1, offset);
+        }
+        return offset > node1
+            ? nodeStream(offset)
+            : nodeStream(offset).filter(node2 -> node1 != node2);
+    }
+
+    private boolean useTopKBound() {
+        return candidateIndex != null && !weighted && config.normalizedK() > 0;
+    }
+
+    // The Jaccard similarity of two vectors is bounded by the ratio of their sizes.
+    // A full top-k list only accepts similarities above its current lowest one.
+    private static boolean mightEnterTopK(TopKMap topKMap, long node, long[] vector1, long[] vector2) {
+        double upperBound = (double) Math.min(vector1.length, vector2.length) / Math.max(vector1.length, vector2.length);
+        return topKMap.mightAccept(node, upperBound);
+    }
+
     private LongStream checkProgress(LongStream stream) {
         return stream.peek(node -> {
             if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
                 assertRunning();
             }
+            // with candidate pruning, the number of comparisons per node is not known upfront
+            if (candidateIndex != null) {
+                progressLogger.logProgress();
+            }
         });
     }
 
@@ -400,6 +465,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     }
 
     private long calculateWorkload() {
+        if (candidateIndex != null) {
+            return nodesToCompare;
+        }
         long workload = nodesToCompare * nodesToCompare;
         if (config.concurrency() == 1) {
             workload = workload / 2;
@@ -80,6 +80,38 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    /**
+     * Only compare nodes whose MinHash signatures collide in at least one LSH band,
+     * instead of all nodes that share a neighbour.
+     */
+    @Value.Default
+    default boolean approximate() {
+        return false;
+    }
+
+    /**
+     * More bands increase the recall of the approximation, at the cost of more candidates to verify.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int lshBands() {
+        return 32;
+    }
+
+    /**
+     * More rows per band increase the precision of the candidates, at the cost of recall.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int lshRowsPerBand() {
+        return 2;
+    }
+
+    @Value.Default
+    default long randomSeed() {
+        return -1;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -85,6 +85,11 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> impl
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        if (config.approximate()) {
+            builder.add("minhash index", MinHashIndex.memoryEstimation(config.lshBands()));
+        } else if (config.similarityCutoff() > 0) {
+            builder.add("inverted index", InvertedIndex.memoryEstimation());
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
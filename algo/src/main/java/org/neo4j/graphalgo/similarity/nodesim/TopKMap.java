@@ -78,6 +78,14 @@ public class TopKMap {
         return topKLists.get(node1);
     }
 
+    /**
+     * Whether a similarity that is at most {@code upperBound} could still be added
+     * to the list of {@code node1}. Only meaningful for lists that keep the highest similarities.
+     */
+    boolean mightAccept(long node1, double upperBound) {
+        return topKLists.get(node1).mightAccept(upperBound);
+    }
+
     long similarityPairCount() {
         SetBitsIterable longs = new SetBitsIterable(nodeFilter);
         PrimitiveIterator.OfLong iterator = longs.iterator();
@@ -124,6 +132,11 @@ public class TopKMap {
             queue.offer(node2, similarity);
         }
 
+        boolean mightAccept(double upperBound) {
+            // a full queue only accepts similarities that are strictly higher than its lowest one
+            return !queue.isFull() || upperBound > queue.priorityAt(queue.size() - 1);
+        }
+
         void forEach(BoundedLongPriorityQueue.Consumer consumer) {
             queue.forEach(consumer);
         }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.wcc;
 
+import com.carrotsearch.hppc.LongIntHashMap;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -35,6 +36,7 @@ import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -43,11 +45,24 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
  *
+ * <p>
+ * If {@link WccBaseConfig#neighborSampleSize()} is set, the relationships are linked in two phases
+ * as described in "Afforest: A Fast Concurrent Algorithm for Connected Components".
+ * First, only the first few relationships of every node are linked, which usually
+ * connects most of the nodes of the largest component. After sampling that component,
+ * the remaining relationships are linked, except for those of nodes which already belong to it.
+ * Skipping nodes is only correct if every relationship is visible from both of its nodes,
+ * hence it is limited to undirected graphs.
+ *
  * @see HugeAtomicDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
+ * @see <a href="https://doi.org/10.1109/SC.2018.00022">Afforest</a>
  */
 public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
+    private static final int COMPONENT_SAMPLE_SIZE = 1024;
+    private static final long NO_NODE = -1L;
+
     private final WccBaseConfig config;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
@@ -112,17 +127,54 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
+        int neighborSampleSize = config.neighborSampleSize();
+        if (neighborSampleSize > 0) {
+            ParallelUtil.run(tasks(dss, 0, neighborSampleSize, NO_NODE), executor);
+            long largestComponentNode = graph.isUndirected() ? sampleLargestComponent(dss) : NO_NODE;
+            ParallelUtil.run(tasks(dss, neighborSampleSize, Integer.MAX_VALUE, largestComponentNode), executor);
+        } else {
+            ParallelUtil.run(tasks(dss, 0, Integer.MAX_VALUE, NO_NODE), executor);
+        }
+
+        progressLogger.logMessage(":: Finished");
+        return dss;
+    }
+
+    private Collection<Runnable> tasks(
+        DisjointSetStruct dss,
+        int fromIndex,
+        int toIndex,
+        long skippedComponentNode
+    ) {
         final Collection<Runnable> tasks = new ArrayList<>(threadSize);
         for (long i = 0L; i < this.nodeCount; i += batchSize) {
             WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
+                ? new WCCTask(dss, i, fromIndex, toIndex, skippedComponentNode)
+                : new WCCWithThresholdTask(threshold(), dss, i, fromIndex, toIndex, skippedComponentNode);
             tasks.add(wccTask);
         }
-        ParallelUtil.run(tasks, executor);
+        return tasks;
+    }
 
-        progressLogger.logMessage(":: Finished");
-        return dss;
+    /**
+     * Returns a node of the most frequent component among a fixed number of randomly picked nodes.
+     */
+    private long sampleLargestComponent(DisjointSetStruct dss) {
+        var random = new SplittableRandom(nodeCount);
+        var componentSizes = new LongIntHashMap();
+        long largestComponentNode = NO_NODE;
+        int largestComponentSize = 0;
+
+        for (int i = 0; i < COMPONENT_SAMPLE_SIZE && nodeCount > 0; i++) {
+            long node = random.nextLong(nodeCount);
+            int size = componentSizes.addTo(dss.setIdOf(node), 1);
+            if (size > largestComponentSize) {
+                largestComponentSize = size;
+                largestComponentNode = node;
+            }
+        }
+
+        return largestComponentNode;
     }
 
     @Override
@@ -149,23 +201,36 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         final RelationshipIterator rels;
         private final long offset;
         private final long end;
+        // only relationships at these positions of an adjacency list are linked
+        private final int fromIndex;
+        private final int toIndex;
+        // nodes in the same set as this node are skipped
+        private final long skippedComponentNode;
+        private int relationshipIndex;
 
-        WCCTask(DisjointSetStruct struct, long offset) {
+        WCCTask(DisjointSetStruct struct, long offset, int fromIndex, int toIndex, long skippedComponentNode) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
             this.offset = offset;
             this.end = Math.min(offset + batchSize, nodeCount);
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.skippedComponentNode = skippedComponentNode;
         }
 
         @Override
         public void run() {
             for (long node = offset; node < end; node++) {
-                compute(node);
+                if (skippedComponentNode == NO_NODE || !struct.sameSet(node, skippedComponentNode)) {
+                    relationshipIndex = 0;
+                    compute(node);
+                }
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     assertRunning();
                 }
 
-                getProgressLogger().logProgress(graph.degree(node));
+                int degree = graph.degree(node);
+                getProgressLogger().logProgress(Math.min(degree, toIndex) - Math.min(degree, fromIndex));
             }
         }
 
@@ -173,10 +238,23 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             rels.forEachRelationship(node, this);
         }
 
+        /**
+         * Returns whether the current relationship is linked and advances to the next one.
+         */
+        boolean isSelected() {
+            return relationshipIndex++ >= fromIndex;
+        }
+
+        boolean hasNext() {
+            return relationshipIndex < toIndex;
+        }
+
         @Override
         public boolean accept(final long sourceNodeId, final long targetNodeId) {
-            struct.union(sourceNodeId, targetNodeId);
-            return true;
+            if (isSelected()) {
+                struct.union(sourceNodeId, targetNodeId);
+            }
+            return hasNext();
         }
     }
 
@@ -184,8 +262,15 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         private final double threshold;
 
-        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        WCCWithThresholdTask(
+            double threshold,
+            DisjointSetStruct struct,
+            long offset,
+            int fromIndex,
+            int toIndex,
+            long skippedComponentNode
+        ) {
+            super(struct, offset, fromIndex, toIndex, skippedComponentNode);
             this.threshold = threshold;
         }
 
@@ -196,10 +281,10 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         @Override
         public boolean accept(final long sourceNodeId, final long targetNodeId, final double property) {
-            if (property > threshold) {
+            if (isSelected() && property > threshold) {
                 struct.union(sourceNodeId, targetNodeId);
             }
-            return true;
+            return hasNext();
         }
     }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.wcc;
 
 import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.ConsecutiveIdsConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
@@ -32,6 +33,17 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    /**
+     * The number of relationships per node that are linked before the largest component is sampled.
+     * Afterwards, only nodes outside of that component have their remaining relationships linked.
+     * A value of zero links all relationships in a single pass.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int neighborSampleSize() {
+        return 0;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty() == null) {
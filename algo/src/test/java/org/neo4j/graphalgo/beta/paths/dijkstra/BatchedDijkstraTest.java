@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.dijkstra;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.beta.paths.ImmutablePathResult;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableShortestPathDijkstraBatchStreamConfig;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.beta.paths.PathTestUtil.expected;
+
+@GdlExtension
+final class BatchedDijkstraTest {
+
+    @GdlGraph
+    private static final String DUMMY = "()";
+
+    static BatchedDijkstra batchedDijkstra(Graph graph, List<Long> sourceNodes, List<Long> targetNodes, int concurrency) {
+        var config = ImmutableShortestPathDijkstraBatchStreamConfig.builder()
+            .sourceNodes(sourceNodes)
+            .targetNodes(targetNodes)
+            .concurrency(concurrency)
+            .build();
+        return BatchedDijkstra.of(graph, config, Pools.DEFAULT, ProgressLogger.NULL_LOGGER, AllocationTracker.empty());
+    }
+
+    @Test
+    void shouldFailOnUnpairedNodes() {
+        assertThatThrownBy(() -> ImmutableShortestPathDijkstraBatchStreamConfig.builder()
+            .sourceNodes(List.of(0L, 1L))
+            .targetNodes(List.of(2L))
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The number of `sourceNodes` (2) must match the number of `targetNodes` (1).");
+    }
+
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class Graph1 {
+
+        // https://en.wikipedia.org/wiki/Shortest_path_problem#/media/File:Shortest_path_with_direct_weights.svg
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+            ", (e:E)" +
+            ", (f:F)" +
+
+            ", (a)-[:TYPE {cost: 4}]->(b)" +
+            ", (a)-[:TYPE {cost: 2}]->(c)" +
+            ", (b)-[:TYPE {cost: 5}]->(c)" +
+            ", (b)-[:TYPE {cost: 10}]->(d)" +
+            ", (c)-[:TYPE {cost: 3}]->(e)" +
+            ", (d)-[:TYPE {cost: 11}]->(f)" +
+            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void batch(int concurrency) {
+            var expected = List.of(
+                expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f"),
+                expected(idFunction, 1, new double[]{0.0, 10.0}, "b", "d"),
+                expected(idFunction, 2, new double[]{0.0, 2.0, 5.0}, "a", "c", "e"),
+                // (3) f -> a is not reachable
+                expected(idFunction, 4, new double[]{0.0}, "c"),
+                expected(idFunction, 5, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f")
+            );
+
+            var sourceNodes = nodeIds("a", "b", "a", "f", "c", "a");
+            var targetNodes = nodeIds("f", "d", "e", "a", "c", "f");
+
+            var paths = batchedDijkstra(graph, sourceNodes, targetNodes, concurrency)
+                .compute()
+                .paths()
+                .collect(Collectors.toList());
+
+            assertEquals(expected, paths);
+        }
+
+        @Test
+        void batchWithRelationshipIds() {
+            var expected = ImmutablePathResult
+                .builder()
+                .from(expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f"))
+                .relationshipIds(1, 0, 0, 0)
+                .build();
+
+            var config = ImmutableShortestPathDijkstraBatchStreamConfig.builder()
+                .sourceNodes(List.of(idFunction.of("a")))
+                .targetNodes(List.of(idFunction.of("f")))
+                .trackRelationships(true)
+                .build();
+
+            var path = BatchedDijkstra
+                .of(graph, config, Pools.DEFAULT, ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+                .compute()
+                .paths()
+                .findFirst()
+                .get();
+
+            assertEquals(expected, path);
+        }
+
+        private List<Long> nodeIds(String... variables) {
+            return Arrays.stream(variables).map(idFunction::of).collect(Collectors.toList());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void sameResultAsDijkstra(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("cost", 1.0, 10.0))
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var random = new Random(42L);
+        var sourceNodes = new ArrayList<Long>();
+        var targetNodes = new ArrayList<Long>();
+        for (int i = 0; i < 200; i++) {
+            // few distinct sources so that queries are grouped
+            sourceNodes.add((long) random.nextInt(20));
+            targetNodes.add((long) random.nextInt(1_000));
+        }
+
+        var actual = batchedDijkstra(graph, sourceNodes, targetNodes, concurrency)
+            .compute()
+            .paths()
+            .collect(Collectors.toList());
+
+        var expected = new ArrayList<PathResult>();
+        for (int i = 0; i < sourceNodes.size(); i++) {
+            var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                .sourceNode(sourceNodes.get(i))
+                .targetNode(targetNodes.get(i))
+                .build();
+            int index = i;
+            Dijkstra
+                .sourceTarget(graph, config, Optional.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+                .compute()
+                .paths()
+                .findFirst()
+                .ifPresent(path -> expected.add(ImmutablePathResult.copyOf(path).withIndex(index)));
+        }
+
+        assertThat(actual)
+            .extracting(PathResult::index, PathResult::targetNode, PathResult::totalCost)
+            .containsExactlyElementsOf(expected
+                .stream()
+                .map(path -> tuple(path.index(), path.targetNode(), path.totalCost()))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.dijkstra;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableShortestPathBidirectionalDijkstraStreamConfig;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.beta.paths.PathTestUtil.expected;
+
+@GdlExtension
+final class BidirectionalDijkstraTest {
+
+    @GdlGraph
+    private static final String DUMMY = "()";
+
+    static BidirectionalDijkstra bidirectionalDijkstra(Graph graph, long sourceNode, long targetNode) {
+        var config = ImmutableShortestPathBidirectionalDijkstraStreamConfig.builder()
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .build();
+        return BidirectionalDijkstra.sourceTarget(graph, config, ProgressLogger.NULL_LOGGER, AllocationTracker.empty());
+    }
+
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class Graph1 {
+
+        @GdlGraph(orientation = Orientation.UNDIRECTED)
+        @GdlGraph(graphNamePrefix = "directed")
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+            ", (e:E)" +
+            ", (f:F)" +
+            ", (g:G)" +
+
+            ", (a)-[:TYPE {cost: 4}]->(b)" +
+            ", (a)-[:TYPE {cost: 2}]->(c)" +
+            ", (b)-[:TYPE {cost: 5}]->(c)" +
+            ", (b)-[:TYPE {cost: 10}]->(d)" +
+            ", (c)-[:TYPE {cost: 3}]->(e)" +
+            ", (d)-[:TYPE {cost: 11}]->(f)" +
+            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private Graph directedGraph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void sourceTarget() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f");
+
+            var paths = bidirectionalDijkstra(graph, idFunction.of("a"), idFunction.of("f"))
+                .compute()
+                .paths()
+                .collect(Collectors.toList());
+
+            assertEquals(List.of(expected), paths);
+        }
+
+        @Test
+        void againstRelationshipDirection() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 11.0, 15.0, 18.0, 20.0}, "f", "d", "e", "c", "a");
+
+            var paths = bidirectionalDijkstra(graph, idFunction.of("f"), idFunction.of("a"))
+                .compute()
+                .paths()
+                .collect(Collectors.toList());
+
+            assertEquals(List.of(expected), paths);
+        }
+
+        @Test
+        void sameSourceAndTarget() {
+            var expected = expected(idFunction, 0, new double[]{0.0}, "c");
+
+            var paths = bidirectionalDijkstra(graph, idFunction.of("c"), idFunction.of("c"))
+                .compute()
+                .paths()
+                .collect(Collectors.toSet());
+
+            assertEquals(Set.of(expected), paths);
+        }
+
+        @Test
+        void unreachable() {
+            var paths = bidirectionalDijkstra(graph, idFunction.of("a"), idFunction.of("g"))
+                .compute()
+                .paths();
+
+            assertThat(paths).isEmpty();
+        }
+
+        @Test
+        void failsOnDirectedGraph() {
+            assertThatThrownBy(() -> bidirectionalDijkstra(directedGraph, idFunction.of("a"), idFunction.of("f")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires relationship projections to be UNDIRECTED");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 1337L})
+    void sameCostAsDijkstra(long seed) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("cost", 1.0, 10.0))
+            .orientation(Orientation.UNDIRECTED)
+            .seed(seed)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        for (long targetNode = 0; targetNode < 1_000; targetNode += 97) {
+            var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                .sourceNode(0)
+                .targetNode(targetNode)
+                .build();
+            var expected = Dijkstra
+                .sourceTarget(graph, config, Optional.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+                .compute()
+                .paths()
+                .findFirst();
+
+            var actual = bidirectionalDijkstra(graph, 0, targetNode)
+                .compute()
+                .paths()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            expected.ifPresent(path -> {
+                assertThat(actual.get().totalCost()).isCloseTo(path.totalCost(), offset(1e-9));
+                assertThat(actual.get().nodeIds()).startsWith(0L).endsWith(path.targetNode());
+            });
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.Dijkstra;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.graphalgo.beta.paths.landmarks.config.ImmutableLandmarksMutateConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@GdlExtension
+final class LandmarksTest {
+
+    @GdlGraph
+    private static final String DUMMY = "()";
+
+    static LandmarkDistances landmarkDistances(Graph graph, int landmarkCount) {
+        var config = ImmutableLandmarksMutateConfig.builder()
+            .mutateProperty("landmarks")
+            .landmarkCount(landmarkCount)
+            .randomSeed(42L)
+            .concurrency(4)
+            .build();
+        return new Landmarks(graph, config, Pools.DEFAULT, ProgressLogger.NULL_LOGGER, AllocationTracker.empty()).compute();
+    }
+
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class Graph1 {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+            ", (e:E)" +
+            ", (f:F)" +
+
+            ", (a)-[:TYPE {cost: 4}]->(b)" +
+            ", (a)-[:TYPE {cost: 2}]->(c)" +
+            ", (b)-[:TYPE {cost: 5}]->(c)" +
+            ", (b)-[:TYPE {cost: 10}]->(d)" +
+            ", (c)-[:TYPE {cost: 3}]->(e)" +
+            ", (d)-[:TYPE {cost: 11}]->(f)" +
+            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void distancesFromLandmarks() {
+            var landmarkDistances = landmarkDistances(graph, 3);
+
+            assertThat(landmarkDistances.landmarkCount()).isEqualTo(3);
+            assertThat(landmarkDistances.size()).isEqualTo(graph.nodeCount());
+
+            for (int i = 0; i < landmarkDistances.landmarkCount(); i++) {
+                var landmark = landmarkDistances.landmark(i);
+                var expected = expectedDistances(graph, landmark);
+                for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                    assertThat(landmarkDistances.distance(i, nodeId)).isEqualTo(expected[(int) nodeId]);
+                    assertThat(landmarkDistances.doubleArrayValue(nodeId)[i]).isEqualTo(expected[(int) nodeId]);
+                }
+            }
+        }
+
+        @Test
+        void landmarksAreDistinct() {
+            var landmarkDistances = landmarkDistances(graph, 6);
+
+            assertThat(new long[]{
+                landmarkDistances.landmark(0),
+                landmarkDistances.landmark(1),
+                landmarkDistances.landmark(2),
+                landmarkDistances.landmark(3),
+                landmarkDistances.landmark(4),
+                landmarkDistances.landmark(5)
+            }).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void heuristicIsALowerBound() {
+            var landmarkDistances = landmarkDistances(graph, 2);
+            var heuristic = new LandmarkHeuristic(landmarkDistances, mappedId("f"), false);
+
+            assertThat(heuristic.applyAsDouble(mappedId("a"))).isBetween(0.0, 20.0);
+            assertThat(heuristic.applyAsDouble(mappedId("c"))).isBetween(0.0, 18.0);
+            assertThat(heuristic.applyAsDouble(mappedId("e"))).isBetween(0.0, 15.0);
+            assertThat(heuristic.applyAsDouble(mappedId("d"))).isBetween(0.0, 11.0);
+            assertThat(heuristic.applyAsDouble(mappedId("f"))).isEqualTo(0.0);
+        }
+
+        private long mappedId(String variable) {
+            return graph.toMappedNodeId(idFunction.of(variable));
+        }
+
+        private double[] expectedDistances(Graph graph, long landmark) {
+            var distances = new double[(int) graph.nodeCount()];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                var path = shortestPath(graph, graph.toOriginalNodeId(landmark), graph.toOriginalNodeId(nodeId));
+                if (path.isPresent()) {
+                    distances[(int) nodeId] = path.get().totalCost();
+                }
+            }
+            return distances;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void dijkstraWithLandmarksFindsShortestPaths(Orientation orientation) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("cost", 1.0, 10.0))
+            .orientation(orientation)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var landmarkDistances = landmarkDistances(graph, 8);
+
+        for (long targetNode = 1; targetNode < 1_000; targetNode += 37) {
+            var heuristic = new LandmarkHeuristic(landmarkDistances, targetNode, graph.isUndirected());
+            var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                .sourceNode(0)
+                .targetNode(targetNode)
+                .build();
+
+            var expected = shortestPath(graph, 0, targetNode);
+            var actual = Dijkstra
+                .sourceTarget(graph, config, Optional.of(heuristic), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+                .compute()
+                .paths()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            expected.ifPresent(path -> assertThat(actual.get().totalCost()).isCloseTo(path.totalCost(), offset(1e-9)));
+        }
+    }
+
+    private static Optional<PathResult> shortestPath(Graph graph, long sourceNode, long targetNode) {
+        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .build();
+        return Dijkstra
+            .sourceTarget(graph, config, Optional.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .paths()
+            .findFirst();
+    }
+}
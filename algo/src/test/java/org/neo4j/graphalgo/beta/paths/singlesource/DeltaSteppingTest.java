@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.singlesource;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.beta.paths.ImmutablePathResult;
+import org.neo4j.graphalgo.beta.paths.PathResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.Dijkstra;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+import org.neo4j.graphalgo.beta.paths.singlesource.config.ImmutableAllShortestPathsDeltaSteppingStreamConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.beta.paths.PathTestUtil.expected;
+
+@GdlExtension
+final class DeltaSteppingTest {
+
+    @GdlGraph
+    private static final String DUMMY = "()";
+
+    static Stream<Arguments> deltaAndConcurrency() {
+        return Stream.of(
+            Arguments.of(0.5, 1),
+            Arguments.of(2.0, 1),
+            Arguments.of(0.5, 4),
+            Arguments.of(2.0, 4),
+            Arguments.of(100.0, 4)
+        );
+    }
+
+    static DeltaStepping deltaStepping(Graph graph, long sourceNode, double delta, int concurrency) {
+        var config = ImmutableAllShortestPathsDeltaSteppingStreamConfig.builder()
+            .sourceNode(sourceNode)
+            .delta(delta)
+            .concurrency(concurrency)
+            .build();
+        return DeltaStepping.of(graph, config, Pools.DEFAULT, ProgressLogger.NULL_LOGGER, AllocationTracker.empty());
+    }
+
+    // the paths are emitted in order of their target node, which is independent of the expected index
+    static Set<PathResult> withoutIndex(Stream<PathResult> paths) {
+        return paths.map(path -> ImmutablePathResult.copyOf(path).withIndex(0)).collect(Collectors.toSet());
+    }
+
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class Graph1 {
+
+        // https://en.wikipedia.org/wiki/Shortest_path_problem#/media/File:Shortest_path_with_direct_weights.svg
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+            ", (e:E)" +
+            ", (f:F)" +
+
+            ", (a)-[:TYPE {cost: 4}]->(b)" +
+            ", (a)-[:TYPE {cost: 2}]->(c)" +
+            ", (b)-[:TYPE {cost: 5}]->(c)" +
+            ", (b)-[:TYPE {cost: 10}]->(d)" +
+            ", (c)-[:TYPE {cost: 3}]->(e)" +
+            ", (d)-[:TYPE {cost: 11}]->(f)" +
+            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @ParameterizedTest
+        @MethodSource("org.neo4j.graphalgo.beta.paths.singlesource.DeltaSteppingTest#deltaAndConcurrency")
+        void singleSource(double delta, int concurrency) {
+            var expected = Set.of(
+                expected(idFunction, 0, new double[]{0.0}, "a"),
+                expected(idFunction, 0, new double[]{0.0, 2.0}, "a", "c"),
+                expected(idFunction, 0, new double[]{0.0, 4.0}, "a", "b"),
+                expected(idFunction, 0, new double[]{0.0, 2.0, 5.0}, "a", "c", "e"),
+                expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0}, "a", "c", "e", "d"),
+                expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f")
+            );
+
+            var paths = deltaStepping(graph, idFunction.of("a"), delta, concurrency).compute().paths();
+
+            assertEquals(expected, withoutIndex(paths));
+        }
+
+        @ParameterizedTest
+        @MethodSource("org.neo4j.graphalgo.beta.paths.singlesource.DeltaSteppingTest#deltaAndConcurrency")
+        void unreachableNodesAreNotEmitted(double delta, int concurrency) {
+            var expected = Set.of(
+                expected(idFunction, 0, new double[]{0.0}, "d"),
+                expected(idFunction, 0, new double[]{0.0, 11.0}, "d", "f")
+            );
+
+            var paths = deltaStepping(graph, idFunction.of("d"), delta, concurrency).compute().paths();
+
+            assertEquals(expected, withoutIndex(paths));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("deltaAndConcurrency")
+    void sameDistancesAsDijkstra(double delta, int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("cost", 0.0, 10.0))
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var dijkstraConfig = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+            .sourceNode(0)
+            .concurrency(1)
+            .build();
+        Map<Long, Double> expected = Dijkstra
+            .singleSource(graph, dijkstraConfig, Optional.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .paths()
+            .collect(Collectors.toMap(PathResult::targetNode, PathResult::totalCost));
+
+        Map<Long, Double> actual = deltaStepping(graph, 0, delta, concurrency)
+            .compute()
+            .paths()
+            .peek(path -> assertThat(Arrays.stream(path.costs())).isSorted())
+            .collect(Collectors.toMap(PathResult::targetNode, PathResult::totalCost));
+
+        assertThat(actual).hasSameSizeAs(expected);
+        expected.forEach((target, cost) -> assertThat(actual.get(target)).isCloseTo(cost, offset(1e-9)));
+    }
+}
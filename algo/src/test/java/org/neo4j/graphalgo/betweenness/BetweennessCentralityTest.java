@@ -19,10 +19,13 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
@@ -34,6 +37,8 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.assertMemoryEstimation;
 import static org.neo4j.graphalgo.TestSupport.crossArguments;
@@ -162,11 +167,83 @@ class BetweennessCentralityTest {
         assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void adaptiveSamplingOfAllSourcesIsExact(int concurrency) {
+        TestGraph graph = fromGdl(CONNECTED_CYCLES);
+        var actualResult = new BetweennessCentrality(
+            graph,
+            new AdaptiveSampling(0.01, 0.1, Optional.of(42L)),
+            Pools.DEFAULT,
+            concurrency,
+            TRACKER
+        ).compute();
+
+        var expectedResult = Map.of("a", 13.0, "b", 4.0, "c", 4.0, "d", 13.0, "e", 4.0, "f", 4.0);
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), 1E-9, variable)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void adaptiveSamplingStaysWithinErrorBound(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .allocationTracker(TRACKER)
+            .build()
+            .generate();
+        var epsilon = 0.1;
+
+        var exact = new BetweennessCentrality(graph, SelectionStrategy.ALL, Pools.DEFAULT, concurrency, TRACKER).compute();
+        var approximate = new BetweennessCentrality(
+            graph,
+            new AdaptiveSampling(epsilon, 0.1, Optional.of(42L)),
+            Pools.DEFAULT,
+            concurrency,
+            TRACKER
+        ).compute();
+
+        // the error bound applies to the centrality normalized by its maximum
+        double maxCentrality = graph.nodeCount() * (graph.nodeCount() - 1.0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            double error = Math.abs(exact.get(nodeId) - approximate.get(nodeId)) / maxCentrality;
+            assertTrue(error <= epsilon, "error of node " + nodeId + " is " + error);
+        }
+    }
+
+    @Test
+    void errorBoundShrinksWithSampleSize() {
+        double logTerm = Math.log(8.0 * 1_000 / 0.1);
+        // for a constant dependency the empirical variance is zero
+        double fewSamples = AdaptiveSampling.errorBound(50 * 0.5, 50 * 0.25, 50, logTerm);
+        double manySamples = AdaptiveSampling.errorBound(500 * 0.5, 500 * 0.25, 500, logTerm);
+
+        assertTrue(manySamples < fewSamples);
+        assertTrue(manySamples < Math.sqrt(logTerm / (2.0 * 500)));
+    }
+
+    @Test
+    void shouldNotCombineSamplingSizeAndEpsilon() {
+        var config = CypherMapWrapper.create(Map.of("samplingSize", 10L, "samplingEpsilon", 0.1));
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> BetweennessCentralityStreamConfig.of("", Optional.empty(), Optional.empty(), config)
+        );
+        assertEquals(
+            "Configuration parameters 'samplingSize' and 'samplingEpsilon' cannot be used together.",
+            exception.getMessage()
+        );
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 6_000_368L, 6_000_368L),
-            Arguments.of(4, 21_601_160L, 21_601_160L),
-            Arguments.of(42, 219_211_192L, 219_211_192L)
+            Arguments.of(1, 5_600_504L, 5_600_504L),
+            Arguments.of(4, 17_601_488L, 17_601_488L),
+            Arguments.of(42, 169_613_952L, 169_613_952L)
         );
     }
 
@@ -181,4 +258,21 @@ class BetweennessCentralityTest {
             expectedMaxBytes
         );
     }
+
+    @Test
+    void testMemoryEstimationWithAdaptiveSampling() {
+        var config = BetweennessCentralityStreamConfig.of(
+            "",
+            Optional.empty(),
+            Optional.empty(),
+            CypherMapWrapper.create(Map.of("samplingEpsilon", 0.1))
+        );
+        assertMemoryEstimation(
+            () -> new BetweennessCentralityFactory<>().memoryEstimation(config),
+            100_000L,
+            4,
+            19_201_568L,
+            19_201_568L
+        );
+    }
 }
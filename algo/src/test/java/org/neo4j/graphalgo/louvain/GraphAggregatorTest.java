@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphAggregatorTest {
+
+    @GdlGraph(graphNamePrefix = "natural", orientation = Orientation.NATURAL)
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (a)-[:REL {weight: 1.0}]->(b)" +
+        ", (a)-[:REL {weight: 2.0}]->(c)" +
+        ", (b)-[:REL {weight: 3.0}]->(c)" +
+        ", (b)-[:REL {weight: 5.0}]->(d)" +
+        ", (c)-[:REL {weight: 4.0}]->(d)" +
+        ", (d)-[:REL {weight: 6.0}]->(a)";
+
+    @Inject
+    private Graph naturalGraph;
+
+    @Inject
+    private IdFunction naturalIdFunction;
+
+    @Inject
+    private Graph undirectedGraph;
+
+    @Inject
+    private IdFunction undirectedIdFunction;
+
+    private static AggregatedGraph aggregate(Graph graph, IdFunction idFunction, int concurrency) {
+        return aggregate(graph, idFunction, concurrency, 1L);
+    }
+
+    private static AggregatedGraph aggregate(Graph graph, IdFunction idFunction, int concurrency, long idScale) {
+        return aggregate(graph, idFunction, concurrency, idScale, GraphAggregator.DEFAULT_CHUNK_SIZE);
+    }
+
+    private static AggregatedGraph aggregate(
+        Graph graph,
+        IdFunction idFunction,
+        int concurrency,
+        long idScale,
+        int chunkSize
+    ) {
+        // (a, b) form community 7 and (c, d) form community 3
+        var communities = Map.of(
+            graph.toMappedNodeId(idFunction.of("a")), 7L * idScale,
+            graph.toMappedNodeId(idFunction.of("b")), 7L * idScale,
+            graph.toMappedNodeId(idFunction.of("c")), 3L * idScale,
+            graph.toMappedNodeId(idFunction.of("d")), 3L * idScale
+        );
+        return new GraphAggregator(
+            graph,
+            communities::get,
+            concurrency,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            TerminationFlag.RUNNING_TRUE,
+            chunkSize
+        ).aggregate();
+    }
+
+    @Test
+    void shouldMapCommunitiesInAscendingOrder() {
+        var aggregatedGraph = aggregate(naturalGraph, naturalIdFunction, 1);
+
+        assertThat(aggregatedGraph.nodeCount()).isEqualTo(2);
+        assertThat(aggregatedGraph.toOriginalNodeId(0)).isEqualTo(3);
+        assertThat(aggregatedGraph.toOriginalNodeId(1)).isEqualTo(7);
+        assertThat(aggregatedGraph.toMappedNodeId(3)).isEqualTo(0);
+        assertThat(aggregatedGraph.toMappedNodeId(7)).isEqualTo(1);
+        assertThat(aggregatedGraph.contains(5)).isFalse();
+        assertThat(aggregatedGraph.contains(42)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMapLargeCommunityIds(int concurrency) {
+        // e.g. seed values, which must not be ranked through an array of that size
+        long idScale = 1_000_000_000_000L;
+        var aggregatedGraph = aggregate(naturalGraph, naturalIdFunction, concurrency, idScale);
+
+        assertThat(aggregatedGraph.nodeCount()).isEqualTo(2);
+        assertThat(aggregatedGraph.toOriginalNodeId(0)).isEqualTo(3 * idScale);
+        assertThat(aggregatedGraph.toOriginalNodeId(1)).isEqualTo(7 * idScale);
+        assertThat(aggregatedGraph.toMappedNodeId(3 * idScale)).isEqualTo(0);
+        assertThat(aggregatedGraph.toMappedNodeId(7 * idScale)).isEqualTo(1);
+        assertThat(aggregatedGraph.contains(5 * idScale)).isFalse();
+        assertThat(aggregatedGraph.contains(3)).isFalse();
+
+        assertThat(aggregatedGraph.relationshipProperty(0, 0)).isEqualTo(4.0);
+        assertThat(aggregatedGraph.relationshipProperty(0, 1)).isEqualTo(6.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 0)).isEqualTo(10.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 1)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldMergeRelationshipsBetweenCommunities() {
+        var aggregatedGraph = aggregate(naturalGraph, naturalIdFunction, 1);
+
+        assertThat(aggregatedGraph.relationshipCount()).isEqualTo(4);
+        assertThat(aggregatedGraph.isMultiGraph()).isFalse();
+        // (c)->(d)
+        assertThat(aggregatedGraph.relationshipProperty(0, 0)).isEqualTo(4.0);
+        // (d)->(a)
+        assertThat(aggregatedGraph.relationshipProperty(0, 1)).isEqualTo(6.0);
+        // (a)->(c), (b)->(c), (b)->(d)
+        assertThat(aggregatedGraph.relationshipProperty(1, 0)).isEqualTo(10.0);
+        // (a)->(b)
+        assertThat(aggregatedGraph.relationshipProperty(1, 1)).isEqualTo(1.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shouldMergeCommunitiesThatSpanMultipleChunks(int chunkSize) {
+        var aggregatedGraph = aggregate(undirectedGraph, undirectedIdFunction, 1, 1L, chunkSize);
+
+        assertThat(aggregatedGraph.relationshipCount()).isEqualTo(4);
+        assertThat(aggregatedGraph.relationshipProperty(0, 0)).isEqualTo(8.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 1)).isEqualTo(2.0);
+        assertThat(aggregatedGraph.relationshipProperty(0, 1)).isEqualTo(16.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 0)).isEqualTo(16.0);
+        for (long nodeId = 0; nodeId < aggregatedGraph.nodeCount(); nodeId++) {
+            assertThat(aggregatedGraph.degree(nodeId)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldKeepBothDirectionsOfUndirectedGraphs() {
+        var aggregatedGraph = aggregate(undirectedGraph, undirectedIdFunction, 1);
+
+        assertThat(aggregatedGraph.isUndirected()).isTrue();
+        assertThat(aggregatedGraph.relationshipCount()).isEqualTo(4);
+        // every relationship within a community is seen from both of its nodes
+        assertThat(aggregatedGraph.relationshipProperty(0, 0)).isEqualTo(8.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 1)).isEqualTo(2.0);
+        assertThat(aggregatedGraph.relationshipProperty(0, 1)).isEqualTo(16.0);
+        assertThat(aggregatedGraph.relationshipProperty(1, 0)).isEqualTo(16.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSortTargets(int concurrency) {
+        var aggregatedGraph = aggregate(naturalGraph, naturalIdFunction, concurrency);
+
+        for (long nodeId = 0; nodeId < aggregatedGraph.nodeCount(); nodeId++) {
+            long[] previousTarget = {-1L};
+            aggregatedGraph.forEachRelationship(nodeId, (source, target) -> {
+                assertThat(target).isGreaterThan(previousTarget[0]);
+                previousTarget[0] = target;
+                return true;
+            });
+            assertThat(aggregatedGraph.degree(nodeId)).isEqualTo(2);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
 import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
 import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.GraphDimensions;
@@ -268,6 +269,48 @@ class LouvainTest {
         assertEquals(0.38, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void testSeededWithLargeSeeds() {
+        long seedScale = 1_000_000_000_000L;
+        var seeds = graphStore.nodePropertyValues(NodeLabel.of("Node"), "seed");
+        graphStore.addNodeProperty(NodeLabel.of("Node"), "largeSeed", new LongNodeProperties() {
+            @Override
+            public long longValue(long nodeId) {
+                return seeds.longValue(nodeId) * seedScale;
+            }
+
+            @Override
+            public long size() {
+                return seeds.size();
+            }
+        });
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT", "TYPE_IN"),
+            Optional.of("weight")
+        );
+
+        Louvain algorithm = new Louvain(
+            graph,
+            defaultConfigBuilder().seedProperty("largeSeed").build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        assertCommunitiesWithLabels(
+            algorithm.dendrograms()[0],
+            Map.of(
+                seedScale, ids(idFunction, "a", "b", "c", "d", "e", "f", "x"),
+                2 * seedScale, ids(idFunction, "g", "h", "i"),
+                42 * seedScale, ids(idFunction, "j", "k", "l", "m", "n")
+            )
+        );
+        assertEquals(1, algorithm.levels());
+    }
+
     @Test
     void testTolerance() {
         var graph = graphStore.getGraph(
@@ -556,9 +556,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2438016L, 2438016L),
+            Arguments.of(4, 2438208L, 2438208L),
+            Arguments.of(42, 2440640L, 2440640L)
         );
     }
 
@@ -615,8 +615,8 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            241_286_621_640L,
-            241_286_621_640L
+            243_786_621_840L,
+            243_786_621_840L
         );
     }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class SccTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (f)" +
+        ", (g)" +
+        ", (h)" +
+        ", (i)" +
+        // {a, b, c}
+        ", (a)-->(b)" +
+        ", (b)-->(c)" +
+        ", (c)-->(a)" +
+        ", (c)-->(d)" +
+        // {d, e}
+        ", (d)-->(e)" +
+        ", (e)-->(d)" +
+        ", (e)-->(f)" +
+        // {f}, {g}, {h}, {i}
+        ", (g)-->(h)" +
+        ", (i)-->(i)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeComponents(int concurrency) {
+        var components = run(graph, concurrency);
+
+        // c is chosen as pivot, {d, e} is found by colour propagation
+        assertEquals(idFunction.of("c"), components.get(idFunction.of("a")));
+        assertEquals(idFunction.of("c"), components.get(idFunction.of("b")));
+        assertEquals(idFunction.of("c"), components.get(idFunction.of("c")));
+        assertEquals(idFunction.of("e"), components.get(idFunction.of("d")));
+        assertEquals(idFunction.of("e"), components.get(idFunction.of("e")));
+        for (String trivial : new String[]{"f", "g", "h", "i"}) {
+            assertEquals(idFunction.of(trivial), components.get(idFunction.of(trivial)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchMutualReachability(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var components = run(randomGraph, concurrency);
+
+        int nodeCount = Math.toIntExact(randomGraph.nodeCount());
+        var reachable = new BitSet[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            reachable[node] = reachableFrom(randomGraph, node);
+        }
+
+        for (int node = 0; node < nodeCount; node++) {
+            long component = components.get(node);
+            assertEquals(component, components.get(component), "components are identified by one of their nodes");
+            for (int other = node + 1; other < nodeCount; other++) {
+                boolean sameComponent = reachable[node].get(other) && reachable[other].get(node);
+                assertEquals(
+                    sameComponent,
+                    component == components.get(other),
+                    formatWithLocale("nodes %d and %d", node, other)
+                );
+            }
+        }
+    }
+
+    private static HugeAtomicLongArray run(Graph graph, int concurrency) {
+        return new Scc(
+            graph,
+            Pools.DEFAULT,
+            concurrency,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+
+    private static BitSet reachableFrom(Graph graph, long start) {
+        var reachable = new BitSet(graph.nodeCount());
+        var queue = new ArrayDeque<Long>();
+        reachable.set(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            graph.forEachRelationship(queue.poll(), (source, target) -> {
+                if (!reachable.getAndSet(target)) {
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+        return reachable;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FlatNeighborListsTest {
+
+    @Test
+    void shouldBehaveLikeNeighborList() {
+        // spans multiple pages
+        var nodeCount = 2000;
+        var bound = 3;
+        var flatNeighbors = FlatNeighborLists.create(nodeCount, bound, AllocationTracker.empty());
+
+        var random = new SplittableRandom(42L);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var neighborList = new NeighborList(bound);
+            var flatRandom = new SplittableRandom(nodeId);
+            var listRandom = new SplittableRandom(nodeId);
+            for (int i = 0; i < 10; i++) {
+                var element = random.nextLong(nodeCount);
+                var priority = random.nextInt(5) / 5.0;
+                assertEquals(
+                    neighborList.add(element, priority, listRandom),
+                    flatNeighbors.add(nodeId, element, priority, flatRandom)
+                );
+            }
+
+            assertEquals(neighborList.size(), flatNeighbors.size(nodeId));
+            assertArrayEquals(neighborList.elements().toArray(), flatNeighbors.neighborsOf(nodeId).toArray());
+        }
+    }
+
+    @Test
+    void shouldFlagElementsAsChecked() {
+        var flatNeighbors = FlatNeighborLists.create(2, 2, AllocationTracker.empty());
+        var random = new SplittableRandom();
+        flatNeighbors.add(0, 1, 1.0, random);
+
+        assertEquals(1, flatNeighbors.getAndFlagAsChecked(0, 0));
+        assertEquals(NeighborList.setCheckedFlag(1), flatNeighbors.elementAt(0, 0));
+        assertArrayEquals(new long[]{1}, flatNeighbors.neighborsOf(0).toArray());
+        assertEquals(1, flatNeighbors.totalSize());
+    }
+
+    @Test
+    void shouldRejectInvalidBound() {
+        assertThrows(IllegalArgumentException.class, () -> FlatNeighborLists.create(1, 0, AllocationTracker.empty()));
+    }
+}
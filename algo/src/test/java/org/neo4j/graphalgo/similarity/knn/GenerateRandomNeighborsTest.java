@@ -24,7 +24,6 @@ import net.jqwik.api.From;
 import net.jqwik.api.Property;
 import org.eclipse.collections.api.tuple.primitive.IntIntPair;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Comparator;
 import java.util.SplittableRandom;
@@ -41,11 +40,7 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
         int nodeCount = nAndK.getOne();
         int k = nAndK.getTwo();
 
-        var allNeighbors = HugeObjectArray.newArray(
-            NeighborList.class,
-            nodeCount,
-            AllocationTracker.empty()
-        );
+        var allNeighbors = ObjectNeighborLists.create(nodeCount, k, AllocationTracker.empty());
 
         var generateRandomNeighbors = new GenerateRandomNeighbors(
             new SplittableRandom(),
@@ -61,8 +56,7 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
 
         var possibleNeighbors = LongStream.range(0, nodeCount).toArray();
         for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            var neighbors = allNeighbors.get(nodeId);
-            assertThat(neighbors.elements().toArray())
+            assertThat(allNeighbors.neighborsOf(nodeId).toArray())
                 .doesNotContain(nodeId)
                 .hasSizeLessThanOrEqualTo(k)
                 .containsAnyOf(possibleNeighbors)
@@ -41,6 +41,7 @@ import org.neo4j.graphalgo.extension.IdFunction;
 import org.neo4j.graphalgo.extension.Inject;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -182,6 +183,31 @@ class KnnTest {
         softly.assertThat(result.neighborsOf(nodeCId)).doesNotContain(nodeAId);
     }
 
+    @Test
+    void flatNeighborStorageProducesTheSameResult() {
+        var nodeCount = 100;
+        SimilarityComputer computer = (nodeId, neighborId) -> 1.0 / (1.0 + Math.abs((nodeId % 13) - (neighborId % 13)));
+
+        var objectResult = computeWithSeed(nodeCount, computer, false);
+        var flatResult = computeWithSeed(nodeCount, computer, true);
+
+        assertThat(flatResult.size()).isEqualTo(objectResult.size());
+        assertThat(flatResult.totalSimilarityPairs()).isEqualTo(objectResult.totalSimilarityPairs());
+        assertThat(flatResult.streamSimilarityResult())
+            .containsExactlyElementsOf(objectResult.streamSimilarityResult().collect(Collectors.toList()));
+    }
+
+    private Knn.Result computeWithSeed(long nodeCount, SimilarityComputer computer, boolean flatNeighborStorage) {
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(5)
+            .randomSeed(42L)
+            .concurrency(1)
+            .flatNeighborStorage(flatNeighborStorage)
+            .build();
+        return new Knn(nodeCount, knnConfig, computer, ImmutableKnnContext.builder().build()).compute();
+    }
+
     @Test
     void testReverseEmptyList() {
         var nodeCount = 42;
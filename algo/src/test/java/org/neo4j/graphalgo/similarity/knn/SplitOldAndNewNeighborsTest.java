@@ -43,15 +43,11 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
         int k = nAndK.getTwo();
         int sampledK = k / 2;
 
-        var allNeighbors = HugeObjectArray.newArray(
-            NeighborList.class,
-            nodeCount,
-            AllocationTracker.empty()
-        );
+        var allNeighbors = ObjectNeighborLists.create(nodeCount, k, AllocationTracker.empty());
 
         SplittableRandom rng = new SplittableRandom();
-        allNeighbors.setAll(nodeId -> {
-            var neighbors = new NeighborList(k);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var node = nodeId;
             LongStream.concat(
                 LongStream.range(nodeId + 1, nodeCount),
                 LongStream.range(0, nodeId)
@@ -61,11 +57,9 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
                     if (neighbor % 2 != 0) {
                         neighbor |= Long.MIN_VALUE;
                     }
-                    neighbors.add(neighbor, 1.0, rng);
+                    allNeighbors.add(node, neighbor, 1.0, rng);
                 });
-
-            return neighbors;
-        });
+        }
 
         var allOldNeighbors = HugeObjectArray.newArray(
             LongArrayList.class,
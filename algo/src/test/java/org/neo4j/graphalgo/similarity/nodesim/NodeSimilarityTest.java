@@ -29,6 +29,9 @@ import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.TestSupport;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
@@ -50,12 +53,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -145,6 +150,17 @@ final class NodeSimilarityTest {
         return Stream.of(1, 4);
     }
 
+    private static Graph powerLawGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(300)
+            .averageDegree(8)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("weight", 0, 1))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
     static {
         EXPECTED_OUTGOING.add(resultString(0, 1, 2 / 3.0));
         EXPECTED_OUTGOING.add(resultString(0, 2, 1 / 3.0));
@@ -802,5 +818,127 @@ final class NodeSimilarityTest {
         assertEquals(graph.relationshipCount(), progresses.get(0).get());
         assertEquals(concurrency == 1 ? comparisons / 2 : comparisons, progresses.get(1).get());
     }
-}
 
+    static Stream<Arguments> prunedComparisons() {
+        return TestSupport.crossArguments(
+            toArguments(() -> Stream.of(0.05, 0.1, 0.2)),
+            toArguments(() -> Stream.of(5, Integer.MAX_VALUE)),
+            toArguments(() -> Stream.of(false, true)),
+            toArguments(NodeSimilarityTest::concurrencies)
+        );
+    }
+
+    @ParameterizedTest(name = "similarityCutoff: {0}, topK: {1}, weighted: {2}, concurrency: {3}")
+    @MethodSource("prunedComparisons")
+    void shouldOnlyCompareNodesWithCommonNeighbours(double similarityCutoff, int topK, boolean weighted, int concurrency) {
+        var graph = powerLawGraph();
+
+        var configBuilder = configBuilder().topK(topK).concurrency(concurrency);
+        if (weighted) {
+            configBuilder.relationshipWeightProperty("weight");
+        }
+
+        // With a cutoff of 0, all pairs of nodes are compared.
+        // Pairs with equal similarities may end up in a top-k list in a different order,
+        // so we only compare the similarities per node if the lists are bounded.
+        Function<SimilarityResult, String> format = topK == Integer.MAX_VALUE
+            ? NodeSimilarityTest::resultString
+            : result -> formatWithLocale("%d %f", result.node1, result.similarity);
+
+        List<String> expected = new NodeSimilarity(
+            graph,
+            configBuilder.build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).computeToStream()
+            .filter(result -> result.similarity >= similarityCutoff)
+            .map(format)
+            .sorted()
+            .collect(Collectors.toList());
+
+        List<String> actual = new NodeSimilarity(
+            graph,
+            configBuilder.similarityCutoff(similarityCutoff).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).computeToStream()
+            .map(format)
+            .sorted()
+            .collect(Collectors.toList());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest(name = "concurrency = {0}")
+    @MethodSource("concurrencies")
+    void shouldApproximateSimilarities(int concurrency) {
+        var graph = powerLawGraph();
+
+        var configBuilder = configBuilder()
+            .similarityCutoff(0.2)
+            .topK(Integer.MAX_VALUE)
+            .concurrency(concurrency);
+
+        Set<String> exact = new NodeSimilarity(
+            graph,
+            configBuilder.build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        Set<String> approximate = new NodeSimilarity(
+            graph,
+            configBuilder.approximate(true).lshBands(64).lshRowsPerBand(1).randomSeed(42L).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        assertFalse(exact.isEmpty());
+        // all candidates are verified, so every reported similarity is exact
+        assertTrue(exact.containsAll(approximate));
+        // a pair with a similarity of 0.2 is a candidate with a probability of 1 - 0.8^64
+        assertTrue(approximate.size() >= 0.95 * exact.size());
+    }
+
+    @ParameterizedTest(name = "topK = {0}")
+    @ValueSource(ints = {TOP_K_DEFAULT, 100})
+    void shouldComputeMemrecForApproximation(int topK) {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000_000)
+            .maxRelCount(5_000_000)
+            .build();
+
+        NodeSimilarityWriteConfig exactConfig = ImmutableNodeSimilarityWriteConfig
+            .builder()
+            .similarityCutoff(0.0)
+            .topK(topK)
+            .writeProperty("writeProperty")
+            .writeRelationshipType("writeRelationshipType")
+            .build();
+
+        NodeSimilarityWriteConfig approximateConfig = ImmutableNodeSimilarityWriteConfig
+            .builder()
+            .similarityCutoff(0.0)
+            .topK(topK)
+            .writeProperty("writeProperty")
+            .writeRelationshipType("writeRelationshipType")
+            .approximate(true)
+            .lshBands(16)
+            .build();
+
+        MemoryTree exact = new NodeSimilarityFactory<>().memoryEstimation(exactConfig).estimate(dimensions, 1);
+        MemoryTree approximate = new NodeSimilarityFactory<>().memoryEstimation(approximateConfig).estimate(dimensions, 1);
+
+        long minHashIndex = MinHashIndex.memoryEstimation(16).estimate(dimensions, 1).memoryUsage().min;
+        assertEquals(exact.memoryUsage().add(MemoryRange.of(minHashIndex)), approximate.memoryUsage());
+    }
+}
@@ -21,6 +21,9 @@ package org.neo4j.graphalgo.wcc;
 
 import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.config.ConcurrencyConfig;
@@ -48,6 +51,10 @@ class IncrementalWccTest {
      * Create multiple communities and connect them pairwise.
      */
     static Graph createGraph() {
+        return createGraph(Orientation.NATURAL);
+    }
+
+    static Graph createGraph(Orientation orientation) {
         StringBuilder gdl = new StringBuilder();
 
         for (int i = 0; i < COMMUNITY_COUNT; i = i + 2) {
@@ -59,7 +66,7 @@ class IncrementalWccTest {
                 COMMUNITY_SIZE - 1, i + 1
             ));
         }
-        return fromGdl(gdl.toString());
+        return fromGdl(gdl.toString(), orientation);
     }
 
     static String createCommunity(int communityId) {
@@ -99,6 +106,27 @@ class IncrementalWccTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void shouldComputeComponentsFromSeedPropertyWithNeighborSampling(Orientation orientation) {
+        Graph graph = createGraph(orientation);
+
+        WccStreamConfig config = ImmutableWccStreamConfig.builder()
+            .concurrency(ConcurrencyConfig.DEFAULT_CONCURRENCY)
+            .seedProperty(SEED_PROPERTY)
+            .neighborSampleSize(1)
+            .build();
+
+        DisjointSetStruct result = run(graph, config);
+        assertEquals(COMMUNITY_COUNT / 2, getSetCount(result));
+
+        graph.forEachNode((nodeId) -> {
+            long expectedCommunityId = nodeId / (2 * COMMUNITY_SIZE) * 2;
+            assertEquals(expectedCommunityId, result.setIdOf(nodeId), "Node " + nodeId + " in unexpected set");
+            return true;
+        });
+    }
+
     @Test
     void shouldAssignMinimumCommunityIdOnMerge() {
         // Given
@@ -23,9 +23,13 @@ import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
@@ -37,6 +41,7 @@ import org.neo4j.graphalgo.core.utils.progress.EmptyProgressEventTracker;
 import org.neo4j.logging.NullLog;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -103,6 +108,50 @@ class WccTest {
         });
     }
 
+    @ParameterizedTest(name = "orientation = {0}")
+    @EnumSource(Orientation.class)
+    void shouldComputeComponentsWithNeighborSampling(Orientation orientation) {
+        var graph = createTestGraph(orientation);
+
+        DisjointSetStruct result = run(graph, ImmutableWccStreamConfig.builder().neighborSampleSize(2).build());
+
+        assertEquals(SETS_COUNT, getSetCount(result));
+        assertSamePartition(graph, run(graph), result);
+    }
+
+    @ParameterizedTest(name = "neighborSampleSize = {0}")
+    @ValueSource(ints = {1, 2, 3})
+    void shouldComputeSameComponentsWithNeighborSamplingOnRandomGraph(int neighborSampleSize) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("weight", 0.0, 1.0))
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var config = ImmutableWccStreamConfig.builder().concurrency(4).build();
+        var sampledConfig = ImmutableWccStreamConfig.builder()
+            .from(config)
+            .neighborSampleSize(neighborSampleSize)
+            .build();
+        assertSamePartition(graph, run(graph, config, 4), run(graph, sampledConfig, 4));
+
+        var thresholdConfig = ImmutableWccStreamConfig.builder()
+            .from(config)
+            .relationshipWeightProperty("weight")
+            .threshold(0.5)
+            .build();
+        var sampledThresholdConfig = ImmutableWccStreamConfig.builder()
+            .from(thresholdConfig)
+            .neighborSampleSize(neighborSampleSize)
+            .build();
+        assertSamePartition(graph, run(graph, thresholdConfig, 4), run(graph, sampledThresholdConfig, 4));
+    }
+
     @Test
     void shouldLogProgress() {
         var graph = createTestGraph(Orientation.NATURAL);
@@ -219,6 +268,19 @@ class WccTest {
         );
     }
 
+    private static void assertSamePartition(Graph graph, DisjointSetStruct expected, DisjointSetStruct actual) {
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        graph.forEachNode(nodeId -> {
+            long expectedSetId = expected.setIdOf(nodeId);
+            long actualSetId = actual.setIdOf(nodeId);
+            // both directions need to be consistent for the partitions to be equal
+            assertEquals(actualSetId, expectedToActual.computeIfAbsent(expectedSetId, id -> actualSetId).longValue());
+            assertEquals(expectedSetId, actualToExpected.computeIfAbsent(actualSetId, id -> expectedSetId).longValue());
+            return true;
+        });
+    }
+
     private static Graph createTestGraph(Orientation orientation) {
         int[] setSizes = new int[SETS_COUNT];
         Arrays.fill(setSizes, SET_SIZE);
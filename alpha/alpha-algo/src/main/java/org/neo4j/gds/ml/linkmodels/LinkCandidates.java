@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels;
+
+import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionPredictor;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.similarity.knn.ImmutableKnnBaseConfig;
+import org.neo4j.graphalgo.similarity.knn.ImmutableKnnContext;
+import org.neo4j.graphalgo.similarity.knn.Knn;
+
+import java.util.Arrays;
+
+/**
+ * Enumerates the node pairs that are scored by the link prediction model.
+ * Every unordered pair is produced at most once over all source nodes, with the smaller node id first.
+ * Pairs of nodes that are already connected are never produced.
+ * Instances are not thread-safe, each thread should use its own {@link #concurrentCopy()}.
+ */
+abstract class LinkCandidates {
+
+    // Knn requires a property name, the similarities are computed by the model instead
+    private static final String KNN_SIMILARITY = "linkPredictionProbability";
+
+    interface PairConsumer {
+        void accept(long node1, long node2);
+    }
+
+    final Graph graph;
+    final SortedNodeIds neighbors;
+
+    static LinkCandidates create(
+        LinkCandidateGeneration candidateGeneration,
+        Graph graph,
+        LinkLogisticRegressionPredictor predictor,
+        int candidateTopK,
+        int concurrency,
+        AllocationTracker tracker,
+        ProgressLogger progressLogger
+    ) {
+        switch (candidateGeneration) {
+            case ALL_PAIRS:
+                return new AllPairs(graph);
+            case TWO_HOP:
+                return new TwoHop(graph);
+            case KNN:
+                return new NearestNeighbors(
+                    graph,
+                    nearestNeighbors(graph, predictor, candidateTopK, concurrency, tracker, progressLogger)
+                );
+            default:
+                throw new IllegalArgumentException("Unexpected candidate generation: " + candidateGeneration);
+        }
+    }
+
+    private static Knn.Result nearestNeighbors(
+        Graph graph,
+        LinkLogisticRegressionPredictor predictor,
+        int topK,
+        int concurrency,
+        AllocationTracker tracker,
+        ProgressLogger progressLogger
+    ) {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty(KNN_SIMILARITY)
+            .topK(topK)
+            .concurrency(concurrency)
+            .build();
+        var context = ImmutableKnnContext.builder()
+            .tracker(tracker)
+            .log(progressLogger.getLog())
+            .eventTracker(progressLogger.eventTracker())
+            .build();
+        return new Knn(
+            graph.nodeCount(),
+            config,
+            (sourceId, targetId) -> predictor.predictedProbability(graph, sourceId, targetId),
+            context
+        ).compute();
+    }
+
+    LinkCandidates(Graph graph) {
+        this.graph = graph;
+        this.neighbors = new SortedNodeIds();
+    }
+
+    abstract void forEachCandidate(long sourceId, PairConsumer consumer);
+
+    abstract LinkCandidates concurrentCopy();
+
+    static final class AllPairs extends LinkCandidates {
+
+        AllPairs(Graph graph) {
+            super(graph);
+        }
+
+        @Override
+        void forEachCandidate(long sourceId, PairConsumer consumer) {
+            neighbors.loadNeighbors(graph, sourceId);
+            long[] neighborIds = neighbors.ids;
+            int neighborCount = neighbors.length;
+            int next = 0;
+            // since graph is undirected, only process pairs where sourceId < targetId
+            for (long targetId = sourceId + 1; targetId < graph.nodeCount(); targetId++) {
+                while (next < neighborCount && neighborIds[next] < targetId) {
+                    next++;
+                }
+                if (next < neighborCount && neighborIds[next] == targetId) {
+                    continue;
+                }
+                consumer.accept(sourceId, targetId);
+            }
+        }
+
+        @Override
+        LinkCandidates concurrentCopy() {
+            return new AllPairs(graph.concurrentCopy());
+        }
+    }
+
+    static final class TwoHop extends LinkCandidates {
+
+        private final SortedNodeIds candidates;
+
+        TwoHop(Graph graph) {
+            super(graph);
+            this.candidates = new SortedNodeIds();
+        }
+
+        @Override
+        void forEachCandidate(long sourceId, PairConsumer consumer) {
+            neighbors.loadNeighbors(graph, sourceId);
+            candidates.clear();
+            for (int i = 0; i < neighbors.length; i++) {
+                graph.forEachRelationship(neighbors.ids[i], (neighborId, targetId) -> {
+                    if (targetId > sourceId) {
+                        candidates.add(targetId);
+                    }
+                    return true;
+                });
+            }
+            candidates.sortAndDeduplicate();
+
+            for (int i = 0; i < candidates.length; i++) {
+                long targetId = candidates.ids[i];
+                if (!neighbors.contains(targetId)) {
+                    consumer.accept(sourceId, targetId);
+                }
+            }
+        }
+
+        @Override
+        LinkCandidates concurrentCopy() {
+            return new TwoHop(graph.concurrentCopy());
+        }
+    }
+
+    static final class NearestNeighbors extends LinkCandidates {
+
+        private final Knn.Result nearestNeighbors;
+
+        NearestNeighbors(Graph graph, Knn.Result nearestNeighbors) {
+            super(graph);
+            this.nearestNeighbors = nearestNeighbors;
+        }
+
+        @Override
+        void forEachCandidate(long sourceId, PairConsumer consumer) {
+            neighbors.loadNeighbors(graph, sourceId);
+            nearestNeighbors.neighborsOf(sourceId).forEach(targetId -> {
+                if (targetId == sourceId || neighbors.contains(targetId)) {
+                    return;
+                }
+                if (targetId > sourceId) {
+                    consumer.accept(sourceId, targetId);
+                } else if (nearestNeighbors.neighborsOf(targetId).noneMatch(id -> id == sourceId)) {
+                    // the pair is not produced when processing targetId
+                    consumer.accept(targetId, sourceId);
+                }
+            });
+        }
+
+        @Override
+        LinkCandidates concurrentCopy() {
+            return new NearestNeighbors(graph.concurrentCopy(), nearestNeighbors);
+        }
+    }
+
+    static final class SortedNodeIds {
+        long[] ids = new long[16];
+        int length;
+
+        void clear() {
+            length = 0;
+        }
+
+        void add(long nodeId) {
+            if (length == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[length++] = nodeId;
+        }
+
+        void loadNeighbors(Graph graph, long nodeId) {
+            clear();
+            graph.forEachRelationship(nodeId, (sourceId, targetId) -> {
+                add(targetId);
+                return true;
+            });
+            sortAndDeduplicate();
+        }
+
+        void sortAndDeduplicate() {
+            Arrays.sort(ids, 0, length);
+            int unique = 0;
+            for (int i = 0; i < length; i++) {
+                if (unique == 0 || ids[unique - 1] != ids[i]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            length = unique;
+        }
+
+        boolean contains(long nodeId) {
+            return Arrays.binarySearch(ids, 0, length, nodeId) >= 0;
+        }
+    }
+}
@@ -27,9 +27,7 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
-import java.util.HashSet;
 import java.util.function.Consumer;
-import java.util.stream.LongStream;
 
 public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, LinkPredictionResult> {
 
@@ -39,6 +37,8 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
     private final int concurrency;
     private final int topN;
     private final double threshold;
+    private final LinkCandidateGeneration candidateGeneration;
+    private final int candidateTopK;
     private final AllocationTracker tracker;
 
     LinkPredictionPredict(
@@ -50,6 +50,32 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         AllocationTracker tracker,
         ProgressLogger progressLogger,
         double threshold
+    ) {
+        this(
+            predictor,
+            graph,
+            batchSize,
+            concurrency,
+            topN,
+            tracker,
+            progressLogger,
+            threshold,
+            LinkCandidateGeneration.ALL_PAIRS,
+            0
+        );
+    }
+
+    LinkPredictionPredict(
+        LinkLogisticRegressionPredictor predictor,
+        Graph graph,
+        int batchSize,
+        int concurrency,
+        int topN,
+        AllocationTracker tracker,
+        ProgressLogger progressLogger,
+        double threshold,
+        LinkCandidateGeneration candidateGeneration,
+        int candidateTopK
     ) {
         this.predictor = predictor;
         this.graph = graph;
@@ -58,16 +84,27 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         this.topN = topN;
         this.tracker = tracker;
         this.threshold = threshold;
+        this.candidateGeneration = candidateGeneration;
+        this.candidateTopK = candidateTopK;
         this.progressLogger = progressLogger;
     }
 
     @Override
     public LinkPredictionResult compute() {
         progressLogger.logStart();
+        var candidates = LinkCandidates.create(
+            candidateGeneration,
+            graph,
+            predictor,
+            candidateTopK,
+            concurrency,
+            tracker,
+            progressLogger
+        );
         var result = new LinkPredictionResult(topN);
         var batchQueue = new BatchQueue(graph.nodeCount(), batchSize);
         batchQueue.parallelConsume(concurrency, ignore -> new LinkPredictionScoreByIdsConsumer(
-            graph.concurrentCopy(),
+            candidates.concurrentCopy(),
             predictor,
             result,
             progressLogger
@@ -86,19 +123,21 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
 
     }
 
-    private final class LinkPredictionScoreByIdsConsumer implements Consumer<Batch> {
+    private final class LinkPredictionScoreByIdsConsumer implements Consumer<Batch>, LinkCandidates.PairConsumer {
+        private final LinkCandidates candidates;
         private final Graph graph;
         private final LinkLogisticRegressionPredictor predictor;
         private final LinkPredictionResult predictedLinks;
         private final ProgressLogger progressLogger;
 
         private LinkPredictionScoreByIdsConsumer(
-            Graph graph,
+            LinkCandidates candidates,
             LinkLogisticRegressionPredictor predictor,
             LinkPredictionResult predictedLinks,
             ProgressLogger progressLogger
         ) {
-            this.graph = graph;
+            this.candidates = candidates;
+            this.graph = candidates.graph;
             this.predictor = predictor;
             this.predictedLinks = predictedLinks;
             this.progressLogger = progressLogger;
@@ -107,29 +146,16 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         @Override
         public void accept(Batch batch) {
             for (long sourceId : batch.nodeIds()) {
-                var neighbors = neighborSet(sourceId);
-                // since graph is undirected, only process pairs where sourceId < targetId
-                var smallestTarget = sourceId + 1;
-                LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
-                        if (neighbors.contains(targetId)) return;
-                        var probability = predictor.predictedProbability(graph, sourceId, targetId);
-                        if (probability < threshold) return;
-                        predictedLinks.add(sourceId, targetId, probability);
-                    }
-                );
+                candidates.forEachCandidate(sourceId, this);
             }
             progressLogger.logProgress(batch.size());
         }
 
-        private HashSet<Long> neighborSet(long sourceId) {
-            var neighbors = new HashSet<Long>();
-            graph.forEachRelationship(
-                sourceId, (src, trg) -> {
-                    neighbors.add(trg);
-                    return true;
-                }
-            );
-            return neighbors;
+        @Override
+        public void accept(long sourceId, long targetId) {
+            var probability = predictor.predictedProbability(graph, sourceId, targetId);
+            if (probability < threshold) return;
+            predictedLinks.add(sourceId, targetId, probability);
         }
     }
 }
@@ -73,7 +73,9 @@ class LinkPredictionPredictFactory extends AbstractAlgorithmFactory<LinkPredicti
             configuration.topN(),
             tracker,
             progressLogger,
-            configuration.threshold()
+            configuration.threshold(),
+            configuration.candidateGeneration(),
+            configuration.candidateTopK()
         );
     }
 
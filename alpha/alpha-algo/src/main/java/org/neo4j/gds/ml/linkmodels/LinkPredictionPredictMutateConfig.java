@@ -53,6 +53,26 @@ public interface LinkPredictionPredictMutateConfig extends AlgoBaseConfig, Mutat
         return 100;
     }
 
+    /**
+     * Restricts the scored node pairs, scoring all pairs is quadratic in the node count.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.ml.linkmodels.LinkCandidateGeneration#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.ml.linkmodels.LinkCandidateGeneration#toString")
+    default LinkCandidateGeneration candidateGeneration() {
+        return LinkCandidateGeneration.ALL_PAIRS;
+    }
+
+    /**
+     * The number of approximate nearest neighbours per node
+     * that are considered when using {@link LinkCandidateGeneration#KNN}.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int candidateTopK() {
+        return 10;
+    }
+
     static LinkPredictionPredictMutateConfig of(
         String username,
         Optional<String> graphName,
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.influenceMaximization;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.results.InfluenceMaximizationResult;
+
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Influence Maximization via Martingales (IMM), as introduced by Tang et al. in
+ * "Influence Maximization in Near-Linear Time: A Martingale Approach" (SIGMOD 2015).
+ * <p>
+ * Instead of estimating the spread of candidate seed sets with Monte-Carlo simulations,
+ * IMM samples random reverse-reachable sets and greedily picks the seeds that cover most of them.
+ * The number of samples is chosen such that the seed set is a {@code (1 - 1/e - epsilon)}
+ * approximation of the optimum with probability of at least {@code 1 - 1/n}.
+ * <p>
+ * Following Chen's correction ("An Issue in the Martingale Analysis of the Influence Maximization
+ * Algorithm IMM", 2018), the final seed set is selected from freshly drawn samples instead of
+ * reusing the ones drawn while estimating the lower bound of the optimal spread.
+ */
+public class IMM extends Algorithm<IMM, IMM> {
+
+    private static final double ONE_MINUS_INVERSE_E = 1 - 1 / Math.E;
+
+    private final Graph graph;
+    private final int seedSetCount;
+    private final double propagationProbability;
+    private final double epsilon;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+
+    private final long[] seeds;
+    private final double[] spreads;
+
+    public IMM(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        double epsilon,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.seedSetCount = (int) Math.min(seedSetCount, graph.nodeCount()); // k <= nodeCount
+        this.propagationProbability = propagationProbability;
+        this.epsilon = epsilon;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
+        this.seeds = new long[this.seedSetCount];
+        this.spreads = new double[this.seedSetCount];
+    }
+
+    @Override
+    public IMM compute() {
+        if (seedSetCount == 0) {
+            return this;
+        }
+
+        var sets = new ReverseReachableSets(
+            graph,
+            propagationProbability,
+            executorService,
+            concurrency,
+            tracker,
+            terminationFlag
+        );
+
+        double nodeCount = graph.nodeCount();
+        // the logarithms are undefined for a single node, which needs no estimation anyway
+        double logN = Math.log(Math.max(nodeCount, 2));
+        double logBinomial = logBinomial(graph.nodeCount(), seedSetCount);
+        // adjusted such that both phases together succeed with probability 1 - 1/n
+        double l = 1 + Math.log(2) / logN;
+
+        double lowerBound = estimateLowerBound(sets, nodeCount, logN, logBinomial, l);
+
+        double alpha = Math.sqrt(l * logN + Math.log(2));
+        double beta = Math.sqrt(ONE_MINUS_INVERSE_E * (logBinomial + l * logN + Math.log(2)));
+        double lambdaStar = 2 * nodeCount * Math.pow(ONE_MINUS_INVERSE_E * alpha + beta, 2) / (epsilon * epsilon);
+        long theta = (long) Math.ceil(lambdaStar / lowerBound);
+
+        sets.clear();
+        sets.sampleUntil(theta);
+        long[] coveredCounts = sets.selectSeeds(seeds);
+        for (int i = 0; i < seedSetCount; i++) {
+            spreads[i] = nodeCount * coveredCounts[i] / sets.size();
+        }
+
+        sets.release();
+        return this;
+    }
+
+    /**
+     * Estimates a lower bound of the optimal spread by statistical testing of decreasing guesses {@code n / 2^i}.
+     */
+    private double estimateLowerBound(
+        ReverseReachableSets sets,
+        double nodeCount,
+        double logN,
+        double logBinomial,
+        double l
+    ) {
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        double log2N = logN / Math.log(2);
+        double lambdaPrime = (2 + 2 * epsilonPrime / 3)
+                             * (logBinomial + l * logN + Math.log(log2N))
+                             * nodeCount / (epsilonPrime * epsilonPrime);
+
+        long[] candidates = new long[seedSetCount];
+        for (int i = 1; i < log2N; i++) {
+            double guess = nodeCount / Math.pow(2, i);
+            sets.sampleUntil((long) Math.ceil(lambdaPrime / guess));
+
+            long[] coveredCounts = sets.selectSeeds(candidates);
+            double spread = nodeCount * coveredCounts[seedSetCount - 1] / sets.size();
+            if (spread >= (1 + epsilonPrime) * guess) {
+                return spread / (1 + epsilonPrime);
+            }
+        }
+        return 1;
+    }
+
+    private static double logBinomial(long n, long k) {
+        double result = 0;
+        for (long i = 0; i < k; i++) {
+            result += Math.log((double) (n - i) / (i + 1));
+        }
+        return result;
+    }
+
+    @Override
+    public IMM me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    public double getNodeSpread(long node) {
+        for (int i = 0; i < seedSetCount; i++) {
+            if (seeds[i] == node) {
+                return spreads[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the seeds in the order they have been picked, together with the estimated
+     * spread of the seed set up to and including the respective node.
+     */
+    public Stream<InfluenceMaximizationResult> resultStream() {
+        return IntStream.range(0, seedSetCount)
+            .mapToObj(i -> new InfluenceMaximizationResult(graph.toOriginalNodeId(seeds[i]), spreads[i]));
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Random reverse-reachable (RR) sets under the Independent Cascade model.
+ * <p>
+ * An RR set is sampled by picking a uniformly random root and collecting every node that
+ * reaches it over relationships which are live with the propagation probability.
+ * The sets are stored back to back in a single {@link HugeLongArray}, delimited by an offsets array.
+ * <p>
+ * Every sample draws its randomness from a generator seeded with the index of the sample,
+ * which makes the sets independent of the concurrency and of the order in which they are generated.
+ * The seed is a full mix of the index, so the random streams of different samples do not overlap
+ * and the sets are independent of each other.
+ */
+final class ReverseReachableSets {
+
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final double propagationProbability;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+    private final TerminationFlag terminationFlag;
+
+    // incoming relationships in CSR layout, not used for undirected graphs
+    private HugeLongArray incomingOffsets;
+    private HugeLongArray incomingSources;
+
+    private HugeLongArray members;
+    private HugeLongArray offsets;
+    private long setCount;
+    private long memberCount;
+
+    // the number of samples drawn so far, including cleared ones
+    private long sampleCount;
+
+    ReverseReachableSets(
+        Graph graph,
+        double propagationProbability,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.propagationProbability = propagationProbability;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
+        this.terminationFlag = terminationFlag;
+        this.members = HugeLongArray.newArray(Math.max(nodeCount, 1), tracker);
+        this.offsets = HugeLongArray.newArray(Math.max(nodeCount, 1) + 1, tracker);
+        if (!graph.isUndirected()) {
+            indexIncomingRelationships();
+        }
+    }
+
+    long size() {
+        return setCount;
+    }
+
+    /**
+     * Samples new sets in parallel until there are at least {@code targetSize} sets.
+     */
+    void sampleUntil(long targetSize) {
+        long missing = targetSize - setCount;
+        if (missing <= 0) {
+            return;
+        }
+
+        int taskCount = (int) Math.min(concurrency, missing);
+        long batchSize = BitUtil.ceilDiv(missing, taskCount);
+        List<Sampler> samplers = new ArrayList<>(taskCount);
+        for (long start = 0; start < missing; start += batchSize) {
+            long end = Math.min(start + batchSize, missing);
+            samplers.add(new Sampler(sampleCount + start, sampleCount + end));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, samplers, terminationFlag, executorService);
+        sampleCount += missing;
+
+        long newMemberCount = memberCount;
+        for (Sampler sampler : samplers) {
+            newMemberCount += sampler.members.size();
+        }
+        ensureCapacity(targetSize, newMemberCount);
+
+        List<Runnable> copyTasks = new ArrayList<>(samplers.size());
+        long setIndex = setCount;
+        long memberIndex = memberCount;
+        for (Sampler sampler : samplers) {
+            copyTasks.add(copyTask(sampler, setIndex, memberIndex));
+            setIndex += sampler.ends.size();
+            memberIndex += sampler.members.size();
+        }
+        ParallelUtil.runWithConcurrency(concurrency, copyTasks, terminationFlag, executorService);
+
+        setCount = targetSize;
+        memberCount = newMemberCount;
+        offsets.set(setCount, memberCount);
+    }
+
+    /**
+     * Drops all sets. Samples taken afterwards are independent of the dropped ones.
+     */
+    void clear() {
+        setCount = 0;
+        memberCount = 0;
+    }
+
+    /**
+     * Greedily picks the {@code seedCount} nodes which cover the most sets,
+     * where a node covers all the sets it is a member of.
+     * The greedy choice achieves a {@code (1 - 1/e)} approximation of the maximum coverage.
+     *
+     * @return the total number of sets covered after each pick
+     */
+    long[] selectSeeds(long[] seeds) {
+        HugeLongArray setOffsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        HugeLongArray setIndices = indexSetsByMember(setOffsets);
+
+        HugeLongArray coverage = HugeLongArray.newArray(nodeCount, tracker);
+        coverage.setAll(node -> setOffsets.get(node + 1) - setOffsets.get(node));
+
+        // highest coverage first, ties are broken by the lower node id
+        HugeLongPriorityQueue queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                double costA = costValues.get(a);
+                double costB = costValues.get(b);
+                return costA != costB ? costA > costB : a < b;
+            }
+        };
+        for (long node = 0; node < nodeCount; node++) {
+            queue.add(node, coverage.get(node));
+        }
+
+        BitSet coveredSets = new BitSet(setCount);
+        long[] coveredCounts = new long[seeds.length];
+        long coveredCount = 0;
+
+        for (int i = 0; i < seeds.length; i++) {
+            // coverage only ever decreases, so a node whose cost is up to date is a best choice
+            long seed = queue.top();
+            while (queue.cost(seed) != coverage.get(seed)) {
+                queue.set(seed, coverage.get(seed));
+                seed = queue.top();
+            }
+            queue.pop();
+
+            for (long index = setOffsets.get(seed); index < setOffsets.get(seed + 1); index++) {
+                long set = setIndices.get(index);
+                if (!coveredSets.getAndSet(set)) {
+                    coveredCount++;
+                    for (long member = offsets.get(set); member < offsets.get(set + 1); member++) {
+                        coverage.addTo(members.get(member), -1);
+                    }
+                }
+            }
+
+            seeds[i] = seed;
+            coveredCounts[i] = coveredCount;
+            terminationFlag.assertRunning();
+        }
+
+        queue.release();
+        coverage.release();
+        setIndices.release();
+        setOffsets.release();
+
+        return coveredCounts;
+    }
+
+    void release() {
+        members.release();
+        offsets.release();
+        if (incomingOffsets != null) {
+            incomingOffsets.release();
+            incomingSources.release();
+        }
+    }
+
+    private HugeLongArray indexSetsByMember(HugeLongArray setOffsets) {
+        HugeAtomicLongArray cursors = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.run(PartitionUtils.rangePartition(concurrency, setCount, partition -> countMembersTask(
+            cursors,
+            partition.startNode(),
+            partition.startNode() + partition.nodeCount()
+        )), executorService);
+
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            long count = cursors.get(node);
+            setOffsets.set(node, offset);
+            cursors.set(node, offset);
+            offset += count;
+        }
+        setOffsets.set(nodeCount, offset);
+
+        HugeLongArray setIndices = HugeLongArray.newArray(Math.max(offset, 1), tracker);
+        ParallelUtil.run(PartitionUtils.rangePartition(concurrency, setCount, partition -> indexMembersTask(
+            cursors,
+            setIndices,
+            partition.startNode(),
+            partition.startNode() + partition.nodeCount()
+        )), executorService);
+
+        cursors.release();
+        return setIndices;
+    }
+
+    private Runnable countMembersTask(HugeAtomicLongArray counts, long startSet, long endSet) {
+        return () -> {
+            for (long member = offsets.get(startSet); member < offsets.get(endSet); member++) {
+                counts.getAndAdd(members.get(member), 1);
+            }
+        };
+    }
+
+    private Runnable indexMembersTask(HugeAtomicLongArray cursors, HugeLongArray setIndices, long startSet, long endSet) {
+        return () -> {
+            for (long set = startSet; set < endSet; set++) {
+                for (long member = offsets.get(set); member < offsets.get(set + 1); member++) {
+                    setIndices.set(cursors.getAndAdd(members.get(member), 1), set);
+                }
+            }
+        };
+    }
+
+    private void ensureCapacity(long setCapacity, long memberCapacity) {
+        if (offsets.size() < setCapacity + 1) {
+            offsets = offsets.copyOf(Math.max(setCapacity + 1, offsets.size() + (offsets.size() >> 1)), tracker);
+        }
+        if (members.size() < memberCapacity) {
+            members = members.copyOf(Math.max(memberCapacity, members.size() + (members.size() >> 1)), tracker);
+        }
+    }
+
+    private Runnable copyTask(Sampler sampler, long setIndex, long memberIndex) {
+        return () -> {
+            copy(sampler.members, members, memberIndex);
+            long[] ends = sampler.ends.buffer;
+            for (int i = 0; i < sampler.ends.size(); i++) {
+                offsets.set(setIndex + i, memberIndex + (i == 0 ? 0 : ends[i - 1]));
+            }
+        };
+    }
+
+    private static void copy(LongArrayList source, HugeLongArray target, long targetIndex) {
+        if (source.isEmpty()) {
+            return;
+        }
+        int sourceIndex = 0;
+        try (HugeCursor<long[]> cursor = target.initCursor(target.newCursor(), targetIndex, targetIndex + source.size())) {
+            while (cursor.next()) {
+                int length = cursor.limit - cursor.offset;
+                System.arraycopy(source.buffer, sourceIndex, cursor.array, cursor.offset, length);
+                sourceIndex += length;
+            }
+        }
+    }
+
+    /**
+     * Builds the incoming relationships of every node.
+     * The lists are filled in a single pass in order to keep their order deterministic.
+     */
+    private void indexIncomingRelationships() {
+        HugeAtomicLongArray inDegrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.run(PartitionUtils.rangePartition(concurrency, nodeCount, partition -> countIncomingTask(
+            inDegrees,
+            partition.startNode(),
+            partition.startNode() + partition.nodeCount()
+        )), executorService);
+
+        incomingOffsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            incomingOffsets.set(node, offset);
+            offset += inDegrees.get(node);
+        }
+        incomingOffsets.set(nodeCount, offset);
+        inDegrees.release();
+
+        incomingSources = HugeLongArray.newArray(Math.max(offset, 1), tracker);
+        HugeLongArray cursors = HugeLongArray.newArray(nodeCount, tracker);
+        incomingOffsets.copyTo(cursors, nodeCount);
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, (source, target) -> {
+                incomingSources.set(cursors.get(target), source);
+                cursors.addTo(target, 1);
+                return true;
+            });
+        }
+        cursors.release();
+    }
+
+    private Runnable countIncomingTask(HugeAtomicLongArray inDegrees, long startNode, long endNode) {
+        Graph localGraph = graph.concurrentCopy();
+        return () -> {
+            for (long node = startNode; node < endNode; node++) {
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    inDegrees.getAndAdd(target, 1);
+                    return true;
+                });
+            }
+        };
+    }
+
+    private final class Sampler implements Runnable {
+
+        private final long startSample;
+        private final long endSample;
+        private final Graph localGraph;
+        private final LongHashSet visited;
+
+        private final LongArrayList members;
+        // exclusive end of each set within members
+        private final LongArrayList ends;
+
+        private final SampleRandom random;
+
+        Sampler(long startSample, long endSample) {
+            this.startSample = startSample;
+            this.endSample = endSample;
+            this.localGraph = graph.concurrentCopy();
+            this.visited = new LongHashSet();
+            this.members = new LongArrayList();
+            this.ends = new LongArrayList();
+            this.random = new SampleRandom();
+        }
+
+        @Override
+        public void run() {
+            for (long sample = startSample; sample < endSample; sample++) {
+                random.reset(sample);
+                sample();
+                ends.add(members.size());
+            }
+        }
+
+        private void sample() {
+            int start = members.size();
+            long root = (long) (random.nextDouble() * nodeCount);
+            visit(root);
+
+            for (int next = start; next < members.size(); next++) {
+                long node = members.get(next);
+                if (incomingSources == null) {
+                    localGraph.forEachRelationship(node, (ignore, neighbour) -> {
+                        tryVisit(neighbour);
+                        return true;
+                    });
+                } else {
+                    for (long index = incomingOffsets.get(node); index < incomingOffsets.get(node + 1); index++) {
+                        tryVisit(incomingSources.get(index));
+                    }
+                }
+            }
+
+            for (int i = start; i < members.size(); i++) {
+                visited.remove(members.get(i));
+            }
+        }
+
+        private void tryVisit(long node) {
+            if (!visited.contains(node) && random.nextDouble() < propagationProbability) {
+                visit(node);
+            }
+        }
+
+        private void visit(long node) {
+            visited.add(node);
+            members.add(node);
+        }
+    }
+
+    /**
+     * A SplitMix64 generator for the samples of a single sampler.
+     */
+    static final class SampleRandom {
+
+        private long state;
+
+        /**
+         * Starts the stream of the given sample. Starting at a multiple of the increment would make
+         * the stream of a sample the stream of its predecessor shifted by one step.
+         */
+        void reset(long sample) {
+            state = mix64(sample);
+        }
+
+        double nextDouble() {
+            return (mix64(state += SEED_INCREMENT) >>> 11) * 0x1.0p-53;
+        }
+
+        private static long mix64(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.ml.linkmodels;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
@@ -96,6 +97,44 @@ class LinkPredictionPredictTest {
         assertThat(firstLink.targetId()).isEqualTo(4);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+        "ALL_PAIRS, 0-2;0-3;0-4;1-4;2-3;0-1",
+        "TWO_HOP, 1-4;2-3",
+        "KNN, 0-2;0-3;0-4;1-4;2-3;0-1"
+    })
+    void shouldOnlyScoreGeneratedCandidates(LinkCandidateGeneration candidateGeneration, String expectedPairs) {
+        var numberOfFeatures = 3;
+        var numberOfNodeFeatures = 2;
+        List<String> featureProperties = List.of("a", "b");
+        var modelData = LinkLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{
+                -2.0, -1.0, 3.0,
+            }, 1, numberOfFeatures)))
+            .linkFeatureCombiner(LinkFeatureCombiners.L2)
+            .nodeFeatureDimension(numberOfNodeFeatures)
+            .build();
+
+        var result = new LinkPredictionPredict(
+            new LinkLogisticRegressionPredictor(modelData, featureProperties),
+            graph,
+            1,
+            4,
+            50,
+            AllocationTracker.empty(),
+            TestProgressLogger.NULL_LOGGER,
+            0.0,
+            candidateGeneration,
+            // with topK = nodeCount - 1 the nearest neighbours are exact
+            4
+        ).compute();
+
+        var predictedPairs = result.stream()
+            .map(link -> link.sourceId() + "-" + link.targetId())
+            .collect(Collectors.toList());
+        assertThat(predictedPairs).containsExactlyInAnyOrder(expectedPairs.split(";"));
+    }
+
     @Test
     void testLogging() {
         var numberOfFeatures = 3;
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+@GdlExtension
+final class IMMTest {
+    /**
+     *     (c)-----|
+     *    /(d)\----|-|
+     *   //(e)\\---|-|-|
+     *  ///(f)\\\--|-|-|-|
+     * ////   \\\\ | | | |
+     * (a)     (b) | | | |
+     * \\\\   //// | | | |
+     *  \\\(g)///--| | | |
+     *   \\(h)//-----| | |
+     *    \(i)/--------| |
+     *     (j)-----------|
+     */
+    @GdlGraph(orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+
+        ", (a)-[:RELATIONSHIP]->(c)" +
+        ", (a)-[:RELATIONSHIP]->(d)" +
+        ", (a)-[:RELATIONSHIP]->(e)" +
+        ", (a)-[:RELATIONSHIP]->(f)" +
+        ", (a)-[:RELATIONSHIP]->(g)" +
+        ", (a)-[:RELATIONSHIP]->(h)" +
+        ", (a)-[:RELATIONSHIP]->(i)" +
+        ", (a)-[:RELATIONSHIP]->(j)" +
+
+        ", (b)-[:RELATIONSHIP]->(c)" +
+        ", (b)-[:RELATIONSHIP]->(d)" +
+        ", (b)-[:RELATIONSHIP]->(e)" +
+        ", (b)-[:RELATIONSHIP]->(f)" +
+        ", (b)-[:RELATIONSHIP]->(g)" +
+        ", (b)-[:RELATIONSHIP]->(h)" +
+        ", (b)-[:RELATIONSHIP]->(i)" +
+        ", (b)-[:RELATIONSHIP]->(j)" +
+
+        ", (c)-[:RELATIONSHIP]->(g)" +
+        ", (d)-[:RELATIONSHIP]->(h)" +
+        ", (e)-[:RELATIONSHIP]->(i)" +
+        ", (f)-[:RELATIONSHIP]->(j)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void testSpreadFirstGraph() {
+        IMM imm = new IMM(graph, 2, 0.2, 0.1, Pools.DEFAULT, 2, AllocationTracker.empty());
+        imm.compute();
+
+        assertThat(imm.resultStream().map(result -> result.nodeId))
+            .containsExactly(idFunction.of("a"), idFunction.of("b"));
+        // the spreads are estimated from the sampled sets, the expected spreads are 2.728 and 5.06432
+        assertThat(imm.getNodeSpread(idFunction.of("a"))).isCloseTo(2.728, within(0.3));
+        assertThat(imm.getNodeSpread(idFunction.of("b"))).isCloseTo(5.06432, within(0.3));
+        assertThat(imm.getNodeSpread(idFunction.of("c"))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldPickEveryNodeIfSeedSetSizeExceedsNodeCount() {
+        IMM imm = new IMM(graph, 42, 0.2, 0.5, Pools.DEFAULT, 2, AllocationTracker.empty());
+        imm.compute();
+
+        assertThat(imm.resultStream()).hasSize(10);
+        assertThat(imm.resultStream().mapToDouble(result -> result.spread).max()).hasValue(10);
+    }
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        IMM sequential = new IMM(graph, 4, 0.2, 0.1, Pools.DEFAULT, 1, AllocationTracker.empty());
+        IMM parallel = new IMM(graph, 4, 0.2, 0.1, Pools.DEFAULT, 4, AllocationTracker.empty());
+
+        assertThat(parallel.compute().resultStream().map(Object::toString).collect(Collectors.toList()))
+            .isEqualTo(sequential.compute().resultStream().map(Object::toString).collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void shouldReachEveryNodeWithCertainPropagation(Orientation orientation) {
+        Graph star = fromGdl(
+            "(center)-->(a), (center)-->(b), (center)-->(c), (center)-->(d), (center)-->(e)",
+            orientation
+        );
+        IMM imm = new IMM(star, 1, 1, 0.1, Pools.DEFAULT, 4, AllocationTracker.empty());
+        imm.compute();
+
+        assertThat(imm.resultStream().map(result -> result.nodeId)).containsExactly(0L);
+        assertThat(imm.getNodeSpread(0)).isEqualTo(6);
+    }
+}
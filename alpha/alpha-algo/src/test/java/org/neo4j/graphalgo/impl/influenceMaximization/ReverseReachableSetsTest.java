@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReverseReachableSetsTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void shouldDrawIndependentStreamsForAdjacentSamples() {
+        var random = new ReverseReachableSets.SampleRandom();
+        // the root of a sample against the first relationship coin of the previous sample
+        double[] roots = new double[SAMPLES];
+        double[] firstCoins = new double[SAMPLES];
+        for (int sample = 0; sample <= SAMPLES; sample++) {
+            random.reset(sample);
+            double root = random.nextDouble();
+            double firstCoin = random.nextDouble();
+            if (sample > 0) {
+                roots[sample - 1] = root;
+            }
+            if (sample < SAMPLES) {
+                firstCoins[sample] = firstCoin;
+            }
+        }
+
+        int equalDraws = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (roots[i] == firstCoins[i]) {
+                equalDraws++;
+            }
+        }
+        assertThat(equalDraws).isZero();
+        // the standard error of the correlation of independent uniforms is 1 / sqrt(SAMPLES)
+        assertThat(Math.abs(correlation(roots, firstCoins))).isLessThan(0.02);
+    }
+
+    @Test
+    void shouldDrawTheSameStreamForTheSameSample() {
+        var random = new ReverseReachableSets.SampleRandom();
+        random.reset(42);
+        double first = random.nextDouble();
+        double second = random.nextDouble();
+
+        random.reset(42);
+        assertThat(random.nextDouble()).isEqualTo(first);
+        assertThat(random.nextDouble()).isEqualTo(second);
+    }
+
+    private static double correlation(double[] xs, double[] ys) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < xs.length; i++) {
+            meanX += xs[i];
+            meanY += ys[i];
+        }
+        meanX /= xs.length;
+        meanY /= ys.length;
+
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double dx = xs[i] - meanX;
+            double dy = ys[i] - meanY;
+            covariance += dx * dy;
+            varianceX += dx * dx;
+            varianceY += dy * dy;
+        }
+        return covariance / Math.sqrt(varianceX * varianceY);
+    }
+}
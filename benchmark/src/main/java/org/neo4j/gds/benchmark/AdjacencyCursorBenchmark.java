@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGeneratorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the raw cursors of {@link org.neo4j.graphalgo.core.huge.TransientAdjacencyList},
+ * bypassing the consumer based API of the graph.
+ * <p>
+ * {@code decompress} measures the delta-varlong decoding of the topology,
+ * {@code advance} measures the skipping used by intersection based algorithms and
+ * {@code readProperties} measures the uncompressed property cursor.
+ */
+public class AdjacencyCursorBenchmark extends BaseGraphBenchmark {
+
+    private AdjacencyList adjacencyList;
+    private AdjacencyOffsets adjacencyOffsets;
+    private AdjacencyDegrees adjacencyDegrees;
+    private AdjacencyList propertyList;
+    private AdjacencyOffsets propertyOffsets;
+
+    private AdjacencyCursor adjacencyCursor;
+    private PropertyCursor propertyCursor;
+
+    @Override
+    protected void configureGenerator(RandomGraphGeneratorBuilder generatorBuilder) {
+        generatorBuilder.relationshipPropertyProducer(PropertyProducer.random("weight", 0, 1));
+    }
+
+    @Override
+    protected void prepare() {
+        var relationships = graph.relationships();
+        var topology = relationships.topology();
+        var properties = relationships.properties().orElseThrow();
+
+        adjacencyList = topology.list();
+        adjacencyOffsets = topology.offsets();
+        adjacencyDegrees = topology.degrees();
+        propertyList = properties.list();
+        propertyOffsets = properties.offsets();
+
+        adjacencyCursor = adjacencyList.rawDecompressingCursor();
+        propertyCursor = propertyList.rawCursor();
+    }
+
+    @Benchmark
+    public long decompress(TraversalCounters counters) {
+        long checksum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = adjacencyOffsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            adjacencyCursor.init(offset, adjacencyDegrees.degree(nodeId));
+            while (adjacencyCursor.hasNextVLong()) {
+                checksum += adjacencyCursor.nextVLong();
+            }
+        }
+        counters.visitedGraph(graph);
+        return checksum;
+    }
+
+    @Benchmark
+    public long advance(TraversalCounters counters) {
+        long checksum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = adjacencyOffsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            adjacencyCursor.init(offset, adjacencyDegrees.degree(nodeId));
+            // skip to the first neighbour with a higher id, like triangle counting does
+            checksum += adjacencyCursor.advance(nodeId);
+        }
+        counters.visitedGraph(graph);
+        return checksum;
+    }
+
+    @Benchmark
+    public long readProperties(TraversalCounters counters) {
+        long checksum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = propertyOffsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            propertyCursor.init(offset, adjacencyDegrees.degree(nodeId));
+            while (propertyCursor.hasNextLong()) {
+                checksum ^= propertyCursor.nextLong();
+            }
+        }
+        counters.visitedGraph(graph);
+        return checksum;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Base state for end-to-end algorithm runs.
+ * <p>
+ * Each invocation runs the algorithm to completion on the generated graph.
+ * The {@link TraversalCounters} report how many nodes and relationships per second
+ * the algorithm processes, which allows comparing results for different graph sizes.
+ */
+public abstract class AlgorithmBenchmark extends BaseGraphBenchmark {
+
+    @Param({"4"})
+    public int concurrency;
+}
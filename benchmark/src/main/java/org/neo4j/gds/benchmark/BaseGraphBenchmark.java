@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base state for all benchmarks that run on a generated graph.
+ * <p>
+ * The graph is created once per trial using the {@link RandomGraphGenerator}
+ * with a fixed seed, so that results are comparable across runs and releases.
+ * Graph size and shape can be changed from the command line, e.g.
+ * {@code -p nodeCount=10000000 -p averageDegree=20 -p relationshipDistribution=RANDOM}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public abstract class BaseGraphBenchmark {
+
+    static final long SEED = 42L;
+
+    @Param({"100000", "1000000"})
+    public long nodeCount;
+
+    @Param({"10", "50"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution relationshipDistribution;
+
+    protected HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setupGraph() {
+        var generatorBuilder = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(relationshipDistribution)
+            .orientation(orientation())
+            .seed(SEED)
+            .allocationTracker(AllocationTracker.empty());
+
+        configureGenerator(generatorBuilder);
+
+        graph = generatorBuilder.build().generate();
+
+        prepare();
+    }
+
+    @TearDown(Level.Trial)
+    public void releaseGraph() {
+        graph.release();
+        graph = null;
+    }
+
+    /**
+     * The orientation of the generated graph.
+     * Algorithms that expect an undirected graph, e.g. Louvain, override this.
+     */
+    protected Orientation orientation() {
+        return Orientation.NATURAL;
+    }
+
+    /**
+     * Hook to add node or relationship properties to the generated graph.
+     */
+    protected void configureGenerator(RandomGraphGeneratorBuilder generatorBuilder) {
+    }
+
+    /**
+     * Called once per trial after the graph has been generated.
+     * Use this instead of a separate {@code @Setup} method,
+     * as it is guaranteed to run after the graph is available.
+     */
+    protected void prepare() {
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.compress.LongArrayBuffer;
+import org.neo4j.graphalgo.core.loading.AdjacencyCompression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorting, delta encoding and varlong compression of single adjacency lists,
+ * the per-node work done by the {@link org.neo4j.graphalgo.core.loading.DeltaVarLongCompressor}.
+ * <p>
+ * The score is the average time to compress one adjacency list of the given degree.
+ * A small id space leads to small deltas and thus to single byte varlongs,
+ * a large id space leads to multi byte varlongs.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeltaVarLongEncodingBenchmark {
+
+    private static final int ADJACENCY_LISTS = 1024;
+
+    @Param({"10", "100", "10000"})
+    public int degree;
+
+    @Param({"100000", "1000000000"})
+    public long idSpace;
+
+    private long[][] adjacencyLists;
+    private LongArrayBuffer buffer;
+    private byte[] compressed;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(BaseGraphBenchmark.SEED);
+        adjacencyLists = new long[ADJACENCY_LISTS][];
+        for (int i = 0; i < ADJACENCY_LISTS; i++) {
+            adjacencyLists[i] = random.longs(degree, 0, idSpace).toArray();
+        }
+        buffer = new LongArrayBuffer();
+        buffer.ensureCapacity(degree);
+        // a varlong takes at most 10 bytes
+        compressed = new byte[degree * 10];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADJACENCY_LISTS)
+    public int compress() {
+        int requiredBytes = 0;
+        for (long[] targets : adjacencyLists) {
+            System.arraycopy(targets, 0, buffer.buffer, 0, degree);
+            buffer.length = degree;
+            AdjacencyCompression.applyDeltaEncoding(buffer, Aggregation.NONE);
+            requiredBytes += AdjacencyCompression.compress(buffer, compressed);
+        }
+        return requiredBytes;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.embeddings.fastrp.FastRP;
+import org.neo4j.gds.embeddings.fastrp.FastRPBaseConfig;
+import org.neo4j.gds.ml.features.FeatureExtraction;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.List;
+
+public class FastRPBenchmark extends AlgorithmBenchmark {
+
+    @Param({"256"})
+    public int embeddingDimension;
+
+    private FastRPBaseConfig config;
+
+    @Override
+    protected void prepare() {
+        config = FastRPBaseConfig.builder()
+            .concurrency(concurrency)
+            .embeddingDimension(embeddingDimension)
+            .randomSeed(SEED)
+            .build();
+    }
+
+    @Benchmark
+    public FastRP.FastRPResult fastRP(TraversalCounters counters) {
+        var result = new FastRP(
+            graph,
+            config,
+            FeatureExtraction.propertyExtractors(graph, List.of()),
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+
+        for (int i = 0; i < config.iterations(); i++) {
+            counters.visitedGraph(graph);
+        }
+        return result;
+    }
+}
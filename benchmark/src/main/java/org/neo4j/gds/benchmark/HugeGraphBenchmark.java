@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGeneratorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the public traversal and lookup API of {@link org.neo4j.graphalgo.core.huge.HugeGraph}.
+ * <p>
+ * The traversal benchmarks visit every relationship of the graph once per invocation
+ * and report nodes/s and relationships/s via {@link TraversalCounters}.
+ * The lookup benchmarks report the average time of a single point lookup,
+ * half of them hitting an existing relationship.
+ */
+public class HugeGraphBenchmark extends BaseGraphBenchmark {
+
+    private static final int LOOKUPS = 10_000;
+
+    @Param({"false", "true"})
+    public boolean weighted;
+
+    private long[] lookupSources;
+    private long[] lookupTargets;
+
+    @Override
+    protected void configureGenerator(RandomGraphGeneratorBuilder generatorBuilder) {
+        if (weighted) {
+            generatorBuilder.relationshipPropertyProducer(PropertyProducer.random("weight", 0, 1));
+        }
+    }
+
+    @Override
+    protected void prepare() {
+        var random = new SplittableRandom(SEED);
+        lookupSources = new long[LOOKUPS];
+        lookupTargets = new long[LOOKUPS];
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            long source = random.nextLong(nodeCount);
+            int degree = graph.degree(source);
+            long target = (i % 2 == 0 && degree > 0)
+                ? graph.getTarget(source, random.nextInt(degree))
+                : random.nextLong(nodeCount);
+            lookupSources[i] = source;
+            lookupTargets[i] = target;
+        }
+    }
+
+    @Benchmark
+    public void forEachRelationship(TraversalCounters counters, Blackhole blackhole) {
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                blackhole.consume(targetNodeId);
+                return true;
+            });
+            return true;
+        });
+        counters.visitedGraph(graph);
+    }
+
+    @Benchmark
+    public void forEachRelationshipWithProperty(TraversalCounters counters, Blackhole blackhole) {
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, property) -> {
+                blackhole.consume(property);
+                return true;
+            });
+            return true;
+        });
+        counters.visitedGraph(graph);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public void exists(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(graph.exists(lookupSources[i], lookupTargets[i]));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public void relationshipProperty(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(graph.relationshipProperty(lookupSources[i], lookupTargets[i], Double.NaN));
+        }
+    }
+}
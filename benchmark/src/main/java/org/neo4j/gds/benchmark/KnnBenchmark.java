@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.graphalgo.similarity.knn.ImmutableKnnBaseConfig;
+import org.neo4j.graphalgo.similarity.knn.Knn;
+import org.neo4j.graphalgo.similarity.knn.KnnBaseConfig;
+import org.neo4j.graphalgo.similarity.knn.KnnContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Runs Knn on a scalar node property and on float array embeddings,
+ * the latter having the size of typical FastRP embeddings.
+ */
+public class KnnBenchmark extends AlgorithmBenchmark {
+
+    private static final String SCALAR_PROPERTY = "scalar";
+    private static final String EMBEDDING_PROPERTY = "embedding";
+    private static final int EMBEDDING_DIMENSION = 256;
+
+    @Param({SCALAR_PROPERTY, EMBEDDING_PROPERTY})
+    public String nodeProperty;
+
+    @Param({"10"})
+    public int topK;
+
+    @Param({"false", "true"})
+    public boolean flatNeighborStorage;
+
+    private KnnBaseConfig config;
+
+    @Override
+    protected void configureGenerator(RandomGraphGeneratorBuilder generatorBuilder) {
+        if (nodeProperty.equals(EMBEDDING_PROPERTY)) {
+            generatorBuilder.nodePropertyProducer(PropertyProducer.randomEmbeddings(
+                EMBEDDING_PROPERTY,
+                EMBEDDING_DIMENSION,
+                -1.0f,
+                1.0f
+            ));
+        } else {
+            generatorBuilder.nodePropertyProducer(PropertyProducer.random(SCALAR_PROPERTY, 0.0, 1.0));
+        }
+    }
+
+    @Override
+    protected void prepare() {
+        config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty(nodeProperty)
+            .concurrency(concurrency)
+            .topK(topK)
+            .flatNeighborStorage(flatNeighborStorage)
+            .build();
+    }
+
+    @Benchmark
+    public Knn.Result knn(TraversalCounters counters) {
+        var knn = new Knn(graph, config, KnnContext.empty());
+        var result = knn.compute();
+        knn.release();
+
+        counters.visitedGraph(graph);
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.similarity.nodesim.ImmutableNodeSimilarityStreamConfig;
+import org.neo4j.graphalgo.similarity.nodesim.NodeSimilarity;
+import org.neo4j.graphalgo.similarity.nodesim.NodeSimilarityStreamConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+public class NodeSimilarityBenchmark extends AlgorithmBenchmark {
+
+    @Param({"10"})
+    public int topK;
+
+    private NodeSimilarityStreamConfig config;
+
+    @Override
+    protected void prepare() {
+        config = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(concurrency)
+            .topK(topK)
+            .build();
+    }
+
+    @Benchmark
+    public long nodeSimilarity(TraversalCounters counters) {
+        var nodeSimilarity = new NodeSimilarity(
+            graph,
+            config,
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        long similarityPairs = nodeSimilarity.computeToStream().count();
+        nodeSimilarity.release();
+
+        counters.visitedGraph(graph);
+        return similarityPairs;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.progress.EmptyProgressEventTracker;
+import org.neo4j.graphalgo.pagerank.ImmutablePageRankConfig;
+import org.neo4j.graphalgo.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.graphalgo.pagerank.PageRankConfig;
+import org.neo4j.graphalgo.pagerank.PageRankResult;
+import org.neo4j.logging.NullLog;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class PageRankBenchmark extends AlgorithmBenchmark {
+
+    private PageRankConfig config;
+
+    @Override
+    protected void prepare() {
+        config = ImmutablePageRankConfig.builder()
+            .concurrency(concurrency)
+            .maxIterations(20)
+            .tolerance(0.0)
+            .build();
+    }
+
+    @Benchmark
+    public PageRankResult pageRank(TraversalCounters counters) {
+        var result = new PageRankAlgorithmFactory<>()
+            .build(graph, config, AllocationTracker.empty(), NullLog.getInstance(), EmptyProgressEventTracker.INSTANCE)
+            .compute();
+
+        for (int i = 0; i < result.iterations(); i++) {
+            counters.visitedGraph(graph);
+        }
+        return result;
+    }
+}
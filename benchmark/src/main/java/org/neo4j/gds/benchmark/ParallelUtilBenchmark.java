@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks the scheduling overhead of {@link ParallelUtil#runWithConcurrency}
+ * for many small tasks, which is the pattern used by most algorithms.
+ * <p>
+ * Every task sums a slice of a shared array, so the total work is
+ * independent of the number of tasks and only the scheduling overhead varies.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelUtilBenchmark {
+
+    private static final int WORK_SIZE = 1 << 22;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"16", "1024", "65536"})
+    public int taskCount;
+
+    private long[] values;
+    private AtomicLong result;
+    private List<Runnable> tasks;
+
+    @Setup
+    public void setup() {
+        values = new long[WORK_SIZE];
+        for (int i = 0; i < WORK_SIZE; i++) {
+            values[i] = i;
+        }
+        result = new AtomicLong();
+
+        int sliceSize = Math.max(1, WORK_SIZE / taskCount);
+        tasks = new ArrayList<>(taskCount);
+        for (int start = 0; start < WORK_SIZE; start += sliceSize) {
+            int from = start;
+            int to = Math.min(WORK_SIZE, start + sliceSize);
+            tasks.add(() -> {
+                long sum = 0L;
+                for (int i = from; i < to; i++) {
+                    sum += values[i];
+                }
+                result.addAndGet(sum);
+            });
+        }
+    }
+
+    @Benchmark
+    public long runWithConcurrency() {
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+        return result.get();
+    }
+}
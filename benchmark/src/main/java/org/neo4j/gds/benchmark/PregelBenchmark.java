@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.beta.pregel.ImmutablePregelConfig;
+import org.neo4j.graphalgo.beta.pregel.Messages;
+import org.neo4j.graphalgo.beta.pregel.NodeValue;
+import org.neo4j.graphalgo.beta.pregel.Partitioning;
+import org.neo4j.graphalgo.beta.pregel.Pregel;
+import org.neo4j.graphalgo.beta.pregel.PregelComputation;
+import org.neo4j.graphalgo.beta.pregel.PregelConfig;
+import org.neo4j.graphalgo.beta.pregel.PregelResult;
+import org.neo4j.graphalgo.beta.pregel.PregelSchema;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
+import org.neo4j.graphalgo.beta.pregel.context.ComputeContext;
+import org.neo4j.graphalgo.beta.pregel.context.InitContext;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.Optional;
+
+/**
+ * Benchmarks the superstep loop of {@link Pregel} independent of a specific algorithm.
+ * <p>
+ * Every node sends its value divided by its degree to all neighbours in every superstep
+ * and never votes to halt, so each superstep visits every node and every relationship.
+ * The counters therefore report nodes/s and relationships/s over all supersteps.
+ * <p>
+ * The {@code nodeValueAccess} parameter compares accessing node values by property key
+ * with accessing them through handles that are resolved once during initialization.
+ */
+public class PregelBenchmark extends AlgorithmBenchmark {
+
+    public enum MessengerType {
+        SYNC_QUEUES,
+        ASYNC_QUEUES,
+        REDUCING
+    }
+
+    public enum NodeValueAccess {
+        KEY,
+        HANDLE
+    }
+
+    @Param({"10"})
+    public int maxIterations;
+
+    @Param({"RANGE", "AUTO"})
+    public Partitioning partitioning;
+
+    @Param({"SYNC_QUEUES", "ASYNC_QUEUES", "REDUCING"})
+    public MessengerType messenger;
+
+    @Param({"KEY", "HANDLE"})
+    public NodeValueAccess nodeValueAccess;
+
+    private PregelConfig config;
+    private PregelComputation<PregelConfig> computation;
+
+    @Override
+    protected void prepare() {
+        config = ImmutablePregelConfig.builder()
+            .maxIterations(maxIterations)
+            .concurrency(concurrency)
+            .partitioning(partitioning)
+            .isAsynchronous(messenger == MessengerType.ASYNC_QUEUES)
+            .build();
+
+        var useHandles = nodeValueAccess == NodeValueAccess.HANDLE;
+        computation = messenger == MessengerType.REDUCING
+            ? new ReducingPropagation(useHandles)
+            : new Propagation(useHandles);
+    }
+
+    @Benchmark
+    public PregelResult superstepLoop(TraversalCounters counters) {
+        var pregel = Pregel.create(
+            graph,
+            config,
+            computation,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        );
+        var result = pregel.run();
+        pregel.release();
+
+        for (int i = 0; i < result.ranIterations(); i++) {
+            counters.visitedGraph(graph);
+        }
+        return result;
+    }
+
+    static class Propagation implements PregelComputation<PregelConfig> {
+
+        static final String VALUE = "value";
+
+        private final boolean useHandles;
+        private NodeValue.DoubleHandle valueHandle;
+
+        Propagation(boolean useHandles) {
+            this.useHandles = useHandles;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(VALUE, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            if (useHandles) {
+                this.valueHandle = context.doubleHandle(VALUE);
+                context.setNodeValue(valueHandle, 0.0);
+            } else {
+                context.setNodeValue(VALUE, 0.0);
+            }
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            double value;
+            if (context.isInitialSuperstep()) {
+                value = 1.0;
+            } else {
+                value = 0.0;
+                var iterator = messages.doubleIterator();
+                while (iterator.hasNext()) {
+                    value += iterator.nextDouble();
+                }
+            }
+            if (useHandles) {
+                context.setNodeValue(valueHandle, context.doubleNodeValue(valueHandle) + value);
+            } else {
+                context.setNodeValue(VALUE, context.doubleNodeValue(VALUE) + value);
+            }
+
+            int degree = context.degree();
+            if (degree > 0) {
+                context.sendToNeighbors(value / degree);
+            }
+        }
+    }
+
+    static class ReducingPropagation extends Propagation {
+
+        ReducingPropagation(boolean useHandles) {
+            super(useHandles);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Sum());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the relationship import pipeline, i.e. buffering, sorting and
+ * compressing adjacency lists through the {@link org.neo4j.graphalgo.core.loading.DeltaVarLongCompressor}.
+ * <p>
+ * The relationships are read from the generated graph, so the score includes
+ * decompressing the input, which is measured separately in {@link AdjacencyCursorBenchmark}.
+ */
+public class RelationshipImportBenchmark extends BaseGraphBenchmark {
+
+    @Benchmark
+    public Relationships importRelationships(TraversalCounters counters) {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graph.idMap())
+            .orientation(orientation())
+            .tracker(AllocationTracker.empty())
+            .build();
+
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                relationshipsBuilder.addFromInternal(sourceNodeId, targetNodeId);
+                return true;
+            });
+            return true;
+        });
+
+        var relationships = relationshipsBuilder.build();
+        counters.visitedGraph(graph);
+        return relationships;
+    }
+}
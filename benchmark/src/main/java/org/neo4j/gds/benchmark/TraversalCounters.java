@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary metrics reported next to the primary score of a benchmark.
+ * <p>
+ * In throughput mode, JMH reports these counters as nodes/s and relationships/s,
+ * which makes results comparable across different graph sizes.
+ * The time per node is the reciprocal of the nodes/s score.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class TraversalCounters {
+
+    public long nodes;
+    public long relationships;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        nodes = 0;
+        relationships = 0;
+    }
+
+    void visitedGraph(Graph graph) {
+        nodes += graph.nodeCount();
+        relationships += graph.relationshipCount();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.graphalgo.wcc.ImmutableWccStreamConfig;
+import org.neo4j.graphalgo.wcc.Wcc;
+import org.neo4j.graphalgo.wcc.WccStreamConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class WccBenchmark extends AlgorithmBenchmark {
+
+    private WccStreamConfig config;
+
+    @Override
+    protected void prepare() {
+        config = ImmutableWccStreamConfig.builder()
+            .concurrency(concurrency)
+            .build();
+    }
+
+    @Benchmark
+    public DisjointSetStruct wcc(TraversalCounters counters) {
+        var components = new Wcc(
+            graph,
+            Pools.DEFAULT,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            config,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+
+        counters.visitedGraph(graph);
+        return components;
+    }
+}
@@ -26,7 +26,12 @@ import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.compress.CompressedProperties;
+import org.neo4j.graphalgo.core.huge.DoubleCodecAdjacencyList;
+import org.neo4j.graphalgo.core.huge.OffHeapAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencySkipIndex;
 import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.loading.CompactDoubleCodec;
 import org.neo4j.graphalgo.core.loading.IdsAndProperties;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
@@ -67,18 +72,28 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
 
             RelationshipProjection projection = relationshipsBuilder.projection();
 
-            relationships.put(
-                relationshipType,
-                ImmutableTopology.of(
-                    adjacency.adjacencyDegrees(),
-                    adjacency.adjacencyList(),
-                    adjacency.adjacencyOffsets(),
-                    relationshipCount,
-                    projection.orientation(),
-                    projection.isMultiGraph()
-                )
+            var topology = ImmutableTopology.of(
+                adjacency.adjacencyDegrees(),
+                maybeMoveOffHeap(adjacency.adjacencyList(), tracker),
+                adjacency.adjacencyOffsets(),
+                relationshipCount,
+                projection.orientation(),
+                projection.isMultiGraph()
             );
 
+            if (graphCreateConfig.adjacencySkipIndex() && adjacency.adjacencyList() instanceof TransientAdjacencyList) {
+                topology = topology.withSkipIndex(TransientAdjacencySkipIndex.build(
+                    idsAndProperties.idMap().nodeCount(),
+                    (TransientAdjacencyList) adjacency.adjacencyList(),
+                    adjacency.adjacencyOffsets(),
+                    adjacency.adjacencyDegrees(),
+                    graphCreateConfig.readConcurrency(),
+                    tracker
+                ));
+            }
+
+            relationships.put(relationshipType, topology);
+
             if (!projection.properties().isEmpty()) {
                 relationshipPropertyStores.put(
                     relationshipType,
@@ -86,7 +101,9 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
                         projection,
                         adjacency.adjacencyDegrees(),
                         properties,
-                        relationshipCount
+                        relationshipCount,
+                        idsAndProperties.idMap().nodeCount(),
+                        tracker
                     )
                 );
             }
@@ -107,7 +124,9 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
         RelationshipProjection projection,
         AdjacencyDegrees degrees,
         Iterable<CompressedProperties> properties,
-        long relationshipCount
+        long relationshipCount,
+        long nodeCount,
+        AllocationTracker tracker
     ) {
         PropertyMappings propertyMappings = projection.properties();
         RelationshipPropertyStore.Builder propertyStoreBuilder = RelationshipPropertyStore.builder();
@@ -121,7 +140,7 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
                     propertyMapping.propertyKey(),
                     NumberType.FLOATING_POINT,
                     GraphStore.PropertyState.PERSISTENT,
-                    ImmutableProperties.of(
+                    compressOrMoveOffHeap(ImmutableProperties.of(
                         degrees,
                         compressedProperties.adjacencyList(),
                         compressedProperties.adjacencyOffsets(),
@@ -130,7 +149,7 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
                         projection.isMultiGraph(),
                         // This is fine because relationships currently only support doubles
                         propertyMapping.defaultValue().doubleValue()
-                    ),
+                    ), nodeCount, tracker),
                     propertyMapping.defaultValue().isUserDefined()
                         ? propertyMapping.defaultValue()
                         : ValueType.fromNumberType(NumberType.FLOATING_POINT).fallbackValue(),
@@ -142,6 +161,30 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
         return propertyStoreBuilder.build();
     }
 
+    private Relationships.Properties compressOrMoveOffHeap(
+        ImmutableProperties properties,
+        long nodeCount,
+        AllocationTracker tracker
+    ) {
+        if (graphCreateConfig.compressRelationshipProperties()) {
+            return DoubleCodecAdjacencyList.compress(
+                properties,
+                nodeCount,
+                CompactDoubleCodec.instance(),
+                graphCreateConfig.readConcurrency(),
+                tracker
+            );
+        }
+        return properties.withList(maybeMoveOffHeap(properties.list(), tracker));
+    }
+
+    private AdjacencyList maybeMoveOffHeap(AdjacencyList adjacencyList, AllocationTracker tracker) {
+        if (graphCreateConfig.offHeapAdjacency() && adjacencyList instanceof TransientAdjacencyList) {
+            return OffHeapAdjacencyList.moveFrom((TransientAdjacencyList) adjacencyList, tracker);
+        }
+        return adjacencyList;
+    }
+
     protected void logLoadingSummary(GraphStore graphStore, Optional<AllocationTracker> tracker) {
         tracker.ifPresent(progressLogger::logMessage);
 
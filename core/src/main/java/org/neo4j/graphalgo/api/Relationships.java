@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.api;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -102,6 +103,9 @@ public interface Relationships {
         Orientation orientation();
 
         boolean isMultiGraph();
+
+        @Value.Parameter(false)
+        Optional<AdjacencySkipIndex> skipIndex();
     }
 
     @ValueClass
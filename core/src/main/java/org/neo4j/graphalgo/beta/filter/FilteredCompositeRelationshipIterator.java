@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
+
+import java.util.function.Predicate;
+
+import static org.neo4j.graphalgo.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * Iterates the relationships of a single type of a filtered graph view.
+ * <p>
+ * The iterator reads the adjacency and property lists of the parent graph store,
+ * translates node ids into the id space of the view and skips all relationships
+ * whose target node has been filtered out or that do not satisfy the relationship predicate.
+ * The predicate is evaluated on all properties of the relationship type, whereas
+ * consumers only receive the values of the requested {@link #propertyKeys()}.
+ */
+final class FilteredCompositeRelationshipIterator implements CompositeRelationshipIterator {
+
+    private final CompositeRelationshipIterator parentIterator;
+    private final FilteredNodeMapping nodes;
+    private final Predicate<double[]> relationshipPredicate;
+    private final String[] propertyKeys;
+    private final int[] propertyIndices;
+    private final double[] propertyBuffer;
+
+    FilteredCompositeRelationshipIterator(
+        CompositeRelationshipIterator parentIterator,
+        FilteredNodeMapping nodes,
+        Predicate<double[]> relationshipPredicate,
+        String[] propertyKeys,
+        int[] propertyIndices
+    ) {
+        assert propertyKeys.length == propertyIndices.length;
+
+        this.parentIterator = parentIterator;
+        this.nodes = nodes;
+        this.relationshipPredicate = relationshipPredicate;
+        this.propertyKeys = propertyKeys;
+        this.propertyIndices = propertyIndices;
+        this.propertyBuffer = new double[propertyKeys.length];
+    }
+
+    /**
+     * Returns the number of relationships of the given node that are part of the view.
+     * In contrast to the parent graph, the degree is not stored and is computed by
+     * iterating the relationships of the node.
+     */
+    @Override
+    public int degree(long nodeId) {
+        var parentNodeId = nodes.toParentNodeId(nodeId);
+        if (parentIterator.degree(parentNodeId) == 0) {
+            return 0;
+        }
+
+        int[] degree = {0};
+        parentIterator.forEachRelationship(parentNodeId, (source, target, properties) -> {
+            if (nodes.fromParentNodeId(target) != NOT_FOUND && relationshipPredicate.test(properties)) {
+                degree[0]++;
+            }
+            return true;
+        });
+        return degree[0];
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+        parentIterator.forEachRelationship(nodes.toParentNodeId(nodeId), (source, target, properties) -> {
+            var viewTarget = nodes.fromParentNodeId(target);
+            if (viewTarget == NOT_FOUND || !relationshipPredicate.test(properties)) {
+                return true;
+            }
+            for (int i = 0; i < propertyIndices.length; i++) {
+                propertyBuffer[i] = properties[propertyIndices[i]];
+            }
+            return consumer.consume(nodeId, viewTarget, propertyBuffer);
+        });
+    }
+
+    @Override
+    public String[] propertyKeys() {
+        return propertyKeys;
+    }
+
+    @Override
+    public FilteredCompositeRelationshipIterator concurrentCopy() {
+        return new FilteredCompositeRelationshipIterator(
+            parentIterator.concurrentCopy(),
+            nodes,
+            relationshipPredicate,
+            propertyKeys,
+            propertyIndices
+        );
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphAdapter;
+import org.neo4j.graphalgo.api.ImmutableRelationshipCursor;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A graph of a filtered graph view. Nodes and relationships are read from the parent graph store
+ * and filtered on the fly, see {@link FilteredCompositeRelationshipIterator}.
+ * <p>
+ * The parent graph, which is created for the same relationship types, is only used
+ * to look up node properties and the orientation of the relationships. The graph never releases any parent data structures.
+ */
+final class FilteredGraph extends GraphAdapter {
+
+    private final GraphSchema schema;
+    private final FilteredNodeMapping nodes;
+    private final List<RelationshipType> relationshipTypes;
+    private final List<FilteredCompositeRelationshipIterator> relationshipIterators;
+    private final int concurrency;
+
+    private long relationshipCount;
+
+    FilteredGraph(
+        Graph parentGraph,
+        GraphSchema schema,
+        FilteredNodeMapping nodes,
+        List<RelationshipType> relationshipTypes,
+        List<FilteredCompositeRelationshipIterator> relationshipIterators,
+        int concurrency,
+        long relationshipCount
+    ) {
+        super(parentGraph);
+        assert relationshipTypes.size() == relationshipIterators.size();
+        this.schema = schema;
+        this.nodes = nodes;
+        this.relationshipTypes = relationshipTypes;
+        this.relationshipIterators = relationshipIterators;
+        this.concurrency = concurrency;
+        this.relationshipCount = relationshipCount;
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return schema;
+    }
+
+    @Override
+    public boolean hasRelationshipProperty() {
+        return !relationshipIterators.isEmpty() && relationshipIterators.get(0).propertyKeys().length > 0;
+    }
+
+    /**
+     * Returns the number of relationships in the view.
+     * If the count is not known upfront, it is computed by iterating all relationships once.
+     */
+    @Override
+    public long relationshipCount() {
+        if (relationshipCount < 0) {
+            var count = 0L;
+            for (var relationshipIterator : relationshipIterators) {
+                count += countRelationships(nodes.nodeCount(), relationshipIterator, concurrency, Pools.DEFAULT);
+            }
+            relationshipCount = count;
+        }
+        return relationshipCount;
+    }
+
+    static long countRelationships(
+        long nodeCount,
+        FilteredCompositeRelationshipIterator iterator,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var relationshipCount = new LongAdder();
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> {
+            var localIterator = iterator.concurrentCopy();
+            return (Runnable) () -> partition.consume(nodeId -> relationshipCount.add(localIterator.degree(nodeId)));
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return relationshipCount.sum();
+    }
+
+    // Nodes
+
+    @Override
+    public long nodeCount() {
+        return nodes.nodeCount();
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return nodes.rootNodeCount();
+    }
+
+    @Override
+    public long highestNeoId() {
+        return nodes.highestNeoId();
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        return nodes.toMappedNodeId(nodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return nodes.toOriginalNodeId(nodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodes.toRootNodeId(nodeId);
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return nodes.contains(nodeId);
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        nodes.forEachNode(consumer);
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return nodes.nodeIterator();
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return nodes.batchIterables(batchSize);
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        return nodes.nodeLabels(nodeId);
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        nodes.forEachNodeLabel(nodeId, consumer);
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return nodes.availableNodeLabels();
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return nodes.hasLabel(nodeId, label);
+    }
+
+    @Override
+    public NodeProperties nodeProperties(String propertyKey) {
+        var properties = graph.nodeProperties(propertyKey);
+        return properties == null ? null : new ViewNodeProperties(properties, nodes);
+    }
+
+    // Relationships
+
+    @Override
+    public int degree(long nodeId) {
+        var degree = 0;
+        for (var relationshipIterator : relationshipIterators) {
+            degree += relationshipIterator.degree(nodeId);
+        }
+        return degree;
+    }
+
+    @Override
+    public int degreeWithoutParallelRelationships(long nodeId) {
+        if (!isMultiGraph()) {
+            return degree(nodeId);
+        }
+        var targets = new LongHashSet();
+        forEachRelationship(nodeId, (source, target) -> {
+            targets.add(target);
+            return true;
+        });
+        return targets.size();
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+        for (var relationshipIterator : relationshipIterators) {
+            relationshipIterator.forEachRelationship(
+                nodeId,
+                (source, target, properties) -> consumer.accept(source, target)
+            );
+        }
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        for (var relationshipIterator : relationshipIterators) {
+            if (relationshipIterator.propertyKeys().length == 0) {
+                relationshipIterator.forEachRelationship(
+                    nodeId,
+                    (source, target, properties) -> consumer.accept(source, target, fallbackValue)
+                );
+            } else {
+                relationshipIterator.forEachRelationship(
+                    nodeId,
+                    (source, target, properties) -> consumer.accept(source, target, properties[0])
+                );
+            }
+        }
+    }
+
+    @Override
+    public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
+        var relationships = new ArrayList<RelationshipCursor>();
+        forEachRelationship(nodeId, fallbackValue, (source, target, property) -> {
+            relationships.add(ImmutableRelationshipCursor.of(source, target, property));
+            return true;
+        });
+        return relationships.stream();
+    }
+
+    @Override
+    public long getTarget(long nodeId, long index) {
+        var consumer = new HugeGraph.GetTargetConsumer(index);
+        forEachRelationship(nodeId, consumer);
+        return consumer.target;
+    }
+
+    @Override
+    public boolean exists(long sourceNodeId, long targetNodeId) {
+        var consumer = new HugeGraph.ExistsConsumer(targetNodeId);
+        forEachRelationship(sourceNodeId, consumer);
+        return consumer.found;
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId) {
+        return relationshipProperty(sourceNodeId, targetNodeId, Double.NaN);
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId, double fallbackValue) {
+        double[] value = {fallbackValue};
+        forEachRelationship(sourceNodeId, fallbackValue, (source, target, property) -> {
+            if (target == targetNodeId) {
+                value[0] = property;
+                return false;
+            }
+            return true;
+        });
+        return value[0];
+    }
+
+    @Override
+    public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
+        if (relationshipTypes.isEmpty() || relationshipTypes.containsAll(this.relationshipTypes)) {
+            return this;
+        }
+
+        var filteredTypes = new ArrayList<RelationshipType>();
+        var filteredIterators = new ArrayList<FilteredCompositeRelationshipIterator>();
+        for (int i = 0; i < this.relationshipTypes.size(); i++) {
+            if (relationshipTypes.contains(this.relationshipTypes.get(i))) {
+                filteredTypes.add(this.relationshipTypes.get(i));
+                filteredIterators.add(relationshipIterators.get(i));
+            }
+        }
+        return new FilteredGraph(
+            graph,
+            schema.filterRelationshipTypes(relationshipTypes),
+            nodes,
+            filteredTypes,
+            filteredIterators,
+            concurrency,
+            -1L
+        );
+    }
+
+    @Override
+    public FilteredGraph concurrentCopy() {
+        return new FilteredGraph(
+            graph,
+            schema,
+            nodes,
+            relationshipTypes,
+            relationshipIterators
+                .stream()
+                .map(FilteredCompositeRelationshipIterator::concurrentCopy)
+                .collect(Collectors.toList()),
+            concurrency,
+            relationshipCount
+        );
+    }
+
+    // The parent graph store owns all data structures.
+
+    @Override
+    public void canRelease(boolean canRelease) {
+    }
+
+    @Override
+    public void release() {
+    }
+
+    @Override
+    public void releaseTopology() {
+    }
+
+    @Override
+    public void releaseProperties() {
+    }
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+import org.neo4j.graphalgo.beta.filter.expression.Expression;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler;
+import org.neo4j.graphalgo.core.ProcedureConstants;
+import org.neo4j.graphalgo.core.loading.DeletionResult;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TimeUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.utils.StringJoining;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.singletonList;
+import static org.neo4j.graphalgo.core.StringSimilarity.prettySuggestions;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A read-only view on a subgraph of another graph store.
+ * <p>
+ * In contrast to {@link GraphStoreFilter#filter}, the view does not copy the topology or any properties.
+ * It only stores the mapping between its own nodes and the nodes of the parent graph store.
+ * Relationships are read from the adjacency lists of the parent and filtered on the fly using
+ * the node mapping and the compiled relationship predicate, node properties are read from the parent.
+ * This makes creating a view cheap at the expense of slower relationship traversals.
+ * <p>
+ * The view can not be mutated. A mutable copy can be materialized by filtering the view
+ * using {@link GraphStoreFilter#filter}. The parent graph store must not be released
+ * as long as the view is in use.
+ */
+public final class FilteredGraphStore implements GraphStore {
+
+    public static final String READ_ONLY_MESSAGE =
+        "Filtered graph views are read-only. Create a materialized subgraph to modify it.";
+
+    private final GraphStore parent;
+    private final FilteredNodeMapping nodes;
+    private final Map<RelationshipType, RelationshipFilter> relationshipFilters;
+    private final int concurrency;
+    private final ZonedDateTime modificationTime;
+
+    static FilteredGraphStore of(
+        GraphStore parent,
+        Expression nodeExpression,
+        Expression relationshipExpression,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        progressLogger.startSubTask("Nodes").reset(parent.nodeCount());
+        var nodes = FilteredNodeMapping.of(
+            parent.nodes(),
+            ExpressionCompiler.compileForNodes(nodeExpression, parent),
+            concurrency,
+            executorService,
+            progressLogger,
+            tracker
+        );
+        progressLogger.finishSubTask("Nodes");
+
+        var allFilters = new LinkedHashMap<RelationshipType, RelationshipFilter>();
+        var relationshipFilters = new LinkedHashMap<RelationshipType, RelationshipFilter>();
+
+        var relTypeCount = parent.relationshipTypes().size();
+        var current = 1;
+
+        for (RelationshipType relType : parent.relationshipTypes()) {
+            var taskMessage = formatWithLocale("Relationship types %d of %d", current++, relTypeCount);
+            progressLogger.startSubTask(taskMessage);
+
+            var propertyKeys = List.copyOf(parent.relationshipPropertyKeys(relType));
+            var propertyIndices = IntStream
+                .range(0, propertyKeys.size())
+                .boxed()
+                .collect(Collectors.toMap(propertyKeys::get, idx -> idx));
+            var relationshipPredicate = ExpressionCompiler.compileForRelationships(
+                relationshipExpression,
+                relType,
+                propertyIndices
+            );
+
+            var relationshipCount = FilteredGraph.countRelationships(
+                nodes.nodeCount(),
+                new FilteredCompositeRelationshipIterator(
+                    parent.getCompositeRelationshipIterator(relType, propertyKeys),
+                    nodes,
+                    relationshipPredicate,
+                    new String[0],
+                    new int[0]
+                ),
+                concurrency,
+                executorService
+            );
+
+            var filter = new RelationshipFilter(propertyKeys, relationshipPredicate, relationshipCount);
+            allFilters.put(relType, filter);
+            // Drop relationship types that have been completely filtered out.
+            if (relationshipCount > 0) {
+                relationshipFilters.put(relType, filter);
+            }
+
+            progressLogger.finishSubTask(taskMessage);
+        }
+
+        // A graph store must contain at least one relationship type, even if it is empty.
+        return new FilteredGraphStore(
+            parent,
+            nodes,
+            relationshipFilters.isEmpty() ? allFilters : relationshipFilters,
+            concurrency
+        );
+    }
+
+    private FilteredGraphStore(
+        GraphStore parent,
+        FilteredNodeMapping nodes,
+        Map<RelationshipType, RelationshipFilter> relationshipFilters,
+        int concurrency
+    ) {
+        this.parent = parent;
+        this.nodes = nodes;
+        this.relationshipFilters = relationshipFilters;
+        this.concurrency = concurrency;
+        this.modificationTime = TimeUtil.now();
+    }
+
+    /**
+     * Returns the graph store this view has been created from.
+     */
+    public GraphStore parent() {
+        return parent;
+    }
+
+    /**
+     * Returns the number of bytes that are held by the view itself, excluding the parent graph store.
+     */
+    public long sizeInBytes() {
+        return MemoryUsage.sizeOfInstance(FilteredGraphStore.class) + nodes.sizeInBytes();
+    }
+
+    @Override
+    public NamedDatabaseId databaseId() {
+        return parent.databaseId();
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return GraphSchema.of(
+            parent.schema().nodeSchema().filter(nodeLabels()),
+            parent.schema().relationshipSchema().filter(relationshipTypes())
+        );
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return modificationTime;
+    }
+
+    // Nodes
+
+    @Override
+    public long nodeCount() {
+        return nodes.nodeCount();
+    }
+
+    @Override
+    public NodeMapping nodes() {
+        return nodes;
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return nodes.availableNodeLabels();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        return parent.nodePropertyKeys(label);
+    }
+
+    @Override
+    public Map<NodeLabel, Set<String>> nodePropertyKeys() {
+        return nodeLabels()
+            .stream()
+            .collect(Collectors.toMap(nodeLabel -> nodeLabel, parent::nodePropertyKeys));
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return parent.hasNodeProperty(label, propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return parent.hasNodeProperty(labels, propertyKey);
+    }
+
+    @Override
+    public ValueType nodePropertyType(NodeLabel label, String propertyKey) {
+        return parent.nodePropertyType(label, propertyKey);
+    }
+
+    @Override
+    public PropertyState nodePropertyState(String propertyKey) {
+        return parent.nodePropertyState(propertyKey);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(String propertyKey) {
+        return new ViewNodeProperties(parent.nodePropertyValues(propertyKey), nodes);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(NodeLabel label, String propertyKey) {
+        return new ViewNodeProperties(parent.nodePropertyValues(label, propertyKey), nodes);
+    }
+
+    @Override
+    public void addNodeProperty(NodeLabel nodeLabel, String propertyKey, NodeProperties propertyValues) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void removeNodeProperty(NodeLabel nodeLabel, String propertyKey) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    // Relationships
+
+    @Override
+    public long relationshipCount() {
+        long sum = 0L;
+        for (var filter : relationshipFilters.values()) {
+            sum += filter.relationshipCount;
+        }
+        return sum;
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return relationshipFilters.get(relationshipType).relationshipCount;
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipFilters.keySet();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return relationshipFilters.containsKey(relationshipType);
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(Collection<RelationshipType> relTypes, String propertyKey) {
+        return relTypes
+            .stream()
+            .allMatch(relType -> relationshipFilters.containsKey(relType) && relationshipFilters
+                .get(relType)
+                .propertyKeys
+                .contains(propertyKey));
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return parent.relationshipPropertyType(propertyKey);
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return relationshipFilters
+            .values()
+            .stream()
+            .flatMap(filter -> filter.propertyKeys.stream())
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return relationshipFilters.containsKey(relationshipType)
+            ? parent.relationshipPropertyKeys(relationshipType)
+            : Set.of();
+    }
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    // Graphs
+
+    @Override
+    public Graph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        validateInput(relationshipTypes, maybeRelationshipProperty);
+
+        var filteredNodes = nodeLabels.containsAll(nodeLabels())
+            ? nodes
+            : nodes.withFilteredLabels(nodeLabels, concurrency);
+
+        var types = relationshipFilters
+            .keySet()
+            .stream()
+            .filter(relationshipTypes::contains)
+            .collect(Collectors.toList());
+
+        var propertyKeys = maybeRelationshipProperty.map(List::of).orElse(List.of());
+        var relationshipIterators = types
+            .stream()
+            .map(relType -> relationshipIterator(relType, filteredNodes, propertyKeys))
+            .collect(Collectors.toList());
+
+        var relationshipSchema = types
+            .stream()
+            .map(relType -> schema().relationshipSchema().singleTypeAndProperty(relType, maybeRelationshipProperty))
+            .reduce(RelationshipSchema::union)
+            .orElseThrow();
+
+        // The relationship count is only known upfront if all nodes of the view are used.
+        var relationshipCount = filteredNodes == nodes
+            ? types.stream().mapToLong(this::relationshipCount).sum()
+            : -1L;
+
+        return new FilteredGraph(
+            parent.getGraph(parent.nodeLabels(), types, Optional.empty()),
+            GraphSchema.of(schema().nodeSchema().filter(filteredNodes.availableNodeLabels()), relationshipSchema),
+            filteredNodes,
+            types,
+            relationshipIterators,
+            concurrency,
+            relationshipCount
+        );
+    }
+
+    @Override
+    public Graph getUnion() {
+        var types = new ArrayList<RelationshipType>();
+        var relationshipIterators = new ArrayList<FilteredCompositeRelationshipIterator>();
+
+        relationshipFilters.forEach((relType, filter) -> {
+            if (filter.propertyKeys.isEmpty()) {
+                types.add(relType);
+                relationshipIterators.add(relationshipIterator(relType, nodes, List.of()));
+            } else {
+                for (String propertyKey : filter.propertyKeys) {
+                    types.add(relType);
+                    relationshipIterators.add(relationshipIterator(relType, nodes, List.of(propertyKey)));
+                }
+            }
+        });
+
+        return new FilteredGraph(
+            parent.getGraph(parent.nodeLabels(), relationshipTypes(), Optional.empty()),
+            schema(),
+            nodes,
+            types,
+            relationshipIterators,
+            concurrency,
+            -1L
+        );
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        if (!relationshipTypes().contains(relationshipType)) {
+            throw new IllegalArgumentException(
+                prettySuggestions(
+                    formatWithLocale(
+                        "Unknown relationship type `%s`.",
+                        relationshipType
+                    ),
+                    relationshipType.name(),
+                    relationshipTypes().stream().map(RelationshipType::name).collect(Collectors.toSet())
+                )
+            );
+        }
+
+        var availableProperties = relationshipFilters.get(relationshipType).propertyKeys;
+        if (!availableProperties.containsAll(propertyKeys)) {
+            var missingPropertyKeys = propertyKeys
+                .stream()
+                .filter(propertyKey -> !availableProperties.contains(propertyKey))
+                .collect(Collectors.toList());
+            throw new IllegalArgumentException(formatWithLocale(
+                "Missing property keys %s for relationship type %s. Available property keys are %s",
+                StringJoining.join(missingPropertyKeys),
+                relationshipType.name,
+                StringJoining.join(availableProperties)
+            ));
+        }
+
+        return relationshipIterator(relationshipType, nodes, propertyKeys);
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+    }
+
+    /**
+     * Releases the node mapping of the view. The parent graph store is not released.
+     */
+    @Override
+    public void release() {
+        nodes.release();
+    }
+
+    private FilteredCompositeRelationshipIterator relationshipIterator(
+        RelationshipType relationshipType,
+        FilteredNodeMapping nodes,
+        List<String> propertyKeys
+    ) {
+        var filter = relationshipFilters.get(relationshipType);
+        var propertyIndices = propertyKeys.stream().mapToInt(filter.propertyKeys::indexOf).toArray();
+
+        return new FilteredCompositeRelationshipIterator(
+            parent.getCompositeRelationshipIterator(relationshipType, filter.propertyKeys),
+            nodes,
+            filter.relationshipPredicate,
+            propertyKeys.toArray(new String[0]),
+            propertyIndices
+        );
+    }
+
+    private void validateInput(
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        if (relationshipTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The parameter '%s' should not be empty. Use '*' to load all relationship types.",
+                ProcedureConstants.RELATIONSHIP_TYPES
+            ));
+        }
+
+        relationshipTypes.forEach(relationshipType -> {
+            if (!relationshipFilters.containsKey(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No relationships have been loaded for relationship type '%s'",
+                    relationshipType
+                ));
+            }
+
+            maybeRelationshipProperty.ifPresent(relationshipProperty -> {
+                if (!hasRelationshipProperty(singletonList(relationshipType), relationshipProperty)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Property '%s' does not exist for relationships with type '%s'.",
+                        maybeRelationshipProperty.get(),
+                        relationshipType
+                    ));
+                }
+            });
+        });
+    }
+
+    private static final class RelationshipFilter {
+        // all property keys of the relationship type, in the order expected by the predicate
+        private final List<String> propertyKeys;
+        private final Predicate<double[]> relationshipPredicate;
+        private final long relationshipCount;
+
+        private RelationshipFilter(
+            List<String> propertyKeys,
+            Predicate<double[]> relationshipPredicate,
+            long relationshipCount
+        ) {
+            this.propertyKeys = propertyKeys;
+            this.relationshipPredicate = relationshipPredicate;
+            this.relationshipCount = relationshipCount;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.IdMapBuilder;
+import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.api.AdjacencyCursor.NOT_FOUND;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Maps the nodes of a filtered graph view onto the nodes of the graph store it has been created from.
+ * <p>
+ * Internal ids of the view are dense and follow the order of the parent's internal ids.
+ * Original ids are resolved through the parent mapping, which means the view exposes the same
+ * Neo4j ids as its parent while only storing the selected parent ids.
+ */
+final class FilteredNodeMapping implements NodeMapping {
+
+    private final NodeMapping parentNodes;
+    private final HugeLongArray viewToParent;
+    private final HugeSparseLongArray parentToView;
+    private final Set<NodeLabel> availableNodeLabels;
+    private final long nodeCount;
+    private final AllocationTracker tracker;
+
+    static FilteredNodeMapping of(
+        NodeMapping parentNodes,
+        LongPredicate parentNodePredicate,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        var parentNodeCount = parentNodes.nodeCount();
+        var selectedNodes = HugeAtomicBitSet.create(parentNodeCount, tracker);
+
+        // labels that do not occur on any of the selected nodes are not part of the view
+        var availableNodeLabels = ConcurrentHashMap.<NodeLabel>newKeySet();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            parentNodeCount,
+            partition -> (Runnable) () -> {
+                var localNodeLabels = new HashSet<NodeLabel>();
+                partition.consume(parentNode -> {
+                    if (parentNodePredicate.test(parentNode)) {
+                        selectedNodes.set(parentNode);
+                        parentNodes.forEachNodeLabel(parentNode, nodeLabel -> {
+                            localNodeLabels.add(nodeLabel);
+                            return true;
+                        });
+                    }
+                    progressLogger.logProgress();
+                });
+                availableNodeLabels.addAll(localNodeLabels);
+            }
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        return of(parentNodes, Set.copyOf(availableNodeLabels), selectedNodes, concurrency, tracker);
+    }
+
+    private static FilteredNodeMapping of(
+        NodeMapping parentNodes,
+        Set<NodeLabel> availableNodeLabels,
+        HugeAtomicBitSet selectedNodes,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var nodeCount = selectedNodes.cardinality();
+        var viewToParent = HugeLongArray.newArray(nodeCount, tracker);
+
+        long parentNode = -1L;
+        for (long viewNode = 0; viewNode < nodeCount; viewNode++) {
+            parentNode = selectedNodes.nextSetBit(parentNode + 1);
+            viewToParent.set(viewNode, parentNode);
+        }
+
+        var parentToView = IdMapBuilder.buildSparseNodeMapping(
+            nodeCount,
+            parentNodes.nodeCount(),
+            concurrency,
+            IdMapBuilder.add(viewToParent),
+            tracker
+        );
+
+        return new FilteredNodeMapping(parentNodes, viewToParent, parentToView, availableNodeLabels, nodeCount, tracker);
+    }
+
+    private FilteredNodeMapping(
+        NodeMapping parentNodes,
+        HugeLongArray viewToParent,
+        HugeSparseLongArray parentToView,
+        Set<NodeLabel> availableNodeLabels,
+        long nodeCount,
+        AllocationTracker tracker
+    ) {
+        this.parentNodes = parentNodes;
+        this.viewToParent = viewToParent;
+        this.parentToView = parentToView;
+        this.availableNodeLabels = availableNodeLabels;
+        this.nodeCount = nodeCount;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Returns the internal id of the given view node within the parent graph store.
+     */
+    long toParentNodeId(long nodeId) {
+        return viewToParent.get(nodeId);
+    }
+
+    /**
+     * Returns the view node for the given internal id of the parent graph store
+     * or {@link org.neo4j.graphalgo.api.AdjacencyCursor#NOT_FOUND} if the node has been filtered out.
+     */
+    long fromParentNodeId(long parentNodeId) {
+        return parentToView.get(parentNodeId);
+    }
+
+    NodeMapping parentNodes() {
+        return parentNodes;
+    }
+
+    long sizeInBytes() {
+        return MemoryUsage.sizeOf(viewToParent) + MemoryUsage.sizeOf(parentToView);
+    }
+
+    void release() {
+        viewToParent.release();
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        var parentNodeId = parentNodes.toMappedNodeId(nodeId);
+        return parentNodeId == NOT_FOUND ? NOT_FOUND : parentToView.get(parentNodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return parentNodes.toOriginalNodeId(viewToParent.get(nodeId));
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return parentNodes.toRootNodeId(viewToParent.get(nodeId));
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return toMappedNodeId(nodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return parentNodes.rootNodeCount();
+    }
+
+    @Override
+    public long highestNeoId() {
+        return parentNodes.highestNeoId();
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        for (long nodeId = 0L; nodeId < nodeCount; nodeId++) {
+            if (!consumer.test(nodeId)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount);
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(nodeCount, batchSize, IdIterable::new);
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        var nodeLabels = new HashSet<>(parentNodes.nodeLabels(viewToParent.get(nodeId)));
+        nodeLabels.retainAll(availableNodeLabels);
+        return nodeLabels;
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        parentNodes.forEachNodeLabel(
+            viewToParent.get(nodeId),
+            nodeLabel -> !availableNodeLabels.contains(nodeLabel) || consumer.accept(nodeLabel)
+        );
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return availableNodeLabels;
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return availableNodeLabels.contains(label) && parentNodes.hasLabel(viewToParent.get(nodeId), label);
+    }
+
+    @Override
+    public FilteredNodeMapping withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        var invalidLabels = nodeLabels
+            .stream()
+            .filter(label -> !availableNodeLabels.contains(label))
+            .collect(Collectors.toList());
+        if (!invalidLabels.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Specified labels %s do not correspond to any of the node projections %s.",
+                invalidLabels,
+                availableNodeLabels
+            ));
+        }
+
+        var selectedNodes = HugeAtomicBitSet.create(parentNodes.nodeCount(), tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            var parentNodeId = viewToParent.get(nodeId);
+            for (NodeLabel nodeLabel : nodeLabels) {
+                if (parentNodes.hasLabel(parentNodeId, nodeLabel)) {
+                    selectedNodes.set(parentNodeId);
+                    return;
+                }
+            }
+        });
+
+        return of(parentNodes, Set.copyOf(nodeLabels), selectedNodes, concurrency, tracker);
+    }
+}
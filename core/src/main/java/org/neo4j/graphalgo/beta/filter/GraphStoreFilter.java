@@ -93,6 +93,44 @@ public final class GraphStoreFilter {
         );
     }
 
+    /**
+     * Creates a {@link FilteredGraphStore} that shares the topology and properties of the given graph store.
+     * Only the node filter is evaluated upfront, relationships are filtered whenever they are traversed.
+     */
+    @NotNull
+    public static FilteredGraphStore filterView(
+        GraphStore graphStore,
+        GraphCreateFromGraphConfig config,
+        ExecutorService executorService,
+        Log log,
+        AllocationTracker tracker
+    ) throws ParseException, SemanticErrors {
+        var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
+
+        var progressLogger = new BatchingProgressLogger(
+            log,
+            graphStore.nodeCount(),
+            "GraphStore Filter View",
+            config.concurrency()
+        );
+
+        progressLogger.logStart();
+
+        var filteredGraphStore = FilteredGraphStore.of(
+            graphStore,
+            expressions.nodeExpression(),
+            expressions.relationshipExpression(),
+            config.concurrency(),
+            executorService,
+            progressLogger,
+            tracker
+        );
+
+        progressLogger.logFinish();
+
+        return filteredGraphStore;
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
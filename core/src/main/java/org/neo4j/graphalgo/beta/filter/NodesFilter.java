@@ -29,8 +29,8 @@ import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.NodeProperty;
 import org.neo4j.graphalgo.api.NodePropertyStore;
-import org.neo4j.graphalgo.beta.filter.expression.EvaluationContext;
 import org.neo4j.graphalgo.beta.filter.expression.Expression;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.IdMapImplementations;
 import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
@@ -52,6 +52,7 @@ import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -122,6 +123,7 @@ final class NodesFilter {
         }
 
         var nodesBuilder = nodesBuilderBuilder.build();
+        var nodePredicate = ExpressionCompiler.compileForNodes(expression, graphStore);
 
         var nodeFilterTasks = PartitionUtils.numberAlignedPartitioning(
             concurrency,
@@ -134,7 +136,7 @@ final class NodesFilter {
             SparseLongArray.SUPER_BLOCK_SIZE,
             partition -> new NodeFilterTask(
                 partition,
-                expression,
+                nodePredicate,
                 graphStore,
                 originalIdFunction,
                 internalIdFunction,
@@ -374,8 +376,7 @@ final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final LongPredicate nodePredicate;
         private final ProgressLogger progressLogger;
         private final GraphStore graphStore;
         private final LongToLongFunction originalIdFunction;
@@ -384,7 +385,7 @@ final class NodesFilter {
 
         private NodeFilterTask(
             Partition partition,
-            Expression expression,
+            LongPredicate nodePredicate,
             GraphStore graphStore,
             LongToLongFunction originalIdFunction,
             LongToLongFunction internalIdFunction,
@@ -392,12 +393,11 @@ final class NodesFilter {
             ProgressLogger progressLogger
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.nodePredicate = nodePredicate;
             this.graphStore = graphStore;
             this.originalIdFunction = originalIdFunction;
             this.internalIdFunction = internalIdFunction;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(graphStore);
             this.progressLogger = progressLogger;
         }
 
@@ -406,10 +406,10 @@ final class NodesFilter {
             var nodeMapping = graphStore.nodes();
             var originalIdFunction = this.originalIdFunction;
             var internalIdFunction = this.internalIdFunction;
+            var nodePredicate = this.nodePredicate;
             partition.consume(node -> {
                 var internalId = internalIdFunction.applyAsLong(node);
-                nodeContext.init(internalId);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (nodePredicate.test(internalId)) {
                     var originalId = originalIdFunction.applyAsLong(node);
                     NodeLabel[] labels = nodeMapping.nodeLabels(internalId).toArray(NodeLabel[]::new);
                     nodesBuilder.addNode(originalId, labels);
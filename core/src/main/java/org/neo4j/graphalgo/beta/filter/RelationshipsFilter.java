@@ -28,8 +28,8 @@ import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.RelationshipProperty;
 import org.neo4j.graphalgo.api.RelationshipPropertyStore;
 import org.neo4j.graphalgo.api.Relationships;
-import org.neo4j.graphalgo.beta.filter.expression.EvaluationContext;
 import org.neo4j.graphalgo.beta.filter.expression.Expression;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
@@ -44,6 +44,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -171,16 +172,20 @@ final class RelationshipsFilter {
             .boxed()
             .collect(Collectors.toMap(propertyKeys::get, idx -> idx));
 
+        var relationshipPredicate = ExpressionCompiler.compileForRelationships(
+            relationshipExpr,
+            relType,
+            propertyIndices
+        );
+
         var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
             new RelationshipFilterTask(
                 partition,
-                relationshipExpr,
+                relationshipPredicate,
                 compositeIterator.concurrentCopy(),
                 inputNodes,
                 outputNodes,
                 relationshipsBuilder,
-                relType,
-                propertyIndices,
                 progressLogger
             )
         );
@@ -207,34 +212,28 @@ final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final Predicate<double[]> relationshipPredicate;
         private final ProgressLogger progressLogger;
         private final CompositeRelationshipIterator relationshipIterator;
         private final NodeMapping inputNodes;
         private final NodeMapping outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
-            Expression expression,
+            Predicate<double[]> relationshipPredicate,
             CompositeRelationshipIterator relationshipIterator,
             NodeMapping inputNodes,
             NodeMapping outputNodes,
             RelationshipsBuilder relationshipsBuilder,
-            RelationshipType relType,
-            Map<String, Integer> propertyIndices,
             ProgressLogger progressLogger
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.relationshipPredicate = relationshipPredicate;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
             this.progressLogger = progressLogger;
         }
 
@@ -249,9 +248,7 @@ final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (relationshipPredicate.test(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
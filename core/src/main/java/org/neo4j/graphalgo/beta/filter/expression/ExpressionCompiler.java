@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter.expression;
+
+import com.carrotsearch.hppc.ObjectIntMap;
+import com.carrotsearch.hppc.ObjectIntScatterMap;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Turns a validated {@link Expression} into a predicate that can be evaluated
+ * without going through an {@link EvaluationContext}.
+ * <p>
+ * Everything that does not depend on the element being filtered is resolved once
+ * during compilation: property keys are resolved to the backing {@link NodeProperties}
+ * or to the index in the relationship property array, labels to {@link NodeLabel}s,
+ * relationship type checks are decided for the type being filtered and constant
+ * sub-expressions are folded. The compiled predicates are stateless and can be
+ * shared between threads.
+ * <p>
+ * The compiled predicates follow the semantics of {@link Expression#evaluate(EvaluationContext)}.
+ */
+public final class ExpressionCompiler {
+
+    @FunctionalInterface
+    private interface Evaluator {
+        double evaluate(long nodeId, double[] properties);
+    }
+
+    private static final class Constant implements Evaluator {
+        private final double value;
+
+        private Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double evaluate(long nodeId, double[] properties) {
+            return value;
+        }
+    }
+
+    private static final Constant TRUE_CONSTANT = new Constant(TRUE);
+    private static final Constant FALSE_CONSTANT = new Constant(FALSE);
+
+    public static LongPredicate compileForNodes(Expression expression, GraphStore graphStore) {
+        var evaluator = new ExpressionCompiler(graphStore, null, null).compile(expression);
+        if (evaluator instanceof Constant) {
+            boolean result = ((Constant) evaluator).value == TRUE;
+            return nodeId -> result;
+        }
+        return nodeId -> evaluator.evaluate(nodeId, null) == TRUE;
+    }
+
+    public static Predicate<double[]> compileForRelationships(
+        Expression expression,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        var evaluator = new ExpressionCompiler(null, relationshipType, propertyIndices).compile(expression);
+        if (evaluator instanceof Constant) {
+            boolean result = ((Constant) evaluator).value == TRUE;
+            return properties -> result;
+        }
+        return properties -> evaluator.evaluate(-1L, properties) == TRUE;
+    }
+
+    private final GraphStore graphStore;
+    private final RelationshipType relationshipType;
+    private final ObjectIntMap<String> propertyIndices;
+
+    private ExpressionCompiler(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        this.graphStore = graphStore;
+        this.relationshipType = relationshipType;
+        this.propertyIndices = new ObjectIntScatterMap<>();
+        if (propertyIndices != null) {
+            propertyIndices.forEach(this.propertyIndices::put);
+        }
+    }
+
+    private boolean forNodes() {
+        return graphStore != null;
+    }
+
+    private Evaluator compile(Expression expression) {
+        if (expression instanceof Expression.Literal) {
+            return new Constant(expression.evaluate(null));
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return new Constant(Expression.VARIABLE);
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            var propertyKey = ((Expression.UnaryExpression.Property) expression).propertyKey();
+            return forNodes() ? nodeProperty(propertyKey) : relationshipProperty(propertyKey);
+        }
+        if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+            var labelsOrTypes = ((Expression.UnaryExpression.HasLabelsOrTypes) expression).labelsOrTypes();
+            return forNodes() ? hasLabels(labelsOrTypes) : hasAnyType(labelsOrTypes);
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            return not(compile(((Expression.UnaryExpression) expression).in()));
+        }
+        if (expression instanceof Expression.BinaryExpression) {
+            var binary = (Expression.BinaryExpression) expression;
+            var lhs = compile(binary.lhs());
+            var rhs = compile(binary.rhs());
+            var evaluator = binary(binary, lhs, rhs);
+            if (lhs instanceof Constant && rhs instanceof Constant) {
+                return new Constant(evaluator.evaluate(-1L, null));
+            }
+            return evaluator;
+        }
+
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot compile expression of type `%s`.",
+            expression.getClass().getSimpleName()
+        ));
+    }
+
+    private Evaluator nodeProperty(String propertyKey) {
+        var labels = new ArrayList<NodeLabel>();
+        var values = new ArrayList<NodeProperties>();
+        for (NodeLabel label : graphStore.nodeLabels()) {
+            if (graphStore.hasNodeProperty(label, propertyKey)) {
+                labels.add(label);
+                values.add(graphStore.nodePropertyValues(label, propertyKey));
+            }
+        }
+
+        if (labels.isEmpty()) {
+            return new Constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+        }
+
+        var nodes = graphStore.nodes();
+        var first = values.get(0);
+        boolean sharedValues = values.stream().allMatch(value -> value == first);
+
+        if (sharedValues && labels.size() == graphStore.nodeLabels().size()) {
+            // every node has the property
+            return (nodeId, properties) -> first.doubleValue(nodeId);
+        }
+        if (sharedValues) {
+            var candidateLabels = labels.toArray(NodeLabel[]::new);
+            return (nodeId, properties) -> hasAnyLabel(nodes, nodeId, candidateLabels)
+                ? first.doubleValue(nodeId)
+                : DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+        }
+
+        var candidateLabels = labels.toArray(NodeLabel[]::new);
+        var candidateValues = values.toArray(NodeProperties[]::new);
+        return (nodeId, properties) -> {
+            for (int i = 0; i < candidateLabels.length; i++) {
+                if (nodes.hasLabel(nodeId, candidateLabels[i])) {
+                    return candidateValues[i].doubleValue(nodeId);
+                }
+            }
+            return DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+        };
+    }
+
+    private static boolean hasAnyLabel(NodeMapping nodes, long nodeId, NodeLabel[] labels) {
+        for (NodeLabel label : labels) {
+            if (nodes.hasLabel(nodeId, label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Evaluator relationshipProperty(String propertyKey) {
+        if (!propertyIndices.containsKey(propertyKey)) {
+            return new Constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+        }
+        int index = propertyIndices.get(propertyKey);
+        return (nodeId, properties) -> properties[index];
+    }
+
+    private Evaluator hasLabels(List<String> labelNames) {
+        if (labelNames.isEmpty()) {
+            return TRUE_CONSTANT;
+        }
+        var labels = labelNames.stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+        for (NodeLabel label : labels) {
+            if (!graphStore.nodeLabels().contains(label)) {
+                return FALSE_CONSTANT;
+            }
+        }
+
+        var nodes = graphStore.nodes();
+        if (labels.length == 1) {
+            var label = labels[0];
+            return (nodeId, properties) -> nodes.hasLabel(nodeId, label) ? TRUE : FALSE;
+        }
+        return (nodeId, properties) -> {
+            for (NodeLabel label : labels) {
+                if (!nodes.hasLabel(nodeId, label)) {
+                    return FALSE;
+                }
+            }
+            return TRUE;
+        };
+    }
+
+    private Evaluator hasAnyType(List<String> typeNames) {
+        return typeNames.contains(relationshipType.name) ? TRUE_CONSTANT : FALSE_CONSTANT;
+    }
+
+    private static Evaluator not(Evaluator in) {
+        if (in instanceof Constant) {
+            return ((Constant) in).value == TRUE ? FALSE_CONSTANT : TRUE_CONSTANT;
+        }
+        return (nodeId, properties) -> in.evaluate(nodeId, properties) == TRUE ? FALSE : TRUE;
+    }
+
+    private static Evaluator binary(Expression.BinaryExpression expression, Evaluator lhs, Evaluator rhs) {
+        if (expression instanceof Expression.BinaryExpression.And) {
+            return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE && rhs.evaluate(nodeId, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE || rhs.evaluate(nodeId, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE ^ rhs.evaluate(nodeId, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.Equal) {
+            return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) < EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.NotEqual) {
+            return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+            return (nodeId, properties) -> (lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+            return (nodeId, properties) -> {
+                var lhsValue = lhs.evaluate(nodeId, properties);
+                var rhsValue = rhs.evaluate(nodeId, properties);
+                return lhsValue > rhsValue || Math.abs(lhsValue - rhsValue) < EPSILON ? TRUE : FALSE;
+            };
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThan) {
+            return (nodeId, properties) -> (rhs.evaluate(nodeId, properties) - lhs.evaluate(nodeId, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+            return (nodeId, properties) -> {
+                var lhsValue = lhs.evaluate(nodeId, properties);
+                var rhsValue = rhs.evaluate(nodeId, properties);
+                return lhsValue < rhsValue || (rhsValue - lhsValue) > -EPSILON ? TRUE : FALSE;
+            };
+        }
+
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot compile expression of type `%s`.",
+            expression.getClass().getSimpleName()
+        ));
+    }
+}
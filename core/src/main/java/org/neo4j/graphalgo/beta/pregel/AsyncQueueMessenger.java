@@ -25,9 +25,11 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
+    private final MessageSchema messageSchema;
 
-    AsyncQueueMessenger(long nodeCount, AllocationTracker tracker) {
+    AsyncQueueMessenger(long nodeCount, MessageSchema messageSchema, AllocationTracker tracker) {
         this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount, tracker);
+        this.messageSchema = messageSchema;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -44,12 +46,28 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
     @Override
     public void sendTo(long targetNodeId, double message) {
         assert !Double.isNaN(message);
+        assert messageSchema.width() == 1;
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageSchema.width();
+        if (messageSchema.isSingleDouble()) {
+            sendTo(targetNodeId, message[0]);
+        } else {
+            queues.push(targetNodeId, message);
+        }
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
     @Override
     public PrimitiveAsyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveAsyncDoubleQueues.Iterator(queues);
+        return new PrimitiveAsyncDoubleQueues.Iterator(queues, messageSchema);
     }
 
     @Override
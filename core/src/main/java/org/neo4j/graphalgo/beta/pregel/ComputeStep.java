@@ -35,6 +35,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     HugeAtomicBitSet voteBits();
 
+    Frontier frontier();
+
     PregelComputation<CONFIG> computation();
 
     NodeValue nodeValue();
@@ -73,10 +75,12 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendTo(long targetNodeId, double[] message);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
+        var messages = new Messages(messageIterator, messenger.messageSchema());
 
         var nodeBatch = nodeBatch();
         long batchStart = nodeBatch.startNode();
@@ -86,9 +90,18 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
+        var isSparse = frontier.isSparse();
 
         for (long nodeId = batchStart; nodeId < batchEnd; nodeId++) {
 
+            if (isSparse) {
+                nodeId = frontier.nextActiveNode(nodeId, batchEnd);
+                if (nodeId == -1) {
+                    break;
+                }
+            }
+
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 computation.init(initContext);
@@ -100,6 +113,10 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
         }
         progressLogger().logProgress(nodeBatch.nodeCount());
@@ -119,6 +136,22 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         });
     }
 
+    default void sendToNeighbors(long sourceNodeId, double[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendToNeighborsWeighted(long sourceNodeId, double[] message, double[] weightedMessage) {
+        graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
+            System.arraycopy(message, 0, weightedMessage, 0, message.length);
+            computation().applyRelationshipWeight(weightedMessage, weight);
+            sendTo(targetNodeId, weightedMessage);
+            return true;
+        });
+    }
+
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             targetConsumer.accept(targetNodeId);
@@ -44,6 +44,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     private final ComputeContext<CONFIG> computeContext;
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
     private final Messenger<ITERATOR> messenger;
     private final PregelComputation<CONFIG> computation;
 
@@ -62,6 +63,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressLogger progressLogger
@@ -72,6 +74,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         this.iteration = iteration;
         this.computation = computation;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
@@ -105,6 +108,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
                 nodeValue,
                 messenger,
                 voteBits,
+                frontier,
                 this,
                 sentMessage,
                 progressLogger
@@ -133,6 +137,11 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         return voteBits;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public PregelComputation<CONFIG> computation() {
         return computation;
@@ -176,6 +185,14 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+        hasSendMessage = true;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
         hasSendMessage = true;
     }
 }
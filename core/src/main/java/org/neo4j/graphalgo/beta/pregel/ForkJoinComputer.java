@@ -41,10 +41,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ForkJoinPool forkJoinPool,
         ProgressLogger progressLogger
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressLogger);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressLogger);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -55,6 +56,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     public void initIteration(int iteration) {
+        frontier.initIteration(iteration);
         this.sentMessage = new AtomicBoolean(false);
         this.rootTask = new ForkJoinComputeStep<>(
             graph,
@@ -65,6 +67,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             sentMessage,
             progressLogger
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Tracks the active nodes of a superstep, i.e. nodes that received
+ * a message or did not vote to halt in the previous superstep.
+ * If only a small fraction of all nodes is active, compute steps
+ * skip over inactive nodes instead of visiting every node in their
+ * partition.
+ */
+public final class Frontier {
+
+    // Below this fraction of active nodes, the frontier is iterated sparsely.
+    static final double SPARSE_THRESHOLD = 0.05;
+
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+    private boolean isSparse;
+
+    static Frontier create(long nodeCount, AllocationTracker tracker) {
+        return new Frontier(
+            HugeAtomicBitSet.create(nodeCount, tracker),
+            HugeAtomicBitSet.create(nodeCount, tracker)
+        );
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("current", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    private Frontier(HugeAtomicBitSet current, HugeAtomicBitSet next) {
+        this.current = current;
+        this.next = next;
+    }
+
+    void initIteration(int iteration) {
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+
+        // The initial superstep needs to visit all nodes in order to initialize their values.
+        this.isSparse = iteration > 0 && current.cardinality() < SPARSE_THRESHOLD * current.size();
+    }
+
+    /**
+     * Marks the given node as active in the next superstep.
+     */
+    public void activate(long nodeId) {
+        next.set(nodeId);
+    }
+
+    /**
+     * Indicates if only the active nodes should be visited in the current superstep.
+     */
+    public boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * Returns the first active node in the range from {@code nodeId} (inclusive)
+     * to {@code endNodeId} (exclusive) or {@code -1} if there is no such node.
+     */
+    public long nextActiveNode(long nodeId, long endNodeId) {
+        if (nodeId >= endNodeId) {
+            return -1;
+        }
+        var nextActiveNode = current.nextSetBit(nodeId);
+        return nextActiveNode < endNodeId ? nextActiveNode : -1;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * A single multi-valued message as described by a {@link MessageSchema}.
+ * <p>
+ * Instances are reused by the framework while iterating over
+ * {@link Messages#typed()}, values must therefore be read
+ * before advancing to the next message.
+ */
+public final class Message {
+
+    final double[] slots;
+
+    Message(int width) {
+        this.slots = new double[width];
+    }
+
+    /**
+     * The number of slots in this message.
+     */
+    public int width() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the double value stored in the given slot.
+     */
+    public double doubleValue(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Returns the long value stored in the given slot.
+     */
+    public long longValue(int index) {
+        return Double.doubleToRawLongBits(slots[index]);
+    }
+
+    /**
+     * Copies {@code target.length} double values starting at the given slot into the target array.
+     */
+    public void doubleArrayValue(int offset, double[] target) {
+        System.arraycopy(slots, offset, target, 0, target.length);
+    }
+
+    /**
+     * Copies {@code target.length} long values starting at the given slot into the target array.
+     */
+    public void longArrayValue(int offset, long[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = Double.doubleToRawLongBits(slots[offset + i]);
+        }
+    }
+}
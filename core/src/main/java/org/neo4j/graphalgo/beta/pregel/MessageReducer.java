@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+/**
+ * A reducer for multi-valued messages as described by a {@link MessageSchema}.
+ * All messages sent to a single node are combined into a single message.
+ * <p>
+ * Both arrays follow the slot layout of the message schema. Long values
+ * are stored in their raw bit representation, see {@link Message#longValue(int)}.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.Reducer
+ */
+public interface MessageReducer {
+
+    /**
+     * Reduces the given message into the current message by updating {@code current} in place.
+     * The method is only called if the receiving node already holds a message.
+     */
+    void reduce(double[] current, double[] message);
+
+    /**
+     * Keeps the message with the smallest value in the given slot, e.g. the shortest distance including its predecessor.
+     */
+    class MinBy implements MessageReducer {
+
+        private final int index;
+        private final boolean isLong;
+
+        public MinBy(MessageSchema schema, int index) {
+            this.index = index;
+            this.isLong = schema.slots().get(index) == ValueType.LONG;
+        }
+
+        @Override
+        public void reduce(double[] current, double[] message) {
+            if (compare(isLong, message[index], current[index]) < 0) {
+                System.arraycopy(message, 0, current, 0, current.length);
+            }
+        }
+    }
+
+    /**
+     * Keeps the message with the largest value in the given slot.
+     */
+    class MaxBy implements MessageReducer {
+
+        private final int index;
+        private final boolean isLong;
+
+        public MaxBy(MessageSchema schema, int index) {
+            this.index = index;
+            this.isLong = schema.slots().get(index) == ValueType.LONG;
+        }
+
+        @Override
+        public void reduce(double[] current, double[] message) {
+            if (compare(isLong, message[index], current[index]) > 0) {
+                System.arraycopy(message, 0, current, 0, current.length);
+            }
+        }
+    }
+
+    /**
+     * Sums up messages slot by slot, e.g. for aggregating neighbour features.
+     */
+    class Sum implements MessageReducer {
+
+        private final boolean[] isLong;
+
+        public Sum(MessageSchema schema) {
+            var slots = schema.slots();
+            this.isLong = new boolean[slots.size()];
+            for (int i = 0; i < isLong.length; i++) {
+                isLong[i] = slots.get(i) == ValueType.LONG;
+            }
+        }
+
+        @Override
+        public void reduce(double[] current, double[] message) {
+            for (int i = 0; i < current.length; i++) {
+                if (isLong[i]) {
+                    current[i] = Double.longBitsToDouble(
+                        Double.doubleToRawLongBits(current[i]) + Double.doubleToRawLongBits(message[i])
+                    );
+                } else {
+                    current[i] += message[i];
+                }
+            }
+        }
+    }
+
+    private static int compare(boolean isLong, double left, double right) {
+        return isLong
+            ? Long.compare(Double.doubleToRawLongBits(left), Double.doubleToRawLongBits(right))
+            : Double.compare(left, right);
+    }
+}
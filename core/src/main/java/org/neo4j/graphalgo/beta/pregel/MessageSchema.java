@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of a single message.
+ * A message is composed of a fixed number of primitive slots,
+ * each of them holding either a double or a long value.
+ * Fixed-width arrays occupy one slot per array element.
+ * <br>
+ * Example:
+ * <pre>
+ * public MessageSchema messageSchema(PregelConfig config) {
+ *      return new MessageSchema.Builder()
+ *          .add(ValueType.LONG)
+ *          .add(ValueType.DOUBLE)
+ *          .build();
+ * }
+ * </pre>
+ *
+ * Messages are stored in primitive double queues. Long values are
+ * stored using their raw bit representation, see {@link Double#longBitsToDouble(long)}.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.PregelComputation#messageSchema(PregelConfig)
+ */
+@ValueClass
+public interface MessageSchema {
+
+    MessageSchema DOUBLE = new Builder().add(ValueType.DOUBLE).build();
+
+    MessageSchema LONG = new Builder().add(ValueType.LONG).build();
+
+    MessageSchema LONG_DOUBLE = new Builder().add(ValueType.LONG).add(ValueType.DOUBLE).build();
+
+    static MessageSchema doubleArray(int width) {
+        return new Builder().add(ValueType.DOUBLE_ARRAY, width).build();
+    }
+
+    static MessageSchema longArray(int width) {
+        return new Builder().add(ValueType.LONG_ARRAY, width).build();
+    }
+
+    /**
+     * The value type of each slot, either {@link ValueType#DOUBLE} or {@link ValueType#LONG}.
+     */
+    List<ValueType> slots();
+
+    /**
+     * The number of primitive slots a single message occupies.
+     */
+    default int width() {
+        return slots().size();
+    }
+
+    /**
+     * Indicates if the schema describes a single double, which is the default message layout.
+     */
+    default boolean isSingleDouble() {
+        return width() == 1 && slots().get(0) == ValueType.DOUBLE;
+    }
+
+    class Builder {
+
+        private final List<ValueType> slots = new ArrayList<>();
+
+        public MessageSchema.Builder add(ValueType valueType) {
+            if (valueType != ValueType.DOUBLE && valueType != ValueType.LONG) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported message value type `%s`, expected one of [%s, %s].",
+                    valueType,
+                    ValueType.DOUBLE,
+                    ValueType.LONG
+                ));
+            }
+            slots.add(valueType);
+            return this;
+        }
+
+        public MessageSchema.Builder add(ValueType arrayType, int width) {
+            if (width < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Message array width must be positive, got %d.",
+                    width
+                ));
+            }
+            ValueType elementType;
+            if (arrayType == ValueType.DOUBLE_ARRAY) {
+                elementType = ValueType.DOUBLE;
+            } else if (arrayType == ValueType.LONG_ARRAY) {
+                elementType = ValueType.LONG;
+            } else {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported message array type `%s`, expected one of [%s, %s].",
+                    arrayType,
+                    ValueType.DOUBLE_ARRAY,
+                    ValueType.LONG_ARRAY
+                ));
+            }
+            for (int i = 0; i < width; i++) {
+                slots.add(elementType);
+            }
+            return this;
+        }
+
+        public MessageSchema build() {
+            if (slots.isEmpty()) {
+                throw new IllegalArgumentException("A message schema requires at least one value.");
+            }
+            return ImmutableMessageSchema.of(slots);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * A reusable buffer to compose and send multi-valued messages
+ * as described by {@link PregelComputation#messageSchema(PregelConfig)}.
+ * <p>
+ * The buffer content is copied when the message is sent,
+ * so the writer can be used for sending multiple messages.
+ */
+public final class MessageWriter {
+
+    private final ComputeStep<?, ?> computeStep;
+    private final boolean isWeighted;
+    private final double[] message;
+    private final double[] weightedMessage;
+
+    private long sourceNodeId;
+
+    public MessageWriter(ComputeStep<?, ?> computeStep, boolean isWeighted) {
+        this.computeStep = computeStep;
+        this.isWeighted = isWeighted;
+        int width = computeStep.messenger().messageSchema().width();
+        this.message = new double[width];
+        this.weightedMessage = new double[width];
+    }
+
+    /**
+     * Used internally by the framework to set the currently processed node.
+     */
+    public MessageWriter init(long sourceNodeId) {
+        this.sourceNodeId = sourceNodeId;
+        return this;
+    }
+
+    public MessageWriter setDouble(int index, double value) {
+        message[index] = value;
+        return this;
+    }
+
+    public MessageWriter setLong(int index, long value) {
+        message[index] = Double.longBitsToDouble(value);
+        return this;
+    }
+
+    public MessageWriter setDoubleArray(int offset, double[] values) {
+        System.arraycopy(values, 0, message, offset, values.length);
+        return this;
+    }
+
+    public MessageWriter setLongArray(int offset, long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            message[offset + i] = Double.longBitsToDouble(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Sends the current message to the target node. The target
+     * node can be any existing node id in the graph.
+     */
+    public void sendTo(long targetNodeId) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the current message to all neighbors of the node.
+     * On weighted graphs, {@link PregelComputation#applyRelationshipWeight(double[], double)}
+     * is applied to a copy of the message for each relationship.
+     */
+    public void sendToNeighbors() {
+        if (isWeighted) {
+            computeStep.sendToNeighborsWeighted(sourceNodeId, message, weightedMessage);
+        } else {
+            computeStep.sendToNeighbors(sourceNodeId, message);
+        }
+    }
+}
@@ -26,6 +26,10 @@ import java.util.PrimitiveIterator;
 
 public final class Messages implements Iterable<Double> {
 
+    /**
+     * Iterates over the individual slots of all messages.
+     * For multi-valued messages, use {@link #typed()}.
+     */
     @NotNull
     @Override
     public Iterator<Double> iterator() {
@@ -37,9 +41,13 @@ public final class Messages implements Iterable<Double> {
     }
 
     private final MessageIterator iterator;
+    private final TypedIterator typedIterator;
+    private final Iterable<Message> typedMessages;
 
-    Messages(MessageIterator iterator) {
+    Messages(MessageIterator iterator, MessageSchema messageSchema) {
         this.iterator = iterator;
+        this.typedIterator = new TypedIterator(iterator, messageSchema.width());
+        this.typedMessages = () -> typedIterator;
     }
 
     @NotNull
@@ -47,7 +55,41 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Iterates over multi-valued messages as described by the
+     * {@link PregelComputation#messageSchema(PregelConfig)}.
+     * The returned {@link Message} instance is reused for every message.
+     */
+    public Iterable<Message> typed() {
+        return typedMessages;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    private static final class TypedIterator implements Iterator<Message> {
+
+        private final MessageIterator iterator;
+        private final Message message;
+
+        TypedIterator(MessageIterator iterator, int width) {
+            this.iterator = iterator;
+            this.message = new Message(width);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Message next() {
+            var slots = message.slots;
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = iterator.nextDouble();
+            }
+            return message;
+        }
+    }
 }
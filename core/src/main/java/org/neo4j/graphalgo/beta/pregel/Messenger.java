@@ -25,6 +25,14 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a multi-valued message. The length of the
+     * message is equal to the width of the {@link #messageSchema()}.
+     */
+    void sendTo(long targetNodeId, double[] message);
+
+    MessageSchema messageSchema();
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+/**
+ * A messenger implementation for multi-valued messages that keeps a
+ * single message per node. Incoming messages are combined using a
+ * {@link org.neo4j.graphalgo.beta.pregel.MessageReducer}.
+ * <p>
+ * Since a message spans multiple slots, the reduction can not be
+ * applied with a single atomic operation. Instead, each node has
+ * a lock bit that guards the update of its message.
+ */
+public class MultiValueReducingMessenger implements Messenger<MultiValueReducingMessenger.MessageSlotIterator> {
+
+    private final MessageSchema messageSchema;
+    private final MessageReducer reducer;
+    private final int width;
+
+    private HugeObjectArray<double[]> sendMessages;
+    private HugeObjectArray<double[]> receiveMessages;
+    private HugeAtomicBitSet sendBits;
+    private HugeAtomicBitSet receiveBits;
+    private final HugeAtomicBitSet locks;
+
+    MultiValueReducingMessenger(
+        long nodeCount,
+        MessageSchema messageSchema,
+        MessageReducer reducer,
+        AllocationTracker tracker
+    ) {
+        this.messageSchema = messageSchema;
+        this.reducer = reducer;
+        this.width = messageSchema.width();
+
+        this.sendMessages = HugeObjectArray.newArray(double[].class, nodeCount, tracker);
+        this.receiveMessages = HugeObjectArray.newArray(double[].class, nodeCount, tracker);
+        this.sendMessages.setAll(nodeId -> new double[width]);
+        this.receiveMessages.setAll(nodeId -> new double[width]);
+
+        this.sendBits = HugeAtomicBitSet.create(nodeCount, tracker);
+        this.receiveBits = HugeAtomicBitSet.create(nodeCount, tracker);
+        this.locks = HugeAtomicBitSet.create(nodeCount, tracker);
+    }
+
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        var messageSize = MemoryUsage.sizeOfDoubleArray(messageSchema.width());
+        return MemoryEstimations.builder(MultiValueReducingMessenger.class)
+            .add("send messages", HugeObjectArray.memoryEstimation(messageSize))
+            .add("receive messages", HugeObjectArray.memoryEstimation(messageSize))
+            .perNode("send bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("locks", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap messages and their presence bits
+        var tmpMessages = receiveMessages;
+        this.receiveMessages = sendMessages;
+        this.sendMessages = tmpMessages;
+
+        var tmpBits = receiveBits;
+        this.receiveBits = sendBits;
+        this.sendBits = tmpBits;
+
+        sendBits.clear();
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(
+            "Multi-valued messages need to be sent via `ComputeContext#message()`."
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == width;
+
+        while (locks.getAndSet(targetNodeId)) {
+            Thread.onSpinWait();
+        }
+
+        var current = sendMessages.get(targetNodeId);
+        if (sendBits.get(targetNodeId)) {
+            reducer.reduce(current, message);
+        } else {
+            System.arraycopy(message, 0, current, 0, width);
+            sendBits.set(targetNodeId);
+        }
+
+        locks.clear(targetNodeId);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public MessageSlotIterator messageIterator() {
+        return new MessageSlotIterator();
+    }
+
+    @Override
+    public void initMessageIterator(MessageSlotIterator messageIterator, long nodeId, boolean isFirstIteration) {
+        if (receiveBits.get(nodeId)) {
+            messageIterator.init(receiveMessages.get(nodeId), width);
+        } else {
+            messageIterator.init(null, 0);
+        }
+    }
+
+    @Override
+    public void release() {
+        sendMessages.release();
+        receiveMessages.release();
+        sendBits.release();
+        receiveBits.release();
+        locks.release();
+    }
+
+    static class MessageSlotIterator implements Messages.MessageIterator {
+
+        private double[] message;
+        private int length;
+        private int pos;
+
+        void init(double[] message, int length) {
+            this.message = message;
+            this.length = length;
+            this.pos = 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return length == 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < length;
+        }
+
+        @Override
+        public double nextDouble() {
+            return message[pos++];
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.utils.StringJoining;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -42,12 +43,14 @@ public abstract class NodeValue {
 
     private final PregelSchema pregelSchema;
     private final Map<String, ValueType> propertyTypes;
+    private final Map<String, Object> handles;
 
     NodeValue(PregelSchema pregelSchema) {
         this.pregelSchema = pregelSchema;
         this.propertyTypes = pregelSchema.elements()
             .stream()
             .collect(Collectors.toMap(Element::propertyKey, Element::propertyType));
+        this.handles = new ConcurrentHashMap<>();
     }
 
     static NodeValue of(PregelSchema schema, long nodeCount, int concurrency, AllocationTracker tracker) {
@@ -154,6 +157,51 @@ public abstract class NodeValue {
         doubleArrayProperties(key).set(nodeId, value);
     }
 
+    /**
+     * Returns a handle for the double values of the given node schema key.
+     * The handle gives direct access to the values without resolving the key on every access.
+     * Handles are only valid for the Pregel run they have been resolved in.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double
+     */
+    public DoubleHandle doubleHandle(String key) {
+        checkProperty(key, ValueType.DOUBLE);
+        return (DoubleHandle) handles.computeIfAbsent(key, k -> new DoubleHandle(doubleProperties(k)));
+    }
+
+    /**
+     * Returns a handle for the long values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long
+     * @see #doubleHandle(String)
+     */
+    public LongHandle longHandle(String key) {
+        checkProperty(key, ValueType.LONG);
+        return (LongHandle) handles.computeIfAbsent(key, k -> new LongHandle(longProperties(k)));
+    }
+
+    /**
+     * Returns a handle for the long array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long array
+     * @see #doubleHandle(String)
+     */
+    public LongArrayHandle longArrayHandle(String key) {
+        checkProperty(key, ValueType.LONG_ARRAY);
+        return (LongArrayHandle) handles.computeIfAbsent(key, k -> new LongArrayHandle(longArrayProperties(k)));
+    }
+
+    /**
+     * Returns a handle for the double array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double array
+     * @see #doubleHandle(String)
+     */
+    public DoubleArrayHandle doubleArrayHandle(String key) {
+        checkProperty(key, ValueType.DOUBLE_ARRAY);
+        return (DoubleArrayHandle) handles.computeIfAbsent(key, k -> new DoubleArrayHandle(doubleArrayProperties(k)));
+    }
+
     void checkProperty(String key, ValueType expectedType) {
         checkProperty(key, propertyTypes.get(key), expectedType);
     }
@@ -294,4 +342,68 @@ public abstract class NodeValue {
             return (HugeObjectArray<double[]>) properties.get(propertyKey);
         }
     }
+
+    public static final class DoubleHandle {
+        private final HugeDoubleArray values;
+
+        private DoubleHandle(HugeDoubleArray values) {
+            this.values = values;
+        }
+
+        public double get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, double value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    public static final class LongHandle {
+        private final HugeLongArray values;
+
+        private LongHandle(HugeLongArray values) {
+            this.values = values;
+        }
+
+        public long get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, long value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    public static final class LongArrayHandle {
+        private final HugeObjectArray<long[]> values;
+
+        private LongArrayHandle(HugeObjectArray<long[]> values) {
+            this.values = values;
+        }
+
+        public long[] get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, long[] value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    public static final class DoubleArrayHandle {
+        private final HugeObjectArray<double[]> values;
+
+        private DoubleArrayHandle(HugeObjectArray<double[]> values) {
+            this.values = values;
+        }
+
+        public double[] get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, double[] value) {
+            values.set(nodeId, value);
+        }
+    }
 }
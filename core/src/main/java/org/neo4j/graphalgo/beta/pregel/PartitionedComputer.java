@@ -47,11 +47,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         int concurrency,
         ExecutorService executorService,
         ProgressLogger progressLogger
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressLogger);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressLogger);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -63,6 +64,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
+        frontier.initIteration(iteration);
         for (var computeStep : computeSteps) {
             computeStep.init(iteration);
         }
@@ -94,6 +96,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             progressLogger
         );
 
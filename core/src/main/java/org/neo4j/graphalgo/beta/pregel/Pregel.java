@@ -78,8 +78,18 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, MessageSchema.DOUBLE, isQueueBased, isAsync);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .add("frontier", Frontier.memoryEstimation())
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
@@ -89,8 +99,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
             } else {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
-        } else {
+        } else if (messageSchema.isSingleDouble()) {
             estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+        } else {
+            estimationBuilder.add("message arrays", MultiValueReducingMessenger.memoryEstimation(messageSchema));
         }
 
         return estimationBuilder.build();
@@ -112,13 +124,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressLogger = progressLogger;
         this.executor = executor;
 
-        var reducer = computation.reducer();
-
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get(), tracker)
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount(), tracker)
-                : new SyncQueueMessenger(graph.nodeCount(), tracker);
+        this.messenger = createMessenger(graph, config, computation, tracker);
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -127,6 +133,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount(), tracker))
+            .frontier(Frontier.create(graph.nodeCount(), tracker))
             .executorService(config.useForkJoin()
                 ? ParallelUtil.getFJPoolWithConcurrency(config.concurrency())
                 : executor)
@@ -134,6 +141,37 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static <CONFIG extends PregelConfig> Messenger<?> createMessenger(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation,
+        AllocationTracker tracker
+    ) {
+        var messageSchema = computation.messageSchema(config);
+        var reducer = computation.reducer();
+        var messageReducer = computation.messageReducer();
+
+        if (reducer.isPresent() && !messageSchema.isSingleDouble()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A reducer can only be used for single double messages, use a message reducer for message schema %s.",
+                messageSchema.slots()
+            ));
+        }
+        if (reducer.isPresent() && messageReducer.isPresent()) {
+            throw new IllegalArgumentException("Only one of reducer and message reducer can be specified.");
+        }
+
+        if (reducer.isPresent()) {
+            return new ReducingMessenger(graph, config, reducer.get(), tracker);
+        }
+        if (messageReducer.isPresent()) {
+            return new MultiValueReducingMessenger(graph.nodeCount(), messageSchema, messageReducer.get(), tracker);
+        }
+        return config.isAsynchronous()
+            ? new AsyncQueueMessenger(graph.nodeCount(), messageSchema, tracker)
+            : new SyncQueueMessenger(graph.nodeCount(), messageSchema, tracker);
+    }
+
     public PregelResult run() {
         boolean didConverge = false;
 
@@ -57,6 +57,19 @@ public interface PregelComputation<C extends PregelConfig> {
      */
     PregelSchema schema(C config);
 
+    /**
+     * The message schema describes the layout of messages sent
+     * between nodes. By default, a message is a single double.
+     * Multi-valued messages, e.g. a long and a double, are sent
+     * via {@link ComputeContext#message()} and read via
+     * {@link Messages#typed()}.
+     *
+     * @see org.neo4j.graphalgo.beta.pregel.MessageSchema
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.DOUBLE;
+    }
+
     /**
      * The init method is called in the beginning of the first
      * superstep (iteration) of the Pregel computation and allows
@@ -103,6 +116,16 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * A message reducer is the counterpart of {@link #reducer()} for
+     * multi-valued messages. It combines all messages sent to a single
+     * node into a single message, e.g. keeping the message with the
+     * smallest distance in a shortest path computation.
+     */
+    default Optional<MessageReducer> messageReducer() {
+        return Optional.empty();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -114,4 +137,14 @@ public interface PregelComputation<C extends PregelConfig> {
     default double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
         return nodeValue;
     }
+
+    /**
+     * Applies the relationship weight on a copy of a multi-valued message
+     * that is sent via {@link MessageWriter#sendToNeighbors()}. The message
+     * is updated in place.
+     * <br>
+     * If the input graph has no relationship properties, i.e. is
+     * unweighted, the method is skipped.
+     */
+    default void applyRelationshipWeight(double[] message, double relationshipWeight) {}
 }
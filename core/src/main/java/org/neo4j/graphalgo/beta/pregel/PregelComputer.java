@@ -36,6 +36,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Frontier frontier;
     final ProgressLogger progressLogger;
 
     PregelComputer(
@@ -45,6 +46,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ProgressLogger progressLogger
     ) {
         this.graph = graph;
@@ -53,6 +55,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.progressLogger = progressLogger;
     }
 
@@ -76,6 +79,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ExecutorService executorService,
         ProgressLogger progressLogger
     ) {
@@ -94,6 +98,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier,
                 (ForkJoinPool) executorService,
                 progressLogger
             );
@@ -106,6 +111,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             config.concurrency(),
             executorService,
             progressLogger
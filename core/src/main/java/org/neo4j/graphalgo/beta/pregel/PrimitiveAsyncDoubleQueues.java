@@ -34,6 +34,10 @@ import java.util.Arrays;
 public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static final double COMPACT_THRESHOLD = 0.25;
     private static final double EMPTY_MESSAGE = Double.NaN;
+    // Single double messages are never NaN and multi-valued messages are
+    // preceded by a marker slot, see push(long, double[]). Only those slots
+    // are checked for emptiness, so the canonical NaN identifies an empty slot.
+    private static final long EMPTY_MESSAGE_BITS = Double.doubleToRawLongBits(EMPTY_MESSAGE);
 
     private final HugeIntArray heads;
     private final HugeCursor<double[][]> queuesCursor;
@@ -108,6 +112,19 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         }
     }
 
+    /**
+     * Inserts a multi-valued message preceded by a {@link #MESSAGE_MARKER} slot.
+     * Message values can hold long values in their raw bit representation,
+     * which includes the bits of an empty slot. Readers therefore only check
+     * the marker slot for emptiness and read the message slots unconditionally.
+     *
+     * @see Iterator
+     */
+    @Override
+    public void push(long nodeId, double[] message) {
+        push(nodeId, message, true);
+    }
+
     boolean isEmpty(long nodeId) {
         var head = heads.get(nodeId);
         var tail = (int) tails.get(nodeId);
@@ -116,7 +133,7 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     private boolean isEmpty(double[] queue, int head, int tail) {
-        return head == queue.length || head > tail || Double.isNaN(queue[head]);
+        return head == queue.length || head > tail || Double.doubleToRawLongBits(queue[head]) == EMPTY_MESSAGE_BITS;
     }
 
     double pop(long nodeId) {
@@ -128,11 +145,10 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     void grow(long nodeId, int minCapacity) {
         var queue = this.queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        var newCapacity = grownCapacity(capacity, minCapacity);
         var resizedArray = Arrays.copyOf(queue, newCapacity);
         // Fill with NaN to indicate empty slots.
-        Arrays.fill(resizedArray, minCapacity - 1, newCapacity, EMPTY_MESSAGE);
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
         this.queues.set(nodeId, resizedArray);
     }
 
@@ -149,28 +165,49 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static class Iterator implements Messages.MessageIterator {
 
         private final PrimitiveAsyncDoubleQueues queues;
+        // The number of slots of a multi-valued message or
+        // 0 if single double messages are sent without a marker.
+        private final int messageWidth;
 
         private long nodeId;
+        // The number of slots of the current message that are not read yet.
+        private int remainingSlots;
+
+        public Iterator(PrimitiveAsyncDoubleQueues queues) {
+            this(queues, MessageSchema.DOUBLE);
+        }
 
-        public Iterator(PrimitiveAsyncDoubleQueues queues) {this.queues = queues;}
+        Iterator(PrimitiveAsyncDoubleQueues queues, MessageSchema messageSchema) {
+            this.queues = queues;
+            this.messageWidth = messageSchema.isSingleDouble() ? 0 : messageSchema.width();
+        }
 
         void init(long nodeId) {
             this.nodeId = nodeId;
+            this.remainingSlots = 0;
         }
 
         @Override
         public boolean hasNext() {
-            return !queues.isEmpty(nodeId);
+            return remainingSlots > 0 || !queues.isEmpty(nodeId);
         }
 
         @Override
         public double nextDouble() {
+            if (messageWidth > 0) {
+                if (remainingSlots == 0) {
+                    // skip the marker of the next message
+                    queues.pop(nodeId);
+                    remainingSlots = messageWidth;
+                }
+                remainingSlots--;
+            }
             return queues.pop(nodeId);
         }
 
         @Override
         public boolean isEmpty() {
-            return queues.isEmpty(nodeId);
+            return remainingSlots == 0 && queues.isEmpty(nodeId);
         }
     }
 }
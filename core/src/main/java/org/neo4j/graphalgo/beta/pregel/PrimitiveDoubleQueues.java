@@ -31,6 +31,10 @@ public abstract class PrimitiveDoubleQueues {
     private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(double[].class);
     // Minimum capacity for the individual queue arrays.
     static final int MIN_CAPACITY = 42;
+    // Precedes multi-valued messages if they are pushed with a marker.
+    // The marker occupies its own slot, so it can never collide with
+    // a message value, including long values in their raw bit representation.
+    static final double MESSAGE_MARKER = 0D;
     // 🦀
     // Used to allow either a single thread exclusive access to a queue
     // in order to grow and replace it or multiple threads shared access
@@ -53,9 +57,64 @@ public abstract class PrimitiveDoubleQueues {
         this.referenceCounts = referenceCounts;
     }
 
-    abstract void grow(long nodeId, int newCapacity);
+    abstract void grow(long nodeId, int minCapacity);
 
     public void push(long nodeId, double message) {
+        long idx = reserve(nodeId, 1);
+
+        // We place a full fence in order to make sure that writes after the
+        // fence are not re-ordered with reads before the fence. In particular,
+        // we avoid the queues.get call being moved before the grow operation
+        // in order to avoid reading from the queue before it is grown.
+        VarHandle.fullFence();
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Inserts a multi-valued message which occupies {@code message.length}
+     * consecutive slots in the queue of the given node.
+     */
+    public void push(long nodeId, double[] message) {
+        push(nodeId, message, false);
+    }
+
+    /**
+     * Inserts a multi-valued message which occupies {@code message.length}
+     * consecutive slots in the queue of the given node. If {@code withMarker}
+     * is set, the message is preceded by an additional slot that holds
+     * {@link #MESSAGE_MARKER}.
+     */
+    void push(long nodeId, double[] message, boolean withMarker) {
+        int markerSlots = withMarker ? 1 : 0;
+        long idx = reserve(nodeId, markerSlots + message.length);
+
+        // See push(long, double)
+        VarHandle.fullFence();
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        // The slots are written back to front and the marker is written last.
+        // Readers that observe the first slot of a message, can therefore rely
+        // on all remaining slots of that message being written as well.
+        for (int i = message.length - 1; i >= 0; i--) {
+            ARRAY_HANDLE.setVolatile(queue, (int) idx + markerSlots + i, message[i]);
+        }
+        if (withMarker) {
+            ARRAY_HANDLE.setVolatile(queue, (int) idx, MESSAGE_MARKER);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Reserves the given number of consecutive slots in the queue of the
+     * given node and returns the index of the first reserved slot.
+     */
+    private long reserve(long nodeId, int slots) {
         // The index which we will eventually use to
         // insert the message into the nodes' queue.
         long idx;
@@ -63,6 +122,13 @@ public abstract class PrimitiveDoubleQueues {
         outer:
         while (true) {
             idx = tails.get(nodeId);
+            if (idx < 0 && slots > 1) {
+                // The grown queue is only guaranteed to have space for a
+                // single additional slot. Multi-slot messages wait until
+                // growing is done and check the capacity again.
+                Thread.onSpinWait();
+                continue;
+            }
             if (idx < 0) {
                 // A negative index indicates that another thread
                 // currently grows the queue for the given node id.
@@ -91,9 +157,9 @@ public abstract class PrimitiveDoubleQueues {
                     // trying to set the next index.
                 }
             }
-            // We basically perform and getAndIncrement and try
+            // We basically perform and getAndAdd and try
             // to update the tail with the next index.
-            long nextIdx = idx + 1;
+            long nextIdx = idx + slots;
 
             if (hasSpaceLeft(nodeId, (int) nextIdx)) {
                 // There is still room in the local queue.
@@ -131,17 +197,7 @@ public abstract class PrimitiveDoubleQueues {
             }
         }
 
-        // We place a full fence in order to make sure that writes after the
-        // fence are not re-ordered with reads before the fence. In particular,
-        // we avoid the queues.get call being moved before the grow operation
-        // in order to avoid reading from the queue before it is grown.
-        VarHandle.fullFence();
-
-        // Multiple threads can concurrently update the queue, we need
-        // to signal this with a shared reference to the array.
-        getSharedReference(nodeId);
-        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
-        dropSharedReference(nodeId);
+        return idx;
     }
 
     private void getSharedReference(long nodeId) {
@@ -192,6 +248,15 @@ public abstract class PrimitiveDoubleQueues {
         referenceCounts.set(nodeId, 0);
     }
 
+    static int grownCapacity(int capacity, int minCapacity) {
+        // grow by 50%
+        var newCapacity = capacity + (capacity >> 1);
+        // A multi-slot message might not fit into the grown queue. We make sure,
+        // that there is space left for at least one more single-slot message,
+        // since threads waiting for the grow operation rely on that.
+        return newCapacity > minCapacity ? newCapacity : minCapacity + (minCapacity >> 1);
+    }
+
     private boolean hasSpaceLeft(long nodeId, int minCapacity) {
         return queues.get(nodeId).length >= minCapacity;
     }
@@ -96,8 +96,7 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        var newCapacity = grownCapacity(capacity, minCapacity);
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
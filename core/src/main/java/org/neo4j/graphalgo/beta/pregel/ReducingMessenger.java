@@ -79,6 +79,17 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == 1;
+        sendTo(targetNodeId, message[0]);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return MessageSchema.DOUBLE;
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
         return new SingleMessageIterator();
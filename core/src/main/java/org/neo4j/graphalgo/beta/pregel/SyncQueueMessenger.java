@@ -25,9 +25,11 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final MessageSchema messageSchema;
 
-    SyncQueueMessenger(long nodeCount, AllocationTracker tracker) {
+    SyncQueueMessenger(long nodeCount, MessageSchema messageSchema, AllocationTracker tracker) {
         this.queues = PrimitiveSyncDoubleQueues.of(nodeCount, tracker);
+        this.messageSchema = messageSchema;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -41,9 +43,21 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        assert messageSchema.width() == 1;
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageSchema.width();
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveSyncDoubleQueues.Iterator();
@@ -20,6 +20,8 @@
 package org.neo4j.graphalgo.beta.pregel.context;
 
 import org.neo4j.graphalgo.beta.pregel.ComputeStep;
+import org.neo4j.graphalgo.beta.pregel.MessageWriter;
+import org.neo4j.graphalgo.beta.pregel.NodeValue;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 
 /**
@@ -34,10 +36,13 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         this.sendMessagesFunction = config.isWeighted()
             ? computeStep::sendToNeighborsWeighted
             : computeStep::sendToNeighbors;
+        this.messageWriter = new MessageWriter(computeStep, config.isWeighted());
     }
 
     private final SendMessagesFunction sendMessagesFunction;
 
+    private final MessageWriter messageWriter;
+
     /**
      * Returns the node value for the given node schema key.
      *
@@ -83,6 +88,42 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         return computeStep.doubleArrayNodeValue(key, nodeId);
     }
 
+    /**
+     * Returns the node value for the given handle.
+     *
+     * @see #doubleHandle(String)
+     */
+    public double doubleNodeValue(NodeValue.DoubleHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value for the given handle.
+     *
+     * @see #longHandle(String)
+     */
+    public long longNodeValue(NodeValue.LongHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value for the given handle.
+     *
+     * @see #longArrayHandle(String)
+     */
+    public long[] longArrayNodeValue(NodeValue.LongArrayHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value for the given handle.
+     *
+     * @see #doubleArrayHandle(String)
+     */
+    public double[] doubleArrayNodeValue(NodeValue.DoubleArrayHandle handle) {
+        return handle.get(nodeId);
+    }
+
     /**
      * Notify the execution framework that this node intends
      * to stop the computation. If the node voted to halt
@@ -126,6 +167,24 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Returns a writer to compose a multi-valued message as described by the
+     * {@link org.neo4j.graphalgo.beta.pregel.PregelComputation#messageSchema(PregelConfig)}.
+     * The writer is reused across calls and nodes, all slots of
+     * the message should be set before sending it.
+     * <br>
+     * Example:
+     * <pre>
+     * context.message()
+     *     .setLong(0, context.nodeId())
+     *     .setDouble(1, distance)
+     *     .sendToNeighbors();
+     * </pre>
+     */
+    public MessageWriter message() {
+        return messageWriter.init(nodeId);
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
@@ -169,4 +169,41 @@ public class MasterComputeContext<CONFIG extends PregelConfig> extends PregelCon
     public void setNodeValue(long nodeId, String key, double[] value) {
         nodeValue.set(key, nodeId, value);
     }
+
+    /**
+     * Returns a handle for the double values of the given node schema key.
+     * The handle can be used to access node values without resolving the key on every access.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double
+     */
+    public NodeValue.DoubleHandle doubleHandle(String key) {
+        return nodeValue.doubleHandle(key);
+    }
+
+    /**
+     * Returns a handle for the long values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long
+     */
+    public NodeValue.LongHandle longHandle(String key) {
+        return nodeValue.longHandle(key);
+    }
+
+    /**
+     * Returns a handle for the long array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long array
+     */
+    public NodeValue.LongArrayHandle longArrayHandle(String key) {
+        return nodeValue.longArrayHandle(key);
+    }
+
+    /**
+     * Returns a handle for the double array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double array
+     */
+    public NodeValue.DoubleArrayHandle doubleArrayHandle(String key) {
+        return nodeValue.doubleArrayHandle(key);
+    }
 }
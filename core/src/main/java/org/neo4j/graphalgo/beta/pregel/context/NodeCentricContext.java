@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.beta.pregel.context;
 
 import org.neo4j.graphalgo.beta.pregel.ComputeStep;
+import org.neo4j.graphalgo.beta.pregel.NodeValue;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 
 import java.util.function.LongConsumer;
@@ -104,6 +105,88 @@ public abstract class NodeCentricContext<CONFIG extends PregelConfig> extends Pr
         computeStep.setNodeValue(key, nodeId, value);
     }
 
+    /**
+     * Sets a node double value for the given handle.
+     *
+     * @param handle handle resolved via {@link #doubleHandle(String)}
+     * @param value property value
+     */
+    public void setNodeValue(NodeValue.DoubleHandle handle, double value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets a node long value for the given handle.
+     *
+     * @param handle handle resolved via {@link #longHandle(String)}
+     * @param value property value
+     */
+    public void setNodeValue(NodeValue.LongHandle handle, long value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets a node long array value for the given handle.
+     *
+     * @param handle handle resolved via {@link #longArrayHandle(String)}
+     * @param value property value
+     */
+    public void setNodeValue(NodeValue.LongArrayHandle handle, long[] value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets a node double array value for the given handle.
+     *
+     * @param handle handle resolved via {@link #doubleArrayHandle(String)}
+     * @param value property value
+     */
+    public void setNodeValue(NodeValue.DoubleArrayHandle handle, double[] value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Returns a handle for the double values of the given node schema key.
+     * Resolving the handle once, e.g. in {@link org.neo4j.graphalgo.beta.pregel.PregelComputation#init(InitContext)},
+     * avoids looking up the key on every node value access.
+     * Handles are only valid for the current Pregel run.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double
+     */
+    public NodeValue.DoubleHandle doubleHandle(String key) {
+        return computeStep.nodeValue().doubleHandle(key);
+    }
+
+    /**
+     * Returns a handle for the long values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongHandle longHandle(String key) {
+        return computeStep.nodeValue().longHandle(key);
+    }
+
+    /**
+     * Returns a handle for the long array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongArrayHandle longArrayHandle(String key) {
+        return computeStep.nodeValue().longArrayHandle(key);
+    }
+
+    /**
+     * Returns a handle for the double array values of the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.DoubleArrayHandle doubleArrayHandle(String key) {
+        return computeStep.nodeValue().doubleArrayHandle(key);
+    }
+
     /**
      * Returns the degree (number of relationships) of the currently processed node.
      */
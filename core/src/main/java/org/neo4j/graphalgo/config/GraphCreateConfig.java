@@ -31,6 +31,7 @@ import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.NODE_QUERY_
 import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.RELATIONSHIP_QUERY_KEY;
 import static org.neo4j.graphalgo.config.GraphCreateFromStoreConfig.NODE_PROJECTION_KEY;
 import static org.neo4j.graphalgo.config.GraphCreateFromStoreConfig.RELATIONSHIP_PROJECTION_KEY;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public interface GraphCreateConfig extends BaseConfig {
 
@@ -38,6 +39,9 @@ public interface GraphCreateConfig extends BaseConfig {
     String NODE_COUNT_KEY = "nodeCount";
     String RELATIONSHIP_COUNT_KEY = "relationshipCount";
     String READ_CONCURRENCY_KEY = "readConcurrency";
+    String ADJACENCY_SKIP_INDEX_KEY = "adjacencySkipIndex";
+    String OFF_HEAP_ADJACENCY_KEY = "offHeapAdjacency";
+    String COMPRESS_RELATIONSHIP_PROPERTIES_KEY = "compressRelationshipProperties";
 
     @Configuration.Parameter
     String graphName();
@@ -81,6 +85,40 @@ public interface GraphCreateConfig extends BaseConfig {
         return false;
     }
 
+    /**
+     * Build a sparse checkpoint index over each adjacency list,
+     * which speeds up {@code exists} and relationship property lookups on high degree nodes.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.Key(ADJACENCY_SKIP_INDEX_KEY)
+    default boolean adjacencySkipIndex() {
+        return false;
+    }
+
+    /**
+     * Move the adjacency lists and relationship properties into direct memory after loading,
+     * which keeps them out of the heap. The direct memory is freed once the graph has been dropped
+     * and is no longer in use. It counts towards the limit set by {@code -XX:MaxDirectMemorySize}.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.Key(OFF_HEAP_ADJACENCY_KEY)
+    default boolean offHeapAdjacency() {
+        return false;
+    }
+
+    /**
+     * Store relationship properties with a variable-width encoding instead of 8 bytes per value,
+     * which favours small integral values. Compressed properties are kept on the heap.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.Key(COMPRESS_RELATIONSHIP_PROPERTIES_KEY)
+    default boolean compressRelationshipProperties() {
+        return false;
+    }
+
     @Configuration.Ignore
     GraphStoreFactory.Supplier graphStoreFactory();
 
@@ -89,6 +127,17 @@ public interface GraphCreateConfig extends BaseConfig {
         ConcurrencyConfig.validateConcurrency(readConcurrency(), READ_CONCURRENCY_KEY);
     }
 
+    @Value.Check
+    default void validateOffHeapAdjacency() {
+        if (offHeapAdjacency() && adjacencySkipIndex()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The parameters `%s` and `%s` cannot be combined.",
+                OFF_HEAP_ADJACENCY_KEY,
+                ADJACENCY_SKIP_INDEX_KEY
+            ));
+        }
+    }
+
     @Configuration.Ignore
     <R> R accept(Cases<R> visitor);
 
@@ -51,6 +51,16 @@ public interface GraphCreateFromGraphConfig extends GraphCreateConfig {
         return ConcurrencyConfig.DEFAULT_CONCURRENCY;
     }
 
+    /**
+     * If false, the subgraph is created as a read-only view on the
+     * original graph instead of copying the filtered topology and properties.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean materialize() {
+        return true;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyConfig.validateConcurrency(concurrency(), "concurrency");
@@ -26,12 +26,24 @@ public interface WriteConfig extends ConcurrencyConfig {
 
     String WRITE_CONCURRENCY_KEY = "writeConcurrency";
 
+    String PIPELINED_WRITE_KEY = "pipelinedWrite";
+
     @Value.Default
     @Configuration.Key(WRITE_CONCURRENCY_KEY)
     default int writeConcurrency() {
         return concurrency();
     }
 
+    /**
+     * If set, node properties are read into batches ahead of time
+     * while previous batches are being written and committed.
+     */
+    @Value.Default
+    @Configuration.Key(PIPELINED_WRITE_KEY)
+    default boolean pipelinedWrite() {
+        return false;
+    }
+
     @Value.Check
     default void validateWriteConcurrency() {
         ConcurrencyConfig.validateConcurrency(writeConcurrency(), WRITE_CONCURRENCY_KEY);
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.huge;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.core.loading.MutableIntValue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.neo4j.graphalgo.core.huge.VarLongDecoding.decodeDeltaVLongs;
@@ -32,7 +33,9 @@ final class AdjacencyDecompressingReader {
 
     private final long[] block;
     private int pos;
+    // the adjacency page is either a heap array or a direct buffer
     private byte[] array;
+    private ByteBuffer buffer;
     private int offset;
 
     AdjacencyDecompressingReader() {
@@ -56,16 +59,40 @@ final class AdjacencyDecompressingReader {
         System.arraycopy(other.block, 0, block, 0, CHUNK_SIZE);
         pos = other.pos;
         array = other.array;
+        buffer = other.buffer;
         offset = other.offset;
     }
 
+    /**
+     * Drops the reference to the current page, which must not be read afterwards.
+     */
+    void clear() {
+        array = null;
+        buffer = null;
+    }
+
     int reset(byte[] adjacencyPage, int offset, int degree) {
         this.array = adjacencyPage;
+        this.buffer = null;
         this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
         pos = 0;
         return degree;
     }
 
+    int reset(ByteBuffer adjacencyPage, int offset, int degree) {
+        this.array = null;
+        this.buffer = adjacencyPage;
+        this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
+        pos = 0;
+        return degree;
+    }
+
+    private int decodeBlock(long startValue, int offset, int limit) {
+        return array != null
+            ? decodeDeltaVLongs(startValue, array, offset, limit, block)
+            : decodeDeltaVLongs(startValue, buffer, offset, limit, block);
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
@@ -90,7 +117,7 @@ final class AdjacencyDecompressingReader {
     }
 
     private long readNextBlock(int remaining) {
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+        offset = decodeBlock(block[CHUNK_SIZE - 1], offset, Math.min(remaining, CHUNK_SIZE));
         return block[0];
     }
 
@@ -103,7 +130,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] <= target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -130,7 +157,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] < target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -0,0 +1,561 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SIZE;
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodeVLongs;
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Collects relationship additions and removals for a single relationship type
+ * and applies them to a compressed topology without rebuilding it.
+ * <p>
+ * The adjacency lists of all changed source nodes are re-encoded into freshly
+ * appended pages, while the pages of the existing topology are shared with the
+ * patched topology. Degrees and offsets of the changed nodes are overlaid on top
+ * of the existing ones. The existing topology is never modified and stays valid
+ * until the graph store that owns it is released.
+ * <p>
+ * The lists that have been replaced by a patch stay in the shared pages. Once they hold more
+ * relationships than the patched topology itself, the topology is rewritten into new pages,
+ * which drops the replaced lists and the overlays. Removing nodes always rewrites the topology,
+ * because the ids of all following nodes change.
+ * <p>
+ * Removals are applied before additions, removing a relationship removes all
+ * parallel relationships between the two nodes. If the topology is not a multi-graph,
+ * adding an existing relationship replaces its property values.
+ */
+public final class AdjacencyDelta {
+
+    /**
+     * Marks nodes that have been added or removed in a node id mapping.
+     */
+    public static final long NO_NODE = -1L;
+
+    private final int propertyCount;
+    private final LongObjectHashMap<Changes> changes;
+
+    public AdjacencyDelta(int propertyCount) {
+        this.propertyCount = propertyCount;
+        this.changes = new LongObjectHashMap<>();
+    }
+
+    /**
+     * Changes can only be applied to adjacency lists whose pages are held on the heap.
+     */
+    public static boolean isSupported(AdjacencyList adjacencyList) {
+        return adjacencyList instanceof TransientAdjacencyList;
+    }
+
+    public void add(long source, long target, double... properties) {
+        if (properties.length != propertyCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d property values, got %d.",
+                propertyCount,
+                properties.length
+            ));
+        }
+        var change = changesOf(source);
+        change.targets.add(target);
+        for (double property : properties) {
+            change.properties.add(Double.doubleToLongBits(property));
+        }
+    }
+
+    public void remove(long source, long target) {
+        changesOf(source).removals.add(target);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Applies the collected changes to the given topology and its properties.
+     * The properties are expected in the same order as the property values passed to {@link #add(long, long, double...)}.
+     * Nodes with ids from {@code previousNodeCount} up to {@code nodeCount} have been added and have no relationships
+     * in the given topology.
+     */
+    public Patched apply(
+        Relationships.Topology topology,
+        List<Relationships.Properties> properties,
+        long previousNodeCount,
+        long nodeCount,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        validatePropertyCount(properties);
+
+        var adjacencyPages = pagesOf(topology.list());
+        var propertyPages = properties.stream().map(p -> pagesOf(p.list())).toArray(byte[][][]::new);
+
+        if (isEmpty() && nodeCount == previousNodeCount) {
+            // the adjacency lists still get new instances, so that releasing either graph store does not affect the other
+            var sharedTopology = ImmutableTopology.of(
+                topology.degrees(),
+                new TransientAdjacencyList(adjacencyPages),
+                topology.offsets(),
+                topology.elementCount(),
+                topology.orientation(),
+                topology.isMultiGraph()
+            ).withSkipIndex(topology.skipIndex().map(skipIndex -> ((TransientAdjacencySkipIndex) skipIndex).copy()));
+            var sharedOffsets = properties.stream().map(Relationships.Topology::offsets).toArray(AdjacencyOffsets[]::new);
+
+            return ImmutablePatched.of(
+                sharedTopology,
+                patchedProperties(properties, propertyPages, topology.degrees(), sharedOffsets, topology.elementCount())
+            );
+        }
+
+        var degrees = PatchedAdjacencyDegrees.of(topology.degrees(), previousNodeCount, nodeCount);
+        var offsets = PatchedAdjacencyOffsets.of(topology.offsets(), previousNodeCount, nodeCount);
+        var adjacencyAppender = new PageAppender(adjacencyPages.length, tracker);
+
+        var propertyOffsets = new PatchedAdjacencyOffsets[propertyCount];
+        var propertyAppenders = new PageAppender[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            propertyOffsets[i] = PatchedAdjacencyOffsets.of(properties.get(i).offsets(), previousNodeCount, nodeCount);
+            propertyAppenders[i] = new PageAppender(propertyPages[i].length, tracker);
+        }
+
+        long[] sources = changes.keys().toArray();
+        Arrays.sort(sources);
+
+        long elementCount = topology.elementCount();
+        long[] addresses = new long[1 + propertyCount];
+        for (long source : sources) {
+            int oldDegree = topology.degrees().degree(source);
+            int newDegree = writeList(
+                source < previousNodeCount ? source : NO_NODE,
+                changes.get(source),
+                LongUnaryOperator.identity(),
+                topology,
+                properties,
+                adjacencyAppender,
+                propertyAppenders,
+                addresses
+            );
+            degrees.set(source, newDegree);
+            degrees.addSupersededElements(oldDegree);
+            offsets.set(source, addresses[0]);
+            for (int i = 0; i < propertyCount; i++) {
+                propertyOffsets[i].set(source, addresses[1 + i]);
+            }
+            elementCount += newDegree - oldDegree;
+        }
+
+        if (degrees.supersededElements() > elementCount) {
+            // the replaced lists take up more space than the live ones, compact the topology instead
+            adjacencyAppender.release();
+            for (var propertyAppender : propertyAppenders) {
+                propertyAppender.release();
+            }
+            return rewrite(
+                topology,
+                properties,
+                nodeCount,
+                nodeId -> nodeId < previousNodeCount ? nodeId : NO_NODE,
+                LongUnaryOperator.identity(),
+                concurrency,
+                tracker
+            );
+        }
+
+        var list = new TransientAdjacencyList(adjacencyAppender.concat(adjacencyPages));
+        var patchedTopology = ImmutableTopology.of(
+            degrees,
+            list,
+            offsets,
+            elementCount,
+            topology.orientation(),
+            topology.isMultiGraph()
+        ).withSkipIndex(topology.skipIndex().map(skipIndex -> ((TransientAdjacencySkipIndex) skipIndex).patch(
+            sources,
+            list,
+            offsets,
+            degrees,
+            tracker
+        )));
+
+        var patchedPropertyPages = new byte[propertyCount][][];
+        for (int i = 0; i < propertyCount; i++) {
+            patchedPropertyPages[i] = propertyAppenders[i].concat(propertyPages[i]);
+        }
+
+        return ImmutablePatched.of(
+            patchedTopology,
+            patchedProperties(properties, patchedPropertyPages, degrees, propertyOffsets, elementCount)
+        );
+    }
+
+    /**
+     * Applies the collected changes while writing the whole topology into new pages.
+     * Unlike {@link #apply}, the result does not share any pages, degrees or offsets with the given topology.
+     * <p>
+     * {@code toPreviousNodeId} maps the node ids of the rewritten topology to the ids in the given topology,
+     * or to {@link #NO_NODE} for added nodes. {@code toNodeId} is its inverse and maps removed nodes to
+     * {@link #NO_NODE}, their relationships are dropped. The mapping must preserve the order of the node ids.
+     * The collected changes refer to the node ids of the rewritten topology.
+     */
+    public Patched rewrite(
+        Relationships.Topology topology,
+        List<Relationships.Properties> properties,
+        long nodeCount,
+        LongUnaryOperator toPreviousNodeId,
+        LongUnaryOperator toNodeId,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        validatePropertyCount(properties);
+        pagesOf(topology.list());
+        properties.forEach(property -> pagesOf(property.list()));
+
+        var degrees = HugeIntArray.newArray(nodeCount, tracker);
+        var offsets = HugeLongArray.newArray(nodeCount, tracker);
+        var adjacencyAppender = new PageAppender(0, tracker);
+
+        var propertyOffsets = new HugeLongArray[propertyCount];
+        var propertyAppenders = new PageAppender[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            propertyOffsets[i] = HugeLongArray.newArray(nodeCount, tracker);
+            propertyAppenders[i] = new PageAppender(0, tracker);
+        }
+
+        long elementCount = 0L;
+        long[] addresses = new long[1 + propertyCount];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = writeList(
+                toPreviousNodeId.applyAsLong(nodeId),
+                changes.get(nodeId),
+                toNodeId,
+                topology,
+                properties,
+                adjacencyAppender,
+                propertyAppenders,
+                addresses
+            );
+            degrees.set(nodeId, degree);
+            offsets.set(nodeId, addresses[0]);
+            for (int i = 0; i < propertyCount; i++) {
+                propertyOffsets[i].set(nodeId, addresses[1 + i]);
+            }
+            elementCount += degree;
+        }
+
+        var rewrittenDegrees = TransientAdjacencyDegrees.Factory.INSTANCE.newDegrees(degrees);
+        var rewrittenOffsets = TransientAdjacencyOffsets.Factory.INSTANCE.newOffsets(offsets);
+        var list = new TransientAdjacencyList(adjacencyAppender.concat(new byte[0][]));
+        var rewrittenTopology = ImmutableTopology.of(
+            rewrittenDegrees,
+            list,
+            rewrittenOffsets,
+            elementCount,
+            topology.orientation(),
+            topology.isMultiGraph()
+        ).withSkipIndex(topology.skipIndex().map(skipIndex -> TransientAdjacencySkipIndex.build(
+            nodeCount,
+            list,
+            rewrittenOffsets,
+            rewrittenDegrees,
+            concurrency,
+            tracker
+        )));
+
+        var rewrittenPropertyPages = new byte[propertyCount][][];
+        var rewrittenPropertyOffsets = new AdjacencyOffsets[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            rewrittenPropertyPages[i] = propertyAppenders[i].concat(new byte[0][]);
+            rewrittenPropertyOffsets[i] = TransientAdjacencyOffsets.Factory.INSTANCE.newOffsets(propertyOffsets[i]);
+        }
+
+        return ImmutablePatched.of(
+            rewrittenTopology,
+            patchedProperties(properties, rewrittenPropertyPages, rewrittenDegrees, rewrittenPropertyOffsets, elementCount)
+        );
+    }
+
+    /**
+     * Writes the adjacency list of a single node, i.e. its existing relationships without the
+     * removed ones followed by the added ones, and stores the addresses of the list and its
+     * properties in {@code addresses}.
+     *
+     * @return the degree of the written list
+     */
+    private int writeList(
+        long previousSource,
+        @Nullable Changes change,
+        LongUnaryOperator toNodeId,
+        Relationships.Topology topology,
+        List<Relationships.Properties> properties,
+        PageAppender adjacencyAppender,
+        PageAppender[] propertyAppenders,
+        long[] addresses
+    ) {
+        int degree = previousSource == NO_NODE ? 0 : topology.degrees().degree(previousSource);
+        int additions = change == null ? 0 : change.targets.size();
+        long[] targets = new long[degree + additions];
+        long[][] values = new long[propertyCount][degree + additions];
+
+        int length = 0;
+        if (degree > 0) {
+            var adjacencyCursor = topology.list().decompressingCursor(topology.offsets().get(previousSource), degree);
+            var propertyCursors = new PropertyCursor[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                var property = properties.get(i);
+                propertyCursors[i] = property.list().cursor(property.offsets().get(previousSource), degree);
+            }
+            while (adjacencyCursor.hasNextVLong()) {
+                long target = toNodeId.applyAsLong(adjacencyCursor.nextVLong());
+                boolean keep = target != NO_NODE && (change == null || !change.removals.contains(target));
+                for (int i = 0; i < propertyCount; i++) {
+                    long value = propertyCursors[i].nextLong();
+                    if (keep) {
+                        values[i][length] = value;
+                    }
+                }
+                if (keep) {
+                    targets[length++] = target;
+                }
+            }
+        }
+
+        for (int a = 0; a < additions; a++) {
+            targets[length] = change.targets.get(a);
+            for (int i = 0; i < propertyCount; i++) {
+                values[i][length] = change.properties.get(a * propertyCount + i);
+            }
+            length++;
+        }
+
+        if (length == 0) {
+            Arrays.fill(addresses, 0L);
+            return 0;
+        }
+
+        long[] deltas = new long[length];
+        long[][] sortedValues;
+        int newDegree = 0;
+        long previous = 0L;
+        if (change == null) {
+            // the node ids are mapped in order, so the existing relationships are still sorted
+            for (int index = 0; index < length; index++) {
+                deltas[index] = targets[index] - previous;
+                previous = targets[index];
+            }
+            sortedValues = values;
+            newDegree = length;
+        } else {
+            // the merge sort is stable, additions stay behind existing relationships to the same target
+            int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(targets));
+            sortedValues = new long[propertyCount][length];
+            boolean deduplicate = !topology.isMultiGraph();
+
+            for (int index : order) {
+                long target = targets[index];
+                if (deduplicate && newDegree > 0 && target == previous) {
+                    // replace the existing relationship with the later one
+                    newDegree--;
+                } else {
+                    deltas[newDegree] = target - previous;
+                }
+                for (int i = 0; i < propertyCount; i++) {
+                    sortedValues[i][newDegree] = values[i][index];
+                }
+                previous = target;
+                newDegree++;
+            }
+        }
+
+        addresses[0] = adjacencyAppender.writeTargets(deltas, newDegree);
+        for (int i = 0; i < propertyCount; i++) {
+            addresses[1 + i] = propertyAppenders[i].writeProperties(sortedValues[i], newDegree);
+        }
+        return newDegree;
+    }
+
+    private void validatePropertyCount(List<Relationships.Properties> properties) {
+        if (properties.size() != propertyCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d relationship properties, got %d.",
+                propertyCount,
+                properties.size()
+            ));
+        }
+    }
+
+    private List<Relationships.Properties> patchedProperties(
+        List<Relationships.Properties> properties,
+        byte[][][] pages,
+        AdjacencyDegrees degrees,
+        AdjacencyOffsets[] offsets,
+        long elementCount
+    ) {
+        var patched = new ArrayList<Relationships.Properties>(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            var property = properties.get(i);
+            patched.add(ImmutableProperties.of(
+                degrees,
+                new TransientAdjacencyList(pages[i]),
+                offsets[i],
+                elementCount,
+                property.orientation(),
+                property.isMultiGraph(),
+                property.defaultPropertyValue()
+            ));
+        }
+        return patched;
+    }
+
+    private static byte[][] pagesOf(AdjacencyList list) {
+        if (!isSupported(list)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Applying relationship changes is not supported for adjacency lists of type %s.",
+                list.getClass().getSimpleName()
+            ));
+        }
+        return ((TransientAdjacencyList) list).pages();
+    }
+
+    private Changes changesOf(long source) {
+        var change = changes.get(source);
+        if (change == null) {
+            change = new Changes();
+            changes.put(source, change);
+        }
+        return change;
+    }
+
+    @ValueClass
+    public interface Patched {
+        Relationships.Topology topology();
+
+        List<Relationships.Properties> properties();
+    }
+
+    private static final class Changes {
+        private final LongArrayList targets = new LongArrayList();
+        private final LongArrayList properties = new LongArrayList();
+        private final LongHashSet removals = new LongHashSet();
+    }
+
+    /**
+     * Appends adjacency lists to new pages which are placed behind the pages of an existing adjacency list.
+     */
+    private static final class PageAppender {
+
+        private final int firstPageIndex;
+        private final List<byte[]> pages;
+        private final AllocationTracker tracker;
+
+        private byte[] page;
+        private int offset;
+
+        PageAppender(int firstPageIndex, AllocationTracker tracker) {
+            this.firstPageIndex = firstPageIndex;
+            this.pages = new ArrayList<>();
+            this.tracker = tracker;
+        }
+
+        long writeTargets(long[] deltas, int degree) {
+            int requiredBytes = 0;
+            for (int i = 0; i < degree; i++) {
+                requiredBytes += encodedVLongSize(deltas[i]);
+            }
+            long address = allocate(requiredBytes);
+            encodeVLongs(deltas, degree, page, offset);
+            offset += requiredBytes;
+            return address;
+        }
+
+        long writeProperties(long[] properties, int degree) {
+            int requiredBytes = degree * Long.BYTES;
+            long address = allocate(requiredBytes);
+            ByteBuffer
+                .wrap(page, offset, requiredBytes)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer()
+                .put(properties, 0, degree);
+            offset += requiredBytes;
+            return address;
+        }
+
+        byte[][] concat(byte[][] existingPages) {
+            var allPages = Arrays.copyOf(existingPages, existingPages.length + pages.size());
+            for (int i = 0; i < pages.size(); i++) {
+                allPages[existingPages.length + i] = pages.get(i);
+            }
+            tracker.add(sizeOfObjectArray(allPages.length));
+            return allPages;
+        }
+
+        /**
+         * Releases the pages written so far, which must not be used afterwards.
+         */
+        void release() {
+            for (byte[] writtenPage : pages) {
+                tracker.remove(sizeOfByteArray(writtenPage.length));
+            }
+            pages.clear();
+            page = null;
+        }
+
+        private long allocate(int size) {
+            if (page == null || offset + size > page.length) {
+                // an address of 0 marks a node without relationships, so the very first page skips its first byte
+                int skip = firstPageIndex + pages.size() == 0 ? 1 : 0;
+                // lists that do not fit into a regular page get a page of their own
+                page = new byte[Math.max(PAGE_SIZE, size + skip)];
+                pages.add(page);
+                tracker.add(sizeOfByteArray(page.length));
+                offset = skip;
+            }
+            return ((long) (firstPageIndex + pages.size() - 1) << PAGE_SHIFT) + offset;
+        }
+    }
+}
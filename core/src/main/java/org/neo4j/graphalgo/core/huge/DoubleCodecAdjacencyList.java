@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.DoubleCodec;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SIZE;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * A relationship property list that stores each value compressed by a {@link DoubleCodec}
+ * instead of as a fixed-width 8 byte long. The values are decoded on the fly by the {@link Cursor},
+ * which returns the raw long bits of each double, just like the cursor of {@link TransientAdjacencyList}.
+ */
+public final class DoubleCodecAdjacencyList implements AdjacencyList {
+
+    // the codecs write at most 10 bytes per value
+    private static final int MAX_COMPRESSED_SIZE = 10;
+
+    private final DoubleCodec codec;
+    private byte[][] pages;
+
+    /**
+     * Re-encodes the given relationship properties with the given codec.
+     * The uncompressed property list is released afterwards, so the given properties can no longer be used.
+     */
+    public static Relationships.Properties compress(
+        Relationships.Properties properties,
+        long nodeCount,
+        DoubleCodec codec,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var degrees = properties.degrees();
+        var list = properties.list();
+        var offsets = properties.offsets();
+
+        var newOffsets = HugeLongArray.newArray(nodeCount, tracker);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new CompressTask(partition, degrees, list, offsets, newOffsets, codec, tracker)
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        var pages = new ArrayList<byte[]>();
+        for (CompressTask task : tasks) {
+            task.rebase(pages.size(), newOffsets);
+            pages.addAll(task.pages);
+        }
+        tracker.add(sizeOfObjectArray(pages.size()));
+
+        if (list instanceof TransientAdjacencyList) {
+            releaseTransientList((TransientAdjacencyList) list, tracker);
+        }
+
+        return ImmutableProperties
+            .copyOf(properties)
+            .withList(new DoubleCodecAdjacencyList(pages.toArray(byte[][]::new), codec))
+            .withOffsets(new TransientAdjacencyOffsets(newOffsets));
+    }
+
+    private static void releaseTransientList(TransientAdjacencyList list, AllocationTracker tracker) {
+        var pages = list.pages();
+        for (byte[] page : pages) {
+            if (page != null) {
+                tracker.remove(sizeOfByteArray(page.length));
+            }
+        }
+        tracker.remove(sizeOfObjectArray(pages.length));
+        list.close();
+    }
+
+    private DoubleCodecAdjacencyList(byte[][] pages, DoubleCodec codec) {
+        this.pages = pages;
+        this.codec = codec;
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+    }
+
+    // Cursors
+
+    @Override
+    public Cursor rawCursor() {
+        return new Cursor(pages, codec);
+    }
+
+    @Override
+    public AdjacencyCursor rawDecompressingCursor() {
+        throw new UnsupportedOperationException("Relationship properties cannot be read as target ids.");
+    }
+
+    public static final class Cursor implements PropertyCursor {
+
+        private final DoubleCodec codec;
+        private final MutableDouble value;
+        private byte[][] pages;
+
+        private byte[] currentPage;
+        private int offset;
+        private int remaining;
+
+        private Cursor(byte[][] pages, DoubleCodec codec) {
+            this.pages = pages;
+            this.codec = codec;
+            this.value = new MutableDouble();
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            offset = codec.decompressDouble(currentPage, offset, value);
+            remaining--;
+            return Double.doubleToRawLongBits(value.doubleValue());
+        }
+
+        @Override
+        public Cursor init(long fromIndex, int degree) {
+            this.remaining = degree;
+            if (degree > 0) {
+                this.currentPage = pages[pageIndex(fromIndex, PAGE_SHIFT)];
+                this.offset = indexInPage(fromIndex, PAGE_MASK);
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            currentPage = null;
+        }
+    }
+
+    private static final class CompressTask implements Runnable {
+
+        private final Partition partition;
+        private final AdjacencyDegrees degrees;
+        private final AdjacencyList list;
+        private final AdjacencyOffsets offsets;
+        private final HugeLongArray newOffsets;
+        private final DoubleCodec codec;
+        private final AllocationTracker tracker;
+        private final List<byte[]> pages;
+
+        private byte[] page;
+        private int pageOffset;
+        private byte[] buffer;
+
+        CompressTask(
+            Partition partition,
+            AdjacencyDegrees degrees,
+            AdjacencyList list,
+            AdjacencyOffsets offsets,
+            HugeLongArray newOffsets,
+            DoubleCodec codec,
+            AllocationTracker tracker
+        ) {
+            this.partition = partition;
+            this.degrees = degrees;
+            this.list = list;
+            this.offsets = offsets;
+            this.newOffsets = newOffsets;
+            this.codec = codec;
+            this.tracker = tracker;
+            this.pages = new ArrayList<>();
+            this.buffer = new byte[0];
+        }
+
+        @Override
+        public void run() {
+            var cursor = list.rawCursor();
+            partition.consume(nodeId -> {
+                int degree = degrees.degree(nodeId);
+                if (degree == 0) {
+                    return;
+                }
+                if (buffer.length < degree * MAX_COMPRESSED_SIZE) {
+                    buffer = new byte[degree * MAX_COMPRESSED_SIZE];
+                }
+                cursor.init(offsets.get(nodeId), degree);
+                int length = 0;
+                while (cursor.hasNextLong()) {
+                    length = codec.compressDouble(cursor.nextLong(), buffer, length);
+                }
+                long address = allocate(length);
+                System.arraycopy(buffer, 0, page, pageOffset, length);
+                pageOffset += length;
+                newOffsets.set(nodeId, address);
+            });
+            cursor.close();
+        }
+
+        /**
+         * Moves the addresses of this partition behind the pages of all previous partitions.
+         */
+        void rebase(int firstPageIndex, HugeLongArray newOffsets) {
+            if (firstPageIndex == 0) {
+                return;
+            }
+            long base = (long) firstPageIndex << PAGE_SHIFT;
+            partition.consume(nodeId -> {
+                if (degrees.degree(nodeId) > 0) {
+                    newOffsets.set(nodeId, newOffsets.get(nodeId) + base);
+                }
+            });
+        }
+
+        private long allocate(int size) {
+            if (page == null || pageOffset + size > page.length) {
+                // an address of 0 marks a node without relationships, so the first page of each partition skips its first byte
+                int skip = pages.isEmpty() ? 1 : 0;
+                // lists that do not fit into a regular page get a page of their own
+                page = new byte[Math.max(PAGE_SIZE, size + skip)];
+                pages.add(page);
+                tracker.add(sizeOfByteArray(page.length));
+                pageOffset = skip;
+            }
+            return ((long) (pages.size() - 1) << PAGE_SHIFT) + pageOffset;
+        }
+    }
+}
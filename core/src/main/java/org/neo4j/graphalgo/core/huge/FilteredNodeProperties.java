@@ -37,6 +37,13 @@ public class FilteredNodeProperties implements NodeProperties {
         this.graph = graph;
     }
 
+    /**
+     * The wrapped properties, which are accessed by the ids translated by {@link #translateId(long)}.
+     */
+    public NodeProperties delegate() {
+        return properties;
+    }
+
     @Override
     public double doubleValue(long nodeId) {
         return properties.doubleValue(translateId(nodeId));
@@ -28,8 +28,11 @@ import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.AdjacencyDegrees;
 import org.neo4j.graphalgo.api.AdjacencyList;
 import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.AdjacencySkipIndex;
 import org.neo4j.graphalgo.api.CSRGraph;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.ImmutableRelationships;
+import org.neo4j.graphalgo.api.ImmutableTopology;
 import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.PropertyCursor;
@@ -105,6 +108,8 @@ public class HugeGraph implements CSRGraph {
     protected AdjacencyList adjacencyList;
     protected AdjacencyDegrees adjacencyDegrees;
     protected AdjacencyOffsets adjacencyOffsets;
+    @Nullable
+    protected AdjacencySkipIndex skipIndex;
 
     protected final double defaultPropertyValue;
     @Nullable
@@ -136,6 +141,7 @@ public class HugeGraph implements CSRGraph {
             topology.list(),
             topology.degrees(),
             topology.offsets(),
+            topology.skipIndex().orElse(null),
             maybeProperties.isPresent(),
             maybeProperties.map(Relationships.Properties::defaultPropertyValue).orElse(Double.NaN),
             maybeProperties.map(Relationships.Properties::list).orElse(null),
@@ -154,6 +160,7 @@ public class HugeGraph implements CSRGraph {
         @NotNull AdjacencyList adjacencyList,
         @NotNull AdjacencyDegrees adjacencyDegrees,
         @NotNull AdjacencyOffsets adjacencyOffsets,
+        @Nullable AdjacencySkipIndex skipIndex,
         boolean hasRelationshipProperty,
         double defaultPropertyValue,
         @Nullable AdjacencyList properties,
@@ -171,6 +178,7 @@ public class HugeGraph implements CSRGraph {
         this.adjacencyList = adjacencyList;
         this.adjacencyDegrees = adjacencyDegrees;
         this.adjacencyOffsets = adjacencyOffsets;
+        this.skipIndex = skipIndex;
         this.defaultPropertyValue = defaultPropertyValue;
         this.properties = properties;
         this.propertyOffsets = propertyOffsets;
@@ -256,6 +264,14 @@ public class HugeGraph implements CSRGraph {
         }
         long propertyOffset = propertyOffsets.get(fromId);
 
+        if (skipIndex != null) {
+            int index = skipIndex.indexOf(fromId, toId);
+            if (index == AdjacencySkipIndex.NOT_FOUND) {
+                return NO_PROPERTY_VALUE;
+            }
+            return Double.longBitsToDouble(propertyAt(propertyOffset, index));
+        }
+
         int degree = adjacencyDegrees.degree(fromId);
         AdjacencyCursor relDecompressingCursor = adjacencyList.decompressingCursor(relOffset, degree);
         PropertyCursor propertyCursor = properties.cursor(propertyOffset, degree);
@@ -272,6 +288,18 @@ public class HugeGraph implements CSRGraph {
         return Double.longBitsToDouble(doubleBits);
     }
 
+    private long propertyAt(long propertyOffset, int index) {
+        // compressed properties have a variable width and must be decoded up to the index
+        if (properties instanceof DoubleCodecAdjacencyList) {
+            PropertyCursor propertyCursor = properties.cursor(propertyOffset, index + 1);
+            for (int i = 0; i < index; i++) {
+                propertyCursor.nextLong();
+            }
+            return propertyCursor.nextLong();
+        }
+        return properties.cursor(propertyOffset + (long) index * Long.BYTES, 1).nextLong();
+    }
+
     @Override
     public NodeProperties nodeProperties(String propertyKey) {
         return nodeProperties.get(propertyKey);
@@ -376,6 +404,7 @@ public class HugeGraph implements CSRGraph {
             adjacencyList,
             adjacencyDegrees,
             adjacencyOffsets,
+            skipIndex,
             hasRelationshipProperty,
             defaultPropertyValue,
             properties,
@@ -388,9 +417,13 @@ public class HugeGraph implements CSRGraph {
 
     /**
      * O(n) !
+     * O(log(n)) if the graph was loaded with an adjacency skip index.
      */
     @Override
     public boolean exists(long sourceNodeId, long targetNodeId) {
+        if (skipIndex != null) {
+            return skipIndex.indexOf(sourceNodeId, targetNodeId) != AdjacencySkipIndex.NOT_FOUND;
+        }
         var cursor = adjacencyCursorForIteration(sourceNodeId);
         return cursor.advance(targetNodeId) == targetNodeId;
     }
@@ -463,6 +496,10 @@ public class HugeGraph implements CSRGraph {
             adjacencyOffsets.close();
             adjacencyOffsets = null;
         }
+        if (skipIndex != null) {
+            skipIndex.close();
+            skipIndex = null;
+        }
         if (properties != null) {
             properties.close();
             properties = null;
@@ -501,7 +538,7 @@ public class HugeGraph implements CSRGraph {
     }
 
     public Relationships relationships() {
-        return Relationships.of(
+        var relationships = Relationships.of(
             relationshipCount,
             orientation,
             isMultiGraph(),
@@ -512,6 +549,15 @@ public class HugeGraph implements CSRGraph {
             propertyOffsets,
             defaultPropertyValue
         );
+
+        if (skipIndex == null) {
+            return relationships;
+        }
+
+        return ImmutableRelationships.of(
+            ImmutableTopology.copyOf(relationships.topology()).withSkipIndex(skipIndex),
+            relationships.properties()
+        );
     }
 
     @Override
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.core.loading.MutableIntValue;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * An adjacency list with the same layout as {@link TransientAdjacencyList},
+ * whose pages are held in direct memory instead of on the heap.
+ * <p>
+ * The pages are reference counted: the list holds one reference, which is released
+ * when the list is closed, i.e. when the graph is removed from the catalog.
+ * Every cursor holds another one until it is closed, because algorithms and result streams
+ * may still be reading from the graph at that point. Cursors that are never closed
+ * release their reference once they have been garbage collected.
+ * The direct memory is freed as soon as the last reference has been released and it is
+ * accounted for in the {@link AllocationTracker} until then.
+ * <p>
+ * The buffers count towards the direct memory limit of the JVM, which defaults to the
+ * maximum heap size. Projecting large graphs off-heap requires raising the limit
+ * with {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * The pages can also be served from memory mappings of a file, see {@link #ofMapped(ByteBuffer[], MappedByteBuffer[])}.
+ * Those are unmapped instead of freed and do not count towards the direct memory limit.
+ */
+public final class OffHeapAdjacencyList implements AdjacencyList {
+
+    private static final Cleaner CURSOR_CLEANER = Cleaner.create();
+    private static final @Nullable MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final Pages pages;
+    private boolean closed;
+
+    /**
+     * Copies the pages of the given list into direct memory.
+     * Each heap page is released as soon as it has been copied,
+     * so the given list can no longer be used afterwards.
+     */
+    public static OffHeapAdjacencyList moveFrom(TransientAdjacencyList adjacencyList, AllocationTracker tracker) {
+        byte[][] heapPages = adjacencyList.pages();
+        ByteBuffer[] pages = new ByteBuffer[heapPages.length];
+        long allocated = 0L;
+        for (int i = 0; i < heapPages.length; i++) {
+            byte[] heapPage = heapPages[i];
+            if (heapPage == null) {
+                continue;
+            }
+            ByteBuffer page = ByteBuffer.allocateDirect(heapPage.length).order(ByteOrder.LITTLE_ENDIAN);
+            page.put(heapPage).clear();
+            pages[i] = page;
+            heapPages[i] = null;
+            tracker.add(heapPage.length);
+            allocated += heapPage.length;
+            tracker.remove(sizeOfByteArray(heapPage.length));
+        }
+        adjacencyList.close();
+        return new OffHeapAdjacencyList(pages, pages.clone(), allocated, tracker);
+    }
+
+    /**
+     * Serves the given pages straight from memory mappings of a file.
+     * The pages may be slices of the given mappings, which are unmapped once the last reference
+     * has been released. Mapped memory is managed by the page cache of the operating system
+     * and is not accounted for in an {@link AllocationTracker}.
+     */
+    public static OffHeapAdjacencyList ofMapped(ByteBuffer[] pages, MappedByteBuffer[] mappings) {
+        return new OffHeapAdjacencyList(pages, mappings, 0L, AllocationTracker.empty());
+    }
+
+    private OffHeapAdjacencyList(
+        ByteBuffer[] pages,
+        ByteBuffer[] memory,
+        long allocated,
+        AllocationTracker tracker
+    ) {
+        this.pages = new Pages(pages, memory, allocated, tracker);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pages.release();
+    }
+
+    // Cursors
+
+    @Override
+    public Cursor rawCursor() {
+        return new Cursor(pages);
+    }
+
+    @Override
+    public AdjacencyCursor rawDecompressingCursor() {
+        return new DecompressingCursor(pages);
+    }
+
+    /**
+     * The pages together with the number of references to them.
+     * The memory backing the pages is freed when the count drops to zero and the pages
+     * cannot be acquired afterwards.
+     */
+    private static final class Pages {
+
+        private final ByteBuffer[] buffers;
+        private final ByteBuffer[] memory;
+        private final long allocated;
+        private final AllocationTracker tracker;
+        private final AtomicInteger references;
+
+        Pages(ByteBuffer[] buffers, ByteBuffer[] memory, long allocated, AllocationTracker tracker) {
+            this.buffers = buffers;
+            this.memory = memory;
+            this.allocated = allocated;
+            this.tracker = tracker;
+            this.references = new AtomicInteger(1);
+        }
+
+        ByteBuffer[] acquire() {
+            int current;
+            do {
+                current = references.get();
+                if (current == 0) {
+                    throw new IllegalStateException("The off-heap adjacency list has already been released.");
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return buffers;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                Arrays.fill(buffers, null);
+                for (int i = 0; i < memory.length; i++) {
+                    ByteBuffer buffer = memory[i];
+                    if (buffer != null) {
+                        memory[i] = null;
+                        free(buffer);
+                    }
+                }
+                tracker.remove(allocated);
+            }
+        }
+    }
+
+    /**
+     * Frees the direct memory of the given buffer or unmaps it, if it is a memory mapping.
+     * If the JVM does not allow that, the memory is freed once the buffer has been garbage collected.
+     */
+    private static void free(ByteBuffer page) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(page);
+        } catch (Throwable e) {
+            // the buffer is unreachable at this point and will be freed by the garbage collector
+        }
+    }
+
+    private static @Nullable MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public static final class Cursor extends MutableIntValue implements PropertyCursor {
+
+        private final Cleaner.Cleanable reference;
+        private ByteBuffer[] pages;
+
+        private ByteBuffer currentPage;
+        private int offset;
+        private int limit;
+
+        private Cursor(Pages pages) {
+            this.pages = pages.acquire();
+            this.reference = CURSOR_CLEANER.register(this, pages::release);
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return offset < limit;
+        }
+
+        @Override
+        public long nextLong() {
+            long value = currentPage.getLong(offset);
+            offset += Long.BYTES;
+            return value;
+        }
+
+        @Override
+        public Cursor init(long fromIndex, int degree) {
+            this.currentPage = pages[pageIndex(fromIndex, PAGE_SHIFT)];
+            this.offset = indexInPage(fromIndex, PAGE_MASK);
+            this.limit = offset + degree * Long.BYTES;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            currentPage = null;
+            offset = limit;
+            reference.clean();
+        }
+    }
+
+    /**
+     * Decodes the compressed targets of the current node directly from the direct buffer.
+     */
+    public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private final Cleaner.Cleanable reference;
+        private ByteBuffer[] pages;
+        private final AdjacencyDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private DecompressingCursor(Pages pages) {
+            this.pages = pages.acquire();
+            this.reference = CURSOR_CLEANER.register(this, pages::release);
+            this.decompress = new AdjacencyDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            currentPosition = 0;
+            if (degree == 0) {
+                maxTargets = 0;
+                return;
+            }
+            maxTargets = decompress.reset(
+                pages[pageIndex(fromIndex, PAGE_SHIFT)],
+                indexInPage(fromIndex, PAGE_MASK),
+                degree
+            );
+        }
+
+        /**
+         * Copy iteration state from another cursor without changing {@code other}.
+         */
+        @Override
+        public void copyFrom(AdjacencyCursor other) {
+            assert(other instanceof DecompressingCursor);
+            var theOther = ((DecompressingCursor) other);
+            decompress.copyFrom(theOther.decompress);
+            currentPosition = theOther.currentPosition;
+            maxTargets = theOther.maxTargets;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if(targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            maxTargets = 0;
+            currentPosition = 0;
+            decompress.clear();
+            reference.clean();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+
+/**
+ * Degrees that overwrite the degrees of a few nodes of shared base degrees.
+ * Patching already patched degrees applies the new changes to a copy of the
+ * existing patches, so that there is at most one level of indirection.
+ * Nodes that have been added after the base degrees were created have a degree
+ * of zero, unless they are patched.
+ * <p>
+ * The degrees also count the relationships of all adjacency lists that have been
+ * replaced since the base degrees were created, which are no longer referenced
+ * but still part of the shared adjacency pages.
+ */
+final class PatchedAdjacencyDegrees implements AdjacencyDegrees {
+
+    private final AdjacencyDegrees base;
+    private final long baseNodeCount;
+    private final BitSet patched;
+    private final LongIntHashMap patches;
+    private long supersededElements;
+
+    static PatchedAdjacencyDegrees of(AdjacencyDegrees degrees, long previousNodeCount, long nodeCount) {
+        if (degrees instanceof PatchedAdjacencyDegrees) {
+            var patchedDegrees = (PatchedAdjacencyDegrees) degrees;
+            return new PatchedAdjacencyDegrees(
+                patchedDegrees.base,
+                patchedDegrees.baseNodeCount,
+                (BitSet) patchedDegrees.patched.clone(),
+                new LongIntHashMap(patchedDegrees.patches),
+                patchedDegrees.supersededElements
+            );
+        }
+        return new PatchedAdjacencyDegrees(degrees, previousNodeCount, new BitSet(nodeCount), new LongIntHashMap(), 0L);
+    }
+
+    private PatchedAdjacencyDegrees(
+        AdjacencyDegrees base,
+        long baseNodeCount,
+        BitSet patched,
+        LongIntHashMap patches,
+        long supersededElements
+    ) {
+        this.base = base;
+        this.baseNodeCount = baseNodeCount;
+        this.patched = patched;
+        this.patches = patches;
+        this.supersededElements = supersededElements;
+    }
+
+    void set(long node, int degree) {
+        patched.set(node);
+        patches.put(node, degree);
+    }
+
+    void addSupersededElements(long elements) {
+        supersededElements += elements;
+    }
+
+    long supersededElements() {
+        return supersededElements;
+    }
+
+    @Override
+    public int degree(long node) {
+        if (patched.get(node)) {
+            return patches.get(node);
+        }
+        return node < baseNodeCount ? base.degree(node) : 0;
+    }
+
+    @Override
+    public void close() {
+        // the base degrees are shared with other graph stores
+    }
+}
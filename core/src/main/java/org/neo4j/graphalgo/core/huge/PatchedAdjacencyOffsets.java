@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+
+/**
+ * Offsets that overwrite the offsets of a few nodes of shared base offsets.
+ *
+ * @see PatchedAdjacencyDegrees
+ */
+final class PatchedAdjacencyOffsets implements AdjacencyOffsets {
+
+    private final AdjacencyOffsets base;
+    private final long baseNodeCount;
+    private final BitSet patched;
+    private final LongLongHashMap patches;
+
+    static PatchedAdjacencyOffsets of(AdjacencyOffsets offsets, long previousNodeCount, long nodeCount) {
+        if (offsets instanceof PatchedAdjacencyOffsets) {
+            var patchedOffsets = (PatchedAdjacencyOffsets) offsets;
+            return new PatchedAdjacencyOffsets(
+                patchedOffsets.base,
+                patchedOffsets.baseNodeCount,
+                (BitSet) patchedOffsets.patched.clone(),
+                new LongLongHashMap(patchedOffsets.patches)
+            );
+        }
+        return new PatchedAdjacencyOffsets(offsets, previousNodeCount, new BitSet(nodeCount), new LongLongHashMap());
+    }
+
+    private PatchedAdjacencyOffsets(
+        AdjacencyOffsets base,
+        long baseNodeCount,
+        BitSet patched,
+        LongLongHashMap patches
+    ) {
+        this.base = base;
+        this.baseNodeCount = baseNodeCount;
+        this.patched = patched;
+        this.patches = patches;
+    }
+
+    void set(long node, long offset) {
+        patched.set(node);
+        patches.put(node, offset);
+    }
+
+    @Override
+    public long get(long index) {
+        if (patched.get(index)) {
+            return patches.get(index);
+        }
+        return index < baseNodeCount ? base.get(index) : 0L;
+    }
+
+    @Override
+    public void close() {
+        // the base offsets are shared with other graph stores
+    }
+}
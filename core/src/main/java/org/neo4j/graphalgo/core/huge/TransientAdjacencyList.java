@@ -126,6 +126,14 @@ public final class TransientAdjacencyList implements AdjacencyList {
         pages = null;
     }
 
+    /**
+     * Returns the underlying pages, e.g. for exporting them as they are.
+     * The pages must not be modified.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
     // Cursors
 
     @Override
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.AdjacencySkipIndex;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Sparse checkpoint table over a compressed {@link TransientAdjacencyList}.
+ * <p>
+ * For every adjacency list, the index stores a checkpoint for every {@link #BLOCK_SIZE}-th target,
+ * consisting of the absolute target id and the byte offset of the following target relative to the
+ * start of the list. A lookup binary searches the checkpoints of the source node and decodes at most
+ * one block of delta encoded targets, which turns {@code exists} and property lookups from
+ * {@code O(degree)} into {@code O(log(degree) + BLOCK_SIZE)}.
+ * <p>
+ * Adjacency lists with at most {@link #BLOCK_SIZE} targets do not get any checkpoints.
+ * <p>
+ * An index over a patched adjacency list shares the checkpoints of all unchanged nodes
+ * with the index it has been patched from and only stores the checkpoints of patched nodes.
+ */
+public final class TransientAdjacencySkipIndex implements AdjacencySkipIndex {
+
+    public static final int BLOCK_SIZE = AdjacencyDecompressingReader.CHUNK_SIZE;
+
+    private byte[][] pages;
+    private final AdjacencyOffsets offsets;
+    private final AdjacencyDegrees degrees;
+
+    // index of the first checkpoint per source node
+    private final HugeLongArray blockStarts;
+    // absolute target id at position (k + 1) * BLOCK_SIZE
+    private final HugeLongArray blockTargets;
+    // byte offset of the target at position (k + 1) * BLOCK_SIZE + 1, relative to the adjacency offset
+    private final HugeIntArray blockOffsets;
+
+    // the checkpoints of the nodes that have been patched since the shared checkpoints were built
+    private final LongLongHashMap patchedBlockStarts;
+    private final HugeLongArray patchedBlockTargets;
+    private final HugeIntArray patchedBlockOffsets;
+
+    public static MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations
+            .builder(TransientAdjacencySkipIndex.class)
+            .perNode("block starts", HugeLongArray::memoryEstimation)
+            .rangePerGraphDimension("checkpoints", (dimensions, concurrency) -> {
+                long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+                long relCount = undirected ? relCountForType * 2 : relCountForType;
+                // Best case: no adjacency list exceeds the block size and no checkpoint is needed.
+                // Worst case: a single adjacency list holds all relationships.
+                long maxBlocks = relCount / BLOCK_SIZE;
+                return MemoryRange.of(
+                    HugeLongArray.memoryEstimation(0) + HugeIntArray.memoryEstimation(0),
+                    HugeLongArray.memoryEstimation(maxBlocks) + HugeIntArray.memoryEstimation(maxBlocks)
+                );
+            })
+            .build();
+    }
+
+    public static TransientAdjacencySkipIndex build(
+        long nodeCount,
+        TransientAdjacencyList adjacencyList,
+        AdjacencyOffsets offsets,
+        AdjacencyDegrees degrees,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var blockStarts = HugeLongArray.newArray(nodeCount, tracker);
+        long blockCount = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            blockStarts.set(nodeId, blockCount);
+            blockCount += blockCount(degrees.degree(nodeId));
+        }
+
+        var blockTargets = HugeLongArray.newArray(blockCount, tracker);
+        var blockOffsets = HugeIntArray.newArray(blockCount, tracker);
+        var pages = adjacencyList.pages();
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> fillCheckpoints(
+            pages,
+            offsets.get(nodeId),
+            degrees.degree(nodeId),
+            blockStarts.get(nodeId),
+            blockTargets,
+            blockOffsets
+        ));
+
+        return new TransientAdjacencySkipIndex(
+            pages,
+            offsets,
+            degrees,
+            blockStarts,
+            blockTargets,
+            blockOffsets,
+            new LongLongHashMap(),
+            HugeLongArray.newArray(0, tracker),
+            HugeIntArray.newArray(0, tracker)
+        );
+    }
+
+    /**
+     * Returns an index over a patched version of the indexed adjacency list, in which only the adjacency
+     * lists of {@code changedNodes} differ. The pages of the patched list must start with the pages of
+     * the indexed list, so that the offsets of all unchanged nodes stay valid.
+     * <p>
+     * The checkpoints of nodes that have never been patched are shared with this index. The patched
+     * index only stores the checkpoints of the changed nodes and of the nodes patched before,
+     * whose checkpoints are copied without decoding their adjacency lists.
+     */
+    TransientAdjacencySkipIndex patch(
+        long[] changedNodes,
+        TransientAdjacencyList adjacencyList,
+        AdjacencyOffsets offsets,
+        AdjacencyDegrees degrees,
+        AllocationTracker tracker
+    ) {
+        var changed = new LongHashSet(changedNodes.length);
+        changed.addAll(changedNodes);
+
+        long patchedBlockCount = 0L;
+        for (var cursor : patchedBlockStarts) {
+            if (!changed.contains(cursor.key)) {
+                patchedBlockCount += blockCount(degrees.degree(cursor.key));
+            }
+        }
+        for (long nodeId : changedNodes) {
+            patchedBlockCount += blockCount(degrees.degree(nodeId));
+        }
+
+        var newBlockStarts = new LongLongHashMap(patchedBlockStarts.size() + changedNodes.length);
+        var newBlockTargets = HugeLongArray.newArray(patchedBlockCount, tracker);
+        var newBlockOffsets = HugeIntArray.newArray(patchedBlockCount, tracker);
+        var patchedPages = adjacencyList.pages();
+
+        long block = 0L;
+        for (var cursor : patchedBlockStarts) {
+            if (!changed.contains(cursor.key)) {
+                int blocks = blockCount(degrees.degree(cursor.key));
+                for (int i = 0; i < blocks; i++) {
+                    newBlockTargets.set(block + i, patchedBlockTargets.get(cursor.value + i));
+                    newBlockOffsets.set(block + i, patchedBlockOffsets.get(cursor.value + i));
+                }
+                newBlockStarts.put(cursor.key, block);
+                block += blocks;
+            }
+        }
+        for (long nodeId : changedNodes) {
+            int degree = degrees.degree(nodeId);
+            newBlockStarts.put(nodeId, block);
+            fillCheckpoints(patchedPages, offsets.get(nodeId), degree, block, newBlockTargets, newBlockOffsets);
+            block += blockCount(degree);
+        }
+
+        return new TransientAdjacencySkipIndex(
+            patchedPages,
+            offsets,
+            degrees,
+            blockStarts,
+            blockTargets,
+            blockOffsets,
+            newBlockStarts,
+            newBlockTargets,
+            newBlockOffsets
+        );
+    }
+
+    private static void fillCheckpoints(
+        byte[][] pages,
+        long offset,
+        int degree,
+        long block,
+        HugeLongArray blockTargets,
+        HugeIntArray blockOffsets
+    ) {
+        int blocks = blockCount(degree);
+        if (blocks == 0) {
+            return;
+        }
+        byte[] page = pages[pageIndex(offset, PAGE_SHIFT)];
+        int start = indexInPage(offset, PAGE_MASK);
+        int position = start;
+        long value = 0L;
+        int lastCheckpoint = blocks * BLOCK_SIZE;
+
+        for (int index = 0; index <= lastCheckpoint; index++) {
+            long delta = 0L;
+            int shift = 0;
+            byte input;
+            do {
+                input = page[position++];
+                delta |= (input & 127L) << shift;
+                shift += 7;
+            } while ((input & 128) == 0);
+            value += delta;
+
+            if (index > 0 && index % BLOCK_SIZE == 0) {
+                blockTargets.set(block, value);
+                blockOffsets.set(block, position - start);
+                block++;
+            }
+        }
+    }
+
+    private TransientAdjacencySkipIndex(
+        byte[][] pages,
+        AdjacencyOffsets offsets,
+        AdjacencyDegrees degrees,
+        HugeLongArray blockStarts,
+        HugeLongArray blockTargets,
+        HugeIntArray blockOffsets,
+        LongLongHashMap patchedBlockStarts,
+        HugeLongArray patchedBlockTargets,
+        HugeIntArray patchedBlockOffsets
+    ) {
+        this.pages = pages;
+        this.offsets = offsets;
+        this.degrees = degrees;
+        this.blockStarts = blockStarts;
+        this.blockTargets = blockTargets;
+        this.blockOffsets = blockOffsets;
+        this.patchedBlockStarts = patchedBlockStarts;
+        this.patchedBlockTargets = patchedBlockTargets;
+        this.patchedBlockOffsets = patchedBlockOffsets;
+    }
+
+    @Override
+    public int indexOf(long source, long target) {
+        int degree = degrees.degree(source);
+        long offset = offsets.get(source);
+        if (degree == 0 || offset == 0L) {
+            return NOT_FOUND;
+        }
+
+        // find the last checkpoint with a target strictly smaller than the searched one,
+        // everything before that checkpoint is smaller as well, which preserves first-occurrence
+        // semantics for parallel relationships
+        long firstBlock;
+        HugeLongArray targets;
+        HugeIntArray targetOffsets;
+        int patchedSlot = patchedBlockStarts.indexOf(source);
+        if (patchedBlockStarts.indexExists(patchedSlot)) {
+            firstBlock = patchedBlockStarts.indexGet(patchedSlot);
+            targets = patchedBlockTargets;
+            targetOffsets = patchedBlockOffsets;
+        } else {
+            firstBlock = blockStarts.get(source);
+            targets = blockTargets;
+            targetOffsets = blockOffsets;
+        }
+        int low = 0;
+        int high = blockCount(degree) - 1;
+        int block = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (targets.get(firstBlock + mid) < target) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        byte[] page = pages[pageIndex(offset, PAGE_SHIFT)];
+        int position = indexInPage(offset, PAGE_MASK);
+        int index = 0;
+        long value = 0L;
+        if (block >= 0) {
+            position += targetOffsets.get(firstBlock + block);
+            index = (block + 1) * BLOCK_SIZE + 1;
+            value = targets.get(firstBlock + block);
+        }
+
+        for (; index < degree; index++) {
+            long delta = 0L;
+            int shift = 0;
+            byte input;
+            do {
+                input = page[position++];
+                delta |= (input & 127L) << shift;
+                shift += 7;
+            } while ((input & 128) == 0);
+            value += delta;
+
+            if (value >= target) {
+                return value == target ? index : NOT_FOUND;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns an index that shares all checkpoints with this index,
+     * but can be closed independently of it.
+     */
+    TransientAdjacencySkipIndex copy() {
+        return new TransientAdjacencySkipIndex(
+            pages,
+            offsets,
+            degrees,
+            blockStarts,
+            blockTargets,
+            blockOffsets,
+            patchedBlockStarts,
+            patchedBlockTargets,
+            patchedBlockOffsets
+        );
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+    }
+
+    private static int blockCount(int degree) {
+        return degree > 0 ? (degree - 1) / BLOCK_SIZE : 0;
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.api.CSRGraph;
 import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.ImmutableRelationshipProperty;
 import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.NodeProperty;
@@ -38,8 +39,10 @@ import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.api.schema.GraphSchema;
 import org.neo4j.graphalgo.api.schema.NodeSchema;
 import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.ProcedureConstants;
+import org.neo4j.graphalgo.core.huge.AdjacencyDelta;
 import org.neo4j.graphalgo.core.huge.CSRCompositeRelationshipIterator;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.NodeFilteredGraph;
@@ -53,6 +56,7 @@ import org.neo4j.kernel.database.NamedDatabaseId;
 import org.neo4j.values.storable.NumberType;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -62,6 +66,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -276,6 +281,22 @@ public class CSRGraphStore implements GraphStore {
         return relationships.get(relationshipType).elementCount();
     }
 
+    /**
+     * Returns the stored topology of the given relationship type.
+     * In contrast to {@link #getGraph(RelationshipType)}, no graph is created.
+     */
+    public Relationships.Topology relationshipTopology(RelationshipType relationshipType) {
+        return relationships.get(relationshipType);
+    }
+
+    /**
+     * Returns the stored values of the given relationship property.
+     * In contrast to {@link #getGraph(RelationshipType, Optional)}, no graph is created.
+     */
+    public Relationships.Properties relationshipPropertyValues(RelationshipType relationshipType, String propertyKey) {
+        return relationshipProperties.get(relationshipType).get(propertyKey).values();
+    }
+
     @Override
     public boolean hasRelationshipProperty(Collection<RelationshipType> relTypes, String propertyKey) {
         return relTypes
@@ -467,6 +488,189 @@ public class CSRGraphStore implements GraphStore {
         }
     }
 
+    /**
+     * Returns a new graph store with the node and relationship additions and removals of the given delta applied.
+     * <p>
+     * This graph store is not modified. The new graph store shares the node properties and all
+     * unchanged adjacency pages with this graph store, only the adjacency lists of nodes with changed
+     * relationships are copied. Releasing one of the graph stores does not affect the other one.
+     * Once the replaced adjacency lists hold more relationships than the new graph store, or if nodes
+     * are removed, the adjacency lists are rewritten instead.
+     * <p>
+     * Skip indexes of patched topologies are updated incrementally, only the checkpoints of nodes with
+     * changed relationships are computed.
+     * <p>
+     * Added nodes are appended to the internal id space, removed nodes are dropped from it, which changes
+     * the internal ids of all following nodes. Graph stores with relationships held off-heap or with
+     * compressed relationship properties cannot be changed.
+     * Use {@link GraphStoreCatalog#applyDelta} to replace a graph in the catalog with the new graph store.
+     */
+    public CSRGraphStore applyDelta(GraphStoreDelta delta) {
+        validateDeltaSupport();
+
+        var nodesDelta = NodesDelta.of(nodes, delta, concurrency, tracker);
+        var newNodes = nodesDelta.nodes();
+
+        var propertyKeys = new HashMap<RelationshipType, List<String>>();
+        var deltas = new HashMap<RelationshipType, AdjacencyDelta>();
+        relationships.keySet().forEach(relationshipType -> {
+            var keys = new ArrayList<>(relationshipPropertyKeys(relationshipType));
+            propertyKeys.put(relationshipType, keys);
+            deltas.put(relationshipType, new AdjacencyDelta(keys.size()));
+        });
+
+        delta.removals().forEach(removal -> forEachDirection(
+            removal,
+            newNodes,
+            deltas,
+            (source, target) -> deltas.get(removal.relationshipType()).remove(source, target)
+        ));
+
+        delta.additions().forEach(addition -> {
+            var relationshipType = addition.relationshipType();
+            var keys = propertyKeys.getOrDefault(relationshipType, List.of());
+            addition.properties().keySet().forEach(propertyKey -> {
+                if (!keys.contains(propertyKey)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Property '%s' does not exist for relationships with type '%s'.",
+                        propertyKey,
+                        relationshipType.name
+                    ));
+                }
+            });
+            double[] values = keys
+                .stream()
+                .mapToDouble(propertyKey -> addition.properties().getOrDefault(
+                    propertyKey,
+                    relationshipProperties.get(relationshipType).get(propertyKey).values().defaultPropertyValue()
+                ))
+                .toArray();
+            forEachDirection(
+                addition,
+                newNodes,
+                deltas,
+                (source, target) -> deltas.get(relationshipType).add(source, target, values)
+            );
+        });
+
+        var patchedTopologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var patchedPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        deltas.forEach((relationshipType, relationshipDelta) -> {
+            var keys = propertyKeys.get(relationshipType);
+            var properties = keys
+                .stream()
+                .map(propertyKey -> relationshipProperties.get(relationshipType).get(propertyKey).values())
+                .collect(Collectors.toList());
+
+            var patched = nodesDelta.hasRemovals()
+                ? relationshipDelta.rewrite(
+                    relationships.get(relationshipType),
+                    properties,
+                    newNodes.nodeCount(),
+                    nodesDelta.toPreviousNodeId(),
+                    nodesDelta.toNodeId(),
+                    concurrency,
+                    tracker
+                )
+                : relationshipDelta.apply(
+                    relationships.get(relationshipType),
+                    properties,
+                    nodesDelta.previousNodeCount(),
+                    newNodes.nodeCount(),
+                    concurrency,
+                    tracker
+                );
+            patchedTopologies.put(relationshipType, patched.topology());
+
+            if (relationshipProperties.containsKey(relationshipType)) {
+                var propertyStoreBuilder = RelationshipPropertyStore.builder();
+                for (int i = 0; i < keys.size(); i++) {
+                    var propertyKey = keys.get(i);
+                    var property = relationshipProperties.get(relationshipType).get(propertyKey);
+                    propertyStoreBuilder.putIfAbsent(
+                        propertyKey,
+                        ImmutableRelationshipProperty.of(patched.properties().get(i), property.propertySchema())
+                    );
+                }
+                patchedPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+            }
+        });
+
+        return new CSRGraphStore(
+            databaseId,
+            newNodes,
+            nodesDelta.remapProperties(nodeProperties, tracker),
+            patchedTopologies,
+            patchedPropertyStores,
+            concurrency,
+            tracker
+        );
+    }
+
+    private void validateDeltaSupport() {
+        relationships.forEach((relationshipType, topology) -> {
+            var properties = relationshipProperties.getOrDefault(relationshipType, RelationshipPropertyStore.empty());
+            boolean supported = AdjacencyDelta.isSupported(topology.list()) && properties
+                .values()
+                .stream()
+                .allMatch(property -> AdjacencyDelta.isSupported(property.values().list()));
+            if (!supported) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationships of type '%s' cannot be changed, because they are held off-heap or their properties are compressed. " +
+                    "Applying a delta requires a graph that has been created without `%s` and `%s`.",
+                    relationshipType.name,
+                    GraphCreateConfig.OFF_HEAP_ADJACENCY_KEY,
+                    GraphCreateConfig.COMPRESS_RELATIONSHIP_PROPERTIES_KEY
+                ));
+            }
+        });
+    }
+
+    private void forEachDirection(
+        GraphStoreDelta.RelationshipChange change,
+        NodeMapping nodes,
+        Map<RelationshipType, AdjacencyDelta> deltas,
+        BiConsumer<Long, Long> consumer
+    ) {
+        var relationshipType = change.relationshipType();
+        if (!deltas.containsKey(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationships have been loaded for relationship type '%s'",
+                relationshipType.name
+            ));
+        }
+
+        long source = mappedNodeId(nodes, change.sourceNodeId());
+        long target = mappedNodeId(nodes, change.targetNodeId());
+        switch (relationships.get(relationshipType).orientation()) {
+            case NATURAL:
+                consumer.accept(source, target);
+                break;
+            case REVERSE:
+                consumer.accept(target, source);
+                break;
+            case UNDIRECTED:
+                consumer.accept(source, target);
+                consumer.accept(target, source);
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported orientation %s",
+                    relationships.get(relationshipType).orientation()
+                ));
+        }
+    }
+
+    private static long mappedNodeId(NodeMapping nodes, long originalNodeId) {
+        if (!nodes.contains(originalNodeId)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d is not part of the graph store.",
+                originalNodeId
+            ));
+        }
+        return nodes.toMappedNodeId(originalNodeId);
+    }
+
     @Override
     public long nodeCount() {
         return nodes.nodeCount();
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * A lossless {@link DoubleCodec} that picks the smallest of four representations for every value.
+ * Each value starts with a header byte whose lowest two bits store the type:
+ *
+ * <ul>
+ *     <li>{@code 0}: an integral value in {@code [0, 63]}, stored in the upper six bits of the header (1 byte)</li>
+ *     <li>{@code 1}: an integral value of at most 53 bits, stored as zig-zag var-long after the header (2-9 bytes)</li>
+ *     <li>{@code 2}: a value that is exactly representable as {@code float}, stored as its 4 float bits (5 bytes)</li>
+ *     <li>{@code 3}: any other value, stored as its 8 double bits (9 bytes)</li>
+ * </ul>
+ *
+ * Relationship weights are often small integers stored as doubles, which take one or two bytes with this codec.
+ */
+public final class CompactDoubleCodec extends DoubleCodec {
+
+    private static final DoubleCodec INSTANCE = new CompactDoubleCodec();
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    static final int TYPE_SMALL_INTEGER = 0;
+    static final int TYPE_INTEGER = 1;
+    static final int TYPE_FLOAT = 2;
+    static final int TYPE_DOUBLE = 3;
+
+    private static final int TYPE_MASK = 3;
+    private static final int SMALL_INTEGER_SHIFT = 2;
+    private static final long SMALL_INTEGER_LIMIT = 1L << (Byte.SIZE - SMALL_INTEGER_SHIFT);
+    private static final long MAX_EXACT_INTEGER = 1L << SIGNIFICAND_WIDTH;
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        double value = Double.longBitsToDouble(doubleBits);
+
+        if (Math.abs(value) <= MAX_EXACT_INTEGER) {
+            long integral = (long) value;
+            // compare the bits to exclude -0.0 and fractional values
+            if (Double.doubleToRawLongBits((double) integral) == doubleBits) {
+                if (integral >= 0 && integral < SMALL_INTEGER_LIMIT) {
+                    out[outPos] = (byte) (integral << SMALL_INTEGER_SHIFT | TYPE_SMALL_INTEGER);
+                    return outPos + 1;
+                }
+                out[outPos++] = TYPE_INTEGER;
+                long zigZag = (integral << 1) ^ (integral >> 63);
+                while ((zigZag & ~0x7FL) != 0) {
+                    out[outPos++] = (byte) ((zigZag & 0x7F) | 0x80);
+                    zigZag >>>= 7;
+                }
+                out[outPos++] = (byte) zigZag;
+                return outPos;
+            }
+        }
+
+        float floatValue = (float) value;
+        if (Double.doubleToRawLongBits(floatValue) == doubleBits) {
+            out[outPos++] = TYPE_FLOAT;
+            return writeLittleEndian(Float.floatToRawIntBits(floatValue), Integer.BYTES, out, outPos);
+        }
+
+        out[outPos++] = TYPE_DOUBLE;
+        return writeLittleEndian(doubleBits, Long.BYTES, out, outPos);
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int header = data[pos++] & 0xFF;
+        switch (header & TYPE_MASK) {
+            case TYPE_SMALL_INTEGER:
+                out.setValue(header >>> SMALL_INTEGER_SHIFT);
+                return pos;
+            case TYPE_INTEGER:
+                long zigZag = 0L;
+                int shift = 0;
+                byte current;
+                do {
+                    current = data[pos++];
+                    zigZag |= (current & 0x7FL) << shift;
+                    shift += 7;
+                } while (current < 0);
+                out.setValue((double) ((zigZag >>> 1) ^ -(zigZag & 1)));
+                return pos;
+            case TYPE_FLOAT:
+                out.setValue(Float.intBitsToFloat((int) readLittleEndian(data, pos, Integer.BYTES)));
+                return pos + Integer.BYTES;
+            default:
+                out.setValue(Double.longBitsToDouble(readLittleEndian(data, pos, Long.BYTES)));
+                return pos + Long.BYTES;
+        }
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        switch (data[pos] & TYPE_MASK) {
+            case TYPE_SMALL_INTEGER:
+                return 1;
+            case TYPE_INTEGER:
+                int size = 2;
+                while (data[pos + size - 1] < 0) {
+                    size++;
+                }
+                return size;
+            case TYPE_FLOAT:
+                return 1 + Integer.BYTES;
+            default:
+                return 1 + Long.BYTES;
+        }
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        switch (type) {
+            case TYPE_SMALL_INTEGER:
+                return "SMALL_INTEGER";
+            case TYPE_INTEGER:
+                return "INTEGER";
+            case TYPE_FLOAT:
+                return "FLOAT";
+            case TYPE_DOUBLE:
+                return "DOUBLE";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        int size = compressedSize(data, pos);
+        int type = data[pos] & TYPE_MASK;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + size))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(size)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+
+    private static int writeLittleEndian(long value, int bytes, byte[] out, int outPos) {
+        for (int i = 0; i < bytes; i++) {
+            out[outPos++] = (byte) (value >>> (i * Byte.SIZE));
+        }
+        return outPos;
+    }
+
+    private static long readLittleEndian(byte[] data, int pos, int bytes) {
+        long value = 0L;
+        for (int i = 0; i < bytes; i++) {
+            value |= (data[pos + i] & 0xFFL) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+
+    private CompactDoubleCodec() {
+    }
+}
@@ -114,7 +114,11 @@ public class CypherFactory extends CSRGraphStoreFactory<GraphCreateFromCypherCon
             relationshipProjection
         );
 
-        return NativeFactory.getMemoryEstimation(nodeProjections, relationshipProjections);
+        return NativeFactory.getMemoryEstimation(
+            nodeProjections,
+            relationshipProjections,
+            cypherConfig.adjacencySkipIndex()
+        );
     }
 
     @Override
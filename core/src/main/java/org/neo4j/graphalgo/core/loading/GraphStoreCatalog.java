@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.loading;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.beta.filter.FilteredGraphStore;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
@@ -89,6 +90,34 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Fails if filtered graph views have been created from the given graph.
+     * Views read the topology and properties of their parent graph, which therefore
+     * must not be modified as long as any of its views exist.
+     */
+    public static void validateNoDependentViews(String username, NamedDatabaseId databaseId, String graphName) {
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(databaseId, graphName);
+        var userCatalog = getUserCatalog(username);
+        userCatalog.validateNoDependentViews(userCatalogKey, userCatalog.get(userCatalogKey).graphStore(), "modified");
+    }
+
+    /**
+     * Applies the given delta to a graph in the catalog and replaces the graph with the resulting graph store,
+     * which keeps the create config of the graph. Algorithms that are still running on the previous graph store
+     * keep reading from it. The previous graph store is not released, because it shares its adjacency pages
+     * with the new one.
+     *
+     * @see CSRGraphStore#applyDelta(GraphStoreDelta)
+     */
+    public static GraphStore applyDelta(
+        String username,
+        NamedDatabaseId databaseId,
+        String graphName,
+        GraphStoreDelta delta
+    ) {
+        return getUserCatalog(username).applyDelta(UserCatalog.UserCatalogKey.of(databaseId, graphName), delta);
+    }
+
     public static int graphStoresCount() {
         return userCatalogs
             .values()
@@ -223,6 +252,30 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.put(userCatalogKey, degreeDistribution);
         }
 
+        private GraphStore applyDelta(UserCatalogKey userCatalogKey, GraphStoreDelta delta) {
+            var graphStoreWithConfig = get(userCatalogKey);
+            var graphStore = graphStoreWithConfig.graphStore();
+            validateNoDependentViews(userCatalogKey, graphStore, "modified");
+            if (!(graphStore instanceof CSRGraphStore)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Graph `%s` is a filtered graph view and cannot be modified.",
+                    userCatalogKey.graphName()
+                ));
+            }
+
+            var newGraphStore = ((CSRGraphStore) graphStore).applyDelta(delta);
+            newGraphStore.canRelease(false);
+            var newGraphStoreWithConfig = GraphStoreWithConfig.of(newGraphStore, graphStoreWithConfig.config());
+            if (!graphsByName.replace(userCatalogKey, graphStoreWithConfig, newGraphStoreWithConfig)) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Graph `%s` has been modified concurrently, the delta has not been applied.",
+                    userCatalogKey.graphName()
+                ));
+            }
+            removeDegreeDistribution(userCatalogKey);
+            return newGraphStore;
+        }
+
         private void removeDegreeDistribution(UserCatalogKey userCatalogKey) {
             degreeDistributionByName.remove(userCatalogKey);
         }
@@ -275,6 +328,7 @@ public final class GraphStoreCatalog {
             boolean failOnMissing
         ) {
             Optional.ofNullable(get(userCatalogKey, failOnMissing)).ifPresent(graphStoreWithConfig -> {
+                validateNoDependentViews(userCatalogKey, graphStoreWithConfig.graphStore(), "removed");
                 removedGraphConsumer.accept(graphStoreWithConfig);
                 graphStoreWithConfig.graphStore().canRelease(true);
                 graphStoreWithConfig.graphStore().release();
@@ -283,6 +337,28 @@ public final class GraphStoreCatalog {
             });
         }
 
+        private void validateNoDependentViews(UserCatalogKey userCatalogKey, GraphStore graphStore, String operation) {
+            var dependentViews = graphsByName
+                .entrySet()
+                .stream()
+                .filter(entry -> {
+                    var candidate = entry.getValue().graphStore();
+                    return candidate instanceof FilteredGraphStore && ((FilteredGraphStore) candidate).parent() == graphStore;
+                })
+                .map(entry -> entry.getKey().graphName())
+                .sorted()
+                .collect(Collectors.toList());
+
+            if (!dependentViews.isEmpty()) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Graph `%s` is used by the filtered graph views %s and cannot be %s before them.",
+                    userCatalogKey.graphName(),
+                    dependentViews,
+                    operation
+                ));
+            }
+        }
+
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.annotation.ValueClass;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A batch of nodes and relationships to add to or remove from a {@link CSRGraphStore}.
+ * Node ids refer to the original node ids, i.e. the ids of the nodes in the database.
+ * Relationship changes may refer to added nodes, but not to removed ones.
+ *
+ * @see CSRGraphStore#applyDelta(GraphStoreDelta)
+ * @see GraphStoreCatalog#applyDelta(String, org.neo4j.kernel.database.NamedDatabaseId, String, GraphStoreDelta)
+ */
+@ValueClass
+public interface GraphStoreDelta {
+
+    /**
+     * Added nodes get the default value of every node property of their labels.
+     */
+    List<NodeAddition> nodeAdditions();
+
+    /**
+     * Removing a node removes all of its relationships.
+     */
+    List<Long> nodeRemovals();
+
+    List<RelationshipChange> additions();
+
+    /**
+     * Removing a relationship removes all relationships of the same type
+     * between the given source and target node.
+     */
+    List<RelationshipChange> removals();
+
+    static ImmutableGraphStoreDelta.Builder builder() {
+        return ImmutableGraphStoreDelta.builder();
+    }
+
+    @ValueClass
+    interface NodeAddition {
+
+        long nodeId();
+
+        /**
+         * The labels must be part of the graph store.
+         * Nodes of graph stores without node labels are added without labels.
+         */
+        List<NodeLabel> nodeLabels();
+
+        static NodeAddition of(long nodeId, NodeLabel... nodeLabels) {
+            return ImmutableNodeAddition.of(nodeId, List.of(nodeLabels));
+        }
+    }
+
+    @ValueClass
+    interface RelationshipChange {
+
+        RelationshipType relationshipType();
+
+        long sourceNodeId();
+
+        long targetNodeId();
+
+        /**
+         * Property values for added relationships.
+         * Missing properties are set to the default value of the property.
+         */
+        Map<String, Double> properties();
+
+        static RelationshipChange of(RelationshipType relationshipType, long sourceNodeId, long targetNodeId) {
+            return of(relationshipType, sourceNodeId, targetNodeId, Map.of());
+        }
+
+        static RelationshipChange of(
+            RelationshipType relationshipType,
+            long sourceNodeId,
+            long targetNodeId,
+            Map<String, Double> properties
+        ) {
+            return ImmutableRelationshipChange.of(relationshipType, sourceNodeId, targetNodeId, properties);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyDegrees;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencySkipIndex;
 import org.neo4j.graphalgo.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
@@ -75,12 +76,24 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
 
     @Override
     public MemoryEstimation memoryEstimation() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections());
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            storeConfig.adjacencySkipIndex()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, false);
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean adjacencySkipIndex
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder(HugeGraph.class);
 
@@ -113,6 +126,12 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
                 formatWithLocale("adjacency offsets for '%s'", relationshipType),
                 TransientAdjacencyOffsets.memoryEstimation()
             );
+            if (adjacencySkipIndex) {
+                builder.add(
+                    formatWithLocale("adjacency skip index for '%s'", relationshipType),
+                    TransientAdjacencySkipIndex.memoryEstimation(relationshipType, undirected)
+                );
+            }
             // all properties per projection
             relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
                 builder.add(
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperty;
+import org.neo4j.graphalgo.api.NodePropertyStore;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDelta.NO_NODE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The node mapping of a graph store after the node additions and removals of a {@link GraphStoreDelta}.
+ * <p>
+ * Remaining nodes keep their order, removed nodes are dropped from the internal id space
+ * and added nodes are appended to it. Node properties are read through the mapping from
+ * the new to the previous internal ids instead of being copied.
+ */
+final class NodesDelta {
+
+    private final NodeMapping nodes;
+    private final long previousNodeCount;
+    // new internal id -> previous internal id, NO_NODE for added nodes
+    private final @Nullable HugeLongArray previousNodeIds;
+    // previous internal id -> new internal id, NO_NODE for removed nodes
+    private final @Nullable HugeLongArray nodeIds;
+    private final boolean hasRemovals;
+
+    static NodesDelta of(NodeMapping nodes, GraphStoreDelta delta, int concurrency, AllocationTracker tracker) {
+        long previousNodeCount = nodes.nodeCount();
+        if (delta.nodeAdditions().isEmpty() && delta.nodeRemovals().isEmpty()) {
+            return new NodesDelta(nodes, previousNodeCount, null, null, false);
+        }
+
+        var removed = new BitSet(previousNodeCount);
+        for (long originalNodeId : delta.nodeRemovals()) {
+            if (!nodes.contains(originalNodeId)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node with id %d is not part of the graph store.",
+                    originalNodeId
+                ));
+            }
+            removed.set(nodes.toMappedNodeId(originalNodeId));
+        }
+
+        var availableLabels = nodes.availableNodeLabels();
+        boolean hasLabelInformation = !availableLabels.equals(Set.of(NodeLabel.ALL_NODES));
+        var added = new LongHashSet();
+        long highestNeoId = nodes.highestNeoId();
+        for (var addition : delta.nodeAdditions()) {
+            long originalNodeId = addition.nodeId();
+            if (nodes.contains(originalNodeId) && !removed.get(nodes.toMappedNodeId(originalNodeId))) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node with id %d is already part of the graph store.",
+                    originalNodeId
+                ));
+            }
+            if (!added.add(originalNodeId)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node with id %d is added more than once.",
+                    originalNodeId
+                ));
+            }
+            validateNodeLabels(addition, availableLabels, hasLabelInformation);
+            highestNeoId = Math.max(highestNeoId, originalNodeId);
+        }
+
+        long remainingNodeCount = previousNodeCount - removed.cardinality();
+        long nodeCount = remainingNodeCount + added.size();
+
+        var previousNodeIds = HugeLongArray.newArray(nodeCount, tracker);
+        var nodeIds = HugeLongArray.newArray(previousNodeCount, tracker);
+        var graphIds = HugeLongArray.newArray(nodeCount, tracker);
+        var labelInformation = new HashMap<NodeLabel, BitSet>();
+        if (hasLabelInformation) {
+            availableLabels.forEach(label -> labelInformation.put(label, new BitSet(nodeCount)));
+        }
+
+        long nodeId = 0L;
+        for (long previousNodeId = 0L; previousNodeId < previousNodeCount; previousNodeId++) {
+            if (removed.get(previousNodeId)) {
+                nodeIds.set(previousNodeId, NO_NODE);
+                continue;
+            }
+            long remainingNodeId = nodeId++;
+            nodeIds.set(previousNodeId, remainingNodeId);
+            previousNodeIds.set(remainingNodeId, previousNodeId);
+            graphIds.set(remainingNodeId, nodes.toOriginalNodeId(previousNodeId));
+            if (hasLabelInformation) {
+                nodes.forEachNodeLabel(previousNodeId, label -> {
+                    labelInformation.get(label).set(remainingNodeId);
+                    return true;
+                });
+            }
+        }
+        for (var addition : delta.nodeAdditions()) {
+            long addedNodeId = nodeId++;
+            previousNodeIds.set(addedNodeId, NO_NODE);
+            graphIds.set(addedNodeId, addition.nodeId());
+            addition.nodeLabels().forEach(label -> labelInformation.get(label).set(addedNodeId));
+        }
+
+        var nodeToGraphIds = IdMapBuilder.buildSparseNodeMapping(
+            nodeCount,
+            highestNeoId,
+            concurrency,
+            IdMapBuilder.add(graphIds),
+            tracker
+        );
+        var idMap = new IdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount, highestNeoId, tracker);
+
+        return new NodesDelta(idMap, previousNodeCount, previousNodeIds, nodeIds, remainingNodeCount < previousNodeCount);
+    }
+
+    private static void validateNodeLabels(
+        GraphStoreDelta.NodeAddition addition,
+        Set<NodeLabel> availableLabels,
+        boolean hasLabelInformation
+    ) {
+        var nodeLabels = addition.nodeLabels();
+        if (!hasLabelInformation) {
+            if (!nodeLabels.isEmpty()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node with id %d cannot have labels, because the graph store has been created without node labels.",
+                    addition.nodeId()
+                ));
+            }
+            return;
+        }
+        if (nodeLabels.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d must have at least one of the node labels %s.",
+                addition.nodeId(),
+                availableLabels
+            ));
+        }
+        nodeLabels.forEach(label -> {
+            if (!availableLabels.contains(label)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node label '%s' of node with id %d is not part of the graph store.",
+                    label.name,
+                    addition.nodeId()
+                ));
+            }
+        });
+    }
+
+    private NodesDelta(
+        NodeMapping nodes,
+        long previousNodeCount,
+        @Nullable HugeLongArray previousNodeIds,
+        @Nullable HugeLongArray nodeIds,
+        boolean hasRemovals
+    ) {
+        this.nodes = nodes;
+        this.previousNodeCount = previousNodeCount;
+        this.previousNodeIds = previousNodeIds;
+        this.nodeIds = nodeIds;
+        this.hasRemovals = hasRemovals;
+    }
+
+    NodeMapping nodes() {
+        return nodes;
+    }
+
+    long previousNodeCount() {
+        return previousNodeCount;
+    }
+
+    boolean hasChanges() {
+        return previousNodeIds != null;
+    }
+
+    /**
+     * Whether the internal ids of existing nodes have changed.
+     */
+    boolean hasRemovals() {
+        return hasRemovals;
+    }
+
+    LongUnaryOperator toPreviousNodeId() {
+        return hasChanges() ? previousNodeIds::get : LongUnaryOperator.identity();
+    }
+
+    LongUnaryOperator toNodeId() {
+        return hasChanges() ? nodeIds::get : LongUnaryOperator.identity();
+    }
+
+    Map<NodeLabel, NodePropertyStore> remapProperties(
+        Map<NodeLabel, NodePropertyStore> nodeProperties,
+        AllocationTracker tracker
+    ) {
+        if (!hasChanges()) {
+            return nodeProperties;
+        }
+        var remapped = new HashMap<NodeLabel, NodePropertyStore>();
+        nodeProperties.forEach((label, propertyStore) -> {
+            var builder = NodePropertyStore.builder();
+            propertyStore.nodeProperties().forEach((propertyKey, property) -> builder.putNodeProperty(
+                propertyKey,
+                NodeProperty.of(
+                    propertyKey,
+                    property.propertyState(),
+                    RemappedNodeProperties.of(property.values(), previousNodeIds, property.defaultValue(), tracker),
+                    property.defaultValue()
+                )
+            ));
+            remapped.put(label, builder.build());
+        });
+        return remapped;
+    }
+}
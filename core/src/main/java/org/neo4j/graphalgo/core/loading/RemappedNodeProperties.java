@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDelta.NO_NODE;
+
+/**
+ * Node properties of a graph store to which nodes have been added or from which nodes have been removed.
+ * The values are read from the properties of the previous graph store, added nodes get the default value.
+ * Remapping remapped properties reads directly from the properties they have been remapped from,
+ * so that there is at most one level of indirection.
+ */
+final class RemappedNodeProperties implements NodeProperties {
+
+    private final NodeProperties previousProperties;
+    private final HugeLongArray previousNodeIds;
+    private final DefaultValue defaultValue;
+
+    static NodeProperties of(
+        NodeProperties properties,
+        HugeLongArray previousNodeIds,
+        DefaultValue defaultValue,
+        AllocationTracker tracker
+    ) {
+        if (properties instanceof RemappedNodeProperties) {
+            var remapped = (RemappedNodeProperties) properties;
+            var nodeCount = previousNodeIds.size();
+            var composedNodeIds = HugeLongArray.newArray(nodeCount, tracker);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long previousNodeId = previousNodeIds.get(nodeId);
+                composedNodeIds.set(
+                    nodeId,
+                    previousNodeId == NO_NODE ? NO_NODE : remapped.previousNodeIds.get(previousNodeId)
+                );
+            }
+            return new RemappedNodeProperties(remapped.previousProperties, composedNodeIds, defaultValue);
+        }
+        return new RemappedNodeProperties(properties, previousNodeIds, defaultValue);
+    }
+
+    private RemappedNodeProperties(
+        NodeProperties previousProperties,
+        HugeLongArray previousNodeIds,
+        DefaultValue defaultValue
+    ) {
+        this.previousProperties = previousProperties;
+        this.previousNodeIds = previousNodeIds;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.doubleValue() : previousProperties.doubleValue(previousNodeId);
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.longValue() : previousProperties.longValue(previousNodeId);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.doubleArrayValue() : previousProperties.doubleArrayValue(previousNodeId);
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.floatArrayValue() : previousProperties.floatArrayValue(previousNodeId);
+    }
+
+    @Override
+    public long[] longArrayValue(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.longArrayValue() : previousProperties.longArrayValue(previousNodeId);
+    }
+
+    @Override
+    public Object getObject(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? defaultValue.getObject() : previousProperties.getObject(previousNodeId);
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        long previousNodeId = previousNodeIds.get(nodeId);
+        return previousNodeId == NO_NODE ? Values.of(defaultValue.getObject()) : previousProperties.value(previousNodeId);
+    }
+
+    @Override
+    public ValueType valueType() {
+        return previousProperties.valueType();
+    }
+
+    @Override
+    public long size() {
+        return previousNodeIds.size();
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        if (valueType() == ValueType.LONG) {
+            var max = Long.MIN_VALUE;
+            for (long nodeId = 0; nodeId < size(); nodeId++) {
+                max = Math.max(max, longValue(nodeId));
+            }
+            return size() == 0 ? OptionalLong.empty() : OptionalLong.of(max);
+        }
+        if (valueType() == ValueType.DOUBLE) {
+            var max = getMaxDoublePropertyValue();
+            return max.isPresent() ? OptionalLong.of((long) max.getAsDouble()) : OptionalLong.empty();
+        }
+        return previousProperties.getMaxLongPropertyValue();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        if (valueType() == ValueType.DOUBLE) {
+            var max = Double.NEGATIVE_INFINITY;
+            for (long nodeId = 0; nodeId < size(); nodeId++) {
+                max = Math.max(max, doubleValue(nodeId));
+            }
+            return size() == 0 ? OptionalDouble.empty() : OptionalDouble.of(max);
+        }
+        if (valueType() == ValueType.LONG) {
+            var max = getMaxLongPropertyValue();
+            return max.isPresent() ? OptionalDouble.of(max.getAsLong()) : OptionalDouble.empty();
+        }
+        return previousProperties.getMaxDoublePropertyValue();
+    }
+}
@@ -24,6 +24,13 @@ import com.carrotsearch.hppc.LongHashSet;
 import java.util.Arrays;
 
 public class Intersections {
+
+    // Vectors of at least this length are processed with four independent accumulators.
+    // This removes the dependency between consecutive loop iterations, so that the CPU can
+    // pipeline the multiplications. Shorter vectors use a single accumulator, which keeps
+    // their results identical to a sequential summation.
+    static final int UNROLL_THRESHOLD = 32;
+
     public static long intersection(LongHashSet targets1, LongHashSet targets2) {
         LongHashSet intersectionSet = new LongHashSet(targets1);
         intersectionSet.retainAll(targets2);
@@ -130,6 +137,9 @@ public class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) {
+            return sumSquareDeltaUnrolled(vector1, vector2, len);
+        }
         double result = 0;
         for (int i = 0; i < len; i++) {
             double delta = vector1[i] - vector2[i];
@@ -151,6 +161,9 @@ public class Intersections {
     }
 
     public static double cosineSquare(double[] vector1, double[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) {
+            return cosineSquareUnrolled(vector1, vector2, len);
+        }
         double dotProduct = 0D;
         double xLength = 0D;
         double yLength = 0D;
@@ -195,6 +208,9 @@ public class Intersections {
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) {
+            return pearsonUnrolled(vector1, vector2, len);
+        }
         double vector1Sum = 0.0;
         double vector2Sum = 0.0;
         for (int i = 0; i < len; i++) {
@@ -273,6 +289,9 @@ public class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) {
+            return cosineUnrolled(vector1, vector2, len);
+        }
         double dotProduct = 0D;
         double xLength = 0D;
         double yLength = 0D;
@@ -318,6 +337,9 @@ public class Intersections {
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) {
+            return cosineUnrolled(vector1, vector2, len);
+        }
         float dotProduct = 0F;
         float xLength = 0F;
         float yLength = 0F;
@@ -334,4 +356,190 @@ public class Intersections {
 
         return (float) (dotProduct / Math.sqrt(xLength * yLength));
     }
+
+    private static double sumSquareDeltaUnrolled(double[] vector1, double[] vector2, int len) {
+        double result0 = 0D, result1 = 0D, result2 = 0D, result3 = 0D;
+        int limit = len & ~3;
+        int i = 0;
+        for (; i < limit; i += 4) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result0 += delta * delta;
+        }
+        return (result0 + result1) + (result2 + result3);
+    }
+
+    private static double cosineSquareUnrolled(double[] vector1, double[] vector2, int len) {
+        double dot0 = 0D, dot1 = 0D, dot2 = 0D, dot3 = 0D;
+        double x0 = 0D, x1 = 0D, x2 = 0D, x3 = 0D;
+        double y0 = 0D, y1 = 0D, y2 = 0D, y3 = 0D;
+        int limit = len & ~3;
+        int i = 0;
+        for (; i < limit; i += 4) {
+            double a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            double b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i];
+            double b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        double dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+        if (xLength == 0D || yLength == 0D) return 0D;
+        return dotProduct * dotProduct / xLength / yLength;
+    }
+
+    private static double cosineUnrolled(double[] vector1, double[] vector2, int len) {
+        double dot0 = 0D, dot1 = 0D, dot2 = 0D, dot3 = 0D;
+        double x0 = 0D, x1 = 0D, x2 = 0D, x3 = 0D;
+        double y0 = 0D, y1 = 0D, y2 = 0D, y3 = 0D;
+        int limit = len & ~3;
+        int i = 0;
+        for (; i < limit; i += 4) {
+            double a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            double b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i];
+            double b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        double dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    private static float cosineUnrolled(float[] vector1, float[] vector2, int len) {
+        float dot0 = 0F, dot1 = 0F, dot2 = 0F, dot3 = 0F;
+        float x0 = 0F, x1 = 0F, x2 = 0F, x3 = 0F;
+        float y0 = 0F, y1 = 0F, y2 = 0F, y3 = 0F;
+        int limit = len & ~3;
+        int i = 0;
+        for (; i < limit; i += 4) {
+            float a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            float b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            float a = vector1[i];
+            float b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        float dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        float xLength = (x0 + x1) + (x2 + x3);
+        float yLength = (y0 + y1) + (y2 + y3);
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    private static double pearsonUnrolled(double[] vector1, double[] vector2, int len) {
+        double sum10 = 0D, sum11 = 0D, sum12 = 0D, sum13 = 0D;
+        double sum20 = 0D, sum21 = 0D, sum22 = 0D, sum23 = 0D;
+        int limit = len & ~3;
+        int i = 0;
+        for (; i < limit; i += 4) {
+            sum10 += vector1[i];
+            sum11 += vector1[i + 1];
+            sum12 += vector1[i + 2];
+            sum13 += vector1[i + 3];
+            sum20 += vector2[i];
+            sum21 += vector2[i + 1];
+            sum22 += vector2[i + 2];
+            sum23 += vector2[i + 3];
+        }
+        for (; i < len; i++) {
+            sum10 += vector1[i];
+            sum20 += vector2[i];
+        }
+
+        double vector1Mean = ((sum10 + sum11) + (sum12 + sum13)) / len;
+        double vector2Mean = ((sum20 + sum21) + (sum22 + sum23)) / len;
+
+        double dot0 = 0D, dot1 = 0D, dot2 = 0D, dot3 = 0D;
+        double x0 = 0D, x1 = 0D, x2 = 0D, x3 = 0D;
+        double y0 = 0D, y1 = 0D, y2 = 0D, y3 = 0D;
+        for (i = 0; i < limit; i += 4) {
+            double a0 = vector1[i] - vector1Mean, a1 = vector1[i + 1] - vector1Mean;
+            double a2 = vector1[i + 2] - vector1Mean, a3 = vector1[i + 3] - vector1Mean;
+            double b0 = vector2[i] - vector2Mean, b1 = vector2[i + 1] - vector2Mean;
+            double b2 = vector2[i + 2] - vector2Mean, b3 = vector2[i + 3] - vector2Mean;
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i] - vector1Mean;
+            double b = vector2[i] - vector2Mean;
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        double dotProductMinusMean = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+
+        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
+        return Double.isNaN(result) ? 0 : result;
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequentially writes primitives and primitive arrays in little endian byte order.
+ */
+final class BinaryFileWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static BinaryFileWriter of(Path file) {
+        try {
+            var channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            );
+            return new BinaryFileWriter(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BinaryFileWriter(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeByte(byte value) {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeInt(int value) {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeFloat(float value) {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the length of the array, followed by its content.
+     * A {@code null} array is written as length {@code -1}.
+     */
+    void writeBytes(byte[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        writeBytes(values, 0, values.length);
+    }
+
+    void writeBytes(byte[] values, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            ensure(Byte.BYTES);
+            int chunk = Math.min(end - offset, buffer.remaining());
+            buffer.put(values, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    void writeLongs(long[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (long value : values) {
+            writeLong(value);
+        }
+    }
+
+    void writeDoubles(double[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (double value : values) {
+            writeDouble(value);
+        }
+    }
+
+    void writeFloats(float[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (float value : values) {
+            writeFloat(value);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (channel) {
+            flush();
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.neo4j.graphalgo.api.DefaultValue;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Constants and shared encodings of the binary graph store format.
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by the node mapping,
+ * the node properties per label and the relationships per type. All arrays are stored
+ * in the same layout as in memory, which allows to load them without any decoding.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x47445342; // "GDSB"
+    static final int VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte LONG_ARRAY = 5;
+    private static final byte DOUBLE_ARRAY = 6;
+    private static final byte FLOAT_ARRAY = 7;
+
+    static void writeDefaultValue(BinaryFileWriter writer, DefaultValue defaultValue) {
+        writer.writeBoolean(defaultValue.isUserDefined());
+        var value = defaultValue.getObject();
+        if (value == null) {
+            writer.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            writer.writeByte(INTEGER);
+            writer.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            writer.writeByte(LONG);
+            writer.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            writer.writeByte(FLOAT);
+            writer.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            writer.writeByte(DOUBLE);
+            writer.writeDouble((Double) value);
+        } else if (value instanceof long[]) {
+            writer.writeByte(LONG_ARRAY);
+            writer.writeLongs((long[]) value);
+        } else if (value instanceof double[]) {
+            writer.writeByte(DOUBLE_ARRAY);
+            writer.writeDoubles((double[]) value);
+        } else if (value instanceof float[]) {
+            writer.writeByte(FLOAT_ARRAY);
+            writer.writeFloats((float[]) value);
+        } else {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Default values of type %s are not supported.",
+                value.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    static DefaultValue readDefaultValue(MappedFileReader reader) {
+        boolean isUserDefined = reader.readBoolean();
+        byte type = reader.readByte();
+        Object value;
+        switch (type) {
+            case NULL:
+                value = null;
+                break;
+            case INTEGER:
+                value = reader.readInt();
+                break;
+            case LONG:
+                value = reader.readLong();
+                break;
+            case FLOAT:
+                value = reader.readFloat();
+                break;
+            case DOUBLE:
+                value = reader.readDouble();
+                break;
+            case LONG_ARRAY:
+                value = reader.readLongArray();
+                break;
+            case DOUBLE_ARRAY:
+                value = reader.readDoubleArray();
+                break;
+            case FLOAT_ARRAY:
+                value = reader.readFloatArray();
+                break;
+            default:
+                throw new IllegalStateException(formatWithLocale("Unknown default value type %d.", type));
+        }
+        return DefaultValue.of(value, isUserDefined);
+    }
+
+    private BinaryFormat() {}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableRelationshipProperty;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.NodeProperty;
+import org.neo4j.graphalgo.api.NodePropertyStore;
+import org.neo4j.graphalgo.api.RelationshipPropertyStore;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.RelationshipPropertySchema;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.huge.OffHeapAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyDegrees;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.loading.IdMap;
+import org.neo4j.graphalgo.core.loading.IdMapBuilder;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.kernel.database.NamedDatabaseId;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store from a file written by {@link GraphStoreToBinaryExporter}.
+ * <p>
+ * The compressed adjacency lists and relationship properties, which usually make up most of a graph store,
+ * are served straight from memory mappings of the file by an {@link OffHeapAdjacencyList}. They are paged in
+ * on first access and unmapped once the graph store has been released and the last cursor has been closed.
+ * The file must therefore not be modified while the graph store is in use.
+ * <p>
+ * Node ids, labels, node properties, degrees and offsets are held in heap arrays, which are copied in bulk
+ * from the mapping. Only the sparse mapping from original to internal node ids is recomputed.
+ * As with {@code offHeapAdjacency}, the adjacency lists of the loaded graph store cannot be changed
+ * and have no skip index.
+ */
+public final class BinaryToGraphStoreImporter {
+
+    private final MappedFileReader reader;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+
+    private long nodeCount;
+
+    public static CSRGraphStore load(
+        Path file,
+        NamedDatabaseId databaseId,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        try (var reader = MappedFileReader.of(file)) {
+            return new BinaryToGraphStoreImporter(reader, concurrency, tracker).load(databaseId);
+        }
+    }
+
+    private BinaryToGraphStoreImporter(MappedFileReader reader, int concurrency, AllocationTracker tracker) {
+        this.reader = reader;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
+    }
+
+    private CSRGraphStore load(NamedDatabaseId databaseId) {
+        int magic = reader.readInt();
+        int version = reader.readInt();
+        if (magic != BinaryFormat.MAGIC || version != BinaryFormat.VERSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The file is not a binary graph store export of version %d.",
+                BinaryFormat.VERSION
+            ));
+        }
+
+        var nodes = loadNodes();
+        var nodePropertyStores = loadNodeProperties();
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        loadRelationships(topologies, relationshipPropertyStores);
+
+        return CSRGraphStore.of(
+            databaseId,
+            nodes,
+            nodePropertyStores,
+            topologies,
+            relationshipPropertyStores,
+            concurrency,
+            tracker
+        );
+    }
+
+    private NodeMapping loadNodes() {
+        nodeCount = reader.readLong();
+        long highestNeoId = reader.readLong();
+        var graphIds = readLongs(nodeCount);
+
+        var nodeToGraphIds = IdMapBuilder.buildSparseNodeMapping(
+            nodeCount,
+            highestNeoId,
+            concurrency,
+            IdMapBuilder.add(graphIds),
+            tracker
+        );
+
+        int labelCount = reader.readInt();
+        int words = Math.toIntExact(ceilDiv(nodeCount, Long.SIZE));
+        var labelInformation = new HashMap<NodeLabel, BitSet>();
+        for (int i = 0; i < labelCount; i++) {
+            var label = NodeLabel.of(reader.readString());
+            var bits = new long[words];
+            reader.readLongs(bits, 0, words);
+            labelInformation.put(label, new BitSet(bits, words));
+        }
+
+        return new IdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount, highestNeoId, tracker);
+    }
+
+    private Map<NodeLabel, NodePropertyStore> loadNodeProperties() {
+        var nodePropertyStores = new HashMap<NodeLabel, NodePropertyStore>();
+        int labelCount = reader.readInt();
+        for (int i = 0; i < labelCount; i++) {
+            var label = NodeLabel.of(reader.readString());
+            int propertyCount = reader.readInt();
+            var propertyStoreBuilder = NodePropertyStore.builder();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertyKey = reader.readString();
+                var valueType = ValueType.valueOf(reader.readString());
+                var propertyState = GraphStore.PropertyState.valueOf(reader.readString());
+                var defaultValue = BinaryFormat.readDefaultValue(reader);
+                var values = readNodeProperties(propertyKey, valueType);
+                propertyStoreBuilder.putIfAbsent(
+                    propertyKey,
+                    NodeProperty.of(propertyKey, propertyState, values, defaultValue)
+                );
+            }
+            nodePropertyStores.put(label, propertyStoreBuilder.build());
+        }
+        return nodePropertyStores;
+    }
+
+    private NodeProperties readNodeProperties(String propertyKey, ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return readLongs(nodeCount).asNodeProperties();
+            case DOUBLE:
+                var doubles = HugeDoubleArray.newArray(nodeCount, tracker);
+                try (var cursor = doubles.initCursor(doubles.newCursor())) {
+                    while (cursor.next()) {
+                        reader.readDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                    }
+                }
+                return doubles.asNodeProperties();
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount, tracker);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    longArrays.set(nodeId, reader.readLongArray());
+                }
+                return longArrays.asNodeProperties();
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount, tracker);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    doubleArrays.set(nodeId, reader.readDoubleArray());
+                }
+                return doubleArrays.asNodeProperties();
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount, tracker);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    floatArrays.set(nodeId, reader.readFloatArray());
+                }
+                return floatArrays.asNodeProperties();
+            default:
+                throw new IllegalStateException(formatWithLocale(
+                    "Node property `%s` has the unsupported type %s.",
+                    propertyKey,
+                    valueType
+                ));
+        }
+    }
+
+    private void loadRelationships(
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores
+    ) {
+        int typeCount = reader.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var relationshipType = RelationshipType.of(reader.readString());
+            var orientation = Orientation.valueOf(reader.readString());
+            boolean isMultiGraph = reader.readBoolean();
+            long elementCount = reader.readLong();
+
+            var degrees = readDegrees();
+            var offsets = readOffsets();
+            var list = mapAdjacencyList();
+
+            topologies.put(
+                relationshipType,
+                ImmutableTopology.of(degrees, list, offsets, elementCount, orientation, isMultiGraph)
+            );
+
+            int propertyCount = reader.readInt();
+            if (propertyCount == 0) {
+                continue;
+            }
+
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertyKey = reader.readString();
+                var valueType = ValueType.valueOf(reader.readString());
+                var propertyState = GraphStore.PropertyState.valueOf(reader.readString());
+                var defaultValue = BinaryFormat.readDefaultValue(reader);
+                var aggregation = Aggregation.valueOf(reader.readString());
+                double defaultPropertyValue = reader.readDouble();
+                var propertyOffsets = readOffsets();
+                var propertyList = mapAdjacencyList();
+
+                var values = ImmutableProperties.of(
+                    degrees,
+                    propertyList,
+                    propertyOffsets,
+                    elementCount,
+                    orientation,
+                    isMultiGraph,
+                    defaultPropertyValue
+                );
+                propertyStoreBuilder.putIfAbsent(
+                    propertyKey,
+                    ImmutableRelationshipProperty.of(
+                        values,
+                        RelationshipPropertySchema.of(propertyKey, valueType, defaultValue, propertyState, aggregation)
+                    )
+                );
+            }
+            relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+        }
+    }
+
+    private AdjacencyDegrees readDegrees() {
+        var degrees = HugeIntArray.newArray(nodeCount, tracker);
+        try (var cursor = degrees.initCursor(degrees.newCursor())) {
+            while (cursor.next()) {
+                reader.readInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return TransientAdjacencyDegrees.Factory.INSTANCE.newDegrees(degrees);
+    }
+
+    private AdjacencyOffsets readOffsets() {
+        return new TransientAdjacencyOffsets(readLongs(nodeCount));
+    }
+
+    private AdjacencyList mapAdjacencyList() {
+        var mappings = new ArrayList<MappedByteBuffer>();
+        var pages = reader.mapPages(mappings);
+        return OffHeapAdjacencyList.ofMapped(pages, mappings.toArray(MappedByteBuffer[]::new));
+    }
+
+    private HugeLongArray readLongs(long size) {
+        var array = HugeLongArray.newArray(size, tracker);
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                reader.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyDegrees;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.schema.PropertySchema;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a graph store into a single binary file, which can be loaded by {@link BinaryToGraphStoreImporter}.
+ * <p>
+ * In contrast to the CSV export, the compressed adjacency lists are written as they are stored in memory,
+ * so that loading the file does not require to parse the relationships and to rebuild the adjacency lists.
+ */
+public final class GraphStoreToBinaryExporter {
+
+    private final CSRGraphStore graphStore;
+    private final BinaryFileWriter writer;
+
+    public static void export(GraphStore graphStore, Path file) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A %s cannot be exported, only graph stores backed by compressed adjacency lists can.",
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+        try (var writer = BinaryFileWriter.of(file)) {
+            new GraphStoreToBinaryExporter((CSRGraphStore) graphStore, writer).export();
+        }
+    }
+
+    private GraphStoreToBinaryExporter(CSRGraphStore graphStore, BinaryFileWriter writer) {
+        this.graphStore = graphStore;
+        this.writer = writer;
+    }
+
+    private void export() {
+        writer.writeInt(BinaryFormat.MAGIC);
+        writer.writeInt(BinaryFormat.VERSION);
+        exportNodes();
+        exportNodeProperties();
+        exportRelationships();
+    }
+
+    private void exportNodes() {
+        var nodes = graphStore.nodes();
+        long nodeCount = nodes.nodeCount();
+        writer.writeLong(nodeCount);
+        writer.writeLong(nodes.highestNeoId());
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            writer.writeLong(nodes.toOriginalNodeId(nodeId));
+        }
+
+        var labels = nodes.availableNodeLabels();
+        if (labels.equals(Set.of(NodeLabel.ALL_NODES))) {
+            writer.writeInt(0);
+            return;
+        }
+
+        // label information is stored in the word layout of a bit set
+        writer.writeInt(labels.size());
+        for (var label : labels) {
+            writer.writeString(label.name);
+            for (long wordStart = 0; wordStart < nodeCount; wordStart += Long.SIZE) {
+                long word = 0L;
+                long wordEnd = Math.min(nodeCount, wordStart + Long.SIZE);
+                for (long nodeId = wordStart; nodeId < wordEnd; nodeId++) {
+                    if (nodes.hasLabel(nodeId, label)) {
+                        word |= 1L << (nodeId - wordStart);
+                    }
+                }
+                writer.writeLong(word);
+            }
+        }
+    }
+
+    private void exportNodeProperties() {
+        var propertiesPerLabel = graphStore
+            .schema()
+            .nodeSchema()
+            .properties()
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        writer.writeInt(propertiesPerLabel.size());
+        propertiesPerLabel.forEach((label, properties) -> {
+            writer.writeString(label.name);
+            writer.writeInt(properties.size());
+            properties.forEach((propertyKey, propertySchema) -> {
+                writePropertySchema(propertySchema);
+                writeNodeProperties(propertySchema, graphStore.nodePropertyValues(label, propertyKey));
+            });
+        });
+    }
+
+    private void writeNodeProperties(PropertySchema propertySchema, NodeProperties properties) {
+        long nodeCount = graphStore.nodeCount();
+        switch (propertySchema.valueType()) {
+            case LONG:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeLong(properties.longValue(nodeId));
+                }
+                break;
+            case DOUBLE:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeDouble(properties.doubleValue(nodeId));
+                }
+                break;
+            case LONG_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeLongs(properties.longArrayValue(nodeId));
+                }
+                break;
+            case DOUBLE_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeDoubles(properties.doubleArrayValue(nodeId));
+                }
+                break;
+            case FLOAT_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeFloats(properties.floatArrayValue(nodeId));
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Node property `%s` of type %s cannot be exported.",
+                    propertySchema.key(),
+                    propertySchema.valueType()
+                ));
+        }
+    }
+
+    private void exportRelationships() {
+        var relationshipSchema = graphStore.schema().relationshipSchema().properties();
+
+        writer.writeInt(graphStore.relationshipTypes().size());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var topology = graphStore.relationshipTopology(relationshipType);
+
+            writer.writeString(relationshipType.name);
+            writer.writeString(topology.orientation().name());
+            writer.writeBoolean(topology.isMultiGraph());
+            writer.writeLong(topology.elementCount());
+            writeDegrees(topology.degrees());
+            writeAdjacency(topology.offsets(), topology.list(), relationshipType);
+
+            var properties = relationshipSchema.getOrDefault(relationshipType, Map.of());
+            writer.writeInt(properties.size());
+            properties.forEach((propertyKey, propertySchema) -> {
+                var values = graphStore.relationshipPropertyValues(relationshipType, propertyKey);
+
+                writePropertySchema(propertySchema);
+                writer.writeString(propertySchema.aggregation().name());
+                writer.writeDouble(values.defaultPropertyValue());
+                writeAdjacency(values.offsets(), values.list(), relationshipType);
+            });
+        }
+    }
+
+    private void writePropertySchema(PropertySchema propertySchema) {
+        writer.writeString(propertySchema.key());
+        writer.writeString(propertySchema.valueType().name());
+        writer.writeString(propertySchema.state().name());
+        BinaryFormat.writeDefaultValue(writer, propertySchema.defaultValue());
+    }
+
+    private void writeDegrees(AdjacencyDegrees degrees) {
+        long nodeCount = graphStore.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            writer.writeInt(degrees.degree(nodeId));
+        }
+    }
+
+    private void writeAdjacency(AdjacencyOffsets offsets, AdjacencyList list, RelationshipType relationshipType) {
+        if (!(list instanceof TransientAdjacencyList)) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Relationships of type `%s` are stored in a %s, which cannot be exported.",
+                relationshipType.name,
+                list.getClass().getSimpleName()
+            ));
+        }
+
+        long nodeCount = graphStore.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            writer.writeLong(offsets.get(nodeId));
+        }
+
+        var pages = ((TransientAdjacencyList) list).pages();
+        writer.writeInt(pages.length);
+        for (byte[] page : pages) {
+            writer.writeBytes(page);
+        }
+    }
+}
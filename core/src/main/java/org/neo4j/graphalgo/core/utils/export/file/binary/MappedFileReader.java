@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the output of a {@link BinaryFileWriter} through a memory mapping of the file.
+ * <p>
+ * The file is mapped in windows of at most {@link #WINDOW_SIZE} bytes, since a single
+ * mapping cannot exceed 2 GB. Arrays are copied in bulk from the mapping, so the
+ * read speed is bounded by the page-in speed of the file system. Pages of bytes can
+ * also be mapped without copying them, see {@link #mapPages(List)}.
+ */
+final class MappedFileReader implements AutoCloseable {
+
+    static final int WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long size;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    static MappedFileReader of(Path file) {
+        try {
+            var channel = FileChannel.open(file, StandardOpenOption.READ);
+            var reader = new MappedFileReader(channel, channel.size());
+            reader.map(0L);
+            return reader;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedFileReader(FileChannel channel, long size) {
+        this.channel = channel;
+        this.size = size;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    byte readByte() {
+        ensure(Byte.BYTES);
+        return window.get();
+    }
+
+    int readInt() {
+        ensure(Integer.BYTES);
+        return window.getInt();
+    }
+
+    long readLong() {
+        ensure(Long.BYTES);
+        return window.getLong();
+    }
+
+    float readFloat() {
+        ensure(Float.BYTES);
+        return window.getFloat();
+    }
+
+    double readDouble() {
+        ensure(Double.BYTES);
+        return window.getDouble();
+    }
+
+    String readString() {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    byte[] readBytes() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new byte[length];
+        readBytes(values, 0, length);
+        return values;
+    }
+
+    void readBytes(byte[] into, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            ensure(Byte.BYTES);
+            int chunk = Math.min(end - offset, window.remaining());
+            window.get(into, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    void readInts(int[] into, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            ensure(Integer.BYTES);
+            int chunk = Math.min(end - offset, window.remaining() / Integer.BYTES);
+            window.asIntBuffer().get(into, offset, chunk);
+            window.position(window.position() + chunk * Integer.BYTES);
+            offset += chunk;
+        }
+    }
+
+    void readLongs(long[] into, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            ensure(Long.BYTES);
+            int chunk = Math.min(end - offset, window.remaining() / Long.BYTES);
+            window.asLongBuffer().get(into, offset, chunk);
+            window.position(window.position() + chunk * Long.BYTES);
+            offset += chunk;
+        }
+    }
+
+    void readDoubles(double[] into, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            ensure(Double.BYTES);
+            int chunk = Math.min(end - offset, window.remaining() / Double.BYTES);
+            window.asDoubleBuffer().get(into, offset, chunk);
+            window.position(window.position() + chunk * Double.BYTES);
+            offset += chunk;
+        }
+    }
+
+    long[] readLongArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new long[length];
+        readLongs(values, 0, length);
+        return values;
+    }
+
+    double[] readDoubleArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new double[length];
+        readDoubles(values, 0, length);
+        return values;
+    }
+
+    float[] readFloatArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readFloat();
+        }
+        return values;
+    }
+
+    /**
+     * Maps the pages written by {@link BinaryFileWriter#writeBytes(byte[])}, preceded by their count,
+     * instead of copying them. Consecutive pages share a mapping of at most {@link #WINDOW_SIZE} bytes.
+     * The mappings are added to {@code mappings} and stay valid after this reader has been closed.
+     */
+    ByteBuffer[] mapPages(List<MappedByteBuffer> mappings) {
+        int pageCount = readInt();
+        var positions = new long[pageCount];
+        var lengths = new int[pageCount];
+        for (int i = 0; i < pageCount; i++) {
+            lengths[i] = readInt();
+            if (lengths[i] != -1) {
+                positions[i] = windowStart + window.position();
+                skip(lengths[i]);
+            }
+        }
+
+        var pages = new ByteBuffer[pageCount];
+        MappedByteBuffer mapping = null;
+        long mappingStart = 0L;
+        for (int i = 0; i < pageCount; i++) {
+            if (lengths[i] == -1) {
+                continue;
+            }
+            if (mapping == null || positions[i] + lengths[i] - mappingStart > mapping.capacity()) {
+                mappingStart = positions[i];
+                long mappingEnd = positions[i] + lengths[i];
+                for (int j = i + 1; j < pageCount; j++) {
+                    if (lengths[j] == -1) {
+                        continue;
+                    }
+                    if (positions[j] + lengths[j] - mappingStart > WINDOW_SIZE) {
+                        break;
+                    }
+                    mappingEnd = positions[j] + lengths[j];
+                }
+                mapping = map(mappingStart, mappingEnd - mappingStart);
+                mappings.add(mapping);
+            }
+            int offset = Math.toIntExact(positions[i] - mappingStart);
+            pages[i] = mapping
+                .duplicate()
+                .position(offset)
+                .limit(offset + lengths[i])
+                .slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return pages;
+    }
+
+    @Override
+    public void close() {
+        window = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensure(int bytes) {
+        if (window.remaining() >= bytes) {
+            return;
+        }
+        long position = windowStart + window.position();
+        try {
+            if (size - position < bytes) {
+                throw new EOFException(formatWithLocale("Unexpected end of file at position %d.", position));
+            }
+            map(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void skip(int bytes) {
+        long position = windowStart + window.position() + bytes;
+        if (position > size) {
+            throw new UncheckedIOException(new EOFException(formatWithLocale(
+                "Unexpected end of file at position %d.",
+                size
+            )));
+        }
+        if (position - windowStart <= window.limit()) {
+            window.position(Math.toIntExact(position - windowStart));
+            return;
+        }
+        try {
+            map(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(long position) throws IOException {
+        long length = Math.min(WINDOW_SIZE, size - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart = position;
+    }
+
+    private MappedByteBuffer map(long position, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
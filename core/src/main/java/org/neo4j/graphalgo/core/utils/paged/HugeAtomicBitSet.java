@@ -196,6 +196,30 @@ public final class HugeAtomicBitSet {
         return setBitCount;
     }
 
+    /**
+     * Returns the index of the first set bit that occurs on or after the given index,
+     * or {@code -1} if there is no such bit.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index) {
+        assert(index < numBits);
+
+        long wordIndex = index / NUM_BITS;
+        // the shift implicitly uses index % NUM_BITS
+        long word = bits.get(wordIndex) & (-1L << index);
+
+        while (true) {
+            if (word != 0) {
+                return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == bits.size()) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+    }
+
     /**
      * Returns true iff no bit is set.
      * <p>
@@ -267,6 +291,16 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Destroys the bit set, allowing the underlying storage to be collected as garbage.
+     * The bit set is unusable after calling this method.
+     *
+     * @return the amount of memory freed, in bytes.
+     */
+    public long release() {
+        return bits.release();
+    }
+
     public BitSet toBitSet() {
         if (bits.size() <= MAX_ARRAY_LENGTH) {
             return new BitSet(((HugeAtomicLongArray.SingleHugeAtomicLongArray) bits).page(), (int) bits.size());
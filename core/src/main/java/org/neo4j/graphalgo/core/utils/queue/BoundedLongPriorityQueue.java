@@ -83,6 +83,14 @@ public abstract class BoundedLongPriorityQueue {
         return elements[index];
     }
 
+    public double priorityAt(int index) {
+        return priorities[index];
+    }
+
+    public boolean isFull() {
+        return elementCount == bound;
+    }
+
     public void updateElementAt(int index, long newElement) {
         elements[index] = newElement;
     }
@@ -126,6 +134,11 @@ public abstract class BoundedLongPriorityQueue {
             public DoubleStream priorities() {
                 return super.priorities().map(d -> -d);
             }
+
+            @Override
+            public double priorityAt(int index) {
+                return -super.priorityAt(index);
+            }
         };
     }
 
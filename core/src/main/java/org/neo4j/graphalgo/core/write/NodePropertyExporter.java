@@ -19,11 +19,13 @@
  */
 package org.neo4j.graphalgo.core.write;
 
+import com.carrotsearch.hppc.sorting.IndirectSort;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.SecureTransaction;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
 import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
@@ -32,27 +34,41 @@ import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.internal.kernel.api.Write;
 import org.neo4j.values.storable.Value;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.neo4j.graphalgo.utils.ExceptionUtil.throwIfUnchecked;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 public class NodePropertyExporter extends StatementApi {
 
     static final long MIN_BATCH_SIZE = 10_000L;
     static final long MAX_BATCH_SIZE = 100_000L;
 
+    private static final long QUEUE_POLL_MILLIS = 10L;
+
     protected final TerminationFlag terminationFlag;
     protected final ExecutorService executorService;
     protected final ProgressLogger progressLogger;
     protected final int concurrency;
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
+    protected final boolean pipelined;
     protected final LongAdder propertiesWritten;
+    protected final LongAdder transactionsCommitted;
 
     public static Builder builder(GraphDatabaseService db, IdMapping idMapping, TerminationFlag terminationFlag) {
         return builder(SecureTransaction.of(db), idMapping, terminationFlag);
@@ -96,10 +112,22 @@ public class NodePropertyExporter extends StatementApi {
 
     public static class Builder extends ExporterBuilder<NodePropertyExporter> {
 
+        private boolean pipelined;
+
         Builder(SecureTransaction tx, IdMapping idMapping, TerminationFlag terminationFlag) {
             super(tx, idMapping, terminationFlag);
         }
 
+        /**
+         * Read the node properties into batches on the calling thread while the
+         * writer threads write and commit previously read batches.
+         * Only applies to parallel writes.
+         */
+        public Builder withPipelining(boolean pipelined) {
+            this.pipelined = pipelined;
+            return this;
+        }
+
         @Override
         public NodePropertyExporter build() {
             return new NodePropertyExporter(
@@ -109,7 +137,8 @@ public class NodePropertyExporter extends StatementApi {
                 terminationFlag,
                 progressLogger,
                 writeConcurrency,
-                executorService
+                executorService,
+                pipelined
             );
         }
 
@@ -135,7 +164,8 @@ public class NodePropertyExporter extends StatementApi {
         TerminationFlag terminationFlag,
         ProgressLogger log,
         int concurrency,
-        ExecutorService executorService
+        ExecutorService executorService,
+        boolean pipelined
     ) {
         super(tx);
         this.nodeCount = nodeCount;
@@ -144,7 +174,9 @@ public class NodePropertyExporter extends StatementApi {
         this.progressLogger = log;
         this.concurrency = concurrency;
         this.executorService = executorService;
+        this.pipelined = pipelined;
         this.propertiesWritten = new LongAdder();
+        this.transactionsCommitted = new LongAdder();
     }
 
     public void write(String property, NodeProperties properties) {
@@ -161,7 +193,11 @@ public class NodePropertyExporter extends StatementApi {
             .collect(Collectors.toList());
 
         if (ParallelUtil.canRunInParallel(executorService)) {
-            writeParallel(resolvedNodeProperties);
+            if (pipelined) {
+                writePipelined(resolvedNodeProperties);
+            } else {
+                writeParallel(resolvedNodeProperties);
+            }
         } else {
             writeSequential(resolvedNodeProperties);
         }
@@ -171,6 +207,13 @@ public class NodePropertyExporter extends StatementApi {
         return propertiesWritten.longValue();
     }
 
+    /**
+     * Number of transactions committed by pipelined writes.
+     */
+    public long transactionsCommitted() {
+        return transactionsCommitted.longValue();
+    }
+
     void writeSequential(List<ResolvedNodeProperty> nodeProperties) {
         writeSequential((ops, nodeId) -> doWrite(nodeProperties, ops, nodeId));
     }
@@ -249,4 +292,249 @@ public class NodePropertyExporter extends StatementApi {
         );
         progressLogger.logFinish();
     }
+
+    void writePipelined(List<ResolvedNodeProperty> nodeProperties) {
+        int batchSize = (int) ParallelUtil.adjustedBatchSize(
+            nodeCount,
+            concurrency,
+            MIN_BATCH_SIZE,
+            MAX_BATCH_SIZE
+        );
+
+        // each writer holds one batch while the reader fills the next ones
+        int bufferCount = 2 * concurrency;
+        var pipeline = new Pipeline(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            pipeline.bufferPool.add(new WriteBatch(nodeProperties.size(), batchSize));
+        }
+
+        progressLogger.logStart();
+        long startNanos = System.nanoTime();
+
+        var writers = new ArrayList<Future<?>>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            writers.add(executorService.submit(new BatchWriter(nodeProperties, pipeline)));
+        }
+
+        try {
+            for (long start = 0L; start < nodeCount; start += batchSize) {
+                terminationFlag.assertRunning();
+                var batch = pipeline.take(pipeline.bufferPool);
+                batch.fill(nodeProperties, start, (int) Math.min(batchSize, nodeCount - start), toOriginalId);
+                pipeline.put(pipeline.writeQueue, batch);
+            }
+            for (int i = 0; i < concurrency; i++) {
+                // an empty batch signals the end of writing
+                pipeline.put(pipeline.writeQueue, WriteBatch.EMPTY);
+            }
+        } catch (PipelineAbortedException ignored) {
+            // the failure of the writer has already been recorded
+        } catch (RuntimeException | InterruptedException e) {
+            pipeline.fail(e);
+        }
+
+        for (Future<?> writer : writers) {
+            try {
+                writer.get();
+            } catch (InterruptedException | ExecutionException e) {
+                pipeline.fail(e);
+            }
+        }
+        pipeline.rethrowFailure();
+
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        progressLogger.logMessage(formatWithLocale(
+            "Wrote %d properties in %d transactions (%.0f properties/s, %.2f commits/s)",
+            propertiesWritten(),
+            transactionsCommitted(),
+            propertiesWritten() / elapsedSeconds,
+            transactionsCommitted() / elapsedSeconds
+        ));
+        progressLogger.logFinish();
+    }
+
+    /**
+     * Shared state between the thread reading the node properties and the writer threads.
+     * Neither side blocks indefinitely, so that a failure on one side stops the other one.
+     */
+    private final class Pipeline {
+        final BlockingQueue<WriteBatch> writeQueue;
+        final BlockingQueue<WriteBatch> bufferPool;
+        final AtomicReference<Throwable> failure;
+
+        Pipeline(int capacity) {
+            this.writeQueue = new ArrayBlockingQueue<>(capacity + concurrency);
+            this.bufferPool = new ArrayBlockingQueue<>(capacity);
+            this.failure = new AtomicReference<>();
+        }
+
+        WriteBatch take(BlockingQueue<WriteBatch> queue) throws InterruptedException {
+            while (true) {
+                assertNoFailure();
+                var batch = queue.poll(QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (batch != null) {
+                    return batch;
+                }
+            }
+        }
+
+        void put(BlockingQueue<WriteBatch> queue, WriteBatch batch) throws InterruptedException {
+            while (!queue.offer(batch, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                assertNoFailure();
+            }
+        }
+
+        void fail(Throwable throwable) {
+            if (throwable instanceof ExecutionException && throwable.getCause() != null) {
+                throwable = throwable.getCause();
+            }
+            if (throwable instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (!failure.compareAndSet(null, throwable) && failure.get() != throwable) {
+                failure.get().addSuppressed(throwable);
+            }
+        }
+
+        void rethrowFailure() {
+            var throwable = failure.get();
+            if (throwable != null) {
+                throwIfUnchecked(throwable);
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        private void assertNoFailure() {
+            if (failure.get() != null) {
+                throw new PipelineAbortedException();
+            }
+        }
+    }
+
+    private static final class PipelineAbortedException extends RuntimeException {
+        PipelineAbortedException() {
+            super("Another part of the write pipeline failed", null, false, false);
+        }
+    }
+
+    private final class BatchWriter implements Runnable {
+        private final int[] propertyTokens;
+        private final Pipeline pipeline;
+
+        BatchWriter(List<ResolvedNodeProperty> nodeProperties, Pipeline pipeline) {
+            this.propertyTokens = nodeProperties.stream().mapToInt(ResolvedNodeProperty::propertyToken).toArray();
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    var batch = pipeline.take(pipeline.writeQueue);
+                    if (batch == WriteBatch.EMPTY) {
+                        return;
+                    }
+                    write(batch);
+                    pipeline.put(pipeline.bufferPool, batch);
+                }
+            } catch (PipelineAbortedException ignored) {
+                // the failure has already been recorded
+            } catch (RuntimeException | InterruptedException e) {
+                pipeline.fail(e);
+            }
+        }
+
+        private void write(WriteBatch batch) {
+            int[] propertyTokens = this.propertyTokens;
+            long[] nodeIds = batch.nodeIds;
+            Value[][] values = batch.values;
+            int size = batch.size;
+
+            acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                long written = 0L;
+                Write ops = stmt.dataWrite();
+                for (int i = 0; i < size; i++) {
+                    for (int p = 0; p < propertyTokens.length; p++) {
+                        Value value = values[p][i];
+                        if (value != null) {
+                            ops.nodeSetProperty(nodeIds[i], propertyTokens[p], value);
+                            written++;
+                        }
+                    }
+                    if (i % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+                propertiesWritten.add(written);
+            });
+            transactionsCommitted.increment();
+            progressLogger.logProgress(size);
+        }
+    }
+
+    /**
+     * The property values of a range of nodes, ordered by their Neo4j node id
+     * so that a transaction touches the node store sequentially.
+     */
+    static final class WriteBatch {
+        static final WriteBatch EMPTY = new WriteBatch(0, 0);
+
+        final long[] nodeIds;
+        final Value[][] values;
+        int size;
+
+        private long[] internalIds;
+        private long[] sortBuffer;
+
+        WriteBatch(int propertyCount, int capacity) {
+            this.nodeIds = new long[capacity];
+            this.internalIds = new long[capacity];
+            this.sortBuffer = new long[capacity];
+            this.values = new Value[propertyCount][capacity];
+        }
+
+        void fill(
+            List<ResolvedNodeProperty> nodeProperties,
+            long start,
+            int length,
+            LongUnaryOperator toOriginalId
+        ) {
+            long[] nodeIds = this.nodeIds;
+            boolean sorted = true;
+            long previous = Long.MIN_VALUE;
+            for (int i = 0; i < length; i++) {
+                long nodeId = toOriginalId.applyAsLong(start + i);
+                nodeIds[i] = nodeId;
+                internalIds[i] = start + i;
+                sorted &= previous <= nodeId;
+                previous = nodeId;
+            }
+
+            if (!sorted) {
+                sortByNodeId(length);
+            }
+
+            for (int p = 0; p < nodeProperties.size(); p++) {
+                NodeProperties properties = nodeProperties.get(p).properties();
+                Value[] values = this.values[p];
+                for (int i = 0; i < length; i++) {
+                    values[i] = properties.value(internalIds[i]);
+                }
+            }
+            this.size = length;
+        }
+
+        private void sortByNodeId(int length) {
+            int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(nodeIds));
+            long[] sortedInternalIds = sortBuffer;
+            for (int i = 0; i < length; i++) {
+                sortedInternalIds[i] = internalIds[order[i]];
+            }
+            Arrays.sort(nodeIds, 0, length);
+            this.sortBuffer = internalIds;
+            this.internalIds = sortedInternalIds;
+        }
+    }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.config.GraphCreateFromGraphConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromGraphConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.CSRGraphStoreUtil;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.kernel.database.TestDatabaseIdRepository;
+import org.neo4j.logging.NullLog;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+import static org.neo4j.graphalgo.TestSupport.graphStoreFromGDL;
+
+class FilteredGraphStoreTest {
+
+    private static final String GDL =
+        "  (a:A {prop: 1})" +
+        ", (b:A {prop: 2})" +
+        ", (c:B {prop: 3})" +
+        ", (d:B {prop: 4})" +
+        ", (a)-[:X {weight: 1.0}]->(b)" +
+        ", (a)-[:X {weight: 2.0}]->(c)" +
+        ", (b)-[:X {weight: 3.0}]->(d)" +
+        ", (c)-[:Y {weight: 4.0}]->(d)" +
+        ", (d)-[:Y {weight: 5.0}]->(a)";
+
+    private static GraphCreateFromGraphConfig config(String nodeFilter, String relationshipFilter, int concurrency) {
+        return ImmutableGraphCreateFromGraphConfig.builder()
+            .concurrency(concurrency)
+            .nodeFilter(nodeFilter)
+            .relationshipFilter(relationshipFilter)
+            .graphName("outputGraph")
+            .fromGraphName("inputGraph")
+            .originalConfig(GraphCreateFromStoreConfig.emptyWithName("user", "inputGraph"))
+            .materialize(false)
+            .build();
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "*;*",
+        "n:A;*",
+        "n.prop > 1;*",
+        "*;r:Y",
+        "*;r.weight >= 2.0 AND r.weight < 5.0",
+        "n:A OR n.prop = 4;r:X OR r.weight = 5.0"
+    }, delimiter = ';')
+    void viewEqualsMaterializedSubgraph(String nodeFilter, String relationshipFilter) throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var materialized = GraphStoreFilter.filter(
+            graphStore,
+            config(nodeFilter, relationshipFilter, 1),
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty()
+        );
+        var view = filterView(graphStore, nodeFilter, relationshipFilter, 1);
+
+        assertThat(view.nodeCount()).isEqualTo(materialized.nodeCount());
+        assertThat(view.relationshipCount()).isEqualTo(materialized.relationshipCount());
+        assertThat(view.relationshipTypes()).isEqualTo(materialized.relationshipTypes());
+        assertThat(view.nodeLabels()).isEqualTo(materialized.nodeLabels());
+        assertThat(view.schema()).isEqualTo(materialized.schema());
+        assertGraphEquals(materialized.getUnion(), view.getUnion());
+    }
+
+    @Test
+    void filterRelationshipsOnTheFly() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+        var view = filterView(graphStore, "n.prop < 4", "r.weight > 1.0", 1);
+
+        assertThat(view.relationshipTypes()).containsExactly(RelationshipType.of("X"));
+        assertThat(view.relationshipCount()).isEqualTo(1L);
+
+        var graph = view.getGraph(RelationshipType.of("X"), Optional.of("weight"));
+
+        assertGraphEquals(fromGdl("(a:A {prop: 1}), (b:A {prop: 2}), (c:B {prop: 3}), (a)-[{w: 2.0}]->(c)"), graph);
+
+        var a = graph.toMappedNodeId(graphStore.nodes().toOriginalNodeId(0));
+        assertThat(graph.degree(a)).isEqualTo(1);
+        assertThat(graph.relationshipCount()).isEqualTo(1L);
+        assertThat(graph.relationshipProperty(a, graph.getTarget(a, 0), Double.NaN)).isEqualTo(2.0);
+    }
+
+    @Test
+    void filterNodeLabelsOfView() throws Exception {
+        var view = filterView(graphStoreFromGDL(GDL), "*", "*", 1);
+
+        var graph = view.getGraph(List.of(NodeLabel.of("B")), view.relationshipTypes(), Optional.empty());
+
+        assertThat(graph.availableNodeLabels()).containsExactly(NodeLabel.of("B"));
+        assertThat(graph.relationshipCount()).isEqualTo(1L);
+        assertGraphEquals(fromGdl("(c:B {prop: 3}), (d:B {prop: 4}), (c)-->(d)"), graph);
+    }
+
+    @Test
+    void materializeView() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+        var view = filterView(graphStore, "n:A OR n:B", "r.weight <> 3.0", 1);
+
+        var materialized = GraphStoreFilter.filter(
+            view,
+            config("*", "*", 1),
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty()
+        );
+
+        assertThat(materialized.relationshipCount()).isEqualTo(4L);
+        assertGraphEquals(view.getUnion(), materialized.getUnion());
+    }
+
+    @Test
+    void filterViewOfView() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var view = filterView(filterView(graphStore, "n.prop > 1", "*", 1), "*", "r:X", 1);
+
+        assertGraphEquals(fromGdl("(b:A {prop: 2}), (c:B {prop: 3}), (d:B {prop: 4}), (b)-[:X]->(d)"), view.getUnion());
+    }
+
+    @Test
+    void viewOnRandomGraphEqualsMaterializedSubgraph() throws Exception {
+        var labelA = new NodeLabel[] {NodeLabel.of("A")};
+        var labelB = new NodeLabel[] {NodeLabel.of("B")};
+
+        var generatedGraph = RandomGraphGenerator
+            .builder()
+            .nodeCount(10_000)
+            .nodeLabelProducer(node -> node % 3 == 0 ? labelA : labelB)
+            .nodePropertyProducer(PropertyProducer.random("nodeProp", 0, 1))
+            .relationshipType(RelationshipType.of("REL"))
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.random("relProp", 0, 1))
+            .averageDegree(5)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            TestDatabaseIdRepository.randomNamedDatabaseId(),
+            generatedGraph,
+            "REL",
+            Optional.of("relProp"),
+            4,
+            AllocationTracker.empty()
+        );
+
+        var nodeFilter = "n:B AND n.nodeProp > 0.2";
+        var relationshipFilter = "r.relProp < 0.7";
+
+        var materialized = GraphStoreFilter.filter(
+            graphStore,
+            config(nodeFilter, relationshipFilter, 4),
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty()
+        );
+        var view = filterView(graphStore, nodeFilter, relationshipFilter, 4);
+
+        assertThat(view.relationshipCount()).isEqualTo(materialized.relationshipCount());
+        assertGraphEquals(materialized.getUnion(), view.getUnion());
+        assertGraphEquals(materialized.getUnion(), view.getUnion().concurrentCopy());
+    }
+
+    @Test
+    void shouldBeReadOnly() throws Exception {
+        var view = filterView(graphStoreFromGDL(GDL), "*", "*", 1);
+
+        assertThatThrownBy(() -> view.addNodeProperty(NodeLabel.of("A"), "foo", (LongNodeProperties) nodeId -> nodeId))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("read-only");
+        assertThatThrownBy(() -> view.deleteRelationships(RelationshipType.of("X")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldNotRemoveParentOfView() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+        var view = filterView(graphStore, "*", "*", 1);
+
+        GraphStoreCatalog.set(GraphCreateFromStoreConfig.emptyWithName("user", "inputGraph"), graphStore);
+        GraphStoreCatalog.set(config("*", "*", 1), view);
+
+        assertThatThrownBy(() -> GraphStoreCatalog.remove("user", graphStore.databaseId(), "inputGraph", removed -> {}, true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Graph `inputGraph` is used by the filtered graph views [outputGraph] and cannot be removed before them.");
+
+        GraphStoreCatalog.remove("user", graphStore.databaseId(), "outputGraph", removed -> {}, true);
+        GraphStoreCatalog.remove("user", graphStore.databaseId(), "inputGraph", removed -> {}, true);
+
+        assertThat(GraphStoreCatalog.graphStoresCount()).isZero();
+    }
+
+    private FilteredGraphStore filterView(
+        GraphStore graphStore,
+        String nodeFilter,
+        String relationshipFilter,
+        int concurrency
+    ) throws Exception {
+        return GraphStoreFilter.filterView(
+            graphStore,
+            config(nodeFilter, relationshipFilter, concurrency),
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty()
+        );
+    }
+}
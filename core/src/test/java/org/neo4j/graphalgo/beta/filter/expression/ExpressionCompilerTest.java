@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter.expression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    static final String GDL =
+        "  (a:A:B { foo: 42, bar: 1 })" +
+        ", (b:B { foo: 1337, bar: 2 })" +
+        ", (c:C { baz: 3.5 })" +
+        ", (d:A:C { foo: 7, baz: -1.0 })" +
+        ", (a)-[:REL { weight: 0.5, cost: 2 }]->(b)" +
+        ", (b)-[:REL { weight: 1.5, cost: 4 }]->(c)" +
+        ", (c)-[:OTHER { weight: 42.0, cost: 1 }]->(d)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "NOT TRUE",
+        "n:A",
+        "n:A:B",
+        "n:A OR n:C",
+        "n:A XOR n:B",
+        "NOT n:A AND n:B",
+        "n.foo > 40",
+        "n.foo >= 42 OR n.baz < 0",
+        "n.foo = 7",
+        "n.foo <> 7",
+        "n.bar <= 1",
+        "n.baz = 3.5",
+        "n:C AND n.baz > 0",
+        "1 < 2 AND n.foo > 1000",
+        "n.foo > n.bar"
+    })
+    void shouldCompileNodeExpressionsLikeTheEvaluator(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        expression.validate(ValidationContext.forNodes(graphStore)).validate();
+
+        var predicate = ExpressionCompiler.compileForNodes(expression, graphStore);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(predicate.test(nodeId))
+                .as("%s for node %d", filter, nodeId)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "r:REL",
+        "r:REL:OTHER",
+        "NOT r:OTHER",
+        "r.weight > 1.0",
+        "r.weight >= 0.5 AND r.cost < 3",
+        "r:OTHER OR r.cost = 4",
+        "r.cost <> 2 XOR r.weight < 1.0"
+    })
+    void shouldCompileRelationshipExpressionsLikeTheEvaluator(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        expression.validate(ValidationContext.forRelationships(graphStore)).validate();
+
+        var propertyIndices = Map.of("weight", 0, "cost", 1);
+        var properties = List.of(
+            new double[]{0.5, 2},
+            new double[]{1.5, 4},
+            new double[]{42.0, 1}
+        );
+
+        for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+            var predicate = ExpressionCompiler.compileForRelationships(expression, relationshipType, propertyIndices);
+            var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+
+            for (double[] values : properties) {
+                context.init(relationshipType.name, values);
+                assertThat(predicate.test(values))
+                    .as("%s for %s", filter, relationshipType.name)
+                    .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void initialSuperstepIsDense() {
+        var frontier = Frontier.create(1000, AllocationTracker.empty());
+        frontier.initIteration(0);
+        assertThat(frontier.isSparse()).isFalse();
+    }
+
+    @Test
+    void switchToSparseIterationForSmallFrontier() {
+        var frontier = Frontier.create(1000, AllocationTracker.empty());
+        frontier.initIteration(0);
+        frontier.activate(42);
+        frontier.activate(512);
+
+        frontier.initIteration(1);
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.nextActiveNode(0, 1000)).isEqualTo(42L);
+        assertThat(frontier.nextActiveNode(43, 1000)).isEqualTo(512L);
+        assertThat(frontier.nextActiveNode(43, 512)).isEqualTo(-1L);
+        assertThat(frontier.nextActiveNode(513, 1000)).isEqualTo(-1L);
+    }
+
+    @Test
+    void switchToDenseIterationForLargeFrontier() {
+        var frontier = Frontier.create(1000, AllocationTracker.empty());
+        frontier.initIteration(0);
+        for (long nodeId = 0; nodeId < 1000; nodeId += 2) {
+            frontier.activate(nodeId);
+        }
+
+        frontier.initIteration(1);
+        assertThat(frontier.isSparse()).isFalse();
+
+        // nothing has been activated during the previous superstep
+        frontier.initIteration(2);
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.nextActiveNode(0, 1000)).isEqualTo(-1L);
+    }
+}
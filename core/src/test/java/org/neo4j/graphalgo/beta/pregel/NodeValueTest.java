@@ -85,6 +85,50 @@ class NodeValueTest {
             .hasMessageContaining("is not compatible with available property type");
     }
 
+    @Test
+    void handlesAccessTheSameValuesAsKeys() {
+        var schema = new PregelSchema.Builder()
+            .add("DOUBLE", ValueType.DOUBLE)
+            .add("LONG", ValueType.LONG)
+            .add("LONG_ARRAY", ValueType.LONG_ARRAY)
+            .add("DOUBLE_ARRAY", ValueType.DOUBLE_ARRAY)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, 4, AllocationTracker.empty());
+
+        var doubleHandle = nodeValues.doubleHandle("DOUBLE");
+        var longHandle = nodeValues.longHandle("LONG");
+        var longArrayHandle = nodeValues.longArrayHandle("LONG_ARRAY");
+        var doubleArrayHandle = nodeValues.doubleArrayHandle("DOUBLE_ARRAY");
+
+        doubleHandle.set(3, 4.2);
+        longHandle.set(3, 42L);
+        longArrayHandle.set(3, new long[]{1L, 3L, 3L, 7L});
+        doubleArrayHandle.set(3, new double[]{4.2});
+        nodeValues.set("DOUBLE", 5, 13.37);
+
+        assertThat(nodeValues.doubleValue("DOUBLE", 3)).isEqualTo(4.2);
+        assertThat(nodeValues.longValue("LONG", 3)).isEqualTo(42L);
+        assertThat(nodeValues.longArrayValue("LONG_ARRAY", 3)).containsExactly(1L, 3L, 3L, 7L);
+        assertThat(nodeValues.doubleArrayValue("DOUBLE_ARRAY", 3)).containsExactly(4.2);
+        assertThat(doubleHandle.get(5)).isEqualTo(13.37);
+
+        assertThat(nodeValues.doubleHandle("DOUBLE")).isSameAs(doubleHandle);
+    }
+
+    @Test
+    void testThrowWhenResolvingHandleOfWrongType() {
+        var schema = new PregelSchema.Builder().add("KEY", ValueType.LONG).build();
+        var nodeValues = NodeValue.of(schema, 10, 4, AllocationTracker.empty());
+        nodeValues.longHandle("KEY");
+
+        assertThatThrownBy(() -> nodeValues.doubleHandle("KEY"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not compatible with available property type");
+        assertThatThrownBy(() -> nodeValues.longHandle("UNKNOWN"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Property with key UNKNOWN does not exist");
+    }
+
     static Stream<Arguments> validPropertyTypeAndGetters() {
         BiConsumer<NodeValue, String> longGetter = NodeValue::longProperties;
         BiConsumer<NodeValue, String> doubleGetter = NodeValue::doubleProperties;
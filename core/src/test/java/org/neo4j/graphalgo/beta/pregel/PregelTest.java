@@ -48,12 +48,14 @@ import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
 import org.neo4j.graphalgo.extension.TestGraph;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -171,6 +173,55 @@ class PregelTest {
 
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void computeOnSparseFrontier(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+
+        var result = Pregel.create(
+            graph,
+            config,
+            new TestBfsLevelComputation(),
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        ).run();
+
+        assertThat(result.didConverge()).isTrue();
+
+        // sequential BFS as reference
+        var expected = new long[(int) graph.nodeCount()];
+        Arrays.fill(expected, -1L);
+        expected[0] = 0L;
+        var queue = new ArrayDeque<Long>();
+        queue.add(0L);
+        while (!queue.isEmpty()) {
+            long nodeId = queue.poll();
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (expected[(int) target] == -1L) {
+                    expected[(int) target] = expected[(int) source] + 1;
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+
+        assertArrayEquals(expected, result.nodeValues().longProperties(KEY).toArray());
+    }
+
     static Stream<Arguments> forkJoinAndPartitioning() {
         return crossArguments(
             TestSupport::trueFalseArguments,
@@ -341,8 +392,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444392L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444968L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -351,7 +402,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9444464L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -361,12 +412,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9445040L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3844352L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3844928L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -375,7 +426,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5844424L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -385,12 +436,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5845000L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244272L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244848L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -399,7 +450,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2244344L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -409,7 +460,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2244920L
             )
         );
     }
@@ -526,6 +577,90 @@ class PregelTest {
         pregelJob.run();
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void sendsMultiValuedMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig
+            .builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestMultiValuedMessages(),
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+
+        var alice = graph.toMappedNodeId("alice");
+        var bob = graph.toMappedNodeId("bob");
+        var eve = graph.toMappedNodeId("eve");
+
+        assertThat(nodeValues.longValue(TestMultiValuedMessages.SENDER_KEY, alice)).isEqualTo(-1L);
+        assertThat(nodeValues.doubleValue(TestMultiValuedMessages.SEED_KEY, alice)).isEqualTo(0D);
+        assertThat(nodeValues.longValue(TestMultiValuedMessages.SENDER_KEY, bob)).isEqualTo(alice);
+        assertThat(nodeValues.doubleValue(TestMultiValuedMessages.SEED_KEY, bob)).isEqualTo(42D + alice);
+        assertThat(nodeValues.longValue(TestMultiValuedMessages.SENDER_KEY, eve)).isEqualTo(alice);
+        assertThat(nodeValues.doubleValue(TestMultiValuedMessages.SEED_KEY, eve)).isEqualTo(42D + alice);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void reducesMultiValuedMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig
+            .builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestMultiValuedMessageReducer(),
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+
+        // all nodes send to the first node, the message with the largest seed wins
+        var lastNode = graph.nodeCount() - 1;
+        assertThat(nodeValues.longValue(TestMultiValuedMessages.SENDER_KEY, 0L)).isEqualTo(lastNode);
+        assertThat(nodeValues.doubleValue(TestMultiValuedMessages.SEED_KEY, 0L)).isEqualTo(42D + lastNode);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void rejectReducerForMultiValuedMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).partitioning(partitioning).build();
+
+        var computation = new TestMultiValuedMessages() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            computation,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("use a message reducer");
+    }
+
     static Stream<Arguments> partitionings() {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
@@ -686,6 +821,100 @@ class PregelTest {
         }
     }
 
+    static class TestBfsLevelComputation implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, context.nodeId() == 0 ? 0L : -1L);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.sendToNeighbors(1);
+                }
+            } else if (context.longNodeValue(KEY) == -1) {
+                long level = context.superstep();
+                context.setNodeValue(KEY, level);
+                context.sendToNeighbors(level + 1);
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestMultiValuedMessages implements PregelComputation<PregelConfig> {
+        static final String SENDER_KEY = "sender";
+        static final String SEED_KEY = "seed";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(SENDER_KEY, ValueType.LONG)
+                .add(SEED_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.LONG_DOUBLE;
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(SENDER_KEY, -1L);
+            context.setNodeValue(SEED_KEY, 0D);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            // messages might arrive in the initial superstep for asynchronous computations
+            for (var message : messages.typed()) {
+                context.setNodeValue(SENDER_KEY, message.longValue(0));
+                context.setNodeValue(SEED_KEY, context.doubleNodeValue(SEED_KEY) + message.doubleValue(1));
+            }
+            if (context.isInitialSuperstep()) {
+                context.message()
+                    .setLong(0, context.nodeId())
+                    .setDouble(1, 42D + context.nodeId())
+                    .sendToNeighbors();
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestMultiValuedMessageReducer extends TestMultiValuedMessages {
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.message()
+                    .setLong(0, context.nodeId())
+                    .setDouble(1, 42D + context.nodeId())
+                    .sendTo(0L);
+            } else {
+                var count = 0;
+                for (var message : messages.typed()) {
+                    context.setNodeValue(SENDER_KEY, message.longValue(0));
+                    context.setNodeValue(SEED_KEY, message.doubleValue(1));
+                    count++;
+                }
+                assertThat(count).isLessThanOrEqualTo(1);
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<MessageReducer> messageReducer() {
+            return Optional.of(new MessageReducer.MaxBy(MessageSchema.LONG_DOUBLE, 1));
+        }
+    }
+
     static class TestEmptyMessageInInitialSuperstep implements PregelComputation<PregelConfig> {
         @Override
         public PregelSchema schema(PregelConfig config) {
@@ -47,6 +47,39 @@ class PrimitiveAsyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
         assertThat(queues.isEmpty(0)).isTrue();
     }
 
+    @Test
+    void isEmptyWithLongValuesInRawBits() {
+        var queues = PrimitiveAsyncDoubleQueues.of(1, AllocationTracker.empty());
+        var iterator = new PrimitiveAsyncDoubleQueues.Iterator(queues, MessageSchema.LONG_DOUBLE);
+
+        // -1L is a NaN in its double representation
+        queues.push(0, new double[]{Double.longBitsToDouble(-1L), 42.0});
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        iterator.init(0);
+        assertThat(Double.doubleToRawLongBits(iterator.nextDouble())).isEqualTo(-1L);
+        assertThat(iterator.isEmpty()).isFalse();
+        assertThat(iterator.nextDouble()).isEqualTo(42.0);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+
+    @Test
+    void keepsLongValuesWithTheBitsOfAnEmptySlot() {
+        var queues = PrimitiveAsyncDoubleQueues.of(1, AllocationTracker.empty());
+        var iterator = new PrimitiveAsyncDoubleQueues.Iterator(queues, MessageSchema.LONG);
+        long emptySlotBits = Double.doubleToRawLongBits(Double.NaN);
+
+        queues.push(0, new double[]{Double.longBitsToDouble(emptySlotBits)});
+        queues.push(0, new double[]{Double.longBitsToDouble(42L)});
+
+        iterator.init(0);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(Double.doubleToRawLongBits(iterator.nextDouble())).isEqualTo(emptySlotBits);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(Double.doubleToRawLongBits(iterator.nextDouble())).isEqualTo(42L);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
     @Test
     void isEmptyFullArray() {
         var queues = PrimitiveAsyncDoubleQueues.of(1, AllocationTracker.empty());
@@ -55,6 +55,32 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
         }
     }
 
+    @Test
+    void pushMultiValuedMessagesBeyondCapacity() {
+        var initialCapacity = 42;
+        var queue = getQueue(1, initialCapacity);
+        var width = 50;
+
+        for (int i = 0; i < 3; i++) {
+            var message = new double[width];
+            Arrays.fill(message, i);
+            queue.push(0, message);
+        }
+
+        queue.swapQueues();
+
+        var iterator = new PrimitiveSyncDoubleQueues.Iterator();
+        queue.initIterator(iterator, 0);
+
+        for (int i = 0; i < 3; i++) {
+            for (int slot = 0; slot < width; slot++) {
+                assertThat(iterator.hasNext()).isTrue();
+                assertThat(iterator.nextDouble()).isEqualTo(i);
+            }
+        }
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
     @Nested
     class IteratorTest {
 
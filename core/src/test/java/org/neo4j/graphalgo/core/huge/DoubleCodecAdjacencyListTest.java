@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.loading.CompactDoubleCodec;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+class DoubleCodecAdjacencyListTest {
+
+    private static final int NODE_COUNT = 1_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldReadTheSameIntegralProperties(int concurrency) {
+        var expected = createGraph(random -> () -> random.nextInt(100), AllocationTracker.empty());
+        var actual = compress(
+            createGraph(random -> () -> random.nextInt(100), AllocationTracker.empty()),
+            concurrency,
+            AllocationTracker.empty()
+        );
+
+        assertThat(actual.relationships().properties().orElseThrow().list()).isInstanceOf(DoubleCodecAdjacencyList.class);
+        assertGraphEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldReadTheSameFractionalProperties(int concurrency) {
+        var expected = createGraph(random -> random::nextDouble, AllocationTracker.empty());
+        var actual = compress(
+            createGraph(random -> random::nextDouble, AllocationTracker.empty()),
+            concurrency,
+            AllocationTracker.empty()
+        );
+
+        assertGraphEquals(expected, actual);
+        expected.forEachNode(nodeId -> {
+            expected.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                assertThat(actual.relationshipProperty(source, target, Double.NaN)).isEqualTo(property);
+                return true;
+            });
+            return true;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldUseLessMemoryForSmallIntegralProperties(int concurrency) {
+        var tracker = AllocationTracker.create();
+        var graph = createGraph(random -> () -> random.nextInt(10), tracker);
+        long uncompressedBytes = tracker.trackedBytes();
+
+        compress(graph, concurrency, tracker);
+
+        assertThat(tracker.trackedBytes()).isLessThan(uncompressedBytes);
+    }
+
+    private static HugeGraph compress(HugeGraph graph, int concurrency, AllocationTracker tracker) {
+        var relationships = graph.relationships();
+        Relationships.Properties compressed = DoubleCodecAdjacencyList.compress(
+            relationships.properties().orElseThrow(),
+            graph.nodeCount(),
+            CompactDoubleCodec.instance(),
+            concurrency,
+            tracker
+        );
+
+        return HugeGraph.create(
+            graph.idMap(),
+            graph.schema(),
+            graph.nodeProperties(),
+            relationships.topology(),
+            Optional.of(compressed),
+            AllocationTracker.empty()
+        );
+    }
+
+    private interface PropertySource {
+        DoubleSupplier create(Random random);
+    }
+
+    private static HugeGraph createGraph(PropertySource propertySource, AllocationTracker tracker) {
+        var random = new Random(42L);
+        var properties = propertySource.create(new Random(1337L));
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT)
+            .tracker(tracker)
+            .build();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().nodeMapping();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(Orientation.NATURAL)
+            .addPropertyConfig(GraphFactory.PropertyConfig.withDefaults())
+            .tracker(tracker)
+            .build();
+
+        for (long sourceNodeId = 0; sourceNodeId < NODE_COUNT; sourceNodeId++) {
+            // a hub and many low degree nodes, some of them without relationships
+            int degree = sourceNodeId == 0 ? 50 * NODE_COUNT : random.nextInt(20);
+            for (int i = 0; i < degree; i++) {
+                long targetNodeId = random.nextInt(NODE_COUNT);
+                relationshipsBuilder.addFromInternal(sourceNodeId, targetNodeId, properties.getAsDouble());
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+class OffHeapAdjacencyListTest {
+
+    private static final int NODE_COUNT = 1_000;
+
+    @Test
+    void shouldReadTheSameRelationshipsAsTheTransientList() {
+        var expected = createGraph(AllocationTracker.empty());
+        var actual = moveOffHeap(createGraph(AllocationTracker.empty()), AllocationTracker.empty());
+
+        assertThat(actual.relationshipTopology().list()).isInstanceOf(OffHeapAdjacencyList.class);
+        assertGraphEquals(expected, actual);
+
+        expected.forEachNode(sourceNodeId -> {
+            assertThat(actual.degree(sourceNodeId)).isEqualTo(expected.degree(sourceNodeId));
+            for (long targetNodeId = 0; targetNodeId < NODE_COUNT; targetNodeId += 7) {
+                assertThat(actual.exists(sourceNodeId, targetNodeId))
+                    .as("exists (%d)-->(%d)", sourceNodeId, targetNodeId)
+                    .isEqualTo(expected.exists(sourceNodeId, targetNodeId));
+            }
+            return true;
+        });
+    }
+
+    @Test
+    void shouldAdvanceAndCopyLikeTheTransientList() {
+        var expected = createGraph(AllocationTracker.empty()).relationshipTopology();
+        var actual = moveOffHeap(createGraph(AllocationTracker.empty()), AllocationTracker.empty()).relationshipTopology();
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId += 10) {
+            int degree = expected.degrees().degree(nodeId);
+            long offset = expected.offsets().get(nodeId);
+
+            var expectedCursor = expected.list().decompressingCursor(offset, degree);
+            var actualCursor = actual.list().decompressingCursor(offset, degree);
+
+            long target = NODE_COUNT / 2;
+            assertThat(actualCursor.advance(target)).isEqualTo(expectedCursor.advance(target));
+
+            AdjacencyCursor copy = actual.list().rawDecompressingCursor();
+            copy.copyFrom(actualCursor);
+            // re-initializing the source must not affect the copy
+            actualCursor.init(actual.offsets().get(0), actual.degrees().degree(0));
+
+            assertThat(copy.remaining()).isEqualTo(expectedCursor.remaining());
+            while (expectedCursor.hasNextVLong()) {
+                assertThat(copy.nextVLong()).isEqualTo(expectedCursor.nextVLong());
+            }
+            assertThat(copy.hasNextVLong()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldTrackAndReleaseDirectMemory() {
+        var tracker = AllocationTracker.create();
+        var graph = createGraph(tracker);
+        long heapBytes = tracker.trackedBytes();
+
+        var offHeapGraph = moveOffHeap(graph, tracker);
+        long offHeapBytes = tracker.trackedBytes();
+        assertThat(offHeapBytes).isLessThan(heapBytes);
+
+        var list = offHeapGraph.relationshipTopology().list();
+        var properties = offHeapGraph.relationships().properties().orElseThrow().list();
+        list.close();
+        properties.close();
+        assertThat(tracker.trackedBytes()).isLessThan(offHeapBytes);
+
+        // closing twice must not release the memory twice
+        long released = tracker.trackedBytes();
+        list.close();
+        assertThat(tracker.trackedBytes()).isEqualTo(released);
+    }
+
+    @Test
+    void shouldFreeDirectMemoryOnceTheLastCursorIsClosed() {
+        var tracker = AllocationTracker.create();
+        var topology = createGraph(tracker).relationshipTopology();
+        var list = OffHeapAdjacencyList.moveFrom((TransientAdjacencyList) topology.list(), tracker);
+        long offHeapBytes = tracker.trackedBytes();
+
+        var cursor = list.decompressingCursor(topology.offsets().get(0), topology.degrees().degree(0));
+        list.close();
+        // the cursor is still reading from the pages
+        assertThat(tracker.trackedBytes()).isEqualTo(offHeapBytes);
+        assertThatThrownBy(list::rawDecompressingCursor)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("The off-heap adjacency list has already been released.");
+
+        cursor.close();
+        long released = tracker.trackedBytes();
+        assertThat(released).isLessThan(offHeapBytes);
+        assertThat(cursor.hasNextVLong()).isFalse();
+
+        // closing the cursor twice must not release the pages twice
+        cursor.close();
+        assertThat(tracker.trackedBytes()).isEqualTo(released);
+    }
+
+    @Test
+    void shouldKeepOpenCursorsReadableAfterClose() {
+        var expected = createGraph(AllocationTracker.empty()).relationshipTopology();
+        var actual = moveOffHeap(createGraph(AllocationTracker.empty()), AllocationTracker.empty()).relationshipTopology();
+
+        int degree = expected.degrees().degree(0);
+        long offset = expected.offsets().get(0);
+        var expectedCursor = expected.list().decompressingCursor(offset, degree);
+        var actualCursor = actual.list().decompressingCursor(offset, degree);
+
+        // e.g. the graph is dropped while an algorithm is still traversing it
+        actual.list().close();
+
+        while (expectedCursor.hasNextVLong()) {
+            assertThat(actualCursor.nextVLong()).isEqualTo(expectedCursor.nextVLong());
+        }
+        assertThat(actualCursor.hasNextVLong()).isFalse();
+    }
+
+    private static HugeGraph moveOffHeap(HugeGraph graph, AllocationTracker tracker) {
+        var relationships = graph.relationships();
+        var topology = relationships.topology();
+        var properties = relationships.properties().orElseThrow();
+
+        return HugeGraph.create(
+            graph.idMap(),
+            graph.schema(),
+            graph.nodeProperties(),
+            ImmutableTopology.copyOf(topology)
+                .withList(OffHeapAdjacencyList.moveFrom((TransientAdjacencyList) topology.list(), tracker)),
+            Optional.of(ImmutableProperties.copyOf(properties)
+                .withList(OffHeapAdjacencyList.moveFrom((TransientAdjacencyList) properties.list(), tracker))),
+            AllocationTracker.empty()
+        );
+    }
+
+    private static HugeGraph createGraph(AllocationTracker tracker) {
+        var random = new Random(42L);
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT)
+            .tracker(tracker)
+            .build();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().nodeMapping();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(Orientation.NATURAL)
+            .addPropertyConfig(GraphFactory.PropertyConfig.withDefaults())
+            .tracker(tracker)
+            .build();
+
+        for (long sourceNodeId = 0; sourceNodeId < NODE_COUNT; sourceNodeId++) {
+            // a hub with a few blocks of targets and many low degree nodes
+            int degree = sourceNodeId == 0 ? 2 * NODE_COUNT : random.nextInt(8) + (sourceNodeId % 10 == 0 ? 100 : 0);
+            for (int i = 0; i < degree; i++) {
+                long targetNodeId = random.nextInt(NODE_COUNT);
+                relationshipsBuilder.addFromInternal(sourceNodeId, targetNodeId, random.nextDouble());
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencySkipIndex;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransientAdjacencySkipIndexTest {
+
+    private static final int NODE_COUNT = 1_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldAgreeWithLinearScan(int concurrency) {
+        var graph = createGraph();
+        var indexedGraph = withSkipIndex(graph, concurrency);
+
+        graph.forEachNode(sourceNodeId -> {
+            for (long targetNodeId = 0; targetNodeId < NODE_COUNT; targetNodeId++) {
+                assertThat(indexedGraph.exists(sourceNodeId, targetNodeId))
+                    .as("exists (%d)-->(%d)", sourceNodeId, targetNodeId)
+                    .isEqualTo(graph.exists(sourceNodeId, targetNodeId));
+                assertThat(indexedGraph.relationshipProperty(sourceNodeId, targetNodeId, Double.NaN))
+                    .as("property of (%d)-->(%d)", sourceNodeId, targetNodeId)
+                    .isEqualTo(graph.relationshipProperty(sourceNodeId, targetNodeId, Double.NaN));
+            }
+            return true;
+        });
+    }
+
+    @Test
+    void shouldReturnFirstPositionOfParallelRelationships() {
+        var graph = createGraph();
+        var topology = graph.relationshipTopology();
+        var skipIndex = buildSkipIndex(graph, 1);
+
+        graph.forEachNode(sourceNodeId -> {
+            int degree = topology.degrees().degree(sourceNodeId);
+            if (degree == 0) {
+                assertThat(skipIndex.indexOf(sourceNodeId, 0)).isEqualTo(AdjacencySkipIndex.NOT_FOUND);
+                return true;
+            }
+            var cursor = topology.list().decompressingCursor(topology.offsets().get(sourceNodeId), degree);
+            long previousTarget = -1L;
+            int position = 0;
+            while (cursor.hasNextVLong()) {
+                long target = cursor.nextVLong();
+                if (target != previousTarget) {
+                    assertThat(skipIndex.indexOf(sourceNodeId, target)).isEqualTo(position);
+                }
+                previousTarget = target;
+                position++;
+            }
+            assertThat(skipIndex.indexOf(sourceNodeId, NODE_COUNT)).isEqualTo(AdjacencySkipIndex.NOT_FOUND);
+            return true;
+        });
+    }
+
+    @Test
+    void shouldAgreeWithLinearScanAfterPatching() {
+        var indexedGraph = withSkipIndex(createGraph(), 1);
+
+        var random = new Random(1337L);
+        var delta = new AdjacencyDelta(1);
+        // shrink the hub, grow a low degree node beyond a few blocks and touch a node at a block boundary
+        for (long targetNodeId = 0; targetNodeId < NODE_COUNT; targetNodeId += 3) {
+            delta.remove(0, targetNodeId);
+        }
+        for (int i = 0; i < 3 * TransientAdjacencySkipIndex.BLOCK_SIZE + 1; i++) {
+            delta.add(1, random.nextInt(NODE_COUNT), random.nextDouble());
+        }
+        delta.add(20, random.nextInt(NODE_COUNT), random.nextDouble());
+
+        var patched = apply(delta, indexedGraph);
+        assertThat(patched.topology().skipIndex()).isPresent();
+
+        assertAgreesWithLinearScan(indexedGraph, patched);
+    }
+
+    @Test
+    void shouldAgreeWithLinearScanAfterPatchingTwice() {
+        var indexedGraph = withSkipIndex(createGraph(), 1);
+
+        var random = new Random(42L);
+        var firstDelta = new AdjacencyDelta(1);
+        for (int i = 0; i < 3 * TransientAdjacencySkipIndex.BLOCK_SIZE + 1; i++) {
+            firstDelta.add(1, random.nextInt(NODE_COUNT), random.nextDouble());
+        }
+        firstDelta.add(20, random.nextInt(NODE_COUNT), random.nextDouble());
+        var firstPatch = apply(firstDelta, indexedGraph);
+        var patchedGraph = withTopology(indexedGraph, firstPatch.topology(), firstPatch);
+
+        // patch a previously patched node again, keep the other one and patch a node for the first time
+        var secondDelta = new AdjacencyDelta(1);
+        for (int i = 0; i < TransientAdjacencySkipIndex.BLOCK_SIZE; i++) {
+            secondDelta.add(1, random.nextInt(NODE_COUNT), random.nextDouble());
+            secondDelta.add(2, random.nextInt(NODE_COUNT), random.nextDouble());
+        }
+        var secondPatch = apply(secondDelta, patchedGraph);
+        assertThat(secondPatch.topology().skipIndex()).isPresent();
+
+        assertAgreesWithLinearScan(patchedGraph, secondPatch);
+    }
+
+    private static AdjacencyDelta.Patched apply(AdjacencyDelta delta, HugeGraph graph) {
+        var relationships = graph.relationships();
+        return delta.apply(
+            relationships.topology(),
+            List.of(relationships.properties().orElseThrow()),
+            graph.nodeCount(),
+            graph.nodeCount(),
+            1,
+            AllocationTracker.empty()
+        );
+    }
+
+    private static void assertAgreesWithLinearScan(HugeGraph indexedGraph, AdjacencyDelta.Patched patched) {
+        var unindexedTopology = ImmutableTopology.copyOf(patched.topology()).withSkipIndex(Optional.empty());
+        var patchedGraph = withTopology(indexedGraph, unindexedTopology, patched);
+        var patchedIndexedGraph = withTopology(indexedGraph, patched.topology(), patched);
+
+        patchedGraph.forEachNode(sourceNodeId -> {
+            for (long targetNodeId = 0; targetNodeId < NODE_COUNT; targetNodeId++) {
+                assertThat(patchedIndexedGraph.exists(sourceNodeId, targetNodeId))
+                    .as("exists (%d)-->(%d)", sourceNodeId, targetNodeId)
+                    .isEqualTo(patchedGraph.exists(sourceNodeId, targetNodeId));
+                assertThat(patchedIndexedGraph.relationshipProperty(sourceNodeId, targetNodeId, Double.NaN))
+                    .as("property of (%d)-->(%d)", sourceNodeId, targetNodeId)
+                    .isEqualTo(patchedGraph.relationshipProperty(sourceNodeId, targetNodeId, Double.NaN));
+            }
+            return true;
+        });
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100)
+            .maxRelCount(6_400)
+            .build();
+
+        var memoryUsage = TransientAdjacencySkipIndex
+            .memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        long blockStarts = HugeLongArray.memoryEstimation(100);
+        long emptyCheckpoints = HugeLongArray.memoryEstimation(0) + HugeIntArray.memoryEstimation(0);
+        // at most one checkpoint per BLOCK_SIZE relationships
+        long maxCheckpoints = HugeLongArray.memoryEstimation(100) + HugeIntArray.memoryEstimation(100);
+
+        assertThat(memoryUsage.min).isGreaterThanOrEqualTo(blockStarts + emptyCheckpoints);
+        assertThat(memoryUsage.max - memoryUsage.min).isEqualTo(maxCheckpoints - emptyCheckpoints);
+    }
+
+    private static HugeGraph createGraph() {
+        var random = new Random(42L);
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT)
+            .tracker(AllocationTracker.empty())
+            .build();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().nodeMapping();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(Orientation.NATURAL)
+            .addPropertyConfig(GraphFactory.PropertyConfig.withDefaults())
+            .tracker(AllocationTracker.empty())
+            .build();
+
+        for (long sourceNodeId = 0; sourceNodeId < NODE_COUNT; sourceNodeId++) {
+            // mix of low degree nodes, nodes around the block boundaries and a hub
+            int degree;
+            if (sourceNodeId == 0) {
+                degree = 2 * NODE_COUNT;
+            } else if (sourceNodeId % 10 == 0) {
+                int blocks = (int) (sourceNodeId / 10 % 4);
+                int slack = (int) (sourceNodeId / 40 % 3) - 1;
+                degree = Math.max(0, blocks * TransientAdjacencySkipIndex.BLOCK_SIZE + slack);
+            } else {
+                degree = random.nextInt(8);
+            }
+            for (int i = 0; i < degree; i++) {
+                long targetNodeId = random.nextInt(NODE_COUNT);
+                relationshipsBuilder.addFromInternal(sourceNodeId, targetNodeId, random.nextDouble());
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build(), AllocationTracker.empty());
+    }
+
+    private static AdjacencySkipIndex buildSkipIndex(HugeGraph graph, int concurrency) {
+        var topology = graph.relationshipTopology();
+        return TransientAdjacencySkipIndex.build(
+            graph.nodeCount(),
+            (TransientAdjacencyList) topology.list(),
+            topology.offsets(),
+            topology.degrees(),
+            concurrency,
+            AllocationTracker.empty()
+        );
+    }
+
+    private static HugeGraph withSkipIndex(HugeGraph graph, int concurrency) {
+        var relationships = graph.relationships();
+        return HugeGraph.create(
+            graph.idMap(),
+            graph.schema(),
+            graph.nodeProperties(),
+            ImmutableTopology.copyOf(relationships.topology()).withSkipIndex(buildSkipIndex(graph, concurrency)),
+            relationships.properties(),
+            AllocationTracker.empty()
+        );
+    }
+
+    private static HugeGraph withTopology(HugeGraph graph, Relationships.Topology topology, AdjacencyDelta.Patched patched) {
+        return HugeGraph.create(
+            graph.idMap(),
+            graph.schema(),
+            graph.nodeProperties(),
+            topology,
+            Optional.of(patched.properties().get(0)),
+            AllocationTracker.empty()
+        );
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.core.huge.OffHeapAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyDegrees;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.loading.GraphStoreDelta.NodeAddition;
+import org.neo4j.graphalgo.core.loading.GraphStoreDelta.RelationshipChange;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.gdl.GdlFactory;
+import org.neo4j.graphalgo.gdl.ImmutableGraphCreateFromGdlConfig;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+class CSRGraphStoreDeltaTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    private static final String GDL =
+        "  (a), (b), (c), (d)" +
+        ", (a)-[:REL { w: 1.0 }]->(b)" +
+        ", (a)-[:REL { w: 2.0 }]->(c)" +
+        ", (b)-[:REL { w: 3.0 }]->(c)";
+
+    @Test
+    void shouldAddAndRemoveRelationships() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("b")))
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("c"), gdlFactory.nodeId("a"), Map.of("w", 4.0)))
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("d"), Map.of("w", 5.0)))
+            .build();
+
+        var patchedGraphStore = graphStore.applyDelta(delta);
+
+        assertThat(patchedGraphStore.relationshipCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)" +
+                ", (a)-[:REL { w: 5.0 }]->(d)" +
+                ", (b)-[:REL { w: 3.0 }]->(c)" +
+                ", (c)-[:REL { w: 4.0 }]->(a)"
+            ),
+            patchedGraphStore.getUnion()
+        );
+
+        // the original graph store is not modified
+        assertThat(graphStore.relationshipCount()).isEqualTo(3);
+        assertGraphEquals(fromGdl(GDL), graphStore.getUnion());
+    }
+
+    @Test
+    void shouldApplyChangesInBothDirectionsForUndirectedGraphs() {
+        var config = ImmutableGraphCreateFromGdlConfig.builder()
+            .gdlGraph(GDL)
+            .graphName("graph")
+            .orientation(Orientation.UNDIRECTED)
+            .build();
+        var gdlFactory = GdlFactory.builder().createConfig(config).build();
+        var graphStore = gdlFactory.build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("b"), gdlFactory.nodeId("a")))
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("d"), gdlFactory.nodeId("c"), Map.of("w", 4.0)))
+            .build();
+
+        var patchedGraphStore = graphStore.applyDelta(delta);
+
+        assertThat(patchedGraphStore.relationshipCount()).isEqualTo(6);
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)" +
+                ", (b)-[:REL { w: 3.0 }]->(c)" +
+                ", (c)-[:REL { w: 4.0 }]->(d)",
+                Orientation.UNDIRECTED
+            ),
+            patchedGraphStore.getUnion()
+        );
+    }
+
+    @Test
+    void shouldStayValidAfterReleasingTheOriginalGraphStore() {
+        var gdlFactory = GdlFactory.of(GDL + ", (c)-[:OTHER]->(d)");
+        var graphStore = gdlFactory.build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("d"), gdlFactory.nodeId("a"), Map.of("w", 4.0)))
+            .build();
+
+        var patchedGraphStore = graphStore.applyDelta(delta);
+        graphStore.release();
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 1.0 }]->(b)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)" +
+                ", (b)-[:REL { w: 3.0 }]->(c)" +
+                ", (d)-[:REL { w: 4.0 }]->(a)"
+            ),
+            patchedGraphStore.getGraph(REL, Optional.of("w"))
+        );
+        assertGraphEquals(
+            fromGdl("(a), (b), (c), (d), (c)-[:OTHER]->(d)"),
+            patchedGraphStore.getGraph(RelationshipType.of("OTHER"))
+        );
+    }
+
+    @Test
+    void shouldApplyConsecutiveDeltas() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build().graphStore();
+
+        var first = graphStore.applyDelta(GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("c"), gdlFactory.nodeId("d"), Map.of("w", 4.0)))
+            .build());
+        var second = first.applyDelta(GraphStoreDelta.builder()
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("c"), gdlFactory.nodeId("d")))
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("b"), gdlFactory.nodeId("c")))
+            .build());
+
+        assertThat(first.relationshipCount()).isEqualTo(4);
+        assertThat(second.relationshipCount()).isEqualTo(2);
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 1.0 }]->(b)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)"
+            ),
+            second.getUnion()
+        );
+    }
+
+    @Test
+    void shouldAddNodes() {
+        var gdlFactory = GdlFactory.of("(a:A { p: 1 }), (b:A { p: 2 }), (c:B), (a)-[:REL { w: 1.0 }]->(b)");
+        var graphStore = gdlFactory.build().graphStore();
+        long addedNodeId = 1337L;
+
+        var delta = GraphStoreDelta.builder()
+            .addNodeAddition(NodeAddition.of(addedNodeId, NodeLabel.of("A")))
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("b"), addedNodeId, Map.of("w", 2.0)))
+            .addAddition(RelationshipChange.of(REL, addedNodeId, gdlFactory.nodeId("c"), Map.of("w", 3.0)))
+            .build();
+
+        var patchedGraphStore = graphStore.applyDelta(delta);
+
+        assertThat(patchedGraphStore.nodeCount()).isEqualTo(4);
+        long addedNode = patchedGraphStore.nodes().toMappedNodeId(addedNodeId);
+        assertThat(addedNode).isEqualTo(3);
+        assertThat(patchedGraphStore.nodes().nodeLabels(addedNode)).containsExactly(NodeLabel.of("A"));
+
+        var properties = patchedGraphStore.nodePropertyValues(NodeLabel.of("A"), "p");
+        assertThat(properties.longValue(patchedGraphStore.nodes().toMappedNodeId(gdlFactory.nodeId("b")))).isEqualTo(2L);
+        assertThat(properties.longValue(addedNode)).isEqualTo(DefaultValue.LONG_DEFAULT_FALLBACK);
+
+        var graph = patchedGraphStore.getGraph(REL, Optional.of("w"));
+        long b = graph.toMappedNodeId(gdlFactory.nodeId("b"));
+        long c = graph.toMappedNodeId(gdlFactory.nodeId("c"));
+        assertThat(graph.relationshipCount()).isEqualTo(3);
+        assertThat(graph.relationshipProperty(b, addedNode, Double.NaN)).isEqualTo(2.0);
+        assertThat(graph.relationshipProperty(addedNode, c, Double.NaN)).isEqualTo(3.0);
+        assertThat(graph.degree(c)).isEqualTo(0);
+
+        // the original graph store is not modified
+        assertThat(graphStore.nodeCount()).isEqualTo(3);
+        assertThat(graphStore.nodes().contains(addedNodeId)).isFalse();
+    }
+
+    @Test
+    void shouldRemoveNodesWithTheirRelationships() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addNodeRemoval(gdlFactory.nodeId("b"))
+            .addNodeAddition(NodeAddition.of(1337L))
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("d"), 1337L, Map.of("w", 4.0)))
+            .build();
+
+        var patchedGraphStore = graphStore.applyDelta(delta);
+
+        assertThat(patchedGraphStore.nodeCount()).isEqualTo(4);
+        assertThat(patchedGraphStore.nodes().contains(gdlFactory.nodeId("b"))).isFalse();
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (c), (d), (e)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)" +
+                ", (d)-[:REL { w: 4.0 }]->(e)"
+            ),
+            patchedGraphStore.getUnion()
+        );
+
+        assertThatThrownBy(() -> patchedGraphStore.applyDelta(GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("b")))
+            .build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(formatWithLocale("Node with id %d is not part of the graph store.", gdlFactory.nodeId("b")));
+    }
+
+    @Test
+    void shouldRewriteTheTopologyOnceMostListsHaveBeenReplaced() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build().graphStore();
+
+        // replaces one of three relationships, the replaced list holds two relationships
+        var patched = graphStore.applyDelta(GraphStoreDelta.builder()
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("b")))
+            .build());
+        assertThat(patched.relationships.get(REL).degrees()).isNotInstanceOf(TransientAdjacencyDegrees.class);
+
+        // the replaced lists now hold three relationships, more than the remaining one
+        var rewritten = patched.applyDelta(GraphStoreDelta.builder()
+            .addRemoval(RelationshipChange.of(REL, gdlFactory.nodeId("b"), gdlFactory.nodeId("c")))
+            .build());
+        assertThat(rewritten.relationships.get(REL).degrees()).isInstanceOf(TransientAdjacencyDegrees.class);
+        assertGraphEquals(
+            fromGdl("(a), (b), (c), (d), (a)-[:REL { w: 2.0 }]->(c)"),
+            rewritten.getUnion()
+        );
+    }
+
+    @Test
+    void shouldFailForOffHeapRelationships() {
+        var graphStore = GdlFactory.of(GDL).build().graphStore();
+        var topology = graphStore.relationships.get(REL);
+        var offHeapTopology = ImmutableTopology
+            .copyOf(topology)
+            .withList(OffHeapAdjacencyList.moveFrom((TransientAdjacencyList) topology.list(), AllocationTracker.empty()));
+        var offHeapGraphStore = CSRGraphStore.of(
+            graphStore.databaseId(),
+            graphStore.nodes(),
+            Map.of(),
+            Map.of(REL, offHeapTopology),
+            Map.of(),
+            1,
+            AllocationTracker.empty()
+        );
+
+        var delta = GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(REL, 0, 1))
+            .build();
+
+        assertThatThrownBy(() -> offHeapGraphStore.applyDelta(delta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Relationships of type 'REL' cannot be changed, because they are held off-heap or their properties are compressed. " +
+                "Applying a delta requires a graph that has been created without `offHeapAdjacency` and `compressRelationshipProperties`."
+            );
+    }
+
+    @Test
+    void shouldFailForUnknownNodes() {
+        var graphStore = GdlFactory.of(GDL).build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(REL, 0, 1337))
+            .build();
+
+        assertThatThrownBy(() -> graphStore.applyDelta(delta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node with id 1337 is not part of the graph store");
+    }
+
+    @Test
+    void shouldFailForUnknownRelationshipTypes() {
+        var graphStore = GdlFactory.of(GDL).build().graphStore();
+
+        var delta = GraphStoreDelta.builder()
+            .addAddition(RelationshipChange.of(RelationshipType.of("FOO"), 0, 1))
+            .build();
+
+        assertThatThrownBy(() -> graphStore.applyDelta(delta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("No relationships have been loaded for relationship type 'FOO'");
+    }
+}
@@ -79,6 +79,22 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void applyDelta() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var delta = GraphStoreDelta.builder().addNodeAddition(GraphStoreDelta.NodeAddition.of(42)).build();
+
+        var newGraphStore = GraphStoreCatalog.applyDelta(USER_NAME, DATABASE_ID, GRAPH_NAME, delta);
+
+        GraphStoreWithConfig graphStoreWithConfig = GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME);
+        assertEquals(newGraphStore, graphStoreWithConfig.graphStore());
+        assertEquals(CONFIG, graphStoreWithConfig.config());
+        assertEquals(2, newGraphStore.nodeCount());
+        assertTrue(newGraphStore.nodes().contains(42));
+        // the previous graph store is not modified
+        assertEquals(1, graphStore.nodeCount());
+    }
+
     @Test
     void graphStoresCount() {
         assertEquals(0, GraphStoreCatalog.graphStoresCount(DATABASE_ID));
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.loading;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.BaseTest;
+import org.neo4j.graphalgo.GraphLoaderBuilders;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.PropertyMapping;
 import org.neo4j.graphalgo.PropertyMappings;
@@ -30,12 +31,17 @@ import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromStoreConfig;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -251,4 +257,83 @@ final class HugeGraphLoadingTest extends BaseTest {
             .getGraph(RelationshipType.of("TYPE_SINGLE"), RelationshipType.of("TYPE_PROP_SINGLE"))
             .isMultiGraph());
     }
+
+    @Test
+    void shouldLookUpCompressedRelationshipPropertiesThroughTheSkipIndex() {
+        // more than one skip index block, with properties of different encoded widths
+        int degree = 200;
+        runInTransaction(db, tx -> {
+            Node source = tx.createNode();
+            for (int i = 0; i < degree; i++) {
+                double weight = i % 3 == 0 ? i : i % 3 == 1 ? i * 1_000_000.0 : i + 0.1;
+                source.createRelationshipTo(tx.createNode(), org.neo4j.graphdb.RelationshipType.withName("REL"))
+                    .setProperty("weight", weight);
+            }
+        });
+
+        GraphLoader loader = new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProperty(PropertyMapping.of("weight", Double.NaN))
+            .build();
+        Graph expected = loader.graph();
+
+        Graph actual = loadWith(
+            loader,
+            config -> config.withAdjacencySkipIndex(true).withCompressRelationshipProperties(true)
+        ).getUnion();
+
+        assertEquals(degree, actual.relationshipCount());
+        expected.forEachNode(nodeId -> {
+            expected.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
+                assertEquals(weight, actual.relationshipProperty(source, target, Double.NaN));
+                return true;
+            });
+            return true;
+        });
+    }
+
+    @Test
+    void shouldLoadAdjacencyOffHeap() {
+        runQuery("UNWIND range(0, 99) AS i " +
+                 "CREATE (a {id: i}) WITH a, i " +
+                 "UNWIND range(0, i % 7) AS j " +
+                 "CREATE (a)-[:REL {weight: i * 0.5 + j}]->()");
+
+        GraphLoader loader = new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProperty(PropertyMapping.of("weight", Double.NaN))
+            .build();
+        Graph expected = loader.graph();
+
+        GraphStore graphStore = loadWith(loader, config -> config.withOffHeapAdjacency(true));
+        Graph actual = graphStore.getUnion();
+        assertGraphEquals(expected, actual);
+
+        // dropping the graph must not affect traversals that are still running
+        long nodeId = expected.nodeCount() - 1;
+        var expectedTargets = new ArrayList<Long>();
+        expected.forEachRelationship(nodeId, (source, target) -> expectedTargets.add(target));
+        var cursor = actual.streamRelationships(nodeId, Double.NaN).iterator();
+        graphStore.release();
+
+        var actualTargets = new ArrayList<Long>();
+        cursor.forEachRemaining(relationship -> actualTargets.add(relationship.targetId()));
+        assertEquals(expectedTargets, actualTargets);
+    }
+
+    private GraphStore loadWith(GraphLoader loader, UnaryOperator<ImmutableGraphCreateFromStoreConfig> configure) {
+        GraphCreateFromStoreConfig config = configure.apply(
+            ImmutableGraphCreateFromStoreConfig.copyOf((GraphCreateFromStoreConfig) loader.createConfig())
+        );
+        return GraphLoaderBuilders.createGraphLoader(
+            db,
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            config
+        ).graphStore();
+    }
 }
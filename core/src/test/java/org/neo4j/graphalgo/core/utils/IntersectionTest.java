@@ -21,8 +21,11 @@ package org.neo4j.graphalgo.core.utils;
 
 import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -75,4 +78,45 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {31, 32, 256, 259})
+    void unrolledKernelsMatchSequentialSummation(int length) {
+        var random = new Random(42L);
+        double[] vector1 = new double[length];
+        double[] vector2 = new double[length];
+        float[] floatVector1 = new float[length];
+        float[] floatVector2 = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector1[i] = random.nextDouble() - 0.5;
+            vector2[i] = random.nextDouble() - 0.5;
+            floatVector1[i] = (float) vector1[i];
+            floatVector2[i] = (float) vector2[i];
+        }
+
+        double dotProduct = 0D, xLength = 0D, yLength = 0D, sumSquareDelta = 0D;
+        for (int i = 0; i < length; i++) {
+            dotProduct += vector1[i] * vector2[i];
+            xLength += vector1[i] * vector1[i];
+            yLength += vector2[i] * vector2[i];
+            sumSquareDelta += (vector1[i] - vector2[i]) * (vector1[i] - vector2[i]);
+        }
+        double cosine = dotProduct / Math.sqrt(xLength * yLength);
+
+        double mean1 = Arrays.stream(vector1).sum() / length;
+        double mean2 = Arrays.stream(vector2).sum() / length;
+        double covariance = 0D, variance1 = 0D, variance2 = 0D;
+        for (int i = 0; i < length; i++) {
+            covariance += (vector1[i] - mean1) * (vector2[i] - mean2);
+            variance1 += (vector1[i] - mean1) * (vector1[i] - mean1);
+            variance2 += (vector2[i] - mean2) * (vector2[i] - mean2);
+        }
+        double pearson = covariance / Math.sqrt(variance1 * variance2);
+
+        assertEquals(cosine, Intersections.cosine(vector1, vector2, length), 1e-9);
+        assertEquals(cosine, Intersections.cosine(floatVector1, floatVector2, length), 1e-4);
+        assertEquals(cosine * cosine, Intersections.cosineSquare(vector1, vector2, length), 1e-9);
+        assertEquals(sumSquareDelta, Intersections.sumSquareDelta(vector1, vector2, length), 1e-9);
+        assertEquals(pearson, Intersections.pearson(vector1, vector2, length), 1e-9);
+    }
 }
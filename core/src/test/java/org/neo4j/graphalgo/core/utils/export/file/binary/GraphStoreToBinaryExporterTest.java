@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.core.huge.OffHeapAdjacencyList;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreToBinaryExporterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [1L, 3L, 3L, 7L] })" +
+        ", (b:A:B { prop1: 1, prop2: 43.0 })" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [1L, 9L, 8L, 4L] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path exportLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRoundTripTheGraphStore(int concurrency) {
+        var file = exportLocation.resolve("graph.gdsb");
+        GraphStoreToBinaryExporter.export(graphStore, file);
+
+        var importedGraphStore = BinaryToGraphStoreImporter.load(
+            file,
+            graphStore.databaseId(),
+            concurrency,
+            AllocationTracker.empty()
+        );
+
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(importedGraphStore.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(importedGraphStore.nodes().toOriginalNodeId(nodeId))
+                .isEqualTo(graphStore.nodes().toOriginalNodeId(nodeId));
+            assertThat(importedGraphStore.nodes().nodeLabels(nodeId))
+                .isEqualTo(graphStore.nodes().nodeLabels(nodeId));
+        }
+    }
+
+    @Test
+    void shouldRoundTripRelationshipProperties() {
+        var file = exportLocation.resolve("graph.gdsb");
+        GraphStoreToBinaryExporter.export(graphStore, file);
+        var importedGraphStore = BinaryToGraphStoreImporter.load(
+            file,
+            graphStore.databaseId(),
+            1,
+            AllocationTracker.empty()
+        );
+
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+
+        assertThat(importedGraphStore.getGraph(NodeLabel.of("C"), RelationshipType.of("REL2"), Optional.empty()).nodeCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeAdjacencyListsFromTheFile() {
+        var file = exportLocation.resolve("graph.gdsb");
+        GraphStoreToBinaryExporter.export(graphStore, file);
+        var importedGraphStore = BinaryToGraphStoreImporter.load(
+            file,
+            graphStore.databaseId(),
+            1,
+            AllocationTracker.empty()
+        );
+
+        var relationshipType = RelationshipType.of("REL2");
+        assertThat(importedGraphStore.relationshipTopology(relationshipType).list())
+            .isInstanceOf(OffHeapAdjacencyList.class);
+        assertThat(importedGraphStore.relationshipPropertyValues(relationshipType, "prop3").list())
+            .isInstanceOf(OffHeapAdjacencyList.class);
+
+        var graph = importedGraphStore.getGraph(relationshipType);
+        var targets = new ArrayList<Long>();
+        graph.forEachRelationship(graph.toMappedNodeId(graphStore.nodes().toOriginalNodeId(1)), (source, target) -> {
+            targets.add(graph.toOriginalNodeId(target));
+            return true;
+        });
+        assertThat(targets).containsExactly(graphStore.nodes().toOriginalNodeId(2));
+    }
+
+    @Test
+    void shouldFailOnUnknownFiles() throws IOException {
+        var file = exportLocation.resolve("graph.gdsb");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> BinaryToGraphStoreImporter.load(
+            file,
+            graphStore.databaseId(),
+            1,
+            AllocationTracker.empty()
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not a binary graph store export");
+    }
+}
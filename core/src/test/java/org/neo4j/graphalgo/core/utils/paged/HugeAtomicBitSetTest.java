@@ -229,6 +229,25 @@ class HugeAtomicBitSetTest {
         bitSet.set(43);
     }
 
+    @Test
+    void testNextSetBit() {
+        var atomicBitSet = HugeAtomicBitSet.create(200, AllocationTracker.empty());
+        assertEquals(-1L, atomicBitSet.nextSetBit(0));
+
+        atomicBitSet.set(3);
+        atomicBitSet.set(64);
+        atomicBitSet.set(199);
+
+        assertEquals(3L, atomicBitSet.nextSetBit(0));
+        assertEquals(3L, atomicBitSet.nextSetBit(3));
+        assertEquals(64L, atomicBitSet.nextSetBit(4));
+        assertEquals(199L, atomicBitSet.nextSetBit(65));
+        assertEquals(199L, atomicBitSet.nextSetBit(199));
+
+        atomicBitSet.clear(199);
+        assertEquals(-1L, atomicBitSet.nextSetBit(65));
+    }
+
     @Test
     void testIsEmpty() {
         var atomicBitSet = HugeAtomicBitSet.create(42, AllocationTracker.empty());
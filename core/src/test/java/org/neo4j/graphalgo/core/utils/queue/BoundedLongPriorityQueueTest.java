@@ -118,4 +118,27 @@ class BoundedLongPriorityQueueTest {
         assertFalse(queue.contains(7));
         assertFalse(queue.contains(10));
     }
+
+    @Test
+    void shouldReturnPrioritiesByIndex() {
+        BoundedLongPriorityQueue max = BoundedLongPriorityQueue.max(2);
+        BoundedLongPriorityQueue min = BoundedLongPriorityQueue.min(2);
+
+        max.offer(0, 1.0);
+        min.offer(0, 1.0);
+        assertFalse(max.isFull());
+        assertFalse(min.isFull());
+
+        max.offer(1, 3.0);
+        max.offer(2, 2.0);
+        min.offer(1, 3.0);
+        min.offer(2, 2.0);
+
+        assertTrue(max.isFull());
+        assertEquals(3.0, max.priorityAt(0));
+        assertEquals(2.0, max.priorityAt(1));
+        assertTrue(min.isFull());
+        assertEquals(1.0, min.priorityAt(0));
+        assertEquals(2.0, min.priorityAt(1));
+    }
 }
@@ -34,6 +34,7 @@ import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.huge.DirectIdMapping;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.values.storable.LongValue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -134,6 +135,65 @@ class NodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @Test
+    void exportMultipleNodePropertiesPipelined() {
+        Graph graph = new StoreLoaderBuilder().api(db)
+            .addNodeProperty("newProp1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        NodePropertyExporter exporter = NodePropertyExporter.builder(db, graph, TerminationFlag.RUNNING_TRUE)
+            .withPipelining(true)
+            .parallel(Pools.DEFAULT, 4)
+            .build();
+
+        int[] intData = {23, 42, 84};
+        double[] doubleData = {123D, 142D, 184D};
+
+        exporter.write(Arrays.asList(
+            ImmutableNodeProperty.of("newProp1", (LongNodeProperties) (long nodeId) -> intData[(int) nodeId]),
+            ImmutableNodeProperty.of("newProp2", (DoubleNodeProperties) (long nodeId) -> doubleData[(int) nodeId])
+        ));
+
+        assertEquals(6, exporter.propertiesWritten());
+        assertEquals(1, exporter.transactionsCommitted());
+
+        Graph updatedGraph = new StoreLoaderBuilder().api(db)
+            .addNodeProperty("prop1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .addNodeProperty("newProp1", "newProp1", DefaultValue.of(42), Aggregation.NONE)
+            .addNodeProperty("newProp2", "newProp2", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl(
+                "(a { prop1: 1.0, newProp1: 23, newProp2: 123.0d })" +
+                "(b { prop1: 2.0, newProp1: 42, newProp2: 142.0d })" +
+                "(c { prop1: 3.0, newProp1: 84, newProp2: 184.0d })" +
+                "(a)-->(b)" +
+                "(a)-->(c)" +
+                "(b)-->(c)" +
+                "(b)-->(c)"),
+            updatedGraph
+        );
+    }
+
+    @Test
+    void pipelinedBatchesAreOrderedByNodeId() {
+        var batch = new NodePropertyExporter.WriteBatch(1, 8);
+        var nodeProperty = ImmutableNodeProperty
+            .of("prop", (LongNodeProperties) (long nodeId) -> nodeId * 10)
+            .resolveWith(0);
+
+        // internal ids 2..7 map to the original ids 8..3
+        batch.fill(List.of(nodeProperty), 2, 6, nodeId -> 10 - nodeId);
+
+        assertEquals(6, batch.size);
+        assertThat(Arrays.copyOf(batch.nodeIds, 6)).containsExactly(3, 4, 5, 6, 7, 8);
+        assertThat(Arrays.stream(batch.values[0], 0, 6).mapToLong(value -> ((LongValue) value).longValue()))
+            .containsExactly(70L, 60L, 50L, 40L, 30L, 20L);
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
@@ -191,9 +251,19 @@ class NodePropertyExporterTest extends BaseTest {
             );
     }
 
+    @Test
+    void stopsPipelinedExportingWhenTransactionHasBeenTerminated() {
+        transactionTerminationTest(Pools.DEFAULT, true);
+    }
+
     private void transactionTerminationTest(ExecutorService executorService) {
+        transactionTerminationTest(executorService, false);
+    }
+
+    private void transactionTerminationTest(ExecutorService executorService, boolean pipelined) {
         TerminationFlag terminationFlag = () -> false;
         NodePropertyExporter exporter = NodePropertyExporter.builder(db, new DirectIdMapping(3), terminationFlag)
+            .withPipelining(pipelined)
             .parallel(executorService, 4)
             .build();
 
@@ -86,6 +86,10 @@ import org.neo4j.graphalgo.pagerank.PageRankStatsProc;
 import org.neo4j.graphalgo.pagerank.PageRankStreamProc;
 import org.neo4j.graphalgo.pagerank.PageRankWriteProc;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.graphalgo.scc.SccMutateProc;
+import org.neo4j.graphalgo.scc.SccStatsProc;
+import org.neo4j.graphalgo.scc.SccStreamProc;
+import org.neo4j.graphalgo.scc.SccWriteProc;
 import org.neo4j.graphalgo.similarity.knn.KnnMutateProc;
 import org.neo4j.graphalgo.similarity.knn.KnnStatsProc;
 import org.neo4j.graphalgo.similarity.knn.KnnStreamProc;
@@ -157,6 +161,7 @@ final class EstimationCliTest {
         "gds.articleRank.stream.estimate",
         "gds.articleRank.write.estimate",
 
+        "gds.beta.allShortestPaths.delta.stream.estimate",
         "gds.beta.allShortestPaths.dijkstra.mutate.estimate",
         "gds.beta.allShortestPaths.dijkstra.stream.estimate",
         "gds.beta.allShortestPaths.dijkstra.write.estimate",
@@ -187,9 +192,12 @@ final class EstimationCliTest {
         "gds.beta.shortestPath.astar.mutate.estimate",
         "gds.beta.shortestPath.astar.stream.estimate",
         "gds.beta.shortestPath.astar.write.estimate",
+        "gds.beta.shortestPath.bidirectionalDijkstra.stream.estimate",
+        "gds.beta.shortestPath.dijkstra.batch.stream.estimate",
         "gds.beta.shortestPath.dijkstra.mutate.estimate",
         "gds.beta.shortestPath.dijkstra.stream.estimate",
         "gds.beta.shortestPath.dijkstra.write.estimate",
+        "gds.beta.shortestPath.landmarks.mutate.estimate",
         "gds.beta.shortestPath.yens.mutate.estimate",
         "gds.beta.shortestPath.yens.stream.estimate",
         "gds.beta.shortestPath.yens.write.estimate",
@@ -242,6 +250,11 @@ final class EstimationCliTest {
         "gds.pageRank.stream.estimate",
         "gds.pageRank.write.estimate",
 
+        "gds.scc.mutate.estimate",
+        "gds.scc.stats.estimate",
+        "gds.scc.stream.estimate",
+        "gds.scc.write.estimate",
+
         "gds.triangleCount.mutate.estimate",
         "gds.triangleCount.stats.estimate",
         "gds.triangleCount.stream.estimate",
@@ -690,6 +703,11 @@ final class EstimationCliTest {
             runEstimation(new PageRankStreamProc()::estimate),
             runEstimation(new PageRankWriteProc()::estimate, "writeProperty", "foo"),
 
+            runEstimation(new SccMutateProc()::mutateEstimate, "mutateProperty", "foo"),
+            runEstimation(new SccStatsProc()::statsEstimate),
+            runEstimation(new SccStreamProc()::streamEstimate),
+            runEstimation(new SccWriteProc()::writeEstimate, "writeProperty", "foo"),
+
             runEstimation(new TriangleCountMutateProc()::estimate, "mutateProperty", "foo"),
             runEstimation(new TriangleCountStatsProc()::estimateStats),
             runEstimation(new TriangleCountStreamProc()::estimateStats),
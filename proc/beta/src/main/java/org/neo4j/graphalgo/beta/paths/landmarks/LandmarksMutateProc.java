@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.MutatePropertyProc;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.beta.paths.landmarks.config.LandmarksMutateConfig;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.result.AbstractResultBuilder;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class LandmarksMutateProc extends MutatePropertyProc<Landmarks, LandmarkDistances, LandmarksMutateProc.MutateResult, LandmarksMutateConfig> {
+
+    static final String DESCRIPTION =
+        "Computes the distances from a set of landmark nodes to all nodes, " +
+        "which can be used to speed up source-target shortest path searches.";
+
+    @Procedure(value = "gds.beta.shortestPath.landmarks.mutate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphNameOrConfig, configuration));
+    }
+
+    @Procedure(value = "gds.beta.shortestPath.landmarks.mutate.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<Landmarks, LandmarkDistances, LandmarksMutateConfig> computationResult) {
+        return computationResult.result();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(ComputationResult<Landmarks, LandmarkDistances, LandmarksMutateConfig> computeResult) {
+        return new MutateResult.Builder();
+    }
+
+    @Override
+    protected LandmarksMutateConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return LandmarksMutateConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<Landmarks, LandmarksMutateConfig> algorithmFactory() {
+        return new LandmarksFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long mutateMillis;
+        public final long nodeCount;
+        public final long createMillis;
+        public final long computeMillis;
+        public final Map<String, Object> configuration;
+
+        MutateResult(
+            long nodeCount,
+            long nodePropertiesWritten,
+            long createMillis,
+            long computeMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            this.nodeCount = nodeCount;
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.createMillis = createMillis;
+            this.computeMillis = computeMillis;
+            this.mutateMillis = mutateMillis;
+            this.configuration = config;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    nodeCount,
+                    nodePropertiesWritten,
+                    createMillis,
+                    computeMillis,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.singlesource;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.beta.paths.ShortestPathStreamProc;
+import org.neo4j.graphalgo.beta.paths.StreamResult;
+import org.neo4j.graphalgo.beta.paths.singlesource.config.AllShortestPathsDeltaSteppingStreamConfig;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class AllShortestPathsDeltaSteppingStreamProc extends ShortestPathStreamProc<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig> {
+
+    static final String DELTA_STEPPING_DESCRIPTION = "The delta-stepping shortest path algorithm computes the shortest (weighted) path between one node and any other node in the graph. The computation is run in parallel.";
+
+    @Procedure(name = "gds.beta.allShortestPaths.delta.stream", mode = READ)
+    @Description(DELTA_STEPPING_DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return stream(compute(graphNameOrConfig, configuration));
+    }
+
+    @Procedure(name = "gds.beta.allShortestPaths.delta.stream.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> streamEstimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected AllShortestPathsDeltaSteppingStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return AllShortestPathsDeltaSteppingStreamConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig> algorithmFactory() {
+        return new DeltaSteppingFactory<>();
+    }
+}
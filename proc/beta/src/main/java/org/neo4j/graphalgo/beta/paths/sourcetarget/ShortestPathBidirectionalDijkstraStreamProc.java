@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.sourcetarget;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.beta.paths.ShortestPathStreamProc;
+import org.neo4j.graphalgo.beta.paths.StreamResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.BidirectionalDijkstra;
+import org.neo4j.graphalgo.beta.paths.dijkstra.BidirectionalDijkstraFactory;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ShortestPathBidirectionalDijkstraStreamConfig;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathDijkstraProc.BIDIRECTIONAL_DIJKSTRA_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+public class ShortestPathBidirectionalDijkstraStreamProc extends ShortestPathStreamProc<BidirectionalDijkstra, ShortestPathBidirectionalDijkstraStreamConfig> {
+
+    @Procedure(name = "gds.beta.shortestPath.bidirectionalDijkstra.stream", mode = READ)
+    @Description(BIDIRECTIONAL_DIJKSTRA_DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return stream(compute(graphNameOrConfig, configuration));
+    }
+
+    @Procedure(name = "gds.beta.shortestPath.bidirectionalDijkstra.stream.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> streamEstimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected ShortestPathBidirectionalDijkstraStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return ShortestPathBidirectionalDijkstraStreamConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<BidirectionalDijkstra, ShortestPathBidirectionalDijkstraStreamConfig> algorithmFactory() {
+        return new BidirectionalDijkstraFactory<>();
+    }
+}
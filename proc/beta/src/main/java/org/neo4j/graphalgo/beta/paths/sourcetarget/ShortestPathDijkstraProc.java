@@ -21,6 +21,8 @@ package org.neo4j.graphalgo.beta.paths.sourcetarget;
 
 final class ShortestPathDijkstraProc {
     static final String DIJKSTRA_DESCRIPTION = "The Dijkstra shortest path algorithm computes the shortest (weighted) path between a pair of nodes.";
+    static final String DIJKSTRA_BATCH_DESCRIPTION = "The Dijkstra shortest path algorithm computes the shortest (weighted) paths between many pairs of nodes.";
+    static final String BIDIRECTIONAL_DIJKSTRA_DESCRIPTION = "The bidirectional Dijkstra shortest path algorithm computes the shortest (weighted) path between a pair of nodes by searching from both nodes.";
 
     private ShortestPathDijkstraProc() {}
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.landmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathDijkstraStreamProc;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+class LandmarksMutateProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+    private static final String VIEW_NAME = "view";
+    private static final String MUTATE_PROPERTY = "landmarks";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+           "  (:Offset)" +
+           ", (a:Label)" +
+           ", (b:Label)" +
+           ", (c:Label)" +
+           ", (d:Label)" +
+           ", (e:Label)" +
+           ", (f:Label)" +
+           ", (a)-[:TYPE {cost: 4}]->(b)" +
+           ", (a)-[:TYPE {cost: 2}]->(c)" +
+           ", (b)-[:TYPE {cost: 5}]->(c)" +
+           ", (b)-[:TYPE {cost: 10}]->(d)" +
+           ", (c)-[:TYPE {cost: 3}]->(e)" +
+           ", (d)-[:TYPE {cost: 11}]->(f)" +
+           ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            LandmarksMutateProc.class,
+            ShortestPathDijkstraStreamProc.class,
+            GraphCreateProc.class
+        );
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .graphCreate(GRAPH_NAME)
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void testMutate() {
+        runQueryWithRowConsumer(mutateQuery(), row -> {
+            assertEquals(6L, row.getNumber("nodeCount").longValue());
+            assertEquals(6L, row.getNumber("nodePropertiesWritten").longValue());
+        });
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), GRAPH_NAME).graphStore();
+        var landmarkDistances = graphStore.nodePropertyValues(MUTATE_PROPERTY);
+
+        // every landmark has a distance of zero to itself
+        var landmarksPerIndex = new int[2];
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            var distances = landmarkDistances.doubleArrayValue(nodeId);
+            assertThat(distances).hasSize(2);
+            for (int i = 0; i < distances.length; i++) {
+                if (distances[i] == 0.0) {
+                    landmarksPerIndex[i]++;
+                }
+            }
+        }
+        assertThat(landmarksPerIndex).containsExactly(1, 1);
+    }
+
+    @Test
+    void shouldFindShortestPathWithLandmarks() {
+        runQuery(mutateQuery());
+
+        long idA = idFunction.of("a");
+        long idC = idFunction.of("c");
+        long idD = idFunction.of("d");
+        long idE = idFunction.of("e");
+        long idF = idFunction.of("f");
+
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("targetNode", idF)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkProperty", MUTATE_PROPERTY)
+            .yields("totalCost", "nodeIds", "costs");
+
+        assertCypherResult(query, List.of(Map.of(
+            "totalCost", 20.0D,
+            "nodeIds", asList(new long[]{idA, idC, idE, idD, idF}),
+            "costs", asList(new double[]{0.0, 2.0, 5.0, 9.0, 20.0})
+        )));
+    }
+
+    @Test
+    void shouldFailOnDifferentRelationshipWeightProperty() {
+        runQuery(mutateQuery());
+
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("landmarkProperty", MUTATE_PROPERTY)
+            .yields();
+
+        assertError(
+            query,
+            "The landmark property `landmarks` has been computed with relationship weight property `cost`, " +
+            "but the search uses no relationship weight property."
+        );
+    }
+
+    @Test
+    void shouldFindShortestPathWithLandmarksOnAView() {
+        runQuery(mutateQuery());
+        runQuery(formatWithLocale("CALL gds.beta.graph.create.subgraph('%s', '%s', 'true', 'true')", VIEW_NAME, GRAPH_NAME));
+
+        long idA = idFunction.of("a");
+        long idF = idFunction.of("f");
+
+        var query = GdsCypher.call().explicitCreation(VIEW_NAME)
+            .algo("gds.beta.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("targetNode", idF)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkProperty", MUTATE_PROPERTY)
+            .yields("totalCost");
+
+        assertCypherResult(query, List.of(Map.of("totalCost", 20.0D)));
+    }
+
+    @Test
+    void shouldFailOnDifferentRelationshipWeightPropertyOnAView() {
+        runQuery(mutateQuery());
+        runQuery(formatWithLocale("CALL gds.beta.graph.create.subgraph('%s', '%s', 'true', 'true')", VIEW_NAME, GRAPH_NAME));
+
+        var query = GdsCypher.call().explicitCreation(VIEW_NAME)
+            .algo("gds.beta.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("landmarkProperty", MUTATE_PROPERTY)
+            .yields();
+
+        assertError(
+            query,
+            "The landmark property `landmarks` has been computed with relationship weight property `cost`, " +
+            "but the search uses no relationship weight property."
+        );
+    }
+
+    @Test
+    void testEstimate() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.landmarks")
+            .estimationMode(GdsCypher.ExecutionModes.MUTATE)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkCount", 2)
+            .addParameter("mutateProperty", MUTATE_PROPERTY)
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertTrue(row.getNumber("bytesMin").longValue() > 0);
+            assertTrue(row.getNumber("bytesMax").longValue() >= row.getNumber("bytesMin").longValue());
+        });
+    }
+
+    private String mutateQuery() {
+        return GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkCount", 2)
+            .addParameter("randomSeed", 42L)
+            .addParameter("mutateProperty", MUTATE_PROPERTY)
+            .yields("nodeCount", "nodePropertiesWritten");
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.singlesource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgoBaseProcTest;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.HeapControlTest;
+import org.neo4j.graphalgo.MemoryEstimateTest;
+import org.neo4j.graphalgo.RelationshipWeightConfigTest;
+import org.neo4j.graphalgo.beta.paths.dijkstra.DijkstraResult;
+import org.neo4j.graphalgo.beta.paths.singlesource.config.AllShortestPathsDeltaSteppingStreamConfig;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.beta.paths.ShortestPathBaseConfig.SOURCE_NODE_KEY;
+
+class AllShortestPathsDeltaSteppingStreamProcTest extends BaseProcTest implements
+    AlgoBaseProcTest<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig, DijkstraResult>,
+    MemoryEstimateTest<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig, DijkstraResult>,
+    HeapControlTest<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig, DijkstraResult>,
+    RelationshipWeightConfigTest<DeltaStepping, AllShortestPathsDeltaSteppingStreamConfig, DijkstraResult>
+{
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+           "  (:Offset)" +
+           ", (a:Label)" +
+           ", (b:Label)" +
+           ", (c:Label)" +
+           ", (d:Label)" +
+           ", (e:Label)" +
+           ", (f:Label)" +
+           ", (a)-[:TYPE {cost: 4}]->(b)" +
+           ", (a)-[:TYPE {cost: 2}]->(c)" +
+           ", (b)-[:TYPE {cost: 5}]->(c)" +
+           ", (b)-[:TYPE {cost: 10}]->(d)" +
+           ", (c)-[:TYPE {cost: 3}]->(e)" +
+           ", (d)-[:TYPE {cost: 11}]->(f)" +
+           ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            getProcedureClazz(),
+            GraphCreateProc.class
+        );
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .graphCreate(GRAPH_NAME)
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<DeltaStepping, DijkstraResult, AllShortestPathsDeltaSteppingStreamConfig>> getProcedureClazz() {
+        return AllShortestPathsDeltaSteppingStreamProc.class;
+    }
+
+    @Override
+    public GraphDatabaseAPI graphDb() {
+        return db;
+    }
+
+    @Override
+    public AllShortestPathsDeltaSteppingStreamConfig createConfig(CypherMapWrapper mapWrapper) {
+        return AllShortestPathsDeltaSteppingStreamConfig.of("", Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Override
+    public CypherMapWrapper createMinimalConfig(CypherMapWrapper mapWrapper) {
+        if (!mapWrapper.containsKey(SOURCE_NODE_KEY)) {
+            mapWrapper = mapWrapper.withNumber(SOURCE_NODE_KEY, idFunction.of("a"));
+        }
+        return mapWrapper;
+    }
+
+    @Override
+    public void assertResultEquals(DijkstraResult result1, DijkstraResult result2) {
+        assertEquals(result1.pathSet(), result2.pathSet());
+    }
+
+    @Test
+    void returnCorrectResult() {
+        long idA = idFunction.of("a");
+        long idB = idFunction.of("b");
+        long idC = idFunction.of("c");
+        long idD = idFunction.of("d");
+        long idE = idFunction.of("e");
+        long idF = idFunction.of("f");
+
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.allShortestPaths.delta")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("delta", 3.0)
+            .yields("index", "sourceNode", "targetNode", "totalCost", "nodeIds", "costs");
+
+        // paths are returned in the order of their target nodes
+        //@formatter:off
+        assertCypherResult(query, List.of(
+            Map.of("index", 0L, "sourceNode", idA, "targetNode", idA, "totalCost", 0.0D, "nodeIds", asList(new long[]{idA}), "costs", asList(new double[]{0.0})),
+            Map.of("index", 1L, "sourceNode", idA, "targetNode", idB, "totalCost", 4.0D, "nodeIds", asList(new long[]{idA, idB}), "costs", asList(new double[]{0.0, 4.0})),
+            Map.of("index", 2L, "sourceNode", idA, "targetNode", idC, "totalCost", 2.0D, "nodeIds", asList(new long[]{idA, idC}), "costs", asList(new double[]{0.0, 2.0})),
+            Map.of("index", 3L, "sourceNode", idA, "targetNode", idD, "totalCost", 9.0D, "nodeIds", asList(new long[]{idA, idC, idE, idD}), "costs", asList(new double[]{0.0, 2.0, 5.0, 9.0})),
+            Map.of("index", 4L, "sourceNode", idA, "targetNode", idE, "totalCost", 5.0D, "nodeIds", asList(new long[]{idA, idC, idE}), "costs", asList(new double[]{0.0, 2.0, 5.0})),
+            Map.of("index", 5L, "sourceNode", idA, "targetNode", idF, "totalCost", 20.0D, "nodeIds", asList(new long[]{idA, idC, idE, idD, idF}), "costs", asList(new double[]{0.0, 2.0, 5.0, 9.0, 20.0}))
+        ));
+        //@formatter:on
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.allShortestPaths.delta")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("nodeCount", "relationshipCount", "bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertEquals(6L, row.getNumber("nodeCount").longValue());
+            assertEquals(7L, row.getNumber("relationshipCount").longValue());
+            assertTrue(row.getNumber("bytesMin").longValue() > 0);
+            assertTrue(row.getNumber("bytesMax").longValue() >= row.getNumber("bytesMin").longValue());
+        });
+    }
+
+    @Test
+    void shouldFailOnNonPositiveDelta() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.allShortestPaths.delta")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("delta", 0.0)
+            .yields();
+
+        assertError(query, "Value for `delta` was `0.0`, but must be within the range (0.00");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.sourcetarget;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShortestPathBidirectionalDijkstraStreamProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+    private static final String DIRECTED_GRAPH_NAME = "directedGraph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+           "  (:Offset)" +
+           ", (a:Label)" +
+           ", (b:Label)" +
+           ", (c:Label)" +
+           ", (d:Label)" +
+           ", (e:Label)" +
+           ", (f:Label)" +
+           ", (a)-[:TYPE {cost: 4}]->(b)" +
+           ", (a)-[:TYPE {cost: 2}]->(c)" +
+           ", (b)-[:TYPE {cost: 5}]->(c)" +
+           ", (b)-[:TYPE {cost: 10}]->(d)" +
+           ", (c)-[:TYPE {cost: 3}]->(e)" +
+           ", (d)-[:TYPE {cost: 11}]->(f)" +
+           ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ShortestPathBidirectionalDijkstraStreamProc.class,
+            GraphCreateProc.class
+        );
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Label")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .graphCreate(GRAPH_NAME)
+            .yields());
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .graphCreate(DIRECTED_GRAPH_NAME)
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void testStream() {
+        long idA = idFunction.of("a");
+        long idC = idFunction.of("c");
+        long idD = idFunction.of("d");
+        long idE = idFunction.of("e");
+        long idF = idFunction.of("f");
+
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.bidirectionalDijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idF)
+            .addParameter("targetNode", idA)
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("index", "sourceNode", "targetNode", "totalCost", "nodeIds", "costs");
+
+        assertCypherResult(query, List.of(Map.of(
+            "index", 0L,
+            "sourceNode", idF,
+            "targetNode", idA,
+            "totalCost", 20.0D,
+            "nodeIds", asList(new long[]{idF, idD, idE, idC, idA}),
+            "costs", asList(new double[]{0.0, 11.0, 15.0, 18.0, 20.0})
+        )));
+    }
+
+    @Test
+    void testEstimate() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.bidirectionalDijkstra")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertTrue(row.getNumber("bytesMin").longValue() > 0);
+            assertTrue(row.getNumber("bytesMax").longValue() >= row.getNumber("bytesMin").longValue());
+        });
+    }
+
+    @Test
+    void shouldFailOnDirectedGraph() {
+        var query = GdsCypher.call().explicitCreation(DIRECTED_GRAPH_NAME)
+            .algo("gds.beta.shortestPath.bidirectionalDijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .yields();
+
+        assertError(query, "Bidirectional Dijkstra requires relationship projections to be UNDIRECTED.");
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.paths.sourcetarget;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgoBaseProcTest;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.HeapControlTest;
+import org.neo4j.graphalgo.MemoryEstimateTest;
+import org.neo4j.graphalgo.RelationshipWeightConfigTest;
+import org.neo4j.graphalgo.beta.paths.dijkstra.BatchedDijkstra;
+import org.neo4j.graphalgo.beta.paths.dijkstra.DijkstraResult;
+import org.neo4j.graphalgo.beta.paths.dijkstra.config.ShortestPathDijkstraBatchStreamConfig;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.beta.paths.dijkstra.config.ShortestPathDijkstraBatchBaseConfig.SOURCE_NODES_KEY;
+import static org.neo4j.graphalgo.beta.paths.dijkstra.config.ShortestPathDijkstraBatchBaseConfig.TARGET_NODES_KEY;
+
+class ShortestPathDijkstraBatchStreamProcTest extends BaseProcTest implements
+    AlgoBaseProcTest<BatchedDijkstra, ShortestPathDijkstraBatchStreamConfig, DijkstraResult>,
+    MemoryEstimateTest<BatchedDijkstra, ShortestPathDijkstraBatchStreamConfig, DijkstraResult>,
+    HeapControlTest<BatchedDijkstra, ShortestPathDijkstraBatchStreamConfig, DijkstraResult>,
+    RelationshipWeightConfigTest<BatchedDijkstra, ShortestPathDijkstraBatchStreamConfig, DijkstraResult> {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+           "  (:Offset)" +
+           ", (a:Label)" +
+           ", (b:Label)" +
+           ", (c:Label)" +
+           ", (d:Label)" +
+           ", (e:Label)" +
+           ", (f:Label)" +
+           ", (a)-[:TYPE {cost: 4}]->(b)" +
+           ", (a)-[:TYPE {cost: 2}]->(c)" +
+           ", (b)-[:TYPE {cost: 5}]->(c)" +
+           ", (b)-[:TYPE {cost: 10}]->(d)" +
+           ", (c)-[:TYPE {cost: 3}]->(e)" +
+           ", (d)-[:TYPE {cost: 11}]->(f)" +
+           ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            getProcedureClazz(),
+            GraphCreateProc.class
+        );
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .graphCreate(GRAPH_NAME)
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<BatchedDijkstra, DijkstraResult, ShortestPathDijkstraBatchStreamConfig>> getProcedureClazz() {
+        return ShortestPathDijkstraBatchStreamProc.class;
+    }
+
+    @Override
+    public GraphDatabaseAPI graphDb() {
+        return db;
+    }
+
+    @Override
+    public ShortestPathDijkstraBatchStreamConfig createConfig(CypherMapWrapper mapWrapper) {
+        return ShortestPathDijkstraBatchStreamConfig.of("", Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Override
+    public CypherMapWrapper createMinimalConfig(CypherMapWrapper mapWrapper) {
+        return mapWrapper
+            .withEntry(SOURCE_NODES_KEY, List.of(idFunction.of("a"), idFunction.of("c")))
+            .withEntry(TARGET_NODES_KEY, List.of(idFunction.of("f"), idFunction.of("d")));
+    }
+
+    @Override
+    public void assertResultEquals(DijkstraResult result1, DijkstraResult result2) {
+        assertEquals(result1.pathSet(), result2.pathSet());
+    }
+
+    @Test
+    void testStream() {
+        long idA = idFunction.of("a");
+        long idC = idFunction.of("c");
+        long idD = idFunction.of("d");
+        long idE = idFunction.of("e");
+        long idF = idFunction.of("f");
+
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.dijkstra.batch")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idA, idA, idC, idF))
+            .addParameter("targetNodes", List.of(idF, idD, idD, idA))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("index", "sourceNode", "targetNode", "totalCost", "nodeIds", "costs");
+
+        // there is no path from f to a, the index refers to the position of the pair
+        //@formatter:off
+        assertCypherResult(query, List.of(
+            Map.of("index", 0L, "sourceNode", idA, "targetNode", idF, "totalCost", 20.0D, "nodeIds", asList(new long[]{idA, idC, idE, idD, idF}), "costs", asList(new double[]{0.0, 2.0, 5.0, 9.0, 20.0})),
+            Map.of("index", 1L, "sourceNode", idA, "targetNode", idD, "totalCost", 9.0D, "nodeIds", asList(new long[]{idA, idC, idE, idD}), "costs", asList(new double[]{0.0, 2.0, 5.0, 9.0})),
+            Map.of("index", 2L, "sourceNode", idC, "targetNode", idD, "totalCost", 7.0D, "nodeIds", asList(new long[]{idC, idE, idD}), "costs", asList(new double[]{0.0, 3.0, 7.0}))
+        ));
+        //@formatter:on
+    }
+
+    @Test
+    void shouldFailOnSourceNodeNotInGraph() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.dijkstra.batch")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), 42L))
+            .addParameter("targetNodes", List.of(idFunction.of("f"), idFunction.of("d")))
+            .yields();
+
+        assertError(query, "sourceNode with id 42 was not loaded");
+    }
+
+    @Test
+    void shouldFailOnTargetNodeNotInGraph() {
+        var query = GdsCypher.call().explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.shortestPath.dijkstra.batch")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("c")))
+            .addParameter("targetNodes", List.of(idFunction.of("f"), 42L))
+            .yields();
+
+        assertError(query, "targetNode with id 42 was not loaded");
+    }
+}
@@ -206,13 +206,9 @@ public class GraphCreateProc extends CatalogProc {
 
         var progressTimer = ProgressTimer.start();
 
-        var graphStore = GraphStoreFilter.filter(
-            fromGraphStore,
-            config,
-            Pools.DEFAULT,
-            log,
-            allocationTracker()
-        );
+        var graphStore = config.materialize()
+            ? GraphStoreFilter.filter(fromGraphStore, config, Pools.DEFAULT, log, allocationTracker())
+            : GraphStoreFilter.filterView(fromGraphStore, config, Pools.DEFAULT, log, allocationTracker());
 
         GraphStoreCatalog.set(config, graphStore);
 
@@ -46,6 +46,7 @@ public class GraphDeleteRelationshipProc extends CatalogProc {
         GraphStoreWithConfig graphStoreWithConfig = GraphStoreCatalog.get(username(), databaseId(), graphName);
 
         DeleteRelationshipsConfig.of(graphName, relationshipType).validate(graphStoreWithConfig.graphStore());
+        GraphStoreCatalog.validateNoDependentViews(username(), databaseId(), graphName);
 
         DeletionResult deletionResult = graphStoreWithConfig
             .graphStore()
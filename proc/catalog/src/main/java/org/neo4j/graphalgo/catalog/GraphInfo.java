@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.catalog;
 
 import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.beta.filter.FilteredGraphStore;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromGraphConfig;
@@ -87,7 +88,10 @@ public class GraphInfo {
     }
 
     static GraphInfo withMemoryUsage(GraphCreateConfig graphCreateConfig, GraphStore graphStore) {
-        var sizeInBytes = MemoryUsage.sizeOf(graphStore);
+        // Views share their data with the parent graph, which must not be accounted for twice.
+        var sizeInBytes = graphStore instanceof FilteredGraphStore
+            ? ((FilteredGraphStore) graphStore).sizeInBytes()
+            : MemoryUsage.sizeOf(graphStore);
         var memoryUsage = MemoryUsage.humanReadable(sizeInBytes);
 
         return create(
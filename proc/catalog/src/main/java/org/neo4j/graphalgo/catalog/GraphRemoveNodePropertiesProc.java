@@ -62,6 +62,7 @@ public class GraphRemoveNodePropertiesProc extends CatalogProc {
         validateConfig(cypherConfig, config);
         GraphStore graphStore = GraphStoreCatalog.get(username(), databaseId(), graphName).graphStore();
         config.validate(graphStore);
+        GraphStoreCatalog.validateNoDependentViews(username(), databaseId(), graphName);
         // removing
         long propertiesRemoved = runWithExceptionLogging(
             "Node property removal failed",
@@ -116,6 +116,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
 
             var exporter = NodePropertyExporter
                 .builder(api, subGraph, TerminationFlag.wrap(transaction))
+                .withPipelining(config.pipelinedWrite())
                 .parallel(Pools.DEFAULT, config.writeConcurrency())
                 .withProgressLogger(progressLogger)
                 .build();
@@ -24,10 +24,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.beta.filter.FilteredGraphStore;
 import org.neo4j.graphalgo.beta.filter.expression.SemanticErrors;
 import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.graphalgo.wcc.WccMutateProc;
 import org.opencypher.v9_0.parser.javacc.ParseException;
 
 import java.util.List;
@@ -45,7 +47,13 @@ class GraphCreateSubgraphProcTest extends BaseProcTest {
 
     @BeforeEach
     void setup() throws Exception {
-        registerProcedures(GraphCreateProc.class, GraphListProc.class);
+        registerProcedures(
+            GraphCreateProc.class,
+            GraphListProc.class,
+            GraphDropProc.class,
+            GraphDeleteRelationshipProc.class,
+            WccMutateProc.class
+        );
 
         runQuery(GdsCypher.call()
             .withNodeLabel("A")
@@ -158,4 +166,30 @@ class GraphCreateSubgraphProcTest extends BaseProcTest {
             .hasMessageContaining("Unknown property `weight`.")
             .hasMessageContaining("Unknown relationship type `BAR`.");
     }
+
+    @Test
+    void rejectsMutationsOfViews() {
+        runQuery("CALL gds.beta.graph.create.subgraph('view', 'graph', 'true', 'true', {materialize: false})");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.wcc.mutate('view', {mutateProperty: 'component'})"))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(FilteredGraphStore.READ_ONLY_MESSAGE);
+    }
+
+    @Test
+    void rejectsDeletingRelationshipsOfViewParent() {
+        runQuery("CALL gds.beta.graph.create.subgraph('view', 'graph', 'true', 'true', {materialize: false})");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.graph.deleteRelationships('graph', '__ALL__')"))
+            .getRootCause()
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Graph `graph` is used by the filtered graph views [view] and cannot be modified before them.");
+
+        runQuery("CALL gds.graph.drop('view')");
+        assertCypherResult(
+            "CALL gds.graph.deleteRelationships('graph', '__ALL__') YIELD deletedRelationships",
+            List.of(Map.of("deletedRelationships", 1L))
+        );
+    }
 }
@@ -68,4 +68,17 @@ class BetweennessCentralityStreamProcTest extends BetweennessCentralityProcTest<
         assertError(query, "Configuration parameter 'samplingSize' must be a positive number, got -42.");
     }
 
+    @Test
+    void shouldValidateSamplingEpsilon() {
+        var query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("gds.betweenness")
+            .streamMode()
+            .addParameter("samplingEpsilon", 1.5)
+            .yields();
+
+        assertError(query, "Configuration parameter 'samplingEpsilon' must be in the range (0, 1), got 1.5.");
+    }
+
 }
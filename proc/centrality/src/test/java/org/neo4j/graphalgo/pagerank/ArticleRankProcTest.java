@@ -235,7 +235,7 @@ class ArticleRankProcTest extends BaseProcTest {
 
         assertCypherResult(
             queryBuilder.yields("bytesMin", "bytesMax"),
-            List.of(Map.of("bytesMin", 552L, "bytesMax", 552L))
+            List.of(Map.of("bytesMin", 768L, "bytesMax", 768L))
         );
     }
 }
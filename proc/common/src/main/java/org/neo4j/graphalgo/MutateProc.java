@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo;
 
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.beta.filter.FilteredGraphStore;
 import org.neo4j.graphalgo.config.MutateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
@@ -45,6 +47,14 @@ public abstract class MutateProc<
         return super.newConfig(graphName, config);
     }
 
+    @Override
+    protected void validateGraphStore(GraphStore graphStore) {
+        // fail before computing a result that could not be stored
+        if (graphStore instanceof FilteredGraphStore) {
+            throw new IllegalArgumentException(FilteredGraphStore.READ_ONLY_MESSAGE);
+        }
+    }
+
     protected abstract AbstractResultBuilder<PROC_RESULT> resultBuilder(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult);
 
     protected Stream<PROC_RESULT> mutate(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult) {
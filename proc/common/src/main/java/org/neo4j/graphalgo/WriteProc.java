@@ -79,6 +79,7 @@ public abstract class WriteProc<
             Graph graph = computationResult.graph();
             TerminationFlag terminationFlag = computationResult.algorithm().getTerminationFlag();
             NodePropertyExporter exporter = NodePropertyExporter.builder(api, graph, terminationFlag)
+                .withPipelining(writePropertyConfig.pipelinedWrite())
                 .withLog(log)
                 .parallel(Pools.DEFAULT, writePropertyConfig.writeConcurrency())
                 .build();
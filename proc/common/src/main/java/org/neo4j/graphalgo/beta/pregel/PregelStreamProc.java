@@ -24,7 +24,9 @@ import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.StreamProc;
 import org.neo4j.graphalgo.api.IdMapping;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -42,27 +44,32 @@ public abstract class PregelStreamProc<
             return Stream.empty();
         }
         var result = computationResult.result().nodeValues();
-        return LongStream.range(IdMapping.START_NODE_ID, computationResult.graph().nodeCount()).mapToObj(nodeId -> {
-            Map<String, Object> values = result.schema().elements()
-                .stream()
-                .filter(element -> element.visibility() == PregelSchema.Visibility.PUBLIC)
-                .collect(Collectors.toMap(
-                    Element::propertyKey,
-                    element -> {
-                        switch (element.propertyType()) {
-                            case LONG:
-                                return result.longProperties(element.propertyKey()).get(nodeId);
-                            case DOUBLE:
-                                return result.doubleProperties(element.propertyKey()).get(nodeId);
-                            case DOUBLE_ARRAY:
-                                return result.doubleArrayProperties(element.propertyKey()).get(nodeId);
-                            case LONG_ARRAY:
-                                return result.longArrayProperties(element.propertyKey()).get(nodeId);
-                            default:
-                                throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
-                        }
+        // resolve the property handles once instead of looking them up for every node
+        Map<String, LongFunction<Object>> valueAccessors = result.schema().elements()
+            .stream()
+            .filter(element -> element.visibility() == PregelSchema.Visibility.PUBLIC)
+            .collect(Collectors.toMap(
+                Element::propertyKey,
+                element -> {
+                    var propertyKey = element.propertyKey();
+                    switch (element.propertyType()) {
+                        case LONG:
+                            return result.longHandle(propertyKey)::get;
+                        case DOUBLE:
+                            return result.doubleHandle(propertyKey)::get;
+                        case DOUBLE_ARRAY:
+                            return result.doubleArrayHandle(propertyKey)::get;
+                        case LONG_ARRAY:
+                            return result.longArrayHandle(propertyKey)::get;
+                        default:
+                            throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
                     }
-                ));
+                }
+            ));
+
+        return LongStream.range(IdMapping.START_NODE_ID, computationResult.graph().nodeCount()).mapToObj(nodeId -> {
+            Map<String, Object> values = new HashMap<>();
+            valueAccessors.forEach((propertyKey, accessor) -> values.put(propertyKey, accessor.apply(nodeId)));
             return new PregelStreamResult(computationResult.graph().toOriginalNodeId(nodeId), values);
         });
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.ConsecutiveLongNodeProperties;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.result.AbstractCommunityResultBuilder;
+
+final class SccCompanion {
+
+    static final String SCC_DESCRIPTION =
+        "The SCC algorithm finds sets of nodes in a directed graph, where all nodes in the same set can reach each other.";
+
+    private SccCompanion() {}
+
+    static <CONFIG extends SccBaseConfig> AlgorithmFactory<Scc, CONFIG> algorithmFactory() {
+        return new SccAlgorithmFactory<>();
+    }
+
+    static <PROC_RESULT, CONFIG extends SccBaseConfig> AbstractCommunityResultBuilder<PROC_RESULT> resultBuilder(
+        AbstractCommunityResultBuilder<PROC_RESULT> procResultBuilder,
+        AlgoBaseProc.ComputationResult<Scc, HugeAtomicLongArray, CONFIG> computationResult
+    ) {
+        return procResultBuilder.withCommunityFunction(!computationResult.isGraphEmpty() ? computationResult.result()::get : null);
+    }
+
+    static <CONFIG extends SccBaseConfig> NodeProperties nodeProperties(
+        AlgoBaseProc.ComputationResult<Scc, HugeAtomicLongArray, CONFIG> computationResult,
+        AllocationTracker tracker
+    ) {
+        var components = computationResult.result().asNodeProperties();
+        return computationResult.config().consecutiveIds()
+            ? new ConsecutiveLongNodeProperties(components, computationResult.graph().nodeCount(), tracker)
+            : components;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.MutatePropertyProc;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.result.AbstractCommunityResultBuilder;
+import org.neo4j.graphalgo.result.AbstractResultBuilder;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.scc.SccCompanion.SCC_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+public class SccMutateProc extends MutatePropertyProc<Scc, HugeAtomicLongArray, SccMutateProc.MutateResult, SccMutateConfig> {
+
+    @Procedure(value = "gds.scc.mutate", mode = READ)
+    @Description(SCC_DESCRIPTION)
+    public Stream<SccMutateProc.MutateResult> mutate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<Scc, HugeAtomicLongArray, SccMutateConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        );
+
+        return mutate(computationResult);
+    }
+
+    @Procedure(value = "gds.scc.mutate.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> mutateEstimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected SccMutateConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return SccMutateConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<Scc, SccMutateConfig> algorithmFactory() {
+        return SccCompanion.algorithmFactory();
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(
+        ComputationResult<Scc, HugeAtomicLongArray, SccMutateConfig> computationResult
+    ) {
+        return SccCompanion.nodeProperties(computationResult, allocationTracker());
+    }
+
+    @Override
+    protected AbstractResultBuilder<SccMutateProc.MutateResult> resultBuilder(ComputationResult<Scc, HugeAtomicLongArray, SccMutateConfig> computeResult) {
+        return SccCompanion.resultBuilder(
+            new MutateResult.Builder(callContext, computeResult.config().concurrency(), allocationTracker()),
+            computeResult
+        );
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult extends SccStatsProc.StatsResult {
+
+        public final long mutateMillis;
+        public final long nodePropertiesWritten;
+
+        MutateResult(
+            long componentCount,
+            Map<String, Object> componentDistribution,
+            long createMillis,
+            long computeMillis,
+            long postProcessingMillis,
+            long mutateMillis,
+            long nodePropertiesWritten,
+            Map<String, Object> configuration
+        ) {
+            super(
+                componentCount,
+                componentDistribution,
+                createMillis,
+                computeMillis,
+                postProcessingMillis,
+                configuration
+            );
+            this.mutateMillis = mutateMillis;
+            this.nodePropertiesWritten = nodePropertiesWritten;
+        }
+
+        static class Builder extends AbstractCommunityResultBuilder<SccMutateProc.MutateResult> {
+
+            Builder(
+                ProcedureCallContext context,
+                int concurrency,
+                AllocationTracker tracker
+            ) {
+                super(context, concurrency, tracker);
+            }
+
+            @Override
+            protected SccMutateProc.MutateResult buildResult() {
+                return new SccMutateProc.MutateResult(
+                    maybeCommunityCount.orElse(0L),
+                    communityHistogramOrNull(),
+                    createMillis,
+                    computeMillis,
+                    postProcessingDuration,
+                    mutateMillis,
+                    nodePropertiesWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.StreamProc;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.scc.SccCompanion.SCC_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+import static org.neo4j.procedure.Mode.WRITE;
+
+public class SccStreamProc extends StreamProc<
+    Scc,
+    HugeAtomicLongArray,
+    SccStreamProc.StreamResult,
+    SccStreamConfig> {
+
+    @Procedure(value = "gds.scc.stream", mode = WRITE)
+    @Description(SCC_DESCRIPTION)
+    public Stream<SccStreamProc.StreamResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<Scc, HugeAtomicLongArray, SccStreamConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        );
+        return stream(computationResult);
+    }
+
+    @Procedure(value = "gds.scc.stream.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> streamEstimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected SccStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return SccStreamConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<Scc, SccStreamConfig> algorithmFactory() {
+        return SccCompanion.algorithmFactory();
+    }
+
+    @Override
+    protected StreamResult streamResult(
+        long originalNodeId, long internalNodeId, NodeProperties nodeProperties
+    ) {
+        return new SccStreamProc.StreamResult(originalNodeId, nodeProperties.longValue(internalNodeId));
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<Scc, HugeAtomicLongArray, SccStreamConfig> computationResult) {
+        return SccCompanion.nodeProperties(computationResult, allocationTracker());
+    }
+
+    @SuppressWarnings("unused")
+    public static class StreamResult {
+
+        public final long nodeId;
+
+        public final long componentId;
+
+        public StreamResult(long nodeId, long componentId) {
+            this.nodeId = nodeId;
+            this.componentId = componentId;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.WriteProc;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.result.AbstractCommunityResultBuilder;
+import org.neo4j.graphalgo.result.AbstractResultBuilder;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.scc.SccCompanion.SCC_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+import static org.neo4j.procedure.Mode.WRITE;
+
+public class SccWriteProc extends WriteProc<Scc, HugeAtomicLongArray, SccWriteProc.WriteResult, SccWriteConfig> {
+
+    @Procedure(value = "gds.scc.write", mode = WRITE)
+    @Description(SCC_DESCRIPTION)
+    public Stream<SccWriteProc.WriteResult> write(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<Scc, HugeAtomicLongArray, SccWriteConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        );
+        return write(computationResult);
+    }
+
+    @Procedure(value = "gds.scc.write.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> writeEstimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected SccWriteConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return SccWriteConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<Scc, SccWriteConfig> algorithmFactory() {
+        return SccCompanion.algorithmFactory();
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(
+        ComputationResult<Scc, HugeAtomicLongArray, SccWriteConfig> computationResult
+    ) {
+        return SccCompanion.nodeProperties(computationResult, allocationTracker());
+    }
+
+    @Override
+    protected AbstractResultBuilder<SccWriteProc.WriteResult> resultBuilder(ComputationResult<Scc, HugeAtomicLongArray, SccWriteConfig> computeResult) {
+        return SccCompanion.resultBuilder(
+            new WriteResult.Builder(callContext, computeResult.config().concurrency(), allocationTracker()),
+            computeResult
+        );
+    }
+
+    @SuppressWarnings("unused")
+    public static final class WriteResult extends SccStatsProc.StatsResult {
+
+        public final long writeMillis;
+        public final long nodePropertiesWritten;
+
+        WriteResult(
+            long componentCount,
+            Map<String, Object> componentDistribution,
+            long createMillis,
+            long computeMillis,
+            long postProcessingMillis,
+            long writeMillis,
+            long nodePropertiesWritten,
+            Map<String, Object> configuration
+        ) {
+            super(
+                componentCount,
+                componentDistribution,
+                createMillis,
+                computeMillis,
+                postProcessingMillis,
+                configuration
+            );
+            this.writeMillis = writeMillis;
+            this.nodePropertiesWritten = nodePropertiesWritten;
+        }
+
+        static class Builder extends AbstractCommunityResultBuilder<SccWriteProc.WriteResult> {
+
+            Builder(ProcedureCallContext context, int concurrency, AllocationTracker tracker) {
+                super(context, concurrency, tracker);
+            }
+
+            @Override
+            protected SccWriteProc.WriteResult buildResult() {
+                return new SccWriteProc.WriteResult(
+                    maybeCommunityCount.orElse(0L),
+                    communityHistogramOrNull(),
+                    createMillis,
+                    computeMillis,
+                    postProcessingDuration,
+                    writeMillis,
+                    nodePropertiesWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.AlgoBaseProcTest;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.HeapControlTest;
+import org.neo4j.graphalgo.MemoryEstimateTest;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.compat.MapUtil;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+abstract class SccBaseProcTest<CONFIG extends SccBaseConfig> extends BaseProcTest implements
+    AlgoBaseProcTest<Scc, CONFIG, HugeAtomicLongArray>,
+    MemoryEstimateTest<Scc, CONFIG, HugeAtomicLongArray>,
+    HeapControlTest<Scc, CONFIG, HugeAtomicLongArray> {
+
+    private static final String GRAPH_NAME = "myGraph";
+
+    static final long[][] EXPECTED_COMPONENTS = {
+        new long[]{0L, 1L, 2L},
+        new long[]{3L, 4L},
+        new long[]{5L},
+        new long[]{6L},
+        new long[]{7L},
+        new long[]{8L}
+    };
+
+    @Override
+    public GraphDatabaseAPI graphDb() {
+        return db;
+    }
+
+    @Neo4jGraph
+    static final @Language("Cypher") String DB_CYPHER =
+        "CREATE" +
+        " (nA:Label {nodeId: 0})" +
+        ",(nB:Label {nodeId: 1})" +
+        ",(nC:Label {nodeId: 2})" +
+        ",(nD:Label {nodeId: 3})" +
+        ",(nE:Label {nodeId: 4})" +
+        ",(nF:Label2 {nodeId: 5})" +
+        ",(nG:Label2 {nodeId: 6})" +
+        ",(nH:Label2 {nodeId: 7})" +
+        ",(nI:Label2 {nodeId: 8})" +
+        // {A, B, C}
+        ",(nA)-[:TYPE]->(nB)" +
+        ",(nB)-[:TYPE]->(nC)" +
+        ",(nC)-[:TYPE]->(nA)" +
+        ",(nC)-[:TYPE]->(nD)" +
+        // {D, E}
+        ",(nD)-[:TYPE]->(nE)" +
+        ",(nE)-[:TYPE]->(nD)" +
+        ",(nE)-[:TYPE]->(nF)" +
+        // {F}, {G}, {H}, {I}
+        ",(nG)-[:TYPE]->(nH)" +
+        ",(nI)-[:TYPE]->(nI)";
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        registerProcedures(
+            getProcedureClazz(),
+            GraphCreateProc.class
+        );
+    }
+
+    @AfterEach
+    void clearCatalog() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Override
+    public void assertResultEquals(HugeAtomicLongArray result1, HugeAtomicLongArray result2) {
+        assertEquals(result1.size(), result2.size(), "Component arrays are supposed to have the same size.");
+        long nodeCount = result1.size();
+        for (long i = 0; i < nodeCount; i++) {
+            assertEquals(result1.get(i), result2.get(i), formatWithLocale("Node %d has different component ids", i));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testConsecutiveIds(boolean consecutiveIds) {
+        CypherMapWrapper config = createMinimalConfig(CypherMapWrapper.create(MapUtil.map(
+            "consecutiveIds", consecutiveIds
+        )));
+
+        applyOnProcedure(proc -> {
+            CONFIG sccConfig = proc.newConfig(Optional.of(GRAPH_NAME), config);
+            assertEquals(consecutiveIds, sccConfig.consecutiveIds());
+        });
+    }
+}
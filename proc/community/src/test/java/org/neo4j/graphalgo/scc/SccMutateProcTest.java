@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.ConsecutiveIdsConfigTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.MutateNodePropertyTest;
+import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+class SccMutateProcTest extends SccBaseProcTest<SccMutateConfig> implements
+    MutateNodePropertyTest<Scc, SccMutateConfig, HugeAtomicLongArray>,
+    ConsecutiveIdsConfigTest<Scc, SccMutateConfig, HugeAtomicLongArray> {
+
+    @Override
+    public String mutateProperty() {
+        return "componentId";
+    }
+
+    @Override
+    public ValueType mutatePropertyType() {
+        return ValueType.LONG;
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<Scc, HugeAtomicLongArray, SccMutateConfig>> getProcedureClazz() {
+        return SccMutateProc.class;
+    }
+
+    @Override
+    public SccMutateConfig createConfig(CypherMapWrapper mapWrapper) {
+        return SccMutateConfig.of(getUsername(), Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Override
+    public String expectedMutatedGraph() {
+        return
+            "  (a {componentId: 2})" +
+            ", (b {componentId: 2})" +
+            ", (c {componentId: 2})" +
+            ", (d {componentId: 4})" +
+            ", (e {componentId: 4})" +
+            ", (f {componentId: 5})" +
+            ", (g {componentId: 6})" +
+            ", (h {componentId: 7})" +
+            ", (i {componentId: 8})" +
+            // {A, B, C}
+            ", (a)-->(b)" +
+            ", (b)-->(c)" +
+            ", (c)-->(a)" +
+            ", (c)-->(d)" +
+            // {D, E}
+            ", (d)-->(e)" +
+            ", (e)-->(d)" +
+            ", (e)-->(f)" +
+            // {F}, {G}, {H}, {I}
+            ", (g)-->(h)" +
+            ", (i)-->(i)";
+    }
+
+    @Test
+    void testMutateYields() {
+        var testGraphName = "sccGraph";
+        var initialGraphStore = new StoreLoaderBuilder().api(db)
+            .build()
+            .graphStore();
+
+        GraphStoreCatalog.set(emptyWithNameNative(getUsername(), testGraphName), initialGraphStore);
+
+        String query = GdsCypher
+            .call()
+            .explicitCreation(testGraphName)
+            .algo("scc")
+            .mutateMode()
+            .addParameter("mutateProperty", mutateProperty())
+            .yields(
+                "nodePropertiesWritten",
+                "createMillis",
+                "computeMillis",
+                "mutateMillis",
+                "postProcessingMillis",
+                "componentCount",
+                "componentDistribution",
+                "configuration"
+            );
+
+        runQueryWithRowConsumer(
+            query,
+            row -> {
+                assertEquals(9L, row.getNumber("nodePropertiesWritten"));
+                assertEquals(6L, row.getNumber("componentCount"));
+
+                @SuppressWarnings("unchecked")
+                var componentDistribution = (Map<String, Object>) row.get("componentDistribution");
+                assertEquals(1L, componentDistribution.get("min"));
+                assertEquals(3L, componentDistribution.get("max"));
+                assertEquals(1.5D, componentDistribution.get("mean"));
+
+                assertUserInput(row, "mutateProperty", mutateProperty());
+                assertUserInput(row, "consecutiveIds", false);
+            }
+        );
+
+        var mutatedGraph = GraphStoreCatalog.get(getUsername(), namedDatabaseId(), testGraphName).graphStore().getUnion();
+        assertGraphEquals(fromGdl(expectedMutatedGraph()), mutatedGraph);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.compat.MapUtil;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.neo4j.graphalgo.assertj.ConditionFactory.containsAllEntriesOf;
+
+class SccStatsProcTest extends SccBaseProcTest<SccStatsConfig> {
+
+    @Override
+    public Class<? extends AlgoBaseProc<Scc, HugeAtomicLongArray, SccStatsConfig>> getProcedureClazz() {
+        return SccStatsProc.class;
+    }
+
+    @Override
+    public SccStatsConfig createConfig(CypherMapWrapper mapWrapper) {
+        return SccStatsConfig.of(getUsername(), Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Test
+    void yields() {
+        String query = GdsCypher
+            .call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("scc")
+            .statsMode()
+            .yields();
+
+        assertCypherResult(query, List.of(Map.of(
+            "componentCount", 6L,
+            "componentDistribution", containsAllEntriesOf(Map.of(
+                "min", 1L,
+                "max", 3L,
+                "mean", 1.5D
+            )),
+            "createMillis", greaterThanOrEqualTo(0L),
+            "computeMillis", greaterThanOrEqualTo(0L),
+            "postProcessingMillis", greaterThanOrEqualTo(0L),
+            "configuration", containsAllEntriesOf(MapUtil.map(
+                "consecutiveIds", false
+            ))
+        )));
+    }
+
+    @Test
+    void zeroComponentsInEmptyGraph() {
+        runQuery("CALL db.createLabel('VeryTemp')");
+        runQuery("CALL db.createRelationshipType('VERY_TEMP')");
+        String query = GdsCypher
+            .call()
+            .withNodeLabel("VeryTemp")
+            .withRelationshipType("VERY_TEMP")
+            .algo("scc")
+            .statsMode()
+            .yields("componentCount");
+
+        assertCypherResult(query, List.of(Map.of("componentCount", 0L)));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.CommunityHelper;
+import org.neo4j.graphalgo.ConsecutiveIdsConfigTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SccStreamProcTest extends SccBaseProcTest<SccStreamConfig> implements
+    ConsecutiveIdsConfigTest<Scc, SccStreamConfig, HugeAtomicLongArray> {
+
+    @Override
+    public Class<? extends AlgoBaseProc<Scc, HugeAtomicLongArray, SccStreamConfig>> getProcedureClazz() {
+        return SccStreamProc.class;
+    }
+
+    @Override
+    public SccStreamConfig createConfig(CypherMapWrapper mapWrapper) {
+        return SccStreamConfig.of("", Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Test
+    void testStreamWithDefaults() {
+        String query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("scc")
+            .streamMode()
+            .yields("nodeId", "componentId");
+
+        long[] components = new long[9];
+        runQueryWithRowConsumer(query, row -> {
+            int nodeId = row.getNumber("nodeId").intValue();
+            components[nodeId] = row.getNumber("componentId").longValue();
+        });
+
+        CommunityHelper.assertCommunities(components, EXPECTED_COMPONENTS);
+        for (long[] component : EXPECTED_COMPONENTS) {
+            long componentId = components[(int) component[0]];
+            assertEquals(componentId, components[(int) componentId], "components are identified by one of their nodes");
+        }
+    }
+
+    @Test
+    void testStreamWithConsecutiveIds() {
+        String query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("scc")
+            .streamMode()
+            .addParameter("consecutiveIds", true)
+            .yields("nodeId", "componentId");
+
+        long[] components = new long[9];
+        runQueryWithRowConsumer(query, row -> {
+            int nodeId = row.getNumber("nodeId").intValue();
+            components[nodeId] = row.getNumber("componentId").longValue();
+        });
+
+        CommunityHelper.assertCommunities(components, EXPECTED_COMPONENTS);
+        assertEquals(EXPECTED_COMPONENTS.length - 1, Arrays.stream(components).max().orElseThrow());
+    }
+}
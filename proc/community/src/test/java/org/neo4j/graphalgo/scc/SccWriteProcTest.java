@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.scc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.CommunityHelper;
+import org.neo4j.graphalgo.ConsecutiveIdsConfigTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+class SccWriteProcTest extends SccBaseProcTest<SccWriteConfig> implements
+    ConsecutiveIdsConfigTest<Scc, SccWriteConfig, HugeAtomicLongArray> {
+
+    private static final String WRITE_PROPERTY = "componentId";
+
+    @Override
+    public Class<? extends AlgoBaseProc<Scc, HugeAtomicLongArray, SccWriteConfig>> getProcedureClazz() {
+        return SccWriteProc.class;
+    }
+
+    @Override
+    public SccWriteConfig createConfig(CypherMapWrapper mapWrapper) {
+        return SccWriteConfig.of(getUsername(), Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Override
+    public CypherMapWrapper createMinimalConfig(CypherMapWrapper mapWrapper) {
+        if (!mapWrapper.containsKey("writeProperty")) {
+            return mapWrapper.withString("writeProperty", WRITE_PROPERTY);
+        }
+        return mapWrapper;
+    }
+
+    @Test
+    void testWriteYields() {
+        String query = GdsCypher
+            .call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("scc")
+            .writeMode()
+            .addParameter("writeProperty", WRITE_PROPERTY)
+            .yields(
+                "nodePropertiesWritten",
+                "createMillis",
+                "computeMillis",
+                "writeMillis",
+                "postProcessingMillis",
+                "componentCount",
+                "componentDistribution",
+                "configuration"
+            );
+
+        runQueryWithRowConsumer(
+            query,
+            row -> {
+                assertUserInput(row, "writeProperty", WRITE_PROPERTY);
+                assertUserInput(row, "consecutiveIds", false);
+
+                assertEquals(9L, row.getNumber("nodePropertiesWritten"));
+
+                assertNotEquals(-1L, row.getNumber("createMillis"));
+                assertNotEquals(-1L, row.getNumber("computeMillis"));
+                assertNotEquals(-1L, row.getNumber("writeMillis"));
+                assertNotEquals(-1L, row.getNumber("postProcessingMillis"));
+
+                assertEquals(6L, row.getNumber("componentCount"));
+
+                @SuppressWarnings("unchecked")
+                var componentDistribution = (Map<String, Object>) row.get("componentDistribution");
+                assertEquals(1L, componentDistribution.get("min"));
+                assertEquals(3L, componentDistribution.get("max"));
+                assertEquals(1.5D, componentDistribution.get("mean"));
+            }
+        );
+    }
+
+    @Test
+    void testWrite() {
+        String query = GdsCypher
+            .call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("scc")
+            .writeMode()
+            .addParameter("writeProperty", WRITE_PROPERTY)
+            .yields("componentCount");
+
+        runQuery(query);
+
+        long[] components = new long[9];
+        runQueryWithRowConsumer(
+            formatWithLocale("MATCH (n) RETURN n.nodeId AS nodeId, n.%s AS componentId", WRITE_PROPERTY),
+            row -> components[row.getNumber("nodeId").intValue()] = row.getNumber("componentId").longValue()
+        );
+
+        CommunityHelper.assertCommunities(components, EXPECTED_COMPONENTS);
+    }
+}
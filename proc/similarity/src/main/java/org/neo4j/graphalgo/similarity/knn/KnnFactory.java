@@ -72,7 +72,9 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
-                        HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(boundedK))
+                        configuration.flatNeighborStorage()
+                            ? FlatNeighborLists.memoryEstimation(boundedK)
+                            : ObjectNeighborLists.memoryEstimation(boundedK)
                     )
                     .add("old-neighbors", tempListEstimation)
                     .add("new-neighbors", tempListEstimation)
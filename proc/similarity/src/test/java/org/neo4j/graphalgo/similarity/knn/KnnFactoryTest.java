@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
@@ -69,6 +70,35 @@ class KnnFactoryTest {
         assertEstimation(nodeCount, 32, sizeOfHugeArray, boundedK, sampledK, actual);
     }
 
+    @ParameterizedTest
+    @ValueSource(longs = {10L, 100L, 10_000L})
+    void memoryEstimationWithFlatNeighborStorage(long nodeCount) {
+        var config = ImmutableKnnBaseConfig.builder().nodeWeightProperty("knn").flatNeighborStorage(true).build();
+        var boundedK = config.boundedK(nodeCount);
+        var sampledK = config.sampledK(nodeCount);
+
+        MemoryEstimation estimation = new KnnFactory<>().memoryEstimation(config);
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
+        MemoryRange actual = estimation.estimate(dimensions, 1).memoryUsage();
+
+        long knnAlgo = /* KNN */ 48;
+
+        int nodesPerPage = Integer.highestOneBit(4096 / (2 * boundedK));
+        int numPages = (int) ceilDiv(nodeCount, nodesPerPage);
+        long pages = sizeOfObjectArray(numPages) + numPages * sizeOfLongArray((long) nodesPerPage * 2 * boundedK);
+        long locks = sizeOfObjectArray(1024) + 1024 * 16;
+        long topKNeighborsList = /* FNL */ 48 + pages + HugeIntArray.memoryEstimation(nodeCount) + locks;
+
+        long tempNeighborsListMin = /* HOA */ 24 + sizeOfObjectArray(nodeCount);
+        long tempNeighborsListMax = tempNeighborsListMin + nodeCount * (/* LAL */ 24 + sizeOfLongArray(sampledK));
+
+        long randomList = sizeOfLongArray(sizeOfOpenHashContainer(boundedK));
+        long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(sampledK));
+
+        assertEquals(knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList + sampledList, actual.min);
+        assertEquals(knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList + sampledList, actual.max);
+    }
+
     private void assertEstimation(
         long nodeCount,
         int sizeOfHugeArrayInstance,
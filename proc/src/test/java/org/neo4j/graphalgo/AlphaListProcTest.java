@@ -31,6 +31,7 @@ import org.neo4j.graphalgo.functions.IsFiniteFunc;
 import org.neo4j.graphalgo.functions.OneHotEncodingFunc;
 import org.neo4j.graphalgo.influenceΜaximization.CELFProc;
 import org.neo4j.graphalgo.influenceΜaximization.GreedyProc;
+import org.neo4j.graphalgo.influenceΜaximization.IMMProc;
 import org.neo4j.graphalgo.linkprediction.LinkPredictionFunc;
 import org.neo4j.graphalgo.scc.SccProc;
 import org.neo4j.graphalgo.shortestpath.ShortestPathDeltaSteppingProc;
@@ -97,7 +98,8 @@ class AlphaListProcTest extends BaseProcTest {
         "gds.alpha.ml.nodeClassification.train",
         "gds.alpha.ml.splitRelationships.mutate",
         "gds.alpha.influenceMaximization.greedy.stream",
-        "gds.alpha.influenceMaximization.celf.stream"
+        "gds.alpha.influenceMaximization.celf.stream",
+        "gds.alpha.influenceMaximization.imm.stream"
     ));
 
     private static final Collection<String> FUNCTIONS = new HashSet<>(asList(
@@ -150,7 +152,8 @@ class AlphaListProcTest extends BaseProcTest {
             TraverseProc.class,
             TriangleProc.class,
             GreedyProc.class,
-            CELFProc.class
+            CELFProc.class,
+            IMMProc.class
         );
         registerFunctions(
             LinkPredictionFunc.class,
@@ -44,7 +44,11 @@ import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationWriteProc;
 import org.neo4j.graphalgo.beta.node2vec.Node2VecMutateProc;
 import org.neo4j.graphalgo.beta.node2vec.Node2VecStreamProc;
 import org.neo4j.graphalgo.beta.node2vec.Node2VecWriteProc;
+import org.neo4j.graphalgo.beta.paths.landmarks.LandmarksMutateProc;
+import org.neo4j.graphalgo.beta.paths.singlesource.AllShortestPathsDeltaSteppingStreamProc;
 import org.neo4j.graphalgo.beta.paths.singlesource.AllShortestPathsDijkstraStreamProc;
+import org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathBidirectionalDijkstraStreamProc;
+import org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathDijkstraBatchStreamProc;
 import org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathDijkstraStreamProc;
 import org.neo4j.graphalgo.beta.paths.sourcetarget.ShortestPathYensStreamProc;
 import org.neo4j.graphalgo.betweenness.BetweennessCentralityMutateProc;
@@ -80,6 +84,10 @@ import org.neo4j.graphalgo.pagerank.PageRankMutateProc;
 import org.neo4j.graphalgo.pagerank.PageRankStatsProc;
 import org.neo4j.graphalgo.pagerank.PageRankStreamProc;
 import org.neo4j.graphalgo.pagerank.PageRankWriteProc;
+import org.neo4j.graphalgo.scc.SccMutateProc;
+import org.neo4j.graphalgo.scc.SccStatsProc;
+import org.neo4j.graphalgo.scc.SccStreamProc;
+import org.neo4j.graphalgo.scc.SccWriteProc;
 import org.neo4j.graphalgo.similarity.knn.KnnMutateProc;
 import org.neo4j.graphalgo.similarity.knn.KnnStatsProc;
 import org.neo4j.graphalgo.similarity.knn.KnnStreamProc;
@@ -123,6 +131,8 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.node2vec.write",
         "gds.beta.node2vec.write.estimate",
 
+        "gds.beta.allShortestPaths.delta.stream",
+        "gds.beta.allShortestPaths.delta.stream.estimate",
         "gds.beta.allShortestPaths.dijkstra.stream",
         "gds.beta.allShortestPaths.dijkstra.stream.estimate",
 
@@ -178,9 +188,17 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.modularityOptimization.write",
         "gds.beta.modularityOptimization.write.estimate",
 
+        "gds.beta.shortestPath.bidirectionalDijkstra.stream",
+        "gds.beta.shortestPath.bidirectionalDijkstra.stream.estimate",
+
+        "gds.beta.shortestPath.dijkstra.batch.stream",
+        "gds.beta.shortestPath.dijkstra.batch.stream.estimate",
         "gds.beta.shortestPath.dijkstra.stream",
         "gds.beta.shortestPath.dijkstra.stream.estimate",
 
+        "gds.beta.shortestPath.landmarks.mutate",
+        "gds.beta.shortestPath.landmarks.mutate.estimate",
+
         "gds.beta.shortestPath.yens.stream",
         "gds.beta.shortestPath.yens.stream.estimate",
 
@@ -252,6 +270,15 @@ class ListProcTest extends BaseProcTest {
         "gds.pageRank.write",
         "gds.pageRank.write.estimate",
 
+        "gds.scc.mutate",
+        "gds.scc.mutate.estimate",
+        "gds.scc.stats",
+        "gds.scc.stats.estimate",
+        "gds.scc.stream",
+        "gds.scc.stream.estimate",
+        "gds.scc.write",
+        "gds.scc.write.estimate",
+
         "gds.wcc.mutate",
         "gds.wcc.mutate.estimate",
         "gds.wcc.stats",
@@ -305,6 +332,7 @@ class ListProcTest extends BaseProcTest {
     @BeforeEach
     void setUp() throws Exception {
         registerProcedures(
+            AllShortestPathsDeltaSteppingStreamProc.class,
             AllShortestPathsDijkstraStreamProc.class,
             BetweennessCentralityStreamProc.class,
             BetweennessCentralityWriteProc.class,
@@ -341,6 +369,7 @@ class ListProcTest extends BaseProcTest {
             KnnStatsProc.class,
             KnnStreamProc.class,
             KnnWriteProc.class,
+            LandmarksMutateProc.class,
             LabelPropagationWriteProc.class,
             LabelPropagationStreamProc.class,
             LabelPropagationStatsProc.class,
@@ -371,6 +400,12 @@ class ListProcTest extends BaseProcTest {
             PageRankStreamProc.class,
             PageRankMutateProc.class,
             PageRankStatsProc.class,
+            SccWriteProc.class,
+            SccStreamProc.class,
+            SccMutateProc.class,
+            SccStatsProc.class,
+            ShortestPathBidirectionalDijkstraStreamProc.class,
+            ShortestPathDijkstraBatchStreamProc.class,
             ShortestPathDijkstraStreamProc.class,
             ShortestPathYensStreamProc.class,
             TriangleCountStatsProc.class,